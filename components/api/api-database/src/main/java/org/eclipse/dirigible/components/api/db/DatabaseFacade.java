@@ -11,6 +11,7 @@ package org.eclipse.dirigible.components.api.db;
 
 import org.apache.commons.io.output.WriterOutputStream;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseResultSetHelper;
 import org.eclipse.dirigible.components.data.management.service.DatabaseDefinitionService;
@@ -46,6 +47,12 @@ public class DatabaseFacade implements InitializingBean {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(DatabaseFacade.class);
 
+    /** The Constant DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE = "DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE";
+
+    /** The Constant DEFAULT_QUERY_FETCH_SIZE. */
+    private static final int DEFAULT_QUERY_FETCH_SIZE = 1000;
+
     /** The database facade. */
     private static DatabaseFacade INSTANCE;
 
@@ -227,35 +234,22 @@ public class DatabaseFacade implements InitializingBean {
      * @throws Exception the exception
      */
     public static final String query(String sql, String parameters, String datasourceName) throws Exception {
-        DataSource dataSource = getDataSource(datasourceName);
-        if (dataSource == null) {
-            String error = format("DataSource {0} not known.", datasourceName);
-            throw new IllegalArgumentException(error);
-        }
-        try (Connection connection = dataSource.getConnection()) {
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-                if (parameters != null) {
-                    IndexedOrNamedStatement statement = new IndexedOrNamedStatement(preparedStatement);
-                    ParametersSetter.setParameters(parameters, statement);
-                }
-                ResultSet resultSet = preparedStatement.executeQuery();
-                StringWriter sw = new StringWriter();
-                OutputStream output;
-                try {
-                    output = WriterOutputStream.builder()
-                                               .setWriter(sw)
-                                               .setCharset(StandardCharsets.UTF_8)
-                                               .get();
-                } catch (IOException e) {
-                    throw new Exception(e);
-                }
-                DatabaseResultSetHelper.toJson(resultSet, false, false, output);
-                return sw.toString();
-            }
-        } catch (Exception ex) {
-            logger.error("Failed to execute query statement [{}] in data source [{}].", sql, datasourceName, ex);
-            throw ex;
-        }
+        return executeQuery(sql, datasourceName, false,
+                parameters != null ? statement -> ParametersSetter.setParameters(parameters, statement) : null);
+    }
+
+    /**
+     * Executes SQL query with the parameters given as Java values, e.g. a script array.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @return the result of the query as JSON
+     * @throws Exception the exception
+     */
+    public static final String query(String sql, List<?> parameters, String datasourceName) throws Exception {
+        return executeQuery(sql, datasourceName, false,
+                parameters != null ? statement -> ParametersBinding.bind(parameters, statement) : null);
     }
 
     /**
@@ -266,7 +260,7 @@ public class DatabaseFacade implements InitializingBean {
      * @throws Exception the exception
      */
     public static final String query(String sql) throws Exception {
-        return query(sql, null, null);
+        return query(sql, (String) null, null);
     }
 
     /**
@@ -291,35 +285,23 @@ public class DatabaseFacade implements InitializingBean {
      * @throws Exception the exception
      */
     public static final String queryNamed(String sql, String parameters, String datasourceName) throws Exception {
-        DataSource dataSource = getDataSource(datasourceName);
-        if (dataSource == null) {
-            String error = format("DataSource {0} not known.", datasourceName);
-            throw new IllegalArgumentException(error);
-        }
-        try (Connection connection = dataSource.getConnection()) {
-            try (NamedParameterStatement preparedStatement = new NamedParameterStatement(connection, sql)) {
-                if (parameters != null) {
-                    IndexedOrNamedStatement statement = new IndexedOrNamedStatement(preparedStatement);
-                    ParametersSetter.setParameters(parameters, statement);
-                }
-                ResultSet resultSet = preparedStatement.executeQuery();
-                StringWriter sw = new StringWriter();
-                OutputStream output;
-                try {
-                    output = WriterOutputStream.builder()
-                                               .setWriter(sw)
-                                               .setCharset(StandardCharsets.UTF_8)
-                                               .get();
-                } catch (IOException e) {
-                    throw new Exception(e);
-                }
-                DatabaseResultSetHelper.toJson(resultSet, false, false, output);
-                return sw.toString();
-            }
-        } catch (Exception ex) {
-            logger.error("Failed to execute query statement [{}] in data source [{}].", sql, datasourceName, ex);
-            throw ex;
-        }
+        return executeQuery(sql, datasourceName, true,
+                parameters != null ? statement -> ParametersSetter.setParameters(parameters, statement) : null);
+    }
+
+    /**
+     * Executes named parameters SQL query with the parameters given as Java values, e.g. a script
+     * array.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @return the result of the query as JSON
+     * @throws Exception the exception
+     */
+    public static final String queryNamed(String sql, List<?> parameters, String datasourceName) throws Exception {
+        return executeQuery(sql, datasourceName, true,
+                parameters != null ? statement -> ParametersBinding.bind(parameters, statement) : null);
     }
 
     /**
@@ -330,7 +312,127 @@ public class DatabaseFacade implements InitializingBean {
      * @throws Exception the exception
      */
     public static final String queryNamed(String sql) throws Exception {
-        return queryNamed(sql, null, null);
+        return queryNamed(sql, (String) null, null);
+    }
+
+    // ============ Cursor ===========
+
+    /**
+     * Opens a cursor over the result of SQL query, which is fetched lazily in portions of the fetch
+     * size. The cursor holds a connection until it is exhausted or closed.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param fetchSize the fetch size, the configured default if not positive
+     * @return the cursor
+     * @throws Exception the exception
+     */
+    public static final ResultSetCursor cursor(String sql, String parameters, String datasourceName, int fetchSize) throws Exception {
+        return openCursor(sql, parameters, datasourceName, fetchSize, false);
+    }
+
+    /**
+     * Opens a cursor over the result of named parameters SQL query, which is fetched lazily in portions
+     * of the fetch size. The cursor holds a connection until it is exhausted or closed.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param fetchSize the fetch size, the configured default if not positive
+     * @return the cursor
+     * @throws Exception the exception
+     */
+    public static final ResultSetCursor cursorNamed(String sql, String parameters, String datasourceName, int fetchSize) throws Exception {
+        return openCursor(sql, parameters, datasourceName, fetchSize, true);
+    }
+
+    /**
+     * Executes SQL query and writes the result as JSON directly to the output, row by row.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param output the output
+     * @throws Exception the exception
+     */
+    public static final void queryToStream(String sql, String parameters, String datasourceName, OutputStream output) throws Exception {
+        try (ResultSetCursor cursor = openCursor(sql, parameters, datasourceName, 0, false)) {
+            cursor.write(output);
+        }
+    }
+
+    /**
+     * Executes named parameters SQL query and writes the result as JSON directly to the output, row by
+     * row.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param output the output
+     * @throws Exception the exception
+     */
+    public static final void queryNamedToStream(String sql, String parameters, String datasourceName, OutputStream output)
+            throws Exception {
+        try (ResultSetCursor cursor = openCursor(sql, parameters, datasourceName, 0, true)) {
+            cursor.write(output);
+        }
+    }
+
+    /**
+     * Opens the cursor. The query runs outside of the auto commit mode, as some drivers (e.g.
+     * PostgreSQL) honor the fetch size only within a transaction.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param fetchSize the fetch size, the configured default if not positive
+     * @param named whether the parameters are named
+     * @return the cursor
+     * @throws Exception the exception
+     */
+    private static ResultSetCursor openCursor(String sql, String parameters, String datasourceName, int fetchSize, boolean named)
+            throws Exception {
+        DataSource dataSource = getDataSource(datasourceName);
+        if (dataSource == null) {
+            String error = format("DataSource {0} not known.", datasourceName);
+            throw new IllegalArgumentException(error);
+        }
+        Connection connection = dataSource.getConnection();
+        AutoCloseable statement = null;
+        boolean autoCommit = true;
+        try {
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            PreparedStatement preparedStatement;
+            IndexedOrNamedStatement indexedOrNamed;
+            if (named) {
+                NamedParameterStatement namedStatement = new NamedParameterStatement(connection, sql);
+                statement = namedStatement;
+                preparedStatement = namedStatement.getStatement();
+                indexedOrNamed = new IndexedOrNamedStatement(namedStatement);
+            } else {
+                preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement = preparedStatement;
+                indexedOrNamed = new IndexedOrNamedStatement(preparedStatement);
+            }
+            preparedStatement.setFetchSize(
+                    fetchSize > 0 ? fetchSize : Configuration.getAsInt(DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE, DEFAULT_QUERY_FETCH_SIZE));
+            if (parameters != null) {
+                ParametersSetter.setParameters(parameters, indexedOrNamed);
+            }
+            ResultSet resultSet = preparedStatement.executeQuery();
+            return new ResultSetCursor(connection, statement, resultSet, autoCommit);
+        } catch (Exception ex) {
+            logger.error("Failed to execute query statement [{}] in data source [{}].", sql, datasourceName, ex);
+            try (Connection c = connection; AutoCloseable s = statement) {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            } catch (Exception e) {
+                ex.addSuppressed(e);
+            }
+            throw ex;
+        }
     }
 
     // =========== Insert ===========
@@ -348,29 +450,25 @@ public class DatabaseFacade implements InitializingBean {
      */
     public static final List<Long> insert(String sql, String parameters, String datasourceName)
             throws SQLException, IllegalArgumentException, RuntimeException {
-        DataSource dataSource = getDataSource(datasourceName);
-        if (dataSource == null) {
-            throw new IllegalArgumentException("DataSource [" + datasourceName + "] not known.");
-        }
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        return executeInsert(sql, datasourceName, false,
+                parameters != null ? statement -> ParametersSetter.setParameters(parameters, statement) : null);
+    }
 
-            if (parameters != null) {
-                IndexedOrNamedStatement statement = new IndexedOrNamedStatement(preparedStatement);
-                ParametersSetter.setParameters(parameters, statement);
-            }
-            int updatedRows = preparedStatement.executeUpdate();
-            List<Long> generatedIds = new ArrayList<>(updatedRows);
-            try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
-                while (generatedKeys.next()) {
-                    generatedIds.add(generatedKeys.getLong(1));
-                }
-                return generatedIds;
-            }
-        } catch (SQLException | RuntimeException ex) {
-            logger.error("Failed to execute insert statement [{}] in data source [{}].", sql, datasourceName, ex);
-            throw ex;
-        }
+    /**
+     * Executes SQL insert with the parameters given as Java values, e.g. a script array.
+     *
+     * @param sql the insert statement to be executed
+     * @param parameters statement parameters
+     * @param datasourceName the datasource name
+     * @return the generated IDs
+     * @throws SQLException if an error occur
+     * @throws IllegalArgumentException if the provided datasouce is not found
+     * @throws RuntimeException if an error occur
+     */
+    public static final List<Long> insert(String sql, List<?> parameters, String datasourceName)
+            throws SQLException, IllegalArgumentException, RuntimeException {
+        return executeInsert(sql, datasourceName, false,
+                parameters != null ? statement -> ParametersBinding.bind(parameters, statement) : null);
     }
 
     /**
@@ -386,29 +484,25 @@ public class DatabaseFacade implements InitializingBean {
      */
     public static final List<Long> insertNamed(String sql, String parameters, String datasourceName)
             throws SQLException, IllegalArgumentException, RuntimeException {
-        DataSource dataSource = getDataSource(datasourceName);
-        if (dataSource == null) {
-            throw new IllegalArgumentException("DataSource [" + datasourceName + "] not known.");
-        }
-        try (Connection connection = dataSource.getConnection();
-                NamedParameterStatement preparedStatement = new NamedParameterStatement(connection, sql, Statement.RETURN_GENERATED_KEYS)) {
+        return executeInsert(sql, datasourceName, true,
+                parameters != null ? statement -> ParametersSetter.setParameters(parameters, statement) : null);
+    }
 
-            if (parameters != null) {
-                IndexedOrNamedStatement statement = new IndexedOrNamedStatement(preparedStatement);
-                ParametersSetter.setParameters(parameters, statement);
-            }
-            int updatedRows = preparedStatement.executeUpdate();
-            List<Long> generatedIds = new ArrayList<>(updatedRows);
-            try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
-                while (generatedKeys.next()) {
-                    generatedIds.add(generatedKeys.getLong(1));
-                }
-                return generatedIds;
-            }
-        } catch (SQLException | RuntimeException ex) {
-            logger.error("Failed to execute insert statement [{}] in data source [{}].", sql, datasourceName, ex);
-            throw ex;
-        }
+    /**
+     * Executes named SQL insert with the parameters given as Java values, e.g. a script array.
+     *
+     * @param sql the insert statement to be executed
+     * @param parameters statement parameters
+     * @param datasourceName the datasource name
+     * @return the generated IDs
+     * @throws SQLException if an error occur
+     * @throws IllegalArgumentException if the provided datasouce is not found
+     * @throws RuntimeException if an error occur
+     */
+    public static final List<Long> insertNamed(String sql, List<?> parameters, String datasourceName)
+            throws SQLException, IllegalArgumentException, RuntimeException {
+        return executeInsert(sql, datasourceName, true,
+                parameters != null ? statement -> ParametersBinding.bind(parameters, statement) : null);
     }
 
     // =========== Update ===========
@@ -435,56 +529,250 @@ public class DatabaseFacade implements InitializingBean {
      * @throws Exception the exception
      */
     public static final int update(String sql, String parameters, String datasourceName) throws Exception {
+        return executeUpdate(sql, datasourceName, false,
+                parameters != null ? statement -> ParametersSetter.setParameters(parameters, statement) : null);
+    }
+
+    /**
+     * Executes SQL update with the parameters given as Java values, e.g. a script array.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @return the number of the rows that has been changed
+     * @throws Exception the exception
+     */
+    public static final int update(String sql, List<?> parameters, String datasourceName) throws Exception {
+        return executeUpdate(sql, datasourceName, false,
+                parameters != null ? statement -> ParametersBinding.bind(parameters, statement) : null);
+    }
+
+    /**
+     * Executes SQL update.
+     *
+     * @param sql the sql
+     * @return the number of the rows that has been changed
+     * @throws Exception the exception
+     */
+    public static final int update(String sql) throws Exception {
+        return update(sql, (String) null, null);
+    }
+
+    /**
+     * Executes named SQL update.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @return the number of the rows that has been changed
+     * @throws Exception the exception
+     */
+    public static final int updateNamed(String sql, String parameters, String datasourceName) throws Exception {
+        return executeUpdate(sql, datasourceName, true,
+                parameters != null ? statement -> ParametersSetter.setParameters(parameters, statement) : null);
+    }
+
+    /**
+     * Executes named SQL update with the parameters given as Java values, e.g. a script array.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @return the number of the rows that has been changed
+     * @throws Exception the exception
+     */
+    public static final int updateNamed(String sql, List<?> parameters, String datasourceName) throws Exception {
+        return executeUpdate(sql, datasourceName, true,
+                parameters != null ? statement -> ParametersBinding.bind(parameters, statement) : null);
+    }
+
+    /**
+     * Executes named SQL update.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @return the number of the rows that has been changed
+     * @throws Exception the exception
+     */
+    public static final int updateNamed(String sql, String parameters) throws Exception {
+        return update(sql, parameters, null);
+    }
+
+    /**
+     * Executes named SQL update.
+     *
+     * @param sql the sql
+     * @return the number of the rows that has been changed
+     * @throws Exception the exception
+     */
+    public static final int updateNamed(String sql) throws Exception {
+        return update(sql, (String) null, null);
+    }
+
+    // =========== Prepared ===========
+
+    /**
+     * Prepares SQL statement to be executed many times with different parameters. The statement keeps
+     * its connection until closed.
+     *
+     * @param sql the sql
+     * @param datasourceName the datasource name
+     * @return the reusable statement
+     * @throws SQLException the SQL exception
+     */
+    public static final ReusableStatement prepare(String sql, String datasourceName) throws SQLException {
+        return prepare(sql, datasourceName, false);
+    }
+
+    /**
+     * Prepares named parameters SQL statement to be executed many times with different parameters. The
+     * statement keeps its connection until closed.
+     *
+     * @param sql the sql
+     * @param datasourceName the datasource name
+     * @return the reusable statement
+     * @throws SQLException the SQL exception
+     */
+    public static final ReusableStatement prepareNamed(String sql, String datasourceName) throws SQLException {
+        return prepare(sql, datasourceName, true);
+    }
+
+    /**
+     * Prepares SQL statement to be executed many times.
+     *
+     * @param sql the sql
+     * @param datasourceName the datasource name
+     * @param named whether the parameters are named
+     * @return the reusable statement
+     * @throws SQLException the SQL exception
+     */
+    private static ReusableStatement prepare(String sql, String datasourceName, boolean named) throws SQLException {
+        DataSource dataSource = getDataSource(datasourceName);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("DataSource [" + datasourceName + "] not known.");
+        }
+        Connection connection = dataSource.getConnection();
+        try {
+            return new ReusableStatement(connection, prepareStatement(connection, sql, named, Statement.NO_GENERATED_KEYS));
+        } catch (SQLException | RuntimeException ex) {
+            logger.error("Failed to prepare statement [{}] in data source [{}].", sql, datasourceName, ex);
+            try (Connection c = connection) {
+                // release the connection
+            } catch (SQLException e) {
+                ex.addSuppressed(e);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Creates the indexed or the named statement.
+     *
+     * @param connection the connection
+     * @param sql the sql
+     * @param named whether the parameters are named
+     * @param autoGeneratedKeys whether to return the generated keys
+     * @return the statement
+     * @throws SQLException the SQL exception
+     */
+    private static IndexedOrNamedStatement prepareStatement(Connection connection, String sql, boolean named, int autoGeneratedKeys)
+            throws SQLException {
+        if (autoGeneratedKeys == Statement.NO_GENERATED_KEYS) {
+            return named ? new IndexedOrNamedStatement(new NamedParameterStatement(connection, sql))
+                    : new IndexedOrNamedStatement(connection.prepareStatement(sql));
+        }
+        return named ? new IndexedOrNamedStatement(new NamedParameterStatement(connection, sql, autoGeneratedKeys))
+                : new IndexedOrNamedStatement(connection.prepareStatement(sql, autoGeneratedKeys));
+    }
+
+    /**
+     * Executes SQL query.
+     *
+     * @param sql the sql
+     * @param datasourceName the datasource name
+     * @param named whether the parameters are named
+     * @param parameters the parameters setter or null
+     * @return the result of the query as JSON
+     * @throws Exception the exception
+     */
+    private static String executeQuery(String sql, String datasourceName, boolean named, StatementParameters parameters) throws Exception {
         DataSource dataSource = getDataSource(datasourceName);
         if (dataSource == null) {
             String error = format("DataSource {0} not known.", datasourceName);
             throw new IllegalArgumentException(error);
         }
         try (Connection connection = dataSource.getConnection()) {
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            IndexedOrNamedStatement statement = prepareStatement(connection, sql, named, Statement.NO_GENERATED_KEYS);
+            try (PreparedStatement preparedStatement = statement.getStatement()) {
                 if (parameters != null) {
-                    IndexedOrNamedStatement statement = new IndexedOrNamedStatement(preparedStatement);
-                    ParametersSetter.setParameters(parameters, statement);
+                    parameters.set(statement);
                 }
-                return preparedStatement.executeUpdate();
+                return toJson(preparedStatement.executeQuery());
             }
         } catch (Exception ex) {
-            logger.error("Failed to execute update statement [{}] in data source [{}].", sql, datasourceName, ex);
+            logger.error("Failed to execute query statement [{}] in data source [{}].", sql, datasourceName, ex);
             throw ex;
         }
     }
 
     /**
-     * Executes SQL update.
+     * Executes SQL insert.
      *
      * @param sql the sql
-     * @return the number of the rows that has been changed
-     * @throws Exception the exception
+     * @param datasourceName the datasource name
+     * @param named whether the parameters are named
+     * @param parameters the parameters setter or null
+     * @return the generated IDs
+     * @throws SQLException the SQL exception
      */
-    public static final int update(String sql) throws Exception {
-        return update(sql, null, null);
+    private static List<Long> executeInsert(String sql, String datasourceName, boolean named, StatementParameters parameters)
+            throws SQLException {
+        DataSource dataSource = getDataSource(datasourceName);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("DataSource [" + datasourceName + "] not known.");
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            IndexedOrNamedStatement statement = prepareStatement(connection, sql, named, Statement.RETURN_GENERATED_KEYS);
+            try (PreparedStatement preparedStatement = statement.getStatement()) {
+                if (parameters != null) {
+                    parameters.set(statement);
+                }
+                int updatedRows = preparedStatement.executeUpdate();
+                List<Long> generatedIds = new ArrayList<>(updatedRows);
+                try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        generatedIds.add(generatedKeys.getLong(1));
+                    }
+                    return generatedIds;
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            logger.error("Failed to execute insert statement [{}] in data source [{}].", sql, datasourceName, ex);
+            throw ex;
+        }
     }
 
     /**
-     * Executes named SQL update.
+     * Executes SQL update.
      *
      * @param sql the sql
-     * @param parameters the parameters
      * @param datasourceName the datasource name
+     * @param named whether the parameters are named
+     * @param parameters the parameters setter or null
      * @return the number of the rows that has been changed
      * @throws Exception the exception
      */
-    public static final int updateNamed(String sql, String parameters, String datasourceName) throws Exception {
+    private static int executeUpdate(String sql, String datasourceName, boolean named, StatementParameters parameters) throws Exception {
         DataSource dataSource = getDataSource(datasourceName);
         if (dataSource == null) {
             String error = format("DataSource {0} not known.", datasourceName);
             throw new IllegalArgumentException(error);
         }
         try (Connection connection = dataSource.getConnection()) {
-            try (NamedParameterStatement preparedStatement = new NamedParameterStatement(connection, sql)) {
+            IndexedOrNamedStatement statement = prepareStatement(connection, sql, named, Statement.NO_GENERATED_KEYS);
+            try (PreparedStatement preparedStatement = statement.getStatement()) {
                 if (parameters != null) {
-                    IndexedOrNamedStatement statement = new IndexedOrNamedStatement(preparedStatement);
-                    ParametersSetter.setParameters(parameters, statement);
+                    parameters.set(statement);
                 }
                 return preparedStatement.executeUpdate();
             }
@@ -495,26 +783,40 @@ public class DatabaseFacade implements InitializingBean {
     }
 
     /**
-     * Executes named SQL update.
+     * Render the result set as JSON.
      *
-     * @param sql the sql
-     * @param parameters the parameters
-     * @return the number of the rows that has been changed
+     * @param resultSet the result set
+     * @return the JSON
      * @throws Exception the exception
      */
-    public static final int updateNamed(String sql, String parameters) throws Exception {
-        return update(sql, parameters, null);
+    static String toJson(ResultSet resultSet) throws Exception {
+        StringWriter sw = new StringWriter();
+        OutputStream output;
+        try {
+            output = WriterOutputStream.builder()
+                                       .setWriter(sw)
+                                       .setCharset(StandardCharsets.UTF_8)
+                                       .get();
+        } catch (IOException e) {
+            throw new Exception(e);
+        }
+        DatabaseResultSetHelper.toJson(resultSet, false, false, output);
+        return sw.toString();
     }
 
     /**
-     * Executes named SQL update.
-     *
-     * @param sql the sql
-     * @return the number of the rows that has been changed
-     * @throws Exception the exception
+     * The setter of the statement parameters.
      */
-    public static final int updateNamed(String sql) throws Exception {
-        return update(sql, null, null);
+    @FunctionalInterface
+    private interface StatementParameters {
+
+        /**
+         * Sets the parameters.
+         *
+         * @param statement the statement
+         * @throws SQLException the SQL exception
+         */
+        void set(IndexedOrNamedStatement statement) throws SQLException;
     }
 
     /**
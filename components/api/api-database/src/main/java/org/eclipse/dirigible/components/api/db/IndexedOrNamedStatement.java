@@ -100,4 +100,13 @@ public class IndexedOrNamedStatement {
         return this.named != null;
     }
 
+    /**
+     * Gets the underlying prepared statement of the indexed or the named statement.
+     *
+     * @return the prepared statement
+     */
+    public PreparedStatement getStatement() {
+        return isNamed() ? named.getStatement() : indexed;
+    }
+
 }
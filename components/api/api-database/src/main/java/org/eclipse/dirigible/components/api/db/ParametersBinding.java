@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.components.api.io.BytesFacade;
+import org.graalvm.polyglot.Value;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Binds the parameters given as Java values, e.g. a script array, without a JSON round trip. The
+ * setter of each parameter is resolved by the class of its value. An instance keeps the resolved
+ * setters for the next execution of the same statement, so that a reusable statement executed in a
+ * loop resolves them only once. The single statements of the facade are bound by
+ * {@link #bind(List, IndexedOrNamedStatement)}, which resolves the setters on each call, as the
+ * resolution costs a few type checks only and a cache by SQL would cost a lookup itself. Parameters
+ * given as objects with name, type and value are bound by the setters of their database type, the
+ * same way as the JSON parameters.
+ */
+class ParametersBinding {
+
+    /** The binders by parameter position. */
+    private Binder[] binders = new Binder[0];
+
+    /** The value classes the binders have been resolved for. */
+    private Class<?>[] classes = new Class<?>[0];
+
+    /**
+     * Sets the parameters of a statement executed once.
+     *
+     * @param parameters the parameters
+     * @param preparedStatement the prepared statement
+     * @throws SQLException the SQL exception
+     */
+    static void bind(List<?> parameters, IndexedOrNamedStatement preparedStatement) throws SQLException {
+        int paramIndex = 1;
+        for (Object parameter : parameters) {
+            Object value = toJava(parameter);
+            (value == null ? Binder.NULL : Binder.of(value)).bind(preparedStatement, paramIndex++, value);
+        }
+    }
+
+    /**
+     * Sets the parameters, reusing the setters resolved by the previous execution.
+     *
+     * @param parameters the parameters
+     * @param preparedStatement the prepared statement
+     * @throws SQLException the SQL exception
+     */
+    void setParameters(List<?> parameters, IndexedOrNamedStatement preparedStatement) throws SQLException {
+        if (binders.length < parameters.size()) {
+            binders = new Binder[parameters.size()];
+            classes = new Class<?>[parameters.size()];
+        }
+        int paramIndex = 1;
+        for (Object parameter : parameters) {
+            Object value = toJava(parameter);
+            int position = paramIndex - 1;
+            Binder binder;
+            if (value == null) {
+                binder = Binder.NULL;
+            } else if (value.getClass() == classes[position]) {
+                binder = binders[position];
+            } else {
+                binder = Binder.of(value);
+                binders[position] = binder;
+                classes[position] = value.getClass();
+            }
+            binder.bind(preparedStatement, paramIndex, value);
+            paramIndex++;
+        }
+    }
+
+    /**
+     * Convert the script objects, which are passed as maps or lists, to the values they stand for.
+     * Dates become their ISO strings, as in JSON, and array buffers and typed arrays become byte
+     * arrays.
+     *
+     * @param parameter the parameter
+     * @return the value
+     */
+    static Object toJava(Object parameter) {
+        if (!(parameter instanceof Map) && !(parameter instanceof List)) {
+            return parameter;
+        }
+        Value value = Value.asValue(parameter);
+        if (value.isHostObject()) {
+            return parameter;
+        }
+        if (value.isInstant() && value.canInvokeMember("toISOString")) {
+            return value.invokeMember("toISOString")
+                        .asString();
+        }
+        if (value.hasBufferElements() || (value.hasMember("buffer") && value.getMember("buffer")
+                                                                            .hasBufferElements())) {
+            return BytesFacade.toJavaBytes(value);
+        }
+        return parameter;
+    }
+
+    /**
+     * Convert the value of a typed parameter to a JSON element for the setters of the database types.
+     *
+     * @param value the value
+     * @return the JSON element
+     */
+    private static JsonElement toJsonElement(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        }
+        if (value instanceof Number number) {
+            return new JsonPrimitive(number);
+        }
+        if (value instanceof String string) {
+            return new JsonPrimitive(string);
+        }
+        if (value instanceof Boolean bool) {
+            return new JsonPrimitive(bool);
+        }
+        if (value instanceof java.util.Date date) {
+            return new JsonPrimitive(date.getTime());
+        }
+        return GsonHelper.toJsonTree(value);
+    }
+
+    /**
+     * The setters by value type.
+     */
+    private enum Binder {
+
+        /** The null. */
+        NULL {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                indexed(statement).setNull(paramIndex, Types.NULL);
+            }
+        },
+
+        /** The boolean. */
+        BOOLEAN {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                indexed(statement).setBoolean(paramIndex, (Boolean) value);
+            }
+        },
+
+        /** The int. */
+        INT {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                indexed(statement).setInt(paramIndex, ((Number) value).intValue());
+            }
+        },
+
+        /** The long. */
+        LONG {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                indexed(statement).setLong(paramIndex, ((Number) value).longValue());
+            }
+        },
+
+        /** The double, bound as long if it has no fraction, as the script numbers. */
+        DOUBLE {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                PreparedStatement preparedStatement = indexed(statement);
+                double doubleValue = ((Number) value).doubleValue();
+                if (doubleValue % 1 == 0 && Math.abs(doubleValue) <= Long.MAX_VALUE) {
+                    preparedStatement.setLong(paramIndex, (long) doubleValue);
+                } else {
+                    preparedStatement.setDouble(paramIndex, doubleValue);
+                }
+            }
+        },
+
+        /** The decimal. */
+        DECIMAL {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                indexed(statement).setBigDecimal(paramIndex,
+                        value instanceof BigInteger bigInteger ? new BigDecimal(bigInteger) : (BigDecimal) value);
+            }
+        },
+
+        /** The string. */
+        STRING {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                indexed(statement).setString(paramIndex, (String) value);
+            }
+        },
+
+        /** The bytes. */
+        BYTES {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                byte[] bytes = (byte[]) value;
+                indexed(statement).setBinaryStream(paramIndex, new ByteArrayInputStream(bytes), bytes.length);
+            }
+        },
+
+        /** The timestamp. */
+        TIMESTAMP {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                PreparedStatement preparedStatement = indexed(statement);
+                if (value instanceof java.sql.Date || value instanceof java.sql.Time || value instanceof Timestamp) {
+                    preparedStatement.setObject(paramIndex, value);
+                } else {
+                    preparedStatement.setTimestamp(paramIndex, new Timestamp(((java.util.Date) value).getTime()));
+                }
+            }
+        },
+
+        /** The object. */
+        OBJECT {
+            @Override
+            void bind(IndexedOrNamedStatement statement, int paramIndex, Object value) throws SQLException {
+                indexed(statement).setObject(paramIndex, value);
+            }
+        },
+
+        /** The typed parameter, i.e. an object with name, type and value. */
+        TYPED {
+            @Override
+            void bind(IndexedOrNamedStatement preparedStatement, int paramIndex, Object value) throws SQLException {
+                Map<?, ?> parameter = (Map<?, ?>) value;
+                if (!(parameter.get("type") instanceof String dataType)) {
+                    throw new IllegalArgumentException("Parameter 'type' must be a string representing the database type name");
+                }
+                Object name = parameter.get("name");
+                String paramName = name != null ? name.toString() : null;
+                Object typedValue = toJava(parameter.get("value"));
+                if (typedValue instanceof byte[] bytes && preparedStatement.isIndexed()) {
+                    BYTES.bind(preparedStatement, paramIndex, bytes);
+                    return;
+                }
+                ParametersSetter.setTypedParameter(preparedStatement, paramIndex, paramName, dataType, toJsonElement(typedValue));
+            }
+        };
+
+        /**
+         * Resolve the binder of the value.
+         *
+         * @param value the value
+         * @return the binder
+         */
+        static Binder of(Object value) {
+            if (value instanceof String) {
+                return STRING;
+            }
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return INT;
+            }
+            if (value instanceof Long) {
+                return LONG;
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return DOUBLE;
+            }
+            if (value instanceof BigDecimal || value instanceof BigInteger) {
+                return DECIMAL;
+            }
+            if (value instanceof Boolean) {
+                return BOOLEAN;
+            }
+            if (value instanceof byte[]) {
+                return BYTES;
+            }
+            if (value instanceof java.util.Date) {
+                return TIMESTAMP;
+            }
+            if (value instanceof Map) {
+                return TYPED;
+            }
+            return OBJECT;
+        }
+
+        /**
+         * Gets the indexed statement, to which the values of the primitive types can be set.
+         *
+         * @param preparedStatement the prepared statement
+         * @return the indexed statement
+         */
+        static PreparedStatement indexed(IndexedOrNamedStatement preparedStatement) {
+            if (preparedStatement.isNamed()) {
+                throw new IllegalArgumentException("Primitive types can be set only to index based prepared statement.");
+            }
+            return preparedStatement.getIndexed();
+        }
+
+        /**
+         * Bind the value.
+         *
+         * @param preparedStatement the prepared statement
+         * @param paramIndex the param index
+         * @param value the value
+         * @throws SQLException the SQL exception
+         */
+        abstract void bind(IndexedOrNamedStatement preparedStatement, int paramIndex, Object value) throws SQLException;
+    }
+
+}
@@ -23,9 +23,12 @@ import java.io.ByteArrayInputStream;
 import java.sql.*;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The Class ParametersSetter.
@@ -47,6 +50,9 @@ class ParametersSetter {
             new RealParamSetter(), //
             new BlobParamSetter());
 
+    /** The param setters resolved by data type. */
+    private static final Map<String, ParamSetter> paramSettersByType = new ConcurrentHashMap<>();
+
     /**
      * Sets the parameters.
      *
@@ -210,7 +216,24 @@ class ParametersSetter {
 
         String dataType = typeElement.getAsJsonPrimitive()
                                      .getAsString();
-        JsonElement valueElement = jsonObject.get("value");
+        String paramName = preparedStatement.isNamed() ? nameElement.getAsJsonPrimitive()
+                                                                    .getAsString()
+                : null;
+        setTypedParameter(preparedStatement, paramIndex, paramName, dataType, jsonObject.get("value"));
+    }
+
+    /**
+     * Sets the parameter of the given database type.
+     *
+     * @param preparedStatement the prepared statement
+     * @param paramIndex the param index, used by the indexed statements
+     * @param paramName the param name, used by the named statements
+     * @param dataType the data type
+     * @param valueElement the value element
+     * @throws SQLException the SQL exception
+     */
+    static void setTypedParameter(IndexedOrNamedStatement preparedStatement, int paramIndex, String paramName, String dataType,
+            JsonElement valueElement) throws SQLException {
         if (null == valueElement || valueElement.isJsonNull()) {
             Integer sqlType = DataTypeUtils.getSqlTypeByDataType(dataType);
             if (preparedStatement.isIndexed()) {
@@ -218,31 +241,38 @@ class ParametersSetter {
                                  .setNull(paramIndex, sqlType);
             } else if (preparedStatement.isNamed()) {
                 preparedStatement.getNamed()
-                                 .setNull(nameElement.getAsJsonPrimitive()
-                                                     .getAsString(),
-                                         sqlType);
+                                 .setNull(paramName, sqlType);
             } else {
                 throw new IllegalArgumentException("Unknown type of the prepared statement while setting parameter.");
             }
             return;
         }
 
-        ParamSetter paramSetter = paramSetters.stream()
-                                              .filter(ps -> ps.isApplicable(dataType))
-                                              .findFirst()
-                                              .orElseThrow(() -> new IllegalArgumentException("Parameter 'type'[" + dataType
-                                                      + "] must be a string representing a valid database type name"));
+        ParamSetter paramSetter = getParamSetter(dataType);
         if (preparedStatement.isIndexed()) {
             paramSetter.setParam(valueElement, paramIndex, preparedStatement.getIndexed(), dataType);
         } else if (preparedStatement.isNamed()) {
-            paramSetter.setParam(valueElement, nameElement.getAsJsonPrimitive()
-                                                          .getAsString(),
-                    preparedStatement.getNamed(), dataType);
+            paramSetter.setParam(valueElement, paramName, preparedStatement.getNamed(), dataType);
         } else {
             throw new IllegalArgumentException("Unknown type of the prepared statement while setting parameter.");
         }
     }
 
+    /**
+     * Gets the param setter of the data type.
+     *
+     * @param dataType the data type
+     * @return the param setter
+     */
+    private static ParamSetter getParamSetter(String dataType) {
+        return paramSettersByType.computeIfAbsent(dataType, type -> paramSetters.stream()
+                                                                                .filter(ps -> ps.isApplicable(type))
+                                                                                .findFirst()
+                                                                                .orElseThrow(() -> new IllegalArgumentException(
+                                                                                        "Parameter 'type'[" + type
+                                                                                                + "] must be a string representing a valid database type name")));
+    }
+
     /**
      * The Interface ParamSetter.
      */
@@ -1241,8 +1271,14 @@ class ParametersSetter {
         public void setParam(JsonElement sourceParam, int paramIndex, PreparedStatement preparedStatement, String dataType)
                 throws SQLException {
             if (sourceParam.isJsonArray()) {
-                byte[] bytes = BytesHelper.jsonToBytes(sourceParam.getAsJsonArray()
-                                                                  .toString());
+                byte[] bytes = BytesHelper.jsonToBytes(sourceParam.getAsJsonArray());
+                preparedStatement.setBinaryStream(paramIndex, new ByteArrayInputStream(bytes), bytes.length);
+                return;
+            }
+            if (sourceParam.isJsonPrimitive() && sourceParam.getAsJsonPrimitive()
+                                                            .isString()) {
+                byte[] bytes = Base64.getDecoder()
+                                     .decode(sourceParam.getAsString());
                 preparedStatement.setBinaryStream(paramIndex, new ByteArrayInputStream(bytes), bytes.length);
                 return;
             }
@@ -1263,8 +1299,14 @@ class ParametersSetter {
         public void setParam(JsonElement sourceParam, String paramName, NamedParameterStatement preparedStatement, String dataType)
                 throws SQLException {
             if (sourceParam.isJsonArray()) {
-                byte[] bytes = BytesHelper.jsonToBytes(sourceParam.getAsJsonArray()
-                                                                  .toString());
+                byte[] bytes = BytesHelper.jsonToBytes(sourceParam.getAsJsonArray());
+                preparedStatement.setBinaryStream(paramName, new ByteArrayInputStream(bytes), bytes.length);
+                return;
+            }
+            if (sourceParam.isJsonPrimitive() && sourceParam.getAsJsonPrimitive()
+                                                            .isString()) {
+                byte[] bytes = Base64.getDecoder()
+                                     .decode(sourceParam.getAsString());
                 preparedStatement.setBinaryStream(paramName, new ByteArrayInputStream(bytes), bytes.length);
                 return;
             }
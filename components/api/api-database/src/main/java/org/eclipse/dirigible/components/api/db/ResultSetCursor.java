@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.eclipse.dirigible.components.data.management.format.ResultSetJsonWriter;
+import org.eclipse.dirigible.components.data.management.helpers.DatabaseResultSetHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Cursor over an open query result, which is read lazily in portions of the fetch size. The rows
+ * are rendered as JSON one by one or in batches, so that only the rows requested by the script are
+ * held in memory. The cursor owns the connection and releases it when closed or exhausted, or at
+ * the latest when the script context ends.
+ */
+public class ResultSetCursor implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ResultSetCursor.class);
+
+    /** The Constant JSON_FACTORY. */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** The Constant EMPTY_ARRAY. */
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** The statement. */
+    private final AutoCloseable statement;
+
+    /** The result set. */
+    private final ResultSet resultSet;
+
+    /** The auto commit mode of the connection before the query. */
+    private final boolean autoCommit;
+
+    /** The row writer. */
+    private final ResultSetJsonWriter writer = new ResultSetJsonWriter();
+
+    /** The result set meta data. */
+    private ResultSetMetaData resultSetMetaData;
+
+    /** The closed flag. */
+    private boolean closed;
+
+    /**
+     * Instantiates a new result set cursor.
+     *
+     * @param connection the connection
+     * @param statement the statement
+     * @param resultSet the result set
+     * @param autoCommit the auto commit mode to be restored on close
+     */
+    ResultSetCursor(Connection connection, AutoCloseable statement, ResultSet resultSet, boolean autoCommit) {
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.autoCommit = autoCommit;
+        this.writer.setStringified(false);
+        ThreadContextFacade.addCloseable(this);
+    }
+
+    /**
+     * Reads the next row.
+     *
+     * @return the row as JSON object or null, if there are no more rows
+     * @throws Exception the exception
+     */
+    public String next() throws Exception {
+        if (!advance()) {
+            return null;
+        }
+        StringWriter row = new StringWriter();
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(row)) {
+            writer.writeRow(resultSet, resultSetMetaData, jsonGenerator);
+        }
+        return row.toString();
+    }
+
+    /**
+     * Reads the next rows.
+     *
+     * @param count the max number of rows
+     * @return the rows as JSON array, empty if there are no more rows
+     * @throws Exception the exception
+     */
+    public String next(int count) throws Exception {
+        StringWriter rows = new StringWriter();
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(rows)) {
+            jsonGenerator.writeStartArray();
+            for (int i = 0; i < count && advance(); i++) {
+                writer.writeRow(resultSet, resultSetMetaData, jsonGenerator);
+            }
+            jsonGenerator.writeEndArray();
+        }
+        return rows.toString();
+    }
+
+    /**
+     * Writes the remaining rows as JSON array to the output and closes the cursor.
+     *
+     * @param output the output
+     * @throws Exception the exception
+     */
+    public void write(OutputStream output) throws Exception {
+        try {
+            if (closed) {
+                output.write(EMPTY_ARRAY);
+                output.flush();
+            } else {
+                DatabaseResultSetHelper.toJson(resultSet, false, false, output);
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Checks if is closed.
+     *
+     * @return true, if is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Move to the next row, closing the cursor after the last one.
+     *
+     * @return true, if positioned on a row
+     * @throws SQLException the SQL exception
+     */
+    private boolean advance() throws SQLException {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (resultSet.next()) {
+                if (resultSetMetaData == null) {
+                    resultSetMetaData = resultSet.getMetaData();
+                }
+                return true;
+            }
+        } catch (SQLException ex) {
+            close();
+            throw ex;
+        }
+        close();
+        return false;
+    }
+
+    /**
+     * Close the result set, the statement and the connection.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ThreadContextFacade.removeCloseable(this);
+        try (Connection c = connection) {
+            try (AutoCloseable s = statement; ResultSet r = resultSet) {
+                // closed in reverse order
+            }
+            if (!autoCommit) {
+                return;
+            }
+            // the query has been read in a transaction, so that the driver can use a cursor
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (Exception ex) {
+            logger.warn("Failed to close the query cursor", ex);
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepared statement to be executed many times with different parameters, e.g. in a loop. The
+ * statement is prepared once and the setters of its parameters are resolved on the first execution.
+ * The statement owns the connection and releases it when closed. A statement left open by the
+ * script is closed when the script context ends.
+ */
+public class ReusableStatement implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ReusableStatement.class);
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** The statement. */
+    private final IndexedOrNamedStatement statement;
+
+    /** The parameters binding. */
+    private final ParametersBinding binding = new ParametersBinding();
+
+    /** The closed flag. */
+    private boolean closed;
+
+    /**
+     * Instantiates a new reusable statement.
+     *
+     * @param connection the connection
+     * @param statement the statement
+     */
+    ReusableStatement(Connection connection, IndexedOrNamedStatement statement) {
+        this.connection = connection;
+        this.statement = statement;
+        ThreadContextFacade.addCloseable(this);
+    }
+
+    /**
+     * Executes the query.
+     *
+     * @param parameters the parameters or null
+     * @return the result of the query as JSON
+     * @throws Exception the exception
+     */
+    public String query(List<?> parameters) throws Exception {
+        return DatabaseFacade.toJson(bind(parameters).executeQuery());
+    }
+
+    /**
+     * Executes the update.
+     *
+     * @param parameters the parameters or null
+     * @return the number of the rows that has been changed
+     * @throws SQLException the SQL exception
+     */
+    public int update(List<?> parameters) throws SQLException {
+        return bind(parameters).executeUpdate();
+    }
+
+    /**
+     * Adds the parameters to the batch.
+     *
+     * @param parameters the parameters
+     * @throws SQLException the SQL exception
+     */
+    public void addBatch(List<?> parameters) throws SQLException {
+        bind(parameters).addBatch();
+    }
+
+    /**
+     * Executes the batch.
+     *
+     * @return the number of the rows that has been changed by each parameters of the batch
+     * @throws SQLException the SQL exception
+     */
+    public int[] executeBatch() throws SQLException {
+        checkOpen();
+        return statement.getStatement()
+                        .executeBatch();
+    }
+
+    /**
+     * Checks if is closed.
+     *
+     * @return true, if is closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Close the statement and the connection.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ThreadContextFacade.removeCloseable(this);
+        try (Connection c = connection; PreparedStatement s = statement.getStatement()) {
+            // closed in reverse order
+        } catch (SQLException ex) {
+            logger.warn("Failed to close the prepared statement", ex);
+        }
+    }
+
+    /**
+     * Bind the parameters.
+     *
+     * @param parameters the parameters or null
+     * @return the prepared statement
+     * @throws SQLException the SQL exception
+     */
+    private PreparedStatement bind(List<?> parameters) throws SQLException {
+        checkOpen();
+        PreparedStatement preparedStatement = statement.getStatement();
+        if (parameters != null) {
+            binding.setParameters(parameters, statement);
+        }
+        return preparedStatement;
+    }
+
+    /**
+     * Check that the statement is not closed.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The prepared statement is closed");
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the binding of the parameters given as JSON with the binding of the Java values. Run
+ * with: mvn test -Dtest=ParametersBindingBenchmarkTest -Dbenchmark=true
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ParametersBindingBenchmarkTest {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ParametersBindingBenchmarkTest.class);
+
+    /** The Constant ITERATIONS, measured after as many warm up iterations. */
+    private static final int ITERATIONS = 500_000;
+
+    /** The parameters, as passed by a script array. */
+    private static final List<Object> PARAMETERS = List.of(7, "text", 2.5, true);
+
+    /**
+     * The binding.
+     */
+    private interface Binding {
+
+        /**
+         * Bind the parameters.
+         *
+         * @param statement the statement
+         * @throws SQLException the SQL exception
+         */
+        void bind(IndexedOrNamedStatement statement) throws SQLException;
+    }
+
+    /**
+     * Benchmark.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void benchmark() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:binding");
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE BINDING (A INT, B VARCHAR(10), C DOUBLE, D BOOLEAN)");
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO BINDING VALUES (?, ?, ?, ?)")) {
+                IndexedOrNamedStatement statement = new IndexedOrNamedStatement(preparedStatement);
+                ParametersBinding reused = new ParametersBinding();
+
+                measure("JSON", statement, s -> ParametersSetter.setParameters(GsonHelper.toJson(PARAMETERS), s));
+                measure("Java values", statement, s -> ParametersBinding.bind(PARAMETERS, s));
+                measure("Java values, reused setters", statement, s -> reused.setParameters(PARAMETERS, s));
+            }
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT COUNT(DISTINCT (A, B, C, D)), COUNT(*) FROM BINDING")) {
+                resultSet.next();
+                assertEquals(1, resultSet.getInt(1));
+                assertEquals(3, resultSet.getInt(2));
+            }
+        }
+    }
+
+    /**
+     * Measure the binding and insert the bound row.
+     *
+     * @param name the name
+     * @param statement the statement
+     * @param binding the binding
+     * @throws SQLException the SQL exception
+     */
+    private static void measure(String name, IndexedOrNamedStatement statement, Binding binding) throws SQLException {
+        for (int i = 0; i < ITERATIONS; i++) {
+            binding.bind(statement);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            binding.bind(statement);
+        }
+        long elapsed = System.nanoTime() - start;
+        logger.info("{}: {} ns per binding", name, elapsed / ITERATIONS);
+        statement.getIndexed()
+                 .executeUpdate();
+    }
+
+}
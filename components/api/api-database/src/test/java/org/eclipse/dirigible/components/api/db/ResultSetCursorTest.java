@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ResultSetCursorTest.
+ */
+public class ResultSetCursorTest {
+
+    /** The data source. */
+    private JdbcDataSource dataSource;
+
+    /** The connection keeping the in-memory database. */
+    private Connection keeper;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:cursor");
+        keeper = dataSource.getConnection();
+        try (Statement statement = keeper.createStatement()) {
+            statement.execute("CREATE TABLE ITEMS (ID INT PRIMARY KEY)");
+            statement.execute("INSERT INTO ITEMS VALUES (1), (2), (3)");
+        }
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        try (Statement statement = keeper.createStatement()) {
+            statement.execute("DROP TABLE ITEMS");
+        }
+        keeper.close();
+    }
+
+    /**
+     * Open the cursor the same way as the facade.
+     *
+     * @param connection the connection
+     * @return the result set cursor
+     * @throws Exception the exception
+     */
+    private static ResultSetCursor open(Connection connection) throws Exception {
+        connection.setAutoCommit(false);
+        PreparedStatement statement = connection.prepareStatement("SELECT ID FROM ITEMS ORDER BY ID");
+        return new ResultSetCursor(connection, statement, statement.executeQuery(), true);
+    }
+
+    /**
+     * Next batch test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void nextBatchTest() throws Exception {
+        Connection connection = dataSource.getConnection();
+        ResultSetCursor cursor = open(connection);
+        assertEquals("[{\"ID\":1},{\"ID\":2}]", cursor.next(2));
+        assertEquals("[{\"ID\":3}]", cursor.next(2));
+        assertTrue(cursor.isClosed());
+        assertTrue(connection.isClosed());
+        assertEquals("[]", cursor.next(2));
+    }
+
+    /**
+     * Closed at the end of the context test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void closedWithContextTest() throws Exception {
+        Connection connection = dataSource.getConnection();
+        ThreadContextFacade.setUp();
+        ResultSetCursor cursor;
+        try {
+            cursor = open(connection);
+            assertEquals("{\"ID\":1}", cursor.next());
+        } finally {
+            ThreadContextFacade.tearDown();
+        }
+        assertTrue(cursor.isClosed());
+        assertTrue(connection.isClosed());
+    }
+
+    /**
+     * Closed before the end of the context test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void closedBeforeContextTest() throws Exception {
+        Connection connection = dataSource.getConnection();
+        ThreadContextFacade.setUp();
+        try {
+            try (ResultSetCursor cursor = open(connection)) {
+                assertFalse(cursor.isClosed());
+            }
+            assertTrue(connection.isClosed());
+        } finally {
+            ThreadContextFacade.tearDown();
+        }
+    }
+
+}
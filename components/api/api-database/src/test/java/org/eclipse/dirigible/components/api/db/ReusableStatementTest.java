@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ReusableStatementTest.
+ */
+public class ReusableStatementTest {
+
+    /** The data source. */
+    private JdbcDataSource dataSource;
+
+    /** The connection keeping the in-memory database. */
+    private Connection keeper;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:reusable");
+        keeper = dataSource.getConnection();
+        try (Statement statement = keeper.createStatement()) {
+            statement.execute("CREATE TABLE ITEMS (ID INT PRIMARY KEY)");
+        }
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        try (Statement statement = keeper.createStatement()) {
+            statement.execute("DROP TABLE ITEMS");
+        }
+        keeper.close();
+    }
+
+    /**
+     * Prepare the statement the same way as the facade.
+     *
+     * @param connection the connection
+     * @return the reusable statement
+     * @throws Exception the exception
+     */
+    private static ReusableStatement prepare(Connection connection) throws Exception {
+        return new ReusableStatement(connection, new IndexedOrNamedStatement(connection.prepareStatement("INSERT INTO ITEMS VALUES (?)")));
+    }
+
+    /**
+     * Update test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void updateTest() throws Exception {
+        Connection connection = dataSource.getConnection();
+        try (ReusableStatement statement = prepare(connection)) {
+            for (int i = 1; i <= 3; i++) {
+                assertEquals(1, statement.update(List.of(i)));
+            }
+        }
+        assertTrue(connection.isClosed());
+        try (Statement statement = keeper.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM ITEMS")) {
+            resultSet.next();
+            assertEquals(3, resultSet.getInt(1));
+        }
+    }
+
+    /**
+     * Closed at the end of the context test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void closedWithContextTest() throws Exception {
+        Connection connection = dataSource.getConnection();
+        ThreadContextFacade.setUp();
+        ReusableStatement statement;
+        try {
+            statement = prepare(connection);
+            assertEquals(1, statement.update(List.of(1)));
+        } finally {
+            ThreadContextFacade.tearDown();
+        }
+        assertTrue(statement.isClosed());
+        assertTrue(connection.isClosed());
+    }
+
+    /**
+     * Closed before the end of the context test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void closedBeforeContextTest() throws Exception {
+        Connection connection = dataSource.getConnection();
+        ThreadContextFacade.setUp();
+        try {
+            try (ReusableStatement statement = prepare(connection)) {
+                assertFalse(statement.isClosed());
+            }
+            assertTrue(connection.isClosed());
+        } finally {
+            ThreadContextFacade.tearDown();
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+import { Query } from 'sdk/db/query';
+import { Update } from 'sdk/db/update';
+import { Streams } from 'sdk/io/streams';
+import { Assert } from 'test/assert';
+
+Update.execute("CREATE TABLE QC (A INT, B VARCHAR(10))");
+for (let i = 1; i <= 25; i++) {
+	Update.execute("INSERT INTO QC VALUES (?, ?)", [i, "R" + i]);
+}
+
+try {
+	const cursor = Query.cursor("SELECT * FROM QC WHERE A > ? ORDER BY A", [5], undefined, 10);
+	let count = 0;
+	let sum = 0;
+	cursor.forEach(row => {
+		count++;
+		sum += row.A;
+	});
+	Assert.assertEquals(count, 20);
+	Assert.assertEquals(sum, 310);
+	Assert.assertTrue(cursor.isClosed());
+
+	const named = Query.cursorNamed("SELECT * FROM QC WHERE A <= :max ORDER BY A", [{ name: "max", type: "INTEGER", value: 3 }]);
+	Assert.assertEquals(named.next().B, "R1");
+	Assert.assertEquals(named.nextBatch(5).length, 2);
+	Assert.assertTrue(named.next() === undefined);
+	Assert.assertTrue(named.isClosed());
+
+	const output = Streams.createByteArrayOutputStream();
+	Query.stream("SELECT * FROM QC WHERE A = ?", output, [7]);
+	const streamed = JSON.parse(output.getText());
+	Assert.assertEquals(streamed.length, 1);
+	Assert.assertEquals(streamed[0].B, "R7");
+} finally {
+	Update.execute("DROP TABLE QC");
+}
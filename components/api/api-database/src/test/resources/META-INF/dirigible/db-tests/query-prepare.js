@@ -0,0 +1,33 @@
+import { Query } from 'sdk/db/query';
+import { Update } from 'sdk/db/update';
+import { Assert } from 'test/assert';
+
+Update.execute("CREATE TABLE QP (A INT, B VARCHAR(10), C DOUBLE)");
+
+try {
+	const insert = Query.prepare("INSERT INTO QP VALUES (?, ?, ?)");
+	try {
+		for (let i = 1; i <= 10; i++) {
+			Assert.assertEquals(insert.update([i, "R" + i, i / 2]), 1);
+		}
+		for (let i = 11; i <= 20; i++) {
+			insert.addBatch([i, "R" + i, { type: "DOUBLE", value: i / 2 }]);
+		}
+		Assert.assertEquals(insert.executeBatch().length, 10);
+	} finally {
+		insert.close();
+	}
+	Assert.assertTrue(insert.isClosed());
+
+	const select = Query.prepareNamed("SELECT * FROM QP WHERE A = :a");
+	try {
+		Assert.assertEquals(select.execute([{ name: "a", type: "INTEGER", value: 7 }])[0].B, "R7");
+		Assert.assertEquals(select.execute([{ name: "a", type: "INTEGER", value: 15 }])[0].C, 7.5);
+	} finally {
+		select.close();
+	}
+
+	Assert.assertEquals(Query.execute("SELECT * FROM QP WHERE A > ? AND B <> ?", [18, "R19"]).length, 1);
+} finally {
+	Update.execute("DROP TABLE QP");
+}
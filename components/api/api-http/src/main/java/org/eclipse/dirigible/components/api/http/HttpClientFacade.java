@@ -9,7 +9,7 @@
  */
 package org.eclipse.dirigible.components.api.http;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHost;
@@ -24,6 +24,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.http.client.*;
 import org.springframework.stereotype.Component;
 
@@ -33,8 +34,18 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Java face for HTTP operations.
@@ -42,6 +53,12 @@ import java.util.List;
 @Component
 public class HttpClientFacade {
 
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_BATCH_THREADS. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_BATCH_THREADS = "DIRIGIBLE_HTTP_CLIENT_BATCH_THREADS";
+
+    /** The executor of the batch requests, its threads are released when idle. */
+    private static final ExecutorService BATCH_EXECUTOR = createBatchExecutor();
+
     /**
      * Performs a GET request for the specified URL and options.
      *
@@ -55,7 +72,7 @@ public class HttpClientFacade {
         HttpGet httpGet = createGetRequest(url, httpClientRequestOptions);
         CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
         CloseableHttpResponse response = httpClient.execute(httpGet);
-        return processResponse(response, httpClientRequestOptions.isBinary());
+        return processResponse(response, httpClientRequestOptions);
     }
 
     /**
@@ -71,7 +88,7 @@ public class HttpClientFacade {
         HttpPost httpPost = createPostRequest(url, httpClientRequestOptions);
         CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
         CloseableHttpResponse response = httpClient.execute(httpPost);
-        return processResponse(response, httpClientRequestOptions.isBinary());
+        return processResponse(response, httpClientRequestOptions);
     }
 
     /**
@@ -87,7 +104,7 @@ public class HttpClientFacade {
         HttpPut httpPut = createPutRequest(url, httpClientRequestOptions);
         CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
         CloseableHttpResponse response = httpClient.execute(httpPut);
-        return processResponse(response, httpClientRequestOptions.isBinary());
+        return processResponse(response, httpClientRequestOptions);
     }
 
     /**
@@ -103,7 +120,7 @@ public class HttpClientFacade {
         HttpPatch httpPatch = createPatchRequest(url, httpClientRequestOptions);
         CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
         CloseableHttpResponse response = httpClient.execute(httpPatch);
-        return processResponse(response, httpClientRequestOptions.isBinary());
+        return processResponse(response, httpClientRequestOptions);
     }
 
     /**
@@ -120,7 +137,7 @@ public class HttpClientFacade {
 
         CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
         CloseableHttpResponse response = httpClient.execute(httpDelete);
-        return processResponse(response, httpClientRequestOptions.isBinary());
+        return processResponse(response, httpClientRequestOptions);
     }
 
     /**
@@ -137,7 +154,7 @@ public class HttpClientFacade {
 
         CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
         CloseableHttpResponse response = httpClient.execute(httpHead);
-        return processResponse(response, httpClientRequestOptions.isBinary());
+        return processResponse(response, httpClientRequestOptions);
     }
 
     /**
@@ -154,7 +171,124 @@ public class HttpClientFacade {
 
         CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
         CloseableHttpResponse response = httpClient.execute(httpTrace);
-        return processResponse(response, httpClientRequestOptions.isBinary());
+        return processResponse(response, httpClientRequestOptions);
+    }
+
+    /**
+     * Performs the requests concurrently and waits for all of them, so that the total time is the time
+     * of the slowest request instead of the sum. The timeout of each request is counted from the start
+     * of the batch, a request which has not completed in time is aborted.
+     *
+     * @param requests the requests as JSON array of method, url, options and timeout
+     * @return the responses as JSON array, in the order of the requests. The failed requests have no
+     *         status code and an error.
+     */
+    public static final String all(String requests) {
+        HttpClientBatchRequest[] batch = GsonHelper.fromJson(requests, HttpClientBatchRequest[].class);
+        long start = System.nanoTime();
+        List<HttpRequestBase> httpRequests = new ArrayList<>(batch.length);
+        List<Future<HttpClientResponse>> futures = new ArrayList<>(batch.length);
+        for (HttpClientBatchRequest request : batch) {
+            HttpClientRequestOptions options = request.getOptions() != null ? request.getOptions() : new HttpClientRequestOptions();
+            try {
+                HttpRequestBase httpRequest = createRequest(request.getMethod(), request.getUrl(), options);
+                CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(options.isSslTrustAllEnabled());
+                httpRequests.add(httpRequest);
+                futures.add(BATCH_EXECUTOR.submit(
+                        () -> encode(processHttpClientResponse(httpClient.execute(httpRequest), options.isBinary()), options)));
+            } catch (IOException | RuntimeException e) {
+                httpRequests.add(null);
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        List<HttpClientResponse> responses = new ArrayList<>(batch.length);
+        for (int i = 0; i < batch.length; i++) {
+            Future<HttpClientResponse> future = futures.get(i);
+            try {
+                if (batch[i].getTimeout() > 0) {
+                    long remaining = batch[i].getTimeout() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    responses.add(future.get(Math.max(0, remaining), TimeUnit.MILLISECONDS));
+                } else {
+                    responses.add(future.get());
+                }
+            } catch (TimeoutException e) {
+                abort(httpRequests.get(i), future);
+                responses.add(failedResponse("Request timed out after " + batch[i].getTimeout() + " ms: " + batch[i].getUrl()));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                for (int j = i; j < batch.length; j++) {
+                    abort(httpRequests.get(j), futures.get(j));
+                    responses.add(failedResponse("Interrupted while waiting for: " + batch[j].getUrl()));
+                }
+                break;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                responses.add(failedResponse(cause.getClass()
+                                                  .getSimpleName()
+                        + ": " + cause.getMessage()));
+            }
+        }
+        return GsonHelper.toJson(responses);
+    }
+
+    /**
+     * Abort the request, which is still running or waiting for a thread.
+     *
+     * @param httpRequest the http request, null if it could not be created
+     * @param future the future
+     */
+    private static void abort(HttpRequestBase httpRequest, Future<HttpClientResponse> future) {
+        if (httpRequest != null) {
+            httpRequest.abort();
+        }
+        future.cancel(true);
+    }
+
+    /**
+     * Creates the request for the method.
+     *
+     * @param method the method
+     * @param url the url
+     * @param httpClientRequestOptions the http client request options
+     * @return the http request
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static HttpRequestBase createRequest(String method, String url, HttpClientRequestOptions httpClientRequestOptions)
+            throws IOException {
+        String name = method != null ? method.toUpperCase() : HttpGet.METHOD_NAME;
+        return switch (name) {
+            case HttpGet.METHOD_NAME -> createGetRequest(url, httpClientRequestOptions);
+            case HttpPost.METHOD_NAME -> createPostRequest(url, httpClientRequestOptions);
+            case HttpPut.METHOD_NAME -> createPutRequest(url, httpClientRequestOptions);
+            case HttpPatch.METHOD_NAME -> createPatchRequest(url, httpClientRequestOptions);
+            case HttpDelete.METHOD_NAME -> createDeleteRequest(url, httpClientRequestOptions);
+            case HttpHead.METHOD_NAME -> createHeadRequest(url, httpClientRequestOptions);
+            case HttpTrace.METHOD_NAME -> createTraceRequest(url, httpClientRequestOptions);
+            default -> throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        };
+    }
+
+    /**
+     * Failed response.
+     *
+     * @param error the error
+     * @return the http client response
+     */
+    private static HttpClientResponse failedResponse(String error) {
+        HttpClientResponse httpClientResponse = new HttpClientResponse();
+        httpClientResponse.setError(error);
+        return httpClientResponse;
+    }
+
+    /**
+     * Gets the statistics of the shared connection pools.
+     *
+     * @return the statistics as JSON
+     */
+    public static final String getPoolStatistics() {
+        return GsonHelper.toJson(HttpClientProxyUtils.getPoolStatistics());
     }
 
     /**
@@ -197,7 +331,7 @@ public class HttpClientFacade {
                                                    .getProtocol());
             HttpEntity entity = response.getEntity();
             if (entity != null && entity.getContent() != null) {
-                byte[] content = IOUtils.toByteArray(entity.getContent());
+                byte[] content = EntityUtils.toByteArray(entity);
                 String processedContentType = ContentType.getOrDefault(entity)
                                                          .getMimeType();
                 boolean isSupportedTextType = recognizedTextMimeTypes.contains(processedContentType);
@@ -227,13 +361,48 @@ public class HttpClientFacade {
      * Process response.
      *
      * @param response the response
-     * @param binary the binary
+     * @param httpClientRequestOptions the http client request options
      * @return the string
      * @throws IOException Signals that an I/O exception has occurred.
      */
-    private static String processResponse(CloseableHttpResponse response, boolean binary) throws IOException {
-        HttpClientResponse httpClientResponse = processHttpClientResponse(response, binary);
-        return GsonHelper.toJson(httpClientResponse);
+    private static String processResponse(CloseableHttpResponse response, HttpClientRequestOptions httpClientRequestOptions)
+            throws IOException {
+        HttpClientResponse httpClientResponse = processHttpClientResponse(response, httpClientRequestOptions.isBinary());
+        return GsonHelper.toJson(encode(httpClientResponse, httpClientRequestOptions));
+    }
+
+    /**
+     * Encode the binary data as base64, if requested, as it is several times more compact in JSON than
+     * an array of numbers.
+     *
+     * @param httpClientResponse the http client response
+     * @param httpClientRequestOptions the http client request options
+     * @return the http client response
+     */
+    private static HttpClientResponse encode(HttpClientResponse httpClientResponse, HttpClientRequestOptions httpClientRequestOptions) {
+        if (httpClientRequestOptions.isBase64() && httpClientResponse.getData() != null) {
+            httpClientResponse.setDataBase64(Base64.getEncoder()
+                                                   .encodeToString(httpClientResponse.getData()));
+            httpClientResponse.setData(null);
+        }
+        return httpClientResponse;
+    }
+
+    /**
+     * Performs a request and returns the response with its content as a stream, which is not read in
+     * memory. The response has to be closed, so that the connection is returned to the pool.
+     *
+     * @param method the method
+     * @param url the URL
+     * @param options the options
+     * @return the streamed response
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static final HttpClientStreamResponse stream(String method, String url, String options) throws IOException {
+        HttpClientRequestOptions httpClientRequestOptions = parseOptions(options);
+        HttpRequestBase httpRequest = createRequest(method, url, httpClientRequestOptions);
+        CloseableHttpClient httpClient = HttpClientProxyUtils.getHttpClient(httpClientRequestOptions.isSslTrustAllEnabled());
+        return new HttpClientStreamResponse(httpClient.execute(httpRequest));
     }
 
     /**
@@ -271,7 +440,9 @@ public class HttpClientFacade {
                      .setRedirectsEnabled(httpClientRequestOptions.isRedirectsEnabled())
                      .setRelativeRedirectsAllowed(httpClientRequestOptions.isRelativeRedirectsAllowed())
                      .setMaxRedirects(httpClientRequestOptions.getMaxRedirects())
-                     .setConnectionRequestTimeout(httpClientRequestOptions.getConnectionRequestTimeout())
+                     .setConnectionRequestTimeout(httpClientRequestOptions.getConnectionRequestTimeout() > 0
+                             ? httpClientRequestOptions.getConnectionRequestTimeout()
+                             : HttpClientProxyUtils.getDefaultConnectionRequestTimeout())
                      .setConnectTimeout(httpClientRequestOptions.getConnectTimeout())
                      .setSocketTimeout(httpClientRequestOptions.getSocketTimeout())
                      .setCookieSpec(httpClientRequestOptions.getCookieSpec())
@@ -713,4 +884,20 @@ public class HttpClientFacade {
         prepareHeaders(httpClientRequestOptions, httpTrace);
         return httpTrace;
     }
+
+    /**
+     * Creates the executor of the batch requests.
+     *
+     * @return the executor service
+     */
+    private static ExecutorService createBatchExecutor() {
+        int threads = Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_BATCH_THREADS, 32);
+        ThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("http-client-batch-%d")
+                                                                      .daemon(true)
+                                                                      .build();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
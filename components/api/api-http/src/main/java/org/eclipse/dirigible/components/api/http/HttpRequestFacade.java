@@ -263,6 +263,20 @@ public class HttpRequestFacade {
         return BytesHelper.bytesToJson(IOUtils.toByteArray(request.getInputStream()));
     }
 
+    /**
+     * Returns the bytes.
+     *
+     * @return the bytes
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static final byte[] getBytesNative() throws IOException {
+        HttpServletRequest request = getRequest();
+        if (request == null) {
+            throw new InvalidStateException(NO_VALID_REQUEST);
+        }
+        return IOUtils.toByteArray(request.getInputStream());
+    }
+
     /**
      * Returns the text.
      *
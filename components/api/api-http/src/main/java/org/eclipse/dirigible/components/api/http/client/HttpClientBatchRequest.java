@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http.client;
+
+/**
+ * Represents a request of a batch of HTTP requests executed concurrently.
+ */
+public class HttpClientBatchRequest {
+
+    /** The method. */
+    private String method = "GET";
+
+    /** The url. */
+    private String url;
+
+    /** The options. */
+    private HttpClientRequestOptions options;
+
+    /** The timeout of the whole request in milliseconds, 0 for none. */
+    private long timeout;
+
+    /**
+     * Gets the method.
+     *
+     * @return the method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Sets the method.
+     *
+     * @param method the new method
+     */
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    /**
+     * Gets the url.
+     *
+     * @return the url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Sets the url.
+     *
+     * @param url the new url
+     */
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    /**
+     * Gets the options.
+     *
+     * @return the options
+     */
+    public HttpClientRequestOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Sets the options.
+     *
+     * @param options the new options
+     */
+    public void setOptions(HttpClientRequestOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Gets the timeout.
+     *
+     * @return the timeout
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the timeout.
+     *
+     * @param timeout the new timeout
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+}
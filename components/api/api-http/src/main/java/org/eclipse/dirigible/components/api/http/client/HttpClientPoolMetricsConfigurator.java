@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http.client;
+
+import java.util.function.ToIntFunction;
+import org.apache.http.pool.PoolStats;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * The Class HttpClientPoolMetricsConfigurator.
+ */
+@Component
+class HttpClientPoolMetricsConfigurator implements ApplicationListener<ApplicationReadyEvent> {
+
+    /** The Constant METER_SCOPE_NAME. */
+    private static final String METER_SCOPE_NAME = "dirigible-http-client";
+
+    /** The Constant CLIENT. */
+    private static final AttributeKey<String> CLIENT = AttributeKey.stringKey("client");
+
+    /** The open telemetry. */
+    private final OpenTelemetry openTelemetry;
+
+    /**
+     * Instantiates a new http client pool metrics configurator.
+     *
+     * @param openTelemetry the open telemetry
+     */
+    HttpClientPoolMetricsConfigurator(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+    }
+
+    /**
+     * On application event.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Meter meter = openTelemetry.getMeter(METER_SCOPE_NAME);
+
+        meter.gaugeBuilder("http_client_pool_leased")
+             .setDescription("Current number of the connections leased from the pool")
+             .ofLongs()
+             .buildWithCallback(observation -> record(observation, PoolStats::getLeased));
+
+        meter.gaugeBuilder("http_client_pool_pending")
+             .setDescription("Current number of the requests waiting for a connection from the pool")
+             .ofLongs()
+             .buildWithCallback(observation -> record(observation, PoolStats::getPending));
+
+        meter.gaugeBuilder("http_client_pool_available")
+             .setDescription("Current number of the idle connections kept alive in the pool")
+             .ofLongs()
+             .buildWithCallback(observation -> record(observation, PoolStats::getAvailable));
+
+        meter.gaugeBuilder("http_client_pool_max")
+             .setDescription("Max number of the connections in the pool")
+             .ofLongs()
+             .buildWithCallback(observation -> record(observation, PoolStats::getMax));
+    }
+
+    /**
+     * Record a value per client.
+     *
+     * @param observation the observation
+     * @param value the value
+     */
+    private static void record(ObservableLongMeasurement observation, ToIntFunction<PoolStats> value) {
+        HttpClientProxyUtils.getPoolStatistics()
+                            .forEach((client, statistics) -> observation.record(value.applyAsInt(statistics),
+                                    Attributes.of(CLIENT, client)));
+    }
+
+}
@@ -14,6 +14,10 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -23,13 +27,23 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpException;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.CookieStore;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.eclipse.dirigible.commons.config.Configuration;
@@ -56,9 +70,27 @@ public class HttpClientProxyUtils {
     /** The HTTP_NON_PROXY_HOSTS. */
     public static final String HTTP_NON_PROXY_HOSTS = "http.nonProxyHosts"; //$NON-NLS-1$
 
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS = "DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE = "DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_CONNECTION_TTL, in seconds. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_CONNECTION_TTL = "DIRIGIBLE_HTTP_CLIENT_CONNECTION_TTL"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT, in seconds. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT = "DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_HTTP_CLIENT_CONNECTION_REQUEST_TIMEOUT, in milliseconds. */
+    private static final String DIRIGIBLE_HTTP_CLIENT_CONNECTION_REQUEST_TIMEOUT = "DIRIGIBLE_HTTP_CLIENT_CONNECTION_REQUEST_TIMEOUT"; //$NON-NLS-1$
+
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(HttpClientProxyUtils.class);
 
+    /** The shared clients by configuration. */
+    private static final Map<ClientKey, PooledClient> CLIENTS = new ConcurrentHashMap<>();
+
     {
         try {
             setProxySettings();
@@ -79,52 +111,114 @@ public class HttpClientProxyUtils {
     }
 
     /**
-     * Returns the http client.
+     * Returns the http client. The clients are shared and long-lived, one per trust and proxy
+     * configuration, so that the connections are pooled and kept alive between the requests. The state
+     * of the requests, i.e. the cookies, the authentication cache and the user token, is kept per
+     * execution context, as with a client per request. The returned client must not be closed.
      *
      * @param trustAll if no SSL verification should be done
      * @return the http client
      */
     public static CloseableHttpClient getHttpClient(boolean trustAll) {
-        CloseableHttpClient httpClient = null;
+        ClientKey key = new ClientKey(trustAll, Configuration.get(HTTP_PROXY_HOST), Configuration.get(HTTP_PROXY_PORT),
+                Configuration.get(HTTP_NON_PROXY_HOSTS));
+        return CLIENTS.computeIfAbsent(key, HttpClientProxyUtils::createPooledClient)
+                      .client();
+    }
+
+    /**
+     * Gets the statistics of the connection pools, by client configuration.
+     *
+     * @return the pool statistics
+     */
+    public static Map<String, PoolStats> getPoolStatistics() {
+        Map<String, PoolStats> statistics = new TreeMap<>();
+        CLIENTS.forEach((key, pooledClient) -> statistics.put(key.toString(), pooledClient.connectionManager()
+                                                                                          .getTotalStats()));
+        return statistics;
+    }
 
-        if (trustAll) {
+    /**
+     * Gets the timeout for leasing a connection from the pool, used when the request does not set one,
+     * so that the requests fail instead of waiting forever on an exhausted pool.
+     *
+     * @return the connection request timeout in milliseconds
+     */
+    public static int getDefaultConnectionRequestTimeout() {
+        return Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_CONNECTION_REQUEST_TIMEOUT, 30000);
+    }
+
+    /**
+     * Creates the pooled client.
+     *
+     * @param key the client configuration
+     * @return the pooled client
+     */
+    private static PooledClient createPooledClient(ClientKey key) {
+        RegistryBuilder<ConnectionSocketFactory> registryBuilder = RegistryBuilder.<ConnectionSocketFactory>create()
+                                                                                  .register("http",
+                                                                                          PlainConnectionSocketFactory.getSocketFactory());
+        if (key.trustAll()) {
             try {
                 SSLContextBuilder sslContextBuilder = new SSLContextBuilder();
                 sslContextBuilder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                SSLConnectionSocketFactory sslSocketFactory =
-                        new SSLConnectionSocketFactory(sslContextBuilder.build(), (hostName, sslSession) -> true);
-                HttpClientBuilder httpClientBuilder = HttpClients.custom();
-                httpClientBuilder.setSSLSocketFactory(sslSocketFactory);
-                setProxyIfNeeded(httpClientBuilder);
-                httpClient = httpClientBuilder.build();
+                registryBuilder.register("https",
+                        new SSLConnectionSocketFactory(sslContextBuilder.build(), (hostName, sslSession) -> true));
             } catch (Exception e) {
                 if (logger.isErrorEnabled()) {
                     logger.error("Error occurred when trying to create a TRUST ALL HTTP Client", e);
                 }
-                httpClient = HttpClients.createDefault();
+                registryBuilder.register("https", SSLConnectionSocketFactory.getSocketFactory());
             }
         } else {
-            HttpClientBuilder httpClientBuilder = HttpClients.custom();
-            setProxyIfNeeded(httpClientBuilder);
-            httpClient = httpClientBuilder.build();
+            registryBuilder.register("https", SSLConnectionSocketFactory.getSocketFactory());
         }
 
-        return httpClient;
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registryBuilder.build(), null, null,
+                null, Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_CONNECTION_TTL, 300), TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS, 200));
+        connectionManager.setDefaultMaxPerRoute(Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE, 20));
+        connectionManager.setValidateAfterInactivity(2000);
+
+        // the default store of the shared client is replaced per execution, so that the cookies are kept
+        // for the redirects of a request only and never shared between the scripts, users and tenants
+        CookieStore sharedCookieStore = new BasicCookieStore();
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                                                         .setDefaultCookieStore(sharedCookieStore)
+                                                         .addInterceptorFirst((HttpRequestInterceptor) (request, context) -> {
+                                                             HttpClientContext clientContext = HttpClientContext.adapt(context);
+                                                             if (clientContext.getCookieStore() == sharedCookieStore) {
+                                                                 clientContext.setCookieStore(new BasicCookieStore());
+                                                             }
+                                                         })
+                                                         .setConnectionManager(connectionManager)
+                                                         .setDefaultRequestConfig(RequestConfig.custom()
+                                                                                               .setConnectionRequestTimeout(
+                                                                                                       getDefaultConnectionRequestTimeout())
+                                                                                               .build())
+                                                         .evictExpiredConnections()
+                                                         .evictIdleConnections(
+                                                                 Configuration.getAsInt(DIRIGIBLE_HTTP_CLIENT_IDLE_TIMEOUT, 30),
+                                                                 TimeUnit.SECONDS);
+        setProxyIfNeeded(httpClientBuilder, key.proxyHost(), key.proxyPort(), key.nonProxyHosts());
+        logger.debug("Created a pooled HTTP client for [{}]", key);
+        return new PooledClient(httpClientBuilder.build(), connectionManager);
     }
 
     /**
      * Sets the proxy if needed.
      *
      * @param httpClientBuilder the client build
+     * @param httpProxyHost the http proxy host
+     * @param httpProxyPort the http proxy port
+     * @param httpNonProxyHosts the http non proxy hosts
      */
-    private static void setProxyIfNeeded(HttpClientBuilder httpClientBuilder) {
-        String httpProxyHost = Configuration.get(HTTP_PROXY_HOST);
-        String httpProxyPort = Configuration.get(HTTP_PROXY_PORT);
-
+    private static void setProxyIfNeeded(HttpClientBuilder httpClientBuilder, String httpProxyHost, String httpProxyPort,
+            String httpNonProxyHosts) {
         if (!StringUtils.isEmpty(httpProxyHost) && !StringUtils.isEmpty(httpProxyPort)) {
             HttpHost httpProxy = new HttpHost(httpProxyHost, Integer.parseInt(httpProxyPort));
             httpClientBuilder.setProxy(httpProxy);
-            setNonProxyHostsIfNeeded(httpClientBuilder, httpProxy);
+            setNonProxyHostsIfNeeded(httpClientBuilder, httpProxy, httpNonProxyHosts);
         }
     }
 
@@ -133,10 +227,9 @@ public class HttpClientProxyUtils {
      *
      * @param httpClientBuilder the http client builder
      * @param httpProxy the http proxy
+     * @param httpNonProxyHosts the http non proxy hosts
      */
-    private static void setNonProxyHostsIfNeeded(HttpClientBuilder httpClientBuilder, HttpHost httpProxy) {
-        String httpNonProxyHosts = Configuration.get(HTTP_NON_PROXY_HOSTS);
-
+    private static void setNonProxyHostsIfNeeded(HttpClientBuilder httpClientBuilder, HttpHost httpProxy, String httpNonProxyHosts) {
         if (!StringUtils.isEmpty(httpNonProxyHosts)) {
             String[] nonProxyHosts = httpNonProxyHosts.split("\\|");
             httpClientBuilder.setRoutePlanner(new DefaultProxyRoutePlanner(httpProxy) {
@@ -208,4 +301,29 @@ public class HttpClientProxyUtils {
         sslContext.init(null, trustAllCerts, new SecureRandom());
         return sslContext;
     }
+
+    /**
+     * The configuration a client is shared for.
+     *
+     * @param trustAll the trust all
+     * @param proxyHost the proxy host
+     * @param proxyPort the proxy port
+     * @param nonProxyHosts the non proxy hosts
+     */
+    private record ClientKey(boolean trustAll, String proxyHost, String proxyPort, String nonProxyHosts) {
+
+        @Override
+        public String toString() {
+            return (trustAll ? "trust-all" : "default") + (StringUtils.isEmpty(proxyHost) ? "" : " via " + proxyHost + ":" + proxyPort);
+        }
+    }
+
+    /**
+     * The shared client with its connection pool.
+     *
+     * @param client the client
+     * @param connectionManager the connection manager
+     */
+    private record PooledClient(CloseableHttpClient client, PoolingHttpClientConnectionManager connectionManager) {
+    }
 }
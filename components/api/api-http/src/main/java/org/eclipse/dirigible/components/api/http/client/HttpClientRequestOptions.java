@@ -108,6 +108,9 @@ public class HttpClientRequestOptions {
     // whether to request as binary or text
     private boolean binary;
 
+    /** The binary encoding of the response data, base64 for a compact string instead of an array. */
+    private String binaryEncoding;
+
     /** The context. */
     // context
     private JsonObject context;
@@ -562,6 +565,33 @@ public class HttpClientRequestOptions {
         this.binary = binary;
     }
 
+    /**
+     * Gets the binary encoding.
+     *
+     * @return the binary encoding
+     */
+    public String getBinaryEncoding() {
+        return binaryEncoding;
+    }
+
+    /**
+     * Sets the binary encoding.
+     *
+     * @param binaryEncoding the new binary encoding
+     */
+    public void setBinaryEncoding(String binaryEncoding) {
+        this.binaryEncoding = binaryEncoding;
+    }
+
+    /**
+     * Checks if the binary data is encoded as base64.
+     *
+     * @return true, if base64
+     */
+    public boolean isBase64() {
+        return "base64".equalsIgnoreCase(binaryEncoding);
+    }
+
     /**
      * Gets the context.
      *
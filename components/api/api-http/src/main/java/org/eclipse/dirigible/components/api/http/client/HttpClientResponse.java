@@ -26,6 +26,9 @@ public class HttpClientResponse {
     /** The data. */
     private byte[] data;
 
+    /** The data encoded as base64. */
+    private String dataBase64;
+
     /** The text. */
     private String text;
 
@@ -35,6 +38,9 @@ public class HttpClientResponse {
     /** The binary. */
     private boolean binary;
 
+    /** The error, if the request has failed. */
+    private String error;
+
     /** The headers. */
     private List<HttpClientHeader> headers = new ArrayList<HttpClientHeader>();
 
@@ -167,4 +173,40 @@ public class HttpClientResponse {
         this.binary = binary;
     }
 
+    /**
+     * Gets the error.
+     *
+     * @return the error
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Sets the error.
+     *
+     * @param error the new error
+     */
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    /**
+     * Gets the data encoded as base64.
+     *
+     * @return the data base 64
+     */
+    public String getDataBase64() {
+        return dataBase64;
+    }
+
+    /**
+     * Sets the data encoded as base64.
+     *
+     * @param dataBase64 the new data base 64
+     */
+    public void setDataBase64(String dataBase64) {
+        this.dataBase64 = dataBase64;
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+
+/**
+ * HTTP response with its content as a stream. The content is read from the connection, so that
+ * large responses can be piped to a file, a repository resource or the HTTP response without being
+ * held in memory. The response has to be closed, which releases the connection. Only a response
+ * which is fully read or transferred returns its connection to the pool for reuse, while closing a
+ * partially read response shuts its connection down. A response left open by the script is closed
+ * when the script context ends.
+ */
+public class HttpClientStreamResponse implements AutoCloseable {
+
+    /** The response. */
+    private final CloseableHttpResponse response;
+
+    /**
+     * Instantiates a new http client stream response.
+     *
+     * @param response the response
+     */
+    public HttpClientStreamResponse(CloseableHttpResponse response) {
+        this.response = response;
+        ThreadContextFacade.addCloseable(this);
+    }
+
+    /**
+     * Gets the status code.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return response.getStatusLine()
+                       .getStatusCode();
+    }
+
+    /**
+     * Gets the status message.
+     *
+     * @return the status message
+     */
+    public String getStatusMessage() {
+        return response.getStatusLine()
+                       .getReasonPhrase();
+    }
+
+    /**
+     * Gets the protocol.
+     *
+     * @return the protocol
+     */
+    public String getProtocol() {
+        return response.getProtocolVersion()
+                       .getProtocol();
+    }
+
+    /**
+     * Gets the headers.
+     *
+     * @return the headers as JSON
+     */
+    public String getHeaders() {
+        List<HttpClientHeader> headers = new ArrayList<>();
+        for (Header header : response.getAllHeaders()) {
+            headers.add(new HttpClientHeader(header.getName(), header.getValue()));
+        }
+        return GsonHelper.toJson(headers);
+    }
+
+    /**
+     * Gets the content type.
+     *
+     * @return the content type or null
+     */
+    public String getContentType() {
+        HttpEntity entity = response.getEntity();
+        return entity != null && entity.getContentType() != null ? entity.getContentType()
+                                                                         .getValue()
+                : null;
+    }
+
+    /**
+     * Gets the content length.
+     *
+     * @return the content length or -1, if unknown
+     */
+    public long getContentLength() {
+        HttpEntity entity = response.getEntity();
+        return entity != null ? entity.getContentLength() : -1;
+    }
+
+    /**
+     * Gets the content stream.
+     *
+     * @return the input stream, empty if there is no content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public InputStream getInputStream() throws IOException {
+        HttpEntity entity = response.getEntity();
+        return entity != null && entity.getContent() != null ? entity.getContent() : InputStream.nullInputStream();
+    }
+
+    /**
+     * Copy the content to the output and close the response.
+     *
+     * @param output the output
+     * @return the number of the copied bytes
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public long transferTo(OutputStream output) throws IOException {
+        try (InputStream input = getInputStream()) {
+            return input.transferTo(output);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Close the response and release the connection. The connection is kept alive for reuse only if
+     * the content is fully read, otherwise it is shut down.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        ThreadContextFacade.removeCloseable(this);
+        response.close();
+    }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.pool.PoolStats;
+import org.eclipse.dirigible.components.api.http.client.HttpClientProxyUtils;
+import org.eclipse.dirigible.components.api.http.client.HttpClientStreamResponse;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The Class HttpClientFacadeTest.
+ */
+public class HttpClientFacadeTest {
+
+    /** The delay of the slow endpoint, in milliseconds. */
+    private static final long SLOW = 3000;
+
+    /** The binary content. */
+    private static final byte[] BINARY = new byte[100_000];
+
+    static {
+        for (int i = 0; i < BINARY.length; i++) {
+            BINARY[i] = (byte) i;
+        }
+    }
+
+    /** The server. */
+    private HttpServer server;
+
+    /** The server executor. */
+    private ExecutorService executor;
+
+    /** The base url. */
+    private String url;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI()
+                                  .getPath();
+            try {
+                if (path.startsWith("/slow")) {
+                    Thread.sleep(SLOW);
+                } else if (path.startsWith("/delayed")) {
+                    Thread.sleep(300);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            byte[] body = path.startsWith("/binary") ? BINARY : path.getBytes(StandardCharsets.UTF_8);
+            if (path.startsWith("/binary")) {
+                exchange.getResponseHeaders()
+                        .add("Content-Type", "application/octet-stream");
+            }
+            exchange.sendResponseHeaders(path.startsWith("/missing") ? 404 : 200, body.length);
+            exchange.getResponseBody()
+                    .write(body);
+            exchange.close();
+        });
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+        url = "http://localhost:" + server.getAddress()
+                                          .getPort();
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Request.
+     *
+     * @param method the method
+     * @param url the url
+     * @param timeout the timeout
+     * @return the request
+     */
+    private static String request(String method, String url, long timeout) {
+        return "{\"method\":\"" + method + "\",\"url\":\"" + url + "\",\"timeout\":" + timeout + "}";
+    }
+
+    /**
+     * Perform the requests.
+     *
+     * @param requests the requests
+     * @return the responses
+     */
+    private static JsonArray all(String... requests) {
+        return JsonParser.parseString(HttpClientFacade.all("[" + String.join(",", requests) + "]"))
+                         .getAsJsonArray();
+    }
+
+    /**
+     * Order test.
+     */
+    @Test
+    public void orderTest() {
+        long start = System.nanoTime();
+        JsonArray responses = all(request("GET", url + "/delayed/1", 0), request("GET", url + "/2", 0),
+                request("GET", url + "/delayed/3", 0), request("GET", url + "/missing", 0));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(4, responses.size());
+        assertEquals("/delayed/1", responses.get(0)
+                                            .getAsJsonObject()
+                                            .get("text")
+                                            .getAsString());
+        assertEquals("/2", responses.get(1)
+                                    .getAsJsonObject()
+                                    .get("text")
+                                    .getAsString());
+        assertEquals("/delayed/3", responses.get(2)
+                                            .getAsJsonObject()
+                                            .get("text")
+                                            .getAsString());
+        assertEquals(404, responses.get(3)
+                                   .getAsJsonObject()
+                                   .get("statusCode")
+                                   .getAsInt());
+        assertTrue(elapsed < 600, "The requests have not run concurrently: " + elapsed + " ms");
+    }
+
+    /**
+     * Timeout test.
+     */
+    @Test
+    public void timeoutTest() {
+        long start = System.nanoTime();
+        JsonArray responses = all(request("GET", url + "/slow", 200), request("GET", url + "/2", 0));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        JsonObject timedOut = responses.get(0)
+                                       .getAsJsonObject();
+        assertEquals(0, timedOut.get("statusCode")
+                                .getAsInt());
+        assertEquals("Request timed out after 200 ms: " + url + "/slow", timedOut.get("error")
+                                                                                 .getAsString());
+        assertEquals("/2", responses.get(1)
+                                    .getAsJsonObject()
+                                    .get("text")
+                                    .getAsString());
+        assertTrue(elapsed < SLOW, "The timed out request has not been aborted: " + elapsed + " ms");
+    }
+
+    /**
+     * Failure test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void failureTest() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        JsonArray responses = all(request("FETCH", url + "/1", 0), request("GET", "http://localhost:" + closedPort + "/", 0),
+                request("GET", url + "/3", 0));
+
+        assertEquals("IllegalArgumentException: Unsupported HTTP method: FETCH", responses.get(0)
+                                                                                          .getAsJsonObject()
+                                                                                          .get("error")
+                                                                                          .getAsString());
+        assertTrue(responses.get(1)
+                            .getAsJsonObject()
+                            .get("error")
+                            .getAsString()
+                            .startsWith("HttpHostConnectException: "));
+        JsonObject succeeded = responses.get(2)
+                                        .getAsJsonObject();
+        assertFalse(succeeded.has("error"));
+        assertEquals(200, succeeded.get("statusCode")
+                                   .getAsInt());
+    }
+
+    /**
+     * Interrupted test.
+     */
+    @Test
+    public void interruptedTest() {
+        long start = System.nanoTime();
+        Thread.currentThread()
+              .interrupt();
+        JsonArray responses;
+        try {
+            responses = all(request("GET", url + "/slow/1", 0), request("GET", url + "/slow/2", 0));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(2, responses.size());
+        assertEquals("Interrupted while waiting for: " + url + "/slow/1", responses.get(0)
+                                                                                   .getAsJsonObject()
+                                                                                   .get("error")
+                                                                                   .getAsString());
+        assertEquals("Interrupted while waiting for: " + url + "/slow/2", responses.get(1)
+                                                                                   .getAsJsonObject()
+                                                                                   .get("error")
+                                                                                   .getAsString());
+        assertTrue(elapsed < SLOW, "The interrupted requests have been waited for: " + elapsed + " ms");
+    }
+
+    /**
+     * Gets the statistics of the default client.
+     *
+     * @return the pool stats
+     */
+    private static PoolStats statistics() {
+        return HttpClientProxyUtils.getPoolStatistics()
+                                   .getOrDefault("default", new PoolStats(0, 0, 0, 0));
+    }
+
+    /**
+     * Base 64 test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void base64Test() throws Exception {
+        JsonObject encoded =
+                JsonParser.parseString(HttpClientFacade.get(url + "/binary", "{\"binary\":true,\"binaryEncoding\":\"base64\"}"))
+                          .getAsJsonObject();
+        assertFalse(encoded.has("data"));
+        assertArrayEquals(BINARY, Base64.getDecoder()
+                                        .decode(encoded.get("dataBase64")
+                                                       .getAsString()));
+
+        JsonObject plain = JsonParser.parseString(HttpClientFacade.get(url + "/binary", "{\"binary\":true}"))
+                                     .getAsJsonObject();
+        assertFalse(plain.has("dataBase64"));
+        assertEquals(BINARY.length, plain.get("data")
+                                         .getAsJsonArray()
+                                         .size());
+    }
+
+    /**
+     * Stream transfer to test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void streamTransferToTest() throws Exception {
+        int leased = statistics().getLeased();
+        HttpClientStreamResponse response = HttpClientFacade.stream("GET", url + "/binary", "{}");
+        assertEquals(200, response.getStatusCode());
+        assertEquals("application/octet-stream", response.getContentType());
+        assertEquals(BINARY.length, response.getContentLength());
+        assertEquals(leased + 1, statistics().getLeased());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals(BINARY.length, response.transferTo(output));
+        assertArrayEquals(BINARY, output.toByteArray());
+        assertEquals(leased, statistics().getLeased());
+    }
+
+    /**
+     * Stream closed with the context test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void streamClosedWithContextTest() throws Exception {
+        int leased = statistics().getLeased();
+        ThreadContextFacade.setUp();
+        try {
+            HttpClientStreamResponse response = HttpClientFacade.stream("GET", url + "/binary", "{}");
+            InputStream input = response.getInputStream();
+            assertEquals(0, input.read());
+            assertEquals(leased + 1, statistics().getLeased());
+        } finally {
+            ThreadContextFacade.tearDown();
+        }
+        assertEquals(leased, statistics().getLeased());
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.http.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The Class HttpClientProxyUtilsTest.
+ */
+public class HttpClientProxyUtilsTest {
+
+    /** The server. */
+    private HttpServer server;
+
+    /** The client addresses seen by the server. */
+    private final Set<InetSocketAddress> clients = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            clients.add(exchange.getRemoteAddress());
+            String path = exchange.getRequestURI()
+                                  .getPath();
+            String cookie = exchange.getRequestHeaders()
+                                    .getFirst("Cookie");
+            if (path.startsWith("/login")) {
+                exchange.getResponseHeaders()
+                        .add("Set-Cookie", "session=" + path.substring("/login/".length()) + "; Path=/");
+            }
+            if (path.startsWith("/login/redirect")) {
+                exchange.getResponseHeaders()
+                        .add("Location", "/cookie");
+            }
+            byte[] body = (path.startsWith("/cookie") ? String.valueOf(cookie) : "ok").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(path.startsWith("/login/redirect") ? 302 : 200, body.length);
+            exchange.getResponseBody()
+                    .write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Gets the statistics of the default client.
+     *
+     * @return the pool stats
+     */
+    private static PoolStats statistics() {
+        return HttpClientProxyUtils.getPoolStatistics()
+                                   .getOrDefault("default", new PoolStats(0, 0, 0, 0));
+    }
+
+    /**
+     * Connection reused test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void connectionReusedTest() throws Exception {
+        String url = "http://localhost:" + server.getAddress()
+                                                 .getPort()
+                + "/";
+        CloseableHttpClient client = HttpClientProxyUtils.getHttpClient(false);
+        assertSame(client, HttpClientProxyUtils.getHttpClient(false));
+        // the shared pool may keep connections of other tests
+        PoolStats initial = statistics();
+
+        try (CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+            PoolStats leased = statistics();
+            assertEquals(initial.getLeased() + 1, leased.getLeased());
+            assertEquals(initial.getAvailable(), leased.getAvailable());
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+        try (CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+
+        assertEquals(1, clients.size());
+        PoolStats released = statistics();
+        assertEquals(initial.getLeased(), released.getLeased());
+        assertEquals(initial.getAvailable() + 1, released.getAvailable());
+    }
+
+    /**
+     * Execute the request and get the text of the response.
+     *
+     * @param client the client
+     * @param url the url
+     * @return the text
+     * @throws Exception the exception
+     */
+    private static String text(CloseableHttpClient client, String url) throws Exception {
+        try (CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+            return EntityUtils.toString(response.getEntity());
+        }
+    }
+
+    /**
+     * Cookies not shared test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void cookiesNotSharedTest() throws Exception {
+        String url = "http://localhost:" + server.getAddress()
+                                                 .getPort();
+        CloseableHttpClient client = HttpClientProxyUtils.getHttpClient(false);
+
+        assertEquals("ok", text(client, url + "/login/user"));
+        assertEquals("null", text(client, url + "/cookie"));
+        // the cookies are still kept for the redirects of the same request
+        assertEquals("session=redirect", text(client, url + "/login/redirect"));
+        assertEquals("null", text(client, url + "/cookie"));
+    }
+
+}
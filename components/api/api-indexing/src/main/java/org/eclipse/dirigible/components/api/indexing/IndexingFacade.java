@@ -11,10 +11,13 @@ package org.eclipse.dirigible.components.api.indexing;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.api.indexing.service.IndexingService;
+import org.eclipse.dirigible.components.api.indexing.service.IndexingService.IndexingDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -82,6 +85,31 @@ public class IndexingFacade implements InitializingBean {
                       .add(index, location, contents.getBytes(StandardCharsets.UTF_8), Long.parseLong(lastModified), map);
     }
 
+    /**
+     * Adds multiple documents to an index at once.
+     *
+     * @param index the index
+     * @param documents the documents as JSON array of objects with location, contents, lastModified and
+     *        parameters
+     * @throws IOException the indexing exception
+     */
+    public static final void addAll(String index, String documents) throws IOException {
+        List<Map> entries = GsonHelper.fromJson(documents, List.class);
+        List<IndexingDocument> indexingDocuments = new ArrayList<>(entries.size());
+        for (Map entry : entries) {
+            String contents = (String) entry.get("contents");
+            Object lastModified = entry.get("lastModified");
+            indexingDocuments.add(new IndexingDocument((String) entry.get("location"),
+                    contents != null ? contents.getBytes(StandardCharsets.UTF_8) : new byte[0],
+                    lastModified instanceof Number number ? number.longValue()
+                            : lastModified != null ? Long.parseLong(lastModified.toString()) : System.currentTimeMillis(),
+                    (Map<String, String>) entry.get("parameters")));
+        }
+        IndexingFacade.get()
+                      .getIndexingService()
+                      .addAll(index, indexingDocuments);
+    }
+
     /**
      * Search an index by term.
      *
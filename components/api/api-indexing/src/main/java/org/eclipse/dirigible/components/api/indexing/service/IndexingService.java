@@ -14,6 +14,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -21,6 +22,10 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -29,8 +34,6 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
@@ -41,18 +44,27 @@ import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
 /**
- * The Class IndexingCoreService.
+ * The Class IndexingCoreService. Keeps one long-lived {@link IndexWriter} per index, the searches
+ * are served by a near-real-time {@link SearcherManager} and the changes are committed
+ * periodically.
  */
 @Component
-public class IndexingService {
+public class IndexingService implements DisposableBean {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(IndexingService.class);
 
     /** The Constant DIRIGIBLE_INDEXING_ROOT_FOLDER. */
     private static final String DIRIGIBLE_INDEXING_ROOT_FOLDER = "DIRIGIBLE_INDEXING_ROOT_FOLDER";
@@ -60,6 +72,9 @@ public class IndexingService {
     /** The Constant DIRIGIBLE_INDEXING_MAX_RESULTS. */
     private static final String DIRIGIBLE_INDEXING_MAX_RESULTS = "DIRIGIBLE_INDEXING_MAX_RESULTS";
 
+    /** The Constant DIRIGIBLE_INDEXING_COMMIT_INTERVAL. */
+    private static final String DIRIGIBLE_INDEXING_COMMIT_INTERVAL = "DIRIGIBLE_INDEXING_COMMIT_INTERVAL";
+
     /** The Constant FIELD_CONTENTS. */
     private static final String FIELD_CONTENTS = "contents";
 
@@ -87,10 +102,28 @@ public class IndexingService {
     /** The max results. */
     private static int MAX_RESULTS;
 
+    /** The commit interval in milliseconds, zero or less commits on every change. */
+    private static long COMMIT_INTERVAL;
+
+    /** The open indexes shared by all the service instances, keyed by the flattened index name. */
+    private static final Map<String, IndexHandle> INDEXES = new ConcurrentHashMap<>();
+
+    /** The commit scheduler. */
+    private static ScheduledExecutorService COMMIT_SCHEDULER;
+
     static {
         Configuration.loadModuleConfig("/dirigible-indexing.properties");
         ROOT_FOLDER = Configuration.get(DIRIGIBLE_INDEXING_ROOT_FOLDER);
         MAX_RESULTS = Configuration.getAsInt(DIRIGIBLE_INDEXING_MAX_RESULTS, 100);
+        COMMIT_INTERVAL = Configuration.getAsInt(DIRIGIBLE_INDEXING_COMMIT_INTERVAL, 5000);
+        if (COMMIT_INTERVAL > 0) {
+            COMMIT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "indexing-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            COMMIT_SCHEDULER.scheduleWithFixedDelay(IndexingService::commitAll, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -104,37 +137,46 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IOException {
-        String indexName = index;
-        if (index != null) {
-            indexName = flattenizeIndexName(indexName);
-        } else {
-            throw new IOException("Index name may not be null");
+        addAll(index, List.of(new IndexingDocument(location, contents, lastModified, parameters)));
+    }
+
+    /**
+     * Adds all the documents to the index at once.
+     *
+     * @param index the index
+     * @param documents the documents
+     * @throws IOException the indexing exception
+     */
+    public void addAll(String index, List<IndexingDocument> documents) throws IOException {
+        IndexHandle handle = getIndex(index);
+        for (IndexingDocument document : documents) {
+            handle.writer.updateDocument(new Term(FIELD_LOCATION, document.location()), createDocument(document));
+        }
+        if (COMMIT_INTERVAL <= 0) {
+            handle.writer.commit();
         }
+    }
 
-        Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-        Analyzer analyzer = new StandardAnalyzer();
-        IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-        iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-        IndexWriter writer = null;
-        try {
-            writer = new IndexWriter(dir, iwc);
-            Document doc = new Document();
-            Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-            doc.add(pathField);
-            doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-            if (parameters != null) {
-                for (String key : parameters.keySet()) {
-                    doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-                }
-            }
-            doc.add(new TextField(FIELD_CONTENTS,
-                    new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-            writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-        } finally {
-            if (writer != null) {
-                writer.close();
+    /**
+     * Creates the document.
+     *
+     * @param document the indexing document
+     * @return the document
+     */
+    private Document createDocument(IndexingDocument document) {
+        Document doc = new Document();
+        Field pathField = new StringField(FIELD_LOCATION, document.location(), Field.Store.YES);
+        doc.add(pathField);
+        doc.add(new LongPoint(FIELD_MODIFIED, document.lastModified()));
+        Map<String, String> parameters = document.parameters();
+        if (parameters != null) {
+            for (String key : parameters.keySet()) {
+                doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
             }
         }
+        doc.add(new TextField(FIELD_CONTENTS,
+                new BufferedReader(new InputStreamReader(new ByteArrayInputStream(document.contents()), StandardCharsets.UTF_8))));
+        return doc;
     }
 
     /**
@@ -146,39 +188,13 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public String search(String index, String term) throws IOException {
-        List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-        String indexName = index;
-        if (index != null) {
-            indexName = flattenizeIndexName(indexName);
-        } else {
-            throw new IOException("Index name may not be null");
-        }
         try {
-            Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-            IndexReader reader = null;
-            try {
-                reader = DirectoryReader.open(dir);
-                IndexSearcher searcher = new IndexSearcher(reader);
-                Analyzer analyzer = new StandardAnalyzer();
-                String field = FIELD_CONTENTS;
-                QueryParser parser = new QueryParser(field, analyzer);
-                Query query = parser.parse(term);
-                TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document document = searcher.doc(scoreDoc.doc);
-                    Map<String, String> map = new HashMap<String, String>();
-                    for (IndexableField indexableField : document.getFields()) {
-                        map.put(indexableField.name(), indexableField.stringValue());
-                    }
-                    results.add(map);
-                }
-            } finally {
-                if (reader != null) {
-                    reader.close();
-                }
-            }
-            return GsonHelper.toJson(results);
-        } catch (IOException | ParseException e) {
+            Analyzer analyzer = new StandardAnalyzer();
+            String field = FIELD_CONTENTS;
+            QueryParser parser = new QueryParser(field, analyzer);
+            Query query = parser.parse(term);
+            return search(index, query);
+        } catch (ParseException e) {
             throw new IOException(e);
         }
     }
@@ -217,22 +233,28 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public String between(String index, long lower, long upper) throws IOException {
+        Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
+        return search(index, query);
+    }
+
+    /**
+     * Search with an already refreshed near-real-time searcher.
+     *
+     * @param index the index
+     * @param query the query
+     * @return the string
+     * @throws IOException the indexing exception
+     */
+    private String search(String index, Query query) throws IOException {
         List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-        String indexName = index;
-        if (index != null) {
-            indexName = flattenizeIndexName(indexName);
-        } else {
-            throw new IOException("Index name may not be null");
-        }
-        Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-        IndexReader reader = null;
+        IndexHandle handle = getIndex(index);
+        handle.searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = handle.searcherManager.acquire();
         try {
-            reader = DirectoryReader.open(dir);
-            IndexSearcher searcher = new IndexSearcher(reader);
-            Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
             TopDocs topDocs = searcher.search(query, MAX_RESULTS);
             for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                Document document = searcher.doc(scoreDoc.doc);
+                Document document = searcher.storedFields()
+                                            .document(scoreDoc.doc);
                 Map<String, String> map = new HashMap<String, String>();
                 for (IndexableField indexableField : document.getFields()) {
                     map.put(indexableField.name(), indexableField.stringValue());
@@ -240,13 +262,60 @@ public class IndexingService {
                 results.add(map);
             }
         } finally {
-            if (reader != null) {
-                reader.close();
-            }
+            handle.searcherManager.release(searcher);
         }
         return GsonHelper.toJson(results);
     }
 
+    /**
+     * Gets the index, opening its writer and searcher manager on first usage.
+     *
+     * @param index the index
+     * @return the index handle
+     * @throws IOException the indexing exception
+     */
+    private IndexHandle getIndex(String index) throws IOException {
+        if (index == null) {
+            throw new IOException("Index name may not be null");
+        }
+        String indexName = flattenizeIndexName(index);
+        try {
+            return INDEXES.computeIfAbsent(indexName, IndexHandle::open);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Commits the uncommitted changes of all the open indexes.
+     */
+    private static void commitAll() {
+        for (Map.Entry<String, IndexHandle> entry : INDEXES.entrySet()) {
+            try {
+                IndexWriter writer = entry.getValue().writer;
+                if (writer.hasUncommittedChanges()) {
+                    writer.commit();
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to commit index [{}]", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Commits the pending changes and closes the open indexes on shutdown. An index used afterwards is
+     * opened again.
+     */
+    @Override
+    public void destroy() {
+        for (String indexName : List.copyOf(INDEXES.keySet())) {
+            IndexHandle handle = INDEXES.remove(indexName);
+            if (handle != null) {
+                handle.close(indexName);
+            }
+        }
+    }
+
     /**
      * Flattenize index name.
      *
@@ -261,4 +330,75 @@ public class IndexingService {
         return indexName;
     }
 
+    /**
+     * The document to be indexed.
+     *
+     * @param location the location
+     * @param contents the contents
+     * @param lastModified the last modified
+     * @param parameters the parameters
+     */
+    public record IndexingDocument(String location, byte[] contents, long lastModified, Map<String, String> parameters) {
+    }
+
+    /**
+     * The open index.
+     */
+    private static class IndexHandle {
+
+        /** The writer. */
+        private final IndexWriter writer;
+
+        /** The searcher manager. */
+        private final SearcherManager searcherManager;
+
+        /**
+         * Instantiates a new index handle.
+         *
+         * @param writer the writer
+         * @param searcherManager the searcher manager
+         */
+        private IndexHandle(IndexWriter writer, SearcherManager searcherManager) {
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        /**
+         * Opens the index.
+         *
+         * @param indexName the flattened index name
+         * @return the index handle
+         */
+        private static IndexHandle open(String indexName) {
+            try {
+                Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
+                Analyzer analyzer = new StandardAnalyzer();
+                IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
+                iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+                IndexWriter writer = new IndexWriter(dir, iwc);
+                return new IndexHandle(writer, new SearcherManager(writer, null));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Closes the searcher manager and the writer, which commits the pending changes.
+         *
+         * @param indexName the flattened index name
+         */
+        private void close(String indexName) {
+            try {
+                searcherManager.close();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to close the searcher of index [{}]", indexName, e);
+            }
+            try {
+                writer.close();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to close index [{}]", indexName, e);
+            }
+        }
+    }
+
 }
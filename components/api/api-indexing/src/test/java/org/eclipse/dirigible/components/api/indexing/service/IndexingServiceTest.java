@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.components.api.indexing.service.IndexingService.IndexingDocument;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -110,4 +111,49 @@ public class IndexingServiceTest {
         assertEquals(1, matches.size());
     }
 
+    /**
+     * Add all test.
+     *
+     * @throws IOException the indexing exception
+     */
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void addAllTest() throws IOException {
+
+        Map<String, String> parameters = new HashMap<String, String>();
+        indexingService.addAll("test_index_batch",
+                List.of(new IndexingDocument("/root/folder/batch/file1.txt", "Dirigible batch indexing first document".getBytes(),
+                        new Date().getTime(), parameters),
+                        new IndexingDocument("/root/folder/batch/file2.txt", "Dirigible batch indexing second document".getBytes(),
+                                new Date().getTime(), parameters),
+                        new IndexingDocument("/root/folder/batch/file1.txt", "Dirigible batch indexing updated document".getBytes(),
+                                new Date().getTime(), parameters)));
+
+        List matches = GsonHelper.fromJson(indexingService.search("test_index_batch", "batch"), List.class);
+        assertNotNull(matches);
+        assertEquals(2, matches.size());
+
+        matches = GsonHelper.fromJson(indexingService.search("test_index_batch", "updated"), List.class);
+        assertNotNull(matches);
+        assertEquals(1, matches.size());
+    }
+
+    /**
+     * Destroy test.
+     *
+     * @throws IOException the indexing exception
+     */
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void destroyTest() throws IOException {
+
+        indexingService.add("test_index_destroy", "/root/folder/destroy/file1.txt", "Dirigible closed index document".getBytes(),
+                new Date().getTime(), new HashMap<String, String>());
+        indexingService.destroy();
+
+        List matches = GsonHelper.fromJson(indexingService.search("test_index_destroy", "closed"), List.class);
+        assertNotNull(matches);
+        assertEquals(1, matches.size());
+    }
+
 }
@@ -13,6 +13,8 @@ import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
+import org.eclipse.dirigible.commons.api.helpers.BytesHelper;
+import org.graalvm.polyglot.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -75,5 +77,69 @@ public class BytesFacade {
         return buffer.getInt(0);
     }
 
+    /**
+     * Convert the script bytes to a Java byte array. Array buffers and typed arrays are copied at once
+     * from their backing memory, arrays of numbers are copied element by element and strings are parsed
+     * as a JSON array.
+     *
+     * @param data the ArrayBuffer, the typed array, the array of numbers, the JSON array or the Java
+     *        byte array
+     * @return the byte[]
+     */
+    public static byte[] toJavaBytes(Value data) {
+        if (data == null || data.isNull()) {
+            return null;
+        }
+        if (data.isHostObject() && data.asHostObject() instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (data.isString()) {
+            return BytesHelper.jsonToBytes(data.asString());
+        }
+        if (data.hasBufferElements()) {
+            return readBuffer(data, 0, data.getBufferSize());
+        }
+        if (data.hasMember("buffer") && data.getMember("buffer")
+                                            .hasBufferElements()) {
+            return readBuffer(data.getMember("buffer"), data.getMember("byteOffset")
+                                                            .asLong(),
+                    data.getMember("byteLength")
+                        .asLong());
+        }
+        if (data.hasArrayElements()) {
+            byte[] bytes = new byte[Math.toIntExact(data.getArraySize())];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) data.getArrayElement(i)
+                                      .asInt();
+            }
+            return bytes;
+        }
+        throw new IllegalArgumentException("Not a byte array: " + data);
+    }
+
+    /**
+     * Wrap the Java byte array without copying, so that the script can view it as an ArrayBuffer.
+     *
+     * @param data the data
+     * @return the byte buffer
+     */
+    public static ByteBuffer toByteBuffer(byte[] data) {
+        return ByteBuffer.wrap(data);
+    }
+
+    /**
+     * Read a region of a buffer.
+     *
+     * @param buffer the buffer
+     * @param offset the offset
+     * @param length the length
+     * @return the byte[]
+     */
+    private static byte[] readBuffer(Value buffer, long offset, long length) {
+        byte[] bytes = new byte[Math.toIntExact(length)];
+        buffer.readBuffer(offset, bytes, 0, bytes.length);
+        return bytes;
+    }
+
 
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.componenets.api.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.dirigible.components.api.io.BytesFacade;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BytesFacadeTest {
+
+    private Context context;
+
+    @BeforeEach
+    public void setUp() {
+        context = Context.newBuilder("js")
+                         .allowHostAccess(HostAccess.ALL)
+                         .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.close();
+    }
+
+    private Value eval(String script) {
+        return context.eval("js", script);
+    }
+
+    @Test
+    public void arrayBufferTest() {
+        Value buffer = eval("new Uint8Array([1, 2, 3, 250, 255]).buffer");
+        assertArrayEquals(new byte[] {1, 2, 3, -6, -1}, BytesFacade.toJavaBytes(buffer));
+    }
+
+    @Test
+    public void typedArraySliceTest() {
+        Value slice = eval("new Uint8Array(new Uint8Array([1, 2, 3, 250, 255]).buffer, 1, 3)");
+        assertEquals(1, slice.getMember("byteOffset")
+                             .asInt());
+        assertArrayEquals(new byte[] {2, 3, -6}, BytesFacade.toJavaBytes(slice));
+    }
+
+    @Test
+    public void numberArrayTest() {
+        assertArrayEquals(new byte[] {61, 62, -1, -1}, BytesFacade.toJavaBytes(eval("[61, 62, -1, 255]")));
+        assertArrayEquals(new byte[] {61, 62}, BytesFacade.toJavaBytes(eval("'[61, 62]'")));
+    }
+
+    @Test
+    public void hostBytesRoundTripTest() {
+        byte[] internal = {10, 20, 30};
+        assertSame(internal, BytesFacade.toJavaBytes(context.asValue(internal)));
+
+        Value toUint8Array = eval("(buffer) => new Uint8Array(new ArrayBuffer(buffer))");
+        Value view = toUint8Array.execute(BytesFacade.toByteBuffer(internal));
+        assertEquals(3, view.getArraySize());
+        assertEquals(20, view.getArrayElement(1)
+                             .asInt());
+
+        // the view shares the memory of the Java array
+        view.setArrayElement(1, 21);
+        assertEquals(21, internal[1]);
+        assertArrayEquals(new byte[] {10, 21, 30}, BytesFacade.toJavaBytes(view));
+    }
+
+}
@@ -55,6 +55,11 @@ public class IOSuiteTest {
         javascriptService.handleRequest("io-tests", "streams-text.js", null, null, false);
     }
 
+    @Test
+    public void executeBytesTest() throws Exception {
+        javascriptService.handleRequest("io-tests", "bytes-buffers.js", null, null, false);
+    }
+
     @SpringBootApplication
     static class TestConfiguration {
     }
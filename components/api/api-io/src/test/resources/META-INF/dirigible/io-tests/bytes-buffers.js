@@ -0,0 +1,26 @@
+import { Bytes } from 'sdk/io/bytes';
+import { Assert } from 'test/assert';
+
+function assertBytes(actual, expected) {
+	Assert.assertEquals(actual.length, expected.length);
+	for (let i = 0; i < expected.length; i++) {
+		Assert.assertEquals(actual[i], expected[i]);
+	}
+}
+
+const buffer = new Uint8Array([1, 2, 3, 250, 255]).buffer;
+assertBytes(Bytes.toJavaScriptBytes(Bytes.toJavaBytes(buffer)), [1, 2, 3, -6, -1]);
+
+const slice = new Uint8Array(buffer, 1, 3);
+Assert.assertEquals(slice.byteOffset, 1);
+assertBytes(Bytes.toJavaScriptBytes(Bytes.toJavaBytes(slice)), [2, 3, -6]);
+
+assertBytes(Bytes.toJavaScriptBytes(Bytes.toJavaBytes([61, 62, -1, 255])), [61, 62, -1, -1]);
+
+const internal = Bytes.toJavaBytes([10, 20, 30]);
+Assert.assertTrue(Bytes.toJavaBytes(internal) === internal);
+const view = Bytes.toUint8Array(internal);
+assertBytes(view, [10, 20, 30]);
+view[1] = 21;
+assertBytes(Bytes.toJavaScriptBytes(internal), [10, 21, 30]);
+Assert.assertEquals(Bytes.toArrayBuffer(internal).byteLength, 3);
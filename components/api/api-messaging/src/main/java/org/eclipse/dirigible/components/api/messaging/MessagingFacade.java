@@ -9,7 +9,10 @@
  */
 package org.eclipse.dirigible.components.api.messaging;
 
+import java.util.Arrays;
+import java.util.List;
 import jakarta.jms.JMSException;
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.listeners.service.MessageConsumer;
 import org.eclipse.dirigible.components.listeners.service.MessageProducer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +49,27 @@ public class MessagingFacade {
         }
     }
 
+    /**
+     * Send a batch of messages to queue in a single transaction.
+     *
+     * @param queue the queue
+     * @param messages the messages as JSON array of strings
+     * @throws MessagingAPIException if fail to send the messages
+     */
+    public static void sendBatchToQueue(String queue, String messages) throws MessagingAPIException {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessagesToQueue(queue, parseMessages(messages));
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send messages to queue [" + queue + "]", ex);
+        }
+    }
+
+    private static List<String> parseMessages(String messages) {
+        String[] parsed = GsonHelper.fromJson(messages, String[].class);
+        return parsed == null ? List.of() : Arrays.asList(parsed);
+    }
+
     private static void validateClassIsInitialized() {
         if (null == messageProducer) {
             throw new IllegalStateException("Class is not initialized yet. Cannot call this static method before the bean is initialized");
@@ -68,6 +92,56 @@ public class MessagingFacade {
         }
     }
 
+    /**
+     * Send a message to topic.
+     *
+     * @param topic the topic
+     * @param message the message
+     * @param persistent false for fire-and-forget delivery, which does not survive a broker restart
+     * @throws MessagingAPIException if fail to send the message
+     */
+    public static void sendToTopic(String topic, String message, boolean persistent) {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessageToTopic(topic, message, persistent);
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send message to topic [" + topic + "]", ex);
+        }
+    }
+
+    /**
+     * Send a batch of messages to topic in a single transaction.
+     *
+     * @param topic the topic
+     * @param messages the messages as JSON array of strings
+     * @throws MessagingAPIException if fail to send the messages
+     */
+    public static void sendBatchToTopic(String topic, String messages) {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessagesToTopic(topic, parseMessages(messages));
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send messages to topic [" + topic + "]", ex);
+        }
+    }
+
+    /**
+     * Send a batch of messages to topic in a single transaction.
+     *
+     * @param topic the topic
+     * @param messages the messages as JSON array of strings
+     * @param persistent false for fire-and-forget delivery, which does not survive a broker restart
+     * @throws MessagingAPIException if fail to send the messages
+     */
+    public static void sendBatchToTopic(String topic, String messages, boolean persistent) {
+        validateClassIsInitialized();
+        try {
+            messageProducer.sendMessagesToTopic(topic, parseMessages(messages), persistent);
+        } catch (RuntimeException | JMSException ex) {
+            throw new MessagingAPIException("Failed to send messages to topic [" + topic + "]", ex);
+        }
+    }
+
     /**
      * Receive a message from queue.
      *
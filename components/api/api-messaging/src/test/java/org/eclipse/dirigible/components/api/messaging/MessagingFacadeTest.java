@@ -14,6 +14,7 @@ import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.util.List;
 import jakarta.jms.JMSException;
 import org.eclipse.dirigible.components.listeners.service.MessageConsumer;
 import org.eclipse.dirigible.components.listeners.service.MessageProducer;
@@ -164,4 +165,30 @@ class MessagingFacadeTest {
         }
     }
 
+    @Nested
+    class SendBatchTest {
+
+        @Test
+        void toQueue() throws TimeoutException, JMSException {
+            MessagingFacade.sendBatchToQueue(QUEUE, "[\"first\",\"second\"]");
+
+            verify(messageProducer).sendMessagesToQueue(QUEUE, List.of("first", "second"));
+        }
+
+        @Test
+        void toTopicNonPersistent() throws TimeoutException, JMSException {
+            MessagingFacade.sendBatchToTopic(TOPIC, "[\"first\"]", false);
+
+            verify(messageProducer).sendMessagesToTopic(TOPIC, List.of("first"), false);
+        }
+
+        @Test
+        void onJMSException() throws TimeoutException, JMSException {
+            doThrow(JMSException.class).when(messageProducer)
+                                       .sendMessagesToQueue(QUEUE, List.of(MESSAGE));
+
+            assertThrows(MessagingAPIException.class, () -> MessagingFacade.sendBatchToQueue(QUEUE, "[\"" + MESSAGE + "\"]"));
+        }
+    }
+
 }
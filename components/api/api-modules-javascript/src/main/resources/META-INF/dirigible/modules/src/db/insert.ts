@@ -20,7 +20,7 @@ export interface InsertParameter {
 export class Insert {
 
 	public static execute(sql: string, parameters?: (string | number | boolean | Date | InsertParameter)[], datasourceName?: string): number {
-		return DatabaseFacade.insert(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
+		return DatabaseFacade.insert(sql, parameters ?? [], datasourceName);
 	}
 }
 
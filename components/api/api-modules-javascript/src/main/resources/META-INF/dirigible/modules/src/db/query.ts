@@ -14,6 +14,8 @@
  *
  */
 
+import { OutputStream } from "sdk/io/streams";
+
 const DatabaseFacade = Java.type("org.eclipse.dirigible.components.api.db.DatabaseFacade");
 
 export interface QueryParameter {
@@ -30,14 +32,148 @@ export interface NamedQueryParameter {
 export class Query {
 
 	public static execute(sql: string, parameters?: (string | number | boolean | Date | QueryParameter)[], datasourceName?: string): any[] {
-		const resultset = DatabaseFacade.query(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
+		const resultset = DatabaseFacade.query(sql, parameters ?? [], datasourceName);
 		return JSON.parse(resultset);
 	}
 	
 	public static executeNamed(sql: string, parameters?: NamedQueryParameter[], datasourceName?: string): any[] {
-		const resultset = DatabaseFacade.queryNamed(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
+		const resultset = DatabaseFacade.queryNamed(sql, parameters ?? [], datasourceName);
 		return JSON.parse(resultset);
 	}
+
+	/**
+	 * Opens a cursor, which reads the rows lazily, fetchSize rows at a time, instead of loading the whole result.
+	 * The cursor holds a connection until all the rows are read or it is closed.
+	 */
+	public static cursor(sql: string, parameters?: (string | number | boolean | Date | QueryParameter)[], datasourceName?: string, fetchSize?: number): Cursor {
+		const native = DatabaseFacade.cursor(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, fetchSize ?? 0);
+		return new Cursor(native, fetchSize);
+	}
+
+	public static cursorNamed(sql: string, parameters?: NamedQueryParameter[], datasourceName?: string, fetchSize?: number): Cursor {
+		const native = DatabaseFacade.cursorNamed(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, fetchSize ?? 0);
+		return new Cursor(native, fetchSize);
+	}
+
+	/**
+	 * Writes the result as JSON array directly to the output stream (e.g. the HTTP response), without building it in memory.
+	 */
+	public static stream(sql: string, output: OutputStream, parameters?: (string | number | boolean | Date | QueryParameter)[], datasourceName?: string): void {
+		DatabaseFacade.queryToStream(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, output.native);
+	}
+
+	public static streamNamed(sql: string, output: OutputStream, parameters?: NamedQueryParameter[], datasourceName?: string): void {
+		DatabaseFacade.queryNamedToStream(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, output.native);
+	}
+
+	/**
+	 * Prepares the statement once, to be executed many times with different parameters, e.g. in a loop.
+	 * The statement holds a connection until it is closed.
+	 */
+	public static prepare(sql: string, datasourceName?: string): ReusableStatement {
+		return new ReusableStatement(DatabaseFacade.prepare(sql, datasourceName));
+	}
+
+	public static prepareNamed(sql: string, datasourceName?: string): ReusableStatement {
+		return new ReusableStatement(DatabaseFacade.prepareNamed(sql, datasourceName));
+	}
+}
+
+export class ReusableStatement {
+
+	private readonly native: any;
+
+	constructor(native: any) {
+		this.native = native;
+	}
+
+	public execute(parameters?: (string | number | boolean | Date | QueryParameter | NamedQueryParameter)[]): any[] {
+		return JSON.parse(this.native.query(parameters));
+	}
+
+	public update(parameters?: (string | number | boolean | Date | QueryParameter | NamedQueryParameter)[]): number {
+		return this.native.update(parameters);
+	}
+
+	public addBatch(parameters: (string | number | boolean | Date | QueryParameter | NamedQueryParameter)[]): void {
+		this.native.addBatch(parameters);
+	}
+
+	public executeBatch(): number[] {
+		return Java.from(this.native.executeBatch());
+	}
+
+	public isClosed(): boolean {
+		return this.native.isClosed();
+	}
+
+	public close(): void {
+		this.native.close();
+	}
+}
+
+export class Cursor {
+
+	private readonly native: any;
+	private readonly batchSize: number;
+	private batch: any[] = [];
+	private position = 0;
+
+	constructor(native: any, batchSize?: number) {
+		this.native = native;
+		this.batchSize = batchSize && batchSize > 0 ? batchSize : 1000;
+	}
+
+	/**
+	 * Returns the next row or undefined, if there are no more rows.
+	 */
+	public next(): any | undefined {
+		if (this.position >= this.batch.length) {
+			this.batch = JSON.parse(this.native.next(this.batchSize));
+			this.position = 0;
+			if (this.batch.length === 0) {
+				return undefined;
+			}
+		}
+		return this.batch[this.position++];
+	}
+
+	/**
+	 * Returns up to size next rows, an empty array if there are no more rows.
+	 */
+	public nextBatch(size: number): any[] {
+		if (this.position < this.batch.length) {
+			const buffered = this.batch.slice(this.position, this.position + size);
+			this.position += buffered.length;
+			if (buffered.length < size) {
+				buffered.push(...JSON.parse(this.native.next(size - buffered.length)));
+			}
+			return buffered;
+		}
+		return JSON.parse(this.native.next(size));
+	}
+
+	/**
+	 * Calls the callback for each remaining row and closes the cursor.
+	 */
+	public forEach(callback: (row: any) => void): void {
+		try {
+			let row;
+			while ((row = this.next()) !== undefined) {
+				callback(row);
+			}
+		} finally {
+			this.close();
+		}
+	}
+
+	public isClosed(): boolean {
+		return this.native.isClosed();
+	}
+
+	public close(): void {
+		this.native.close();
+	}
 }
 
 // @ts-ignore
@@ -20,7 +20,7 @@ export interface UpdateParameter {
 export class Update {
 
 	public static execute(sql: string, parameters?: (string | number | boolean | Date | UpdateParameter)[], datasourceName?: string): number {
-		const result = DatabaseFacade.update(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
+		const result = DatabaseFacade.update(sql, parameters ?? [], datasourceName);
 		return result;
 	}
 }
@@ -14,6 +14,8 @@
  *
  */
 
+import { InputStream, OutputStream } from "sdk/io/streams";
+
 const HttpClientFacade = Java.type("org.eclipse.dirigible.components.api.http.HttpClientFacade");
 
 export interface HttpClientHeader {
@@ -52,6 +54,8 @@ export interface HttpClientRequestOptions {
     headers?: HttpClientHeader[];
     params?: HttpClientParam[];
     binary?: boolean;
+    /** The encoding of the binary response data, "base64" returns it as dataBase64 instead of a number array */
+    binaryEncoding?: "array" | "base64";
     context?: { [key: string]: any };
 }
 
@@ -59,10 +63,20 @@ export interface HttpClientResponse {
     statusCode: number;
     statusMessage: string;
     data: any[];
+    dataBase64?: string;
     text: string;
     protocol: string;
     binary: boolean;
-    headers: HttpClientHeader[]
+    headers: HttpClientHeader[];
+    error?: string;
+}
+
+export interface HttpClientBatchRequest {
+    method?: "GET" | "POST" | "PUT" | "PATCH" | "DELETE" | "HEAD" | "TRACE";
+    url: string;
+    options?: HttpClientRequestOptions;
+    /** The max time in milliseconds to wait for the response, counted from the start of the batch */
+    timeout?: number;
 }
 
 export class HttpClient {
@@ -113,6 +127,35 @@ export class HttpClient {
         return JSON.parse(response);
     }
 
+    /**
+     * Performs the requests concurrently and returns the responses in the order of the requests.
+     * A failed or timed out request results in a response with an error and without a status code.
+     */
+    public static all(requests: HttpClientBatchRequest[]): HttpClientResponse[] {
+        const batch = requests.map(request => {
+            const options = request.options ?? {};
+            return { ...request, url: HttpClient.buildUrl(request.url, options), options: options };
+        });
+        return JSON.parse(HttpClientFacade.all(JSON.stringify(batch)));
+    }
+
+    /**
+     * Performs the request and returns the response with its content as a stream, which is read from the connection.
+     * The response has to be closed, either directly or by transferring its content, to release the connection.
+     * Only a fully read or transferred response returns its connection for reuse, closing a partially read one shuts the connection down.
+     */
+    public static stream(url: string, options: HttpClientRequestOptions = {}, method: HttpClientBatchRequest["method"] = "GET"): HttpClientStreamResponse {
+        const requestUrl = HttpClient.buildUrl(url, options);
+        return new HttpClientStreamResponse(HttpClientFacade.stream(method, requestUrl, JSON.stringify(options)));
+    }
+
+    /**
+     * Returns the leased, pending, available and max connections of the shared connection pools, by client configuration
+     */
+    public static getPoolStatistics(): { [client: string]: { leased: number, pending: number, available: number, max: number } } {
+        return JSON.parse(HttpClientFacade.getPoolStatistics());
+    }
+
     private static buildUrl(url: string, options: HttpClientRequestOptions): string {
         if (options === undefined || options === null || options.params === undefined || options.params === null || options.params.length === 0) {
             return url;
@@ -128,6 +171,43 @@ export class HttpClient {
     }    
 }
 
+export class HttpClientStreamResponse {
+
+    private readonly native: any;
+
+    public readonly statusCode: number;
+    public readonly statusMessage: string;
+    public readonly protocol: string;
+    public readonly contentType?: string;
+    public readonly contentLength: number;
+    public readonly headers: HttpClientHeader[];
+
+    constructor(native: any) {
+        this.native = native;
+        this.statusCode = native.getStatusCode();
+        this.statusMessage = native.getStatusMessage();
+        this.protocol = native.getProtocol();
+        this.contentType = native.getContentType() ?? undefined;
+        this.contentLength = native.getContentLength();
+        this.headers = JSON.parse(native.getHeaders());
+    }
+
+    public getStream(): InputStream {
+        return new InputStream(this.native.getInputStream());
+    }
+
+    /**
+     * Copies the content to the output and closes the response
+     */
+    public transferTo(output: OutputStream): number {
+        return this.native.transferTo(output.native);
+    }
+
+    public close(): void {
+        this.native.close();
+    }
+}
+
 // @ts-ignore
 if (typeof module !== 'undefined') {
 	// @ts-ignore
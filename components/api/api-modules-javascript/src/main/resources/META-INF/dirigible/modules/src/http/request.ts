@@ -1,4 +1,5 @@
 import { InputStream, Streams } from "sdk/io/streams";
+import { Bytes } from "sdk/io/bytes";
 import { Cookie } from "./response";
 
 const HttpRequestFacade = Java.type("org.eclipse.dirigible.components.api.http.HttpRequestFacade");
@@ -70,7 +71,11 @@ export class Request {
     }
 
     public static getBytes(): any[] {
-        return JSON.parse(HttpRequestFacade.getBytes());
+        return Bytes.toJavaScriptBytes(HttpRequestFacade.getBytesNative());
+    }
+
+    public static getBytesNative(): any[] {
+        return HttpRequestFacade.getBytesNative();
     }
 
     public static getText() {
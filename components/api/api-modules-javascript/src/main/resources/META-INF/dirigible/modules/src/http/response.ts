@@ -15,6 +15,7 @@
  */
 
 import { OutputStream } from "sdk/io/streams"
+import { Bytes } from "sdk/io/bytes";
 
 const HttpResponseFacade = Java.type("org.eclipse.dirigible.components.api.http.HttpResponseFacade");
 const OutputStreamWriter = Java.type("java.io.OutputStreamWriter");
@@ -319,11 +320,11 @@ export class Response {
         writer.flush();
     }
 
-    public static write(bytes: any[]): void {
+    public static write(bytes: any[] | ArrayBuffer | ArrayBufferView): void {
         if (!bytes) {
             bytes = [];
         }
-        HttpResponseFacade.write(bytes);
+        HttpResponseFacade.write(Bytes.toJavaBytes(bytes));
     }
 
     public static isCommitted(): boolean {
@@ -25,6 +25,16 @@ export class Writer {
 		}
 		IndexingFacade.add(index, location, contents, '' + lastModified.getTime(), map);
 	}
+
+	public static addAll(index: string, documents: { location: string, contents: string, lastModified?: Date, parameters?: { [key: string]: string } }[]) {
+		const entries = documents.map(document => ({
+			location: document.location,
+			contents: document.contents,
+			lastModified: '' + (document.lastModified ?? new Date()).getTime(),
+			parameters: document.parameters ?? {}
+		}));
+		IndexingFacade.addAll(index, JSON.stringify(entries));
+	}
 }
 
 // @ts-ignore
@@ -18,24 +18,19 @@
  */
 
 const JString = Java.type("java.lang.String");
-const JByte = Java.type("java.lang.Byte");
-const JArray = Java.type("java.lang.reflect.Array");
 const BytesFacade = Java.type("org.eclipse.dirigible.components.api.io.BytesFacade");
 
 export class Bytes {
 
 	/**
 	 * Convert the JavaScript byte array to a native Java one. To be used internally by the API layer
+	 * ArrayBuffers and typed arrays are copied at once, arrays of numbers element by element
 	 * 
 	 * @param bytes 
 	 * @returns 
 	 */
-	public static toJavaBytes(bytes: any[]): any[] {
-		const internalBytes = JArray.newInstance(JByte.TYPE, bytes.length);
-		for (let i = 0; i < bytes.length; i++) {
-			internalBytes[i] = bytes[i];
-		}
-		return internalBytes;
+	public static toJavaBytes(bytes: any[] | ArrayBuffer | ArrayBufferView): any[] {
+		return BytesFacade.toJavaBytes(bytes);
 	}
 
 	/**
@@ -45,11 +40,29 @@ export class Bytes {
 	 * @returns 
 	 */
 	public static toJavaScriptBytes(internalBytes: any[]): any[] {
-		const bytes = [];
-		for (let i = 0; i < internalBytes.length; i++) {
-			bytes.push(internalBytes[i]);
-		}
-		return bytes;
+		// copy the Java memory at once and then convert the signed bytes to numbers
+		const bytes = new Int8Array(Bytes.toArrayBuffer(internalBytes).slice(0));
+		return Array.prototype.slice.call(bytes);
+	}
+
+	/**
+	 * View the Java byte array as an ArrayBuffer without copying. To be used internally by the API layer
+	 * 
+	 * @param internalBytes 
+	 * @returns 
+	 */
+	public static toArrayBuffer(internalBytes: any[]): ArrayBuffer {
+		return new ArrayBuffer(BytesFacade.toByteBuffer(internalBytes));
+	}
+
+	/**
+	 * View the Java byte array as an Uint8Array without copying
+	 * 
+	 * @param internalBytes 
+	 * @returns 
+	 */
+	public static toUint8Array(internalBytes: any[]): Uint8Array {
+		return new Uint8Array(Bytes.toArrayBuffer(internalBytes));
 	}
 
 	/**
@@ -37,6 +37,10 @@ class Queue {
 	public send(message: string) {
 		MessagingFacade.sendToQueue(this.destination, message);
 	}
+
+	public sendBatch(messages: string[]) {
+		MessagingFacade.sendBatchToQueue(this.destination, JSON.stringify(messages));
+	}
 }
 
 class Topic {
@@ -47,8 +51,20 @@ class Topic {
 		this.destination = destination;
 	}
 
-	public send(message: string) {
-		MessagingFacade.sendToTopic(this.destination, message);
+	public send(message: string, persistent?: boolean) {
+		if (persistent === undefined) {
+			MessagingFacade.sendToTopic(this.destination, message);
+		} else {
+			MessagingFacade.sendToTopic(this.destination, message, persistent);
+		}
+	}
+
+	public sendBatch(messages: string[], persistent?: boolean) {
+		if (persistent === undefined) {
+			MessagingFacade.sendBatchToTopic(this.destination, JSON.stringify(messages));
+		} else {
+			MessagingFacade.sendBatchToTopic(this.destination, JSON.stringify(messages), persistent);
+		}
 	}
 }
 
@@ -335,8 +335,8 @@ export class File {
 		return Bytes.byteArrayToText(bytesOutput);
 	}
 
-	public setContent(input: any[]): void {
-		WorkspaceFacade.setContent(this.native, input);
+	public setContent(input: any[] | ArrayBuffer | ArrayBufferView): void {
+		WorkspaceFacade.setContent(this.native, Bytes.toJavaBytes(input));
 	}
 
 	public setText(input: string): void {
@@ -107,7 +107,8 @@ public class ThreadContextFacade {
         if (stackedCloseablesIsNotEmpty()) {
             Map<String, AutoCloseable> CLOSEABLES = STACKED_CLOSEABLES.get()
                                                                       .get(stackId);
-            for (Entry<String, AutoCloseable> closeable : CLOSEABLES.entrySet()) {
+            // copied, as the closeables may remove themselves when closed
+            for (Entry<String, AutoCloseable> closeable : new ArrayList<>(CLOSEABLES.entrySet())) {
                 try {
                     if (logger.isErrorEnabled()) {
                         logger.error("Object of type {} from the context {} has not been closed properly.", closeable.getValue()
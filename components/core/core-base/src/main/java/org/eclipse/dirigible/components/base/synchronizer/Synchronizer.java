@@ -19,6 +19,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Interface Synchronizer.
@@ -121,4 +122,17 @@ public interface Synchronizer<A extends Artefact, ID> {
      */
     boolean multitenantExecution();
 
+    /**
+     * Gets the types of the artefacts, which have to be processed before the artefacts of this
+     * synchronizer, in addition to the dependencies declared by the artefacts themselves. Once
+     * declared, they have to be complete, as the synchronizer can be processed concurrently with the
+     * synchronizers of other types. A synchronizer without dependency types is processed after all the
+     * synchronizers of a lower order.
+     *
+     * @return the dependency types
+     */
+    default Set<String> getDependencyTypes() {
+        return Set.of();
+    }
+
 }
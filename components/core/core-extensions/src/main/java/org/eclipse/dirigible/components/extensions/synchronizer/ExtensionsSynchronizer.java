@@ -20,6 +20,7 @@ import org.eclipse.dirigible.components.base.synchronizer.BaseSynchronizer;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
 import org.eclipse.dirigible.components.extensions.domain.Extension;
+import org.eclipse.dirigible.components.extensions.domain.ExtensionPoint;
 import org.eclipse.dirigible.components.extensions.service.ExtensionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +31,7 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Class ExtensionsSynchronizer.
@@ -229,4 +231,14 @@ public class ExtensionsSynchronizer extends BaseSynchronizer<Extension, Long> {
         return Extension.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(ExtensionPoint.ARTEFACT_TYPE);
+    }
+
 }
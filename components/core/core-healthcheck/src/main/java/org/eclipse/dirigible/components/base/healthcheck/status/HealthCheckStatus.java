@@ -10,8 +10,8 @@
 package org.eclipse.dirigible.components.base.healthcheck.status;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.dirigible.commons.timeout.TimeLimited;
 import org.eclipse.dirigible.components.base.healthcheck.status.HealthCheckStatus.Jobs.JobStatus;
@@ -146,7 +146,10 @@ public class HealthCheckStatus {
         }
 
         /** The statuses. */
-        private Map<String, JobStatus> statuses = new HashMap<String, JobStatus>();
+        private Map<String, JobStatus> statuses = new ConcurrentHashMap<String, JobStatus>();
+
+        /** The durations of the last runs in milliseconds. */
+        private Map<String, Long> durations = new ConcurrentHashMap<String, Long>();
 
         /**
          * Gets the statuses.
@@ -157,6 +160,25 @@ public class HealthCheckStatus {
             return statuses;
         }
 
+        /**
+         * Gets the durations of the last runs in milliseconds.
+         *
+         * @return the durations
+         */
+        public Map<String, Long> getDurations() {
+            return durations;
+        }
+
+        /**
+         * Sets the duration of the last run.
+         *
+         * @param name the name
+         * @param millis the duration in milliseconds
+         */
+        public void setDuration(String name, long millis) {
+            durations.put(name, millis);
+        }
+
         /**
          * Sets the status.
          *
@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.initializers.definition;
 
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -33,4 +34,12 @@ public interface DefinitionRepository extends JpaRepository<Definition, Long> {
     @Query("update Definition d set d.checksum = :checksum where d.type in :types")
     void updateChecksums(String checksum, Set<String> types);
 
+    /**
+     * Find by location starting with.
+     *
+     * @param prefix the prefix
+     * @return the list
+     */
+    List<Definition> findByLocationStartingWith(String prefix);
+
 }
@@ -102,6 +102,24 @@ public class DefinitionService {
         return null;
     }
 
+    /**
+     * Find the definitions at the location or under it, if it is a folder.
+     *
+     * @param location the location
+     * @return the definitions
+     */
+    @Transactional(readOnly = true)
+    public List<Definition> findUnderLocation(String location) {
+        String folder = location.endsWith("/") ? location : location + "/";
+        return definitionRepository.findByLocationStartingWith(location)
+                                   .stream()
+                                   .filter(d -> d.getLocation()
+                                                 .equals(location)
+                                           || d.getLocation()
+                                               .startsWith(folder))
+                                   .toList();
+    }
+
     /**
      * Save.
      *
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+
+/**
+ * The artefacts and their dependencies as known from the previous synchronization runs, used to
+ * find the artefacts related to the changed ones in the incremental runs.
+ */
+class SynchronizationDependencies {
+
+    /** The known artefacts per key. */
+    private final Map<String, KnownArtefact> known = new ConcurrentHashMap<>();
+
+    /** The keys of the dependencies per artefact key. */
+    private final Map<String, Set<String>> dependencies = new ConcurrentHashMap<>();
+
+    /** The keys of the dependent artefacts per dependency key. */
+    private final Map<String, Set<String>> dependents = new ConcurrentHashMap<>();
+
+    /**
+     * Remember the processed artefacts and their dependencies. The artefacts of the deleted locations
+     * are forgotten, the dependencies of the processed ones replace the previously known.
+     *
+     * @param artefacts the processed artefacts
+     * @param rebuild whether to rebuild from scratch
+     * @param deletedLocations the locations of the deleted definitions
+     */
+    void index(Collection<? extends Artefact> artefacts, boolean rebuild, Set<String> deletedLocations) {
+        if (rebuild) {
+            known.clear();
+            dependencies.clear();
+            dependents.clear();
+        } else {
+            for (String key : getKeys(deletedLocations)) {
+                forget(key);
+            }
+        }
+        for (Artefact artefact : artefacts) {
+            forget(artefact.getKey());
+            known.put(artefact.getKey(), new KnownArtefact(artefact.getLocation(), artefact.getType()));
+            if (artefact.getDependencies() != null && !artefact.getDependencies()
+                                                               .isEmpty()) {
+                dependencies.put(artefact.getKey(), Set.copyOf(artefact.getDependencies()));
+                for (String dependency : artefact.getDependencies()) {
+                    dependents.computeIfAbsent(dependency, k -> ConcurrentHashMap.newKeySet())
+                              .add(artefact.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget the artefact and its outgoing dependencies. The artefacts depending on it are kept, as
+     * they still have to be processed again, if it appears again.
+     *
+     * @param key the key
+     */
+    private void forget(String key) {
+        known.remove(key);
+        Set<String> previous = dependencies.remove(key);
+        if (previous != null) {
+            for (String dependency : previous) {
+                Set<String> keys = dependents.get(dependency);
+                if (keys != null) {
+                    keys.remove(key);
+                    if (keys.isEmpty()) {
+                        dependents.remove(dependency, keys);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the keys of the known artefacts of the given locations.
+     *
+     * @param locations the locations
+     * @return the keys
+     */
+    Set<String> getKeys(Set<String> locations) {
+        Set<String> keys = new HashSet<>();
+        known.forEach((key, value) -> {
+            if (locations.contains(value.location())) {
+                keys.add(key);
+            }
+        });
+        return keys;
+    }
+
+    /**
+     * Gets the keys of the artefacts depending directly or transitively on the given ones, excluding
+     * the given ones.
+     *
+     * @param keys the keys
+     * @return the dependent keys
+     */
+    Set<String> getDependents(Set<String> keys) {
+        Set<String> result = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>(keys);
+        while (!queue.isEmpty()) {
+            for (String dependent : dependents.getOrDefault(queue.poll(), Collections.emptySet())) {
+                if (!keys.contains(dependent) && result.add(dependent)) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the known artefact.
+     *
+     * @param key the key
+     * @return the known artefact or null
+     */
+    KnownArtefact get(String key) {
+        return known.get(key);
+    }
+
+    /**
+     * The artefact known from a previous run.
+     *
+     * @param location the location
+     * @param type the type
+     */
+    record KnownArtefact(String location, String type) {
+    }
+
+}
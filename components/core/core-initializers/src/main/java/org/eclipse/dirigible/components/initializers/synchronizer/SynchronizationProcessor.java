@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.initializers.synchronizer;
 
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.platform.ProblemsFacade;
 import org.eclipse.dirigible.components.base.artefact.Artefact;
@@ -29,6 +30,7 @@ import org.eclipse.dirigible.components.initializers.definition.DefinitionServic
 import org.eclipse.dirigible.components.initializers.definition.DefinitionState;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import io.opentelemetry.context.Context;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,7 +45,14 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -87,6 +96,12 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     /** The processing. */
     private final AtomicBoolean processing = new AtomicBoolean(false);
 
+    /** The executor of the concurrently processed synchronizers. */
+    private final ExecutorService executor;
+
+    /** The artefacts and their dependencies, as known from the previous runs. */
+    private final SynchronizationDependencies known = new SynchronizationDependencies();
+
     /**
      * Instantiates a new synchronization processor.
      *
@@ -104,6 +119,42 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         this.definitionService = definitionService;
         this.synchronizationWatcher = synchronizationWatcher;
         this.synchronizers.forEach(s -> s.setCallback(this));
+        int parallelism = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_PARALLELISM", Runtime.getRuntime()
+                                                                                              .availableProcessors());
+        ThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("synchronizer-%d")
+                                                                      .daemon(true)
+                                                                      .build();
+        this.executor = parallelism > 1 ? Context.taskWrapping(Executors.newFixedThreadPool(parallelism, threadFactory)) : null;
+    }
+
+    /**
+     * Process the synchronizers of a layer, concurrently if enabled.
+     *
+     * @param layer the layer
+     * @param task the task
+     */
+    private void processLayer(List<Synchronizer<? extends Artefact, ?>> layer, Consumer<Synchronizer<? extends Artefact, ?>> task) {
+        if (executor == null || layer.size() == 1) {
+            layer.forEach(task);
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>();
+        for (Synchronizer<? extends Artefact, ?> synchronizer : layer) {
+            futures.add(executor.submit(() -> task.accept(synchronizer)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                addError(e.getMessage());
+                return;
+            } catch (ExecutionException e) {
+                logger.error(e.getMessage(), e);
+                addError(e.getMessage());
+            }
+        }
     }
 
     /**
@@ -168,6 +219,11 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 
         processing.set(true);
 
+        SynchronizationWatcher.Changes changes = synchronizationWatcher.takeChanges();
+        boolean incremental = initialized.get() && !changes.full()
+                && Boolean.parseBoolean(Configuration.get("DIRIGIBLE_SYNCHRONIZER_INCREMENTAL_ENABLED", "true"));
+        Set<String> deletedLocations = new HashSet<>();
+
         try {
 
             prepare();
@@ -175,22 +231,35 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             // prepare map
             synchronizers.forEach(s -> definitions.put(s, Collections.synchronizedMap(new HashMap<>())));
 
-            logger.trace("Collecting files...");
+            if (incremental) {
+                logger.debug("Collecting changed locations: {}", changes.locations());
+
+                // collect the definitions under the changed locations only
+                collectChanges(changes.locations(), deletedLocations);
+
+                // parse definitions to artefacts
+                parseDefinitions(definitions);
+
+                // add the dependents and the dependencies of the changed artefacts
+                collectRelated(deletedLocations);
+            } else {
+                logger.trace("Collecting files...");
 
-            // collect definitions for processing
-            collectFiles();
+                // collect definitions for processing
+                collectFiles();
 
-            logger.debug("Collecting files done. {} known types of definitions collected - {}.", synchronizers.size(),
-                    synchronizers.stream()
-                                 .map(Synchronizer::getArtefactType)
-                                 .toList());
-            logger.trace("Loading definitions...");
+                logger.debug("Collecting files done. {} known types of definitions collected - {}.", synchronizers.size(),
+                        synchronizers.stream()
+                                     .map(Synchronizer::getArtefactType)
+                                     .toList());
+                logger.trace("Loading definitions...");
 
-            // mark the deleted definitions, which previousely processed
-            markDeleted();
+                // mark the deleted definitions, which previousely processed
+                markDeleted();
 
-            // parse definitions to artefacts
-            parseDefinitions();
+                // parse definitions to artefacts
+                parseDefinitions(definitions);
+            }
 
             int countNew = 0;
             int countModified = 0;
@@ -219,126 +288,94 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                 logger.trace("Topological sorting...");
 
                 // topological sorting by dependencies
-                wrappers = sorter.sort(wrappers);
-
-                // reverse the order
-                Collections.reverse(wrappers);
+                List<TopologyWrapper<? extends Artefact>> sorted = sorter.sort(wrappers);
 
                 logger.trace("Preparing for processing...");
 
-                Set<TopologyWrapper<? extends Artefact>> undepleted = new HashSet<>();
-
-                // preparing and depleting
-                for (Synchronizer<? extends Artefact, ?> synchronizer : synchronizers) {
-                    Set<TopologyWrapper<? extends Artefact>> unmodifiable = wrappers.stream()
-                                                                                    .filter(w -> w.getSynchronizer()
-                                                                                                  .equals(synchronizer))
-                                                                                    .collect(Collectors.toSet());
-                    try {
-                        Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(unmodifiable, ArtefactPhase.PREPARE);
-                        undepleted.addAll(results);
-                        registerErrors(results, ArtefactLifecycle.PREPARED);
-                    } catch (Exception e) {
-                        logger.error(e.getMessage(), e);
-                        addError(e.getMessage());
-                    }
+                Set<TopologyWrapper<? extends Artefact>> undepleted = ConcurrentHashMap.newKeySet();
+
+                // the independent synchronizers are processed concurrently
+                List<List<Synchronizer<? extends Artefact, ?>>> layers = SynchronizerLayers.compute(synchronizers, sorted);
+                logger.debug("Processing synchronizers in layers: {}", layers);
+                Map<Synchronizer<? extends Artefact, ?>, Long> durations = new ConcurrentHashMap<>();
+
+                // preparing and depleting, the dependents first
+                List<List<Synchronizer<? extends Artefact, ?>>> reversedLayers = new ArrayList<>(layers);
+                Collections.reverse(reversedLayers);
+                for (List<Synchronizer<? extends Artefact, ?>> layer : reversedLayers) {
+                    processLayer(layer, synchronizer -> {
+                        long start = System.currentTimeMillis();
+                        Set<TopologyWrapper<? extends Artefact>> unmodifiable = sorted.stream()
+                                                                                      .filter(w -> w.getSynchronizer()
+                                                                                                    .equals(synchronizer))
+                                                                                      .collect(Collectors.toSet());
+                        try {
+                            Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(unmodifiable, ArtefactPhase.PREPARE);
+                            undepleted.addAll(results);
+                            registerErrors(results, ArtefactLifecycle.PREPARED);
+                        } catch (Exception e) {
+                            logger.error(e.getMessage(), e);
+                            addError(e.getMessage());
+                        }
+                        durations.merge(synchronizer, System.currentTimeMillis() - start, Long::sum);
+                    });
                 }
                 logger.trace("Preparing for processing done.");
 
-                // return back to the sorted the order
-                Collections.reverse(wrappers);
-
                 logger.trace("Processing of artefacts...");
                 // processing and depleting
-                for (Synchronizer<? extends Artefact, ?> synchronizer : synchronizers) {
-                    HealthCheckStatus.getInstance()
-                                     .getJobs()
-                                     .setStatus(synchronizer.getClass()
-                                                            .getSimpleName(),
-                                             JobStatus.Running);
-                    Set<TopologyWrapper<? extends Artefact>> unmodifiable = wrappers.stream()
-                                                                                    .filter(w -> w.getSynchronizer()
-                                                                                                  .equals(synchronizer))
-                                                                                    .collect(Collectors.toSet());
-                    try {
-
-                        // phase create
-                        Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(unmodifiable, ArtefactPhase.CREATE);
-                        undepleted.addAll(results);
-                        registerErrors(results, ArtefactLifecycle.CREATED);
+                for (List<Synchronizer<? extends Artefact, ?>> layer : layers) {
+                    processLayer(layer, synchronizer -> {
+                        long start = System.currentTimeMillis();
+                        String name = synchronizer.getClass()
+                                                  .getSimpleName();
+                        HealthCheckStatus.getInstance()
+                                         .getJobs()
+                                         .setStatus(name, JobStatus.Running);
+                        Set<TopologyWrapper<? extends Artefact>> unmodifiable = sorted.stream()
+                                                                                      .filter(w -> w.getSynchronizer()
+                                                                                                    .equals(synchronizer))
+                                                                                      .collect(Collectors.toSet());
+                        try {
+
+                            // phase create
+                            Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(unmodifiable, ArtefactPhase.CREATE);
+                            undepleted.addAll(results);
+                            registerErrors(results, ArtefactLifecycle.CREATED);
 
-                        // phase update
-                        results = depleter.deplete(unmodifiable, ArtefactPhase.UPDATE);
-                        undepleted.addAll(results);
-                        registerErrors(results, ArtefactLifecycle.UPDATED);
+                            // phase update
+                            results = depleter.deplete(unmodifiable, ArtefactPhase.UPDATE);
+                            undepleted.addAll(results);
+                            registerErrors(results, ArtefactLifecycle.UPDATED);
 
-                        // phase start
-                        results = depleter.deplete(unmodifiable, ArtefactPhase.START);
-                        undepleted.addAll(results);
-                        registerErrors(results, ArtefactLifecycle.STARTED);
+                            // phase start
+                            results = depleter.deplete(unmodifiable, ArtefactPhase.START);
+                            undepleted.addAll(results);
+                            registerErrors(results, ArtefactLifecycle.STARTED);
 
-                    } catch (Exception e) {
-                        logger.error(e.getMessage(), e);
-                        addError(e.getMessage());
+                        } catch (Exception e) {
+                            logger.error(e.getMessage(), e);
+                            addError(e.getMessage());
+                            HealthCheckStatus.getInstance()
+                                             .getJobs()
+                                             .setStatus(name, JobStatus.Failed);
+                        }
+                        long duration = durations.merge(synchronizer, System.currentTimeMillis() - start, Long::sum);
                         HealthCheckStatus.getInstance()
                                          .getJobs()
-                                         .setStatus(synchronizer.getClass()
-                                                                .getSimpleName(),
-                                                 JobStatus.Failed);
-                    }
-                    HealthCheckStatus.getInstance()
-                                     .getJobs()
-                                     .setStatus(synchronizer.getClass()
-                                                            .getSimpleName(),
-                                             JobStatus.Succeeded);
+                                         .setDuration(name, duration);
+                        HealthCheckStatus.getInstance()
+                                         .getJobs()
+                                         .setStatus(name, JobStatus.Succeeded);
+                        logger.debug("Synchronizer [{}] processed [{}] artefacts in [{}] ms", name, unmodifiable.size(), duration);
+                    });
                 }
 
                 // Processing of cross-synchronizer artefacts once again due to eventual dependency issues
-                int crossRetryCount = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT", 10);
-                int crossRetryInterval = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL", 10000);
-                int retryCount = 0;
                 if (!undepleted.isEmpty()) {
                     logger.warn("Cross-processing of undepleated artefacts...");
                     try {
-                        while (!undepleted.isEmpty()) {
-                            logger.info("Wait [{}] millis before next retry", crossRetryInterval);
-                            Thread.sleep(crossRetryInterval);
-
-                            logger.info("Retry [{}] - cross-processing of [{}] undepleated artefacts: [{}]", (retryCount + 1),
-                                    undepleted.size(), undepleted);
-                            Set<TopologyWrapper<? extends Artefact>> cross = new HashSet<>();
-                            Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(undepleted, ArtefactPhase.PREPARE);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.PREPARED);
-
-                            results = depleter.deplete(undepleted, ArtefactPhase.CREATE);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.CREATED);
-
-                            results = depleter.deplete(undepleted, ArtefactPhase.UPDATE);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.UPDATED);
-
-                            results = depleter.deplete(undepleted, ArtefactPhase.START);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.STARTED);
-
-                            String crossArtefactsLeft = cross.stream()
-                                                             .map(e -> e.getArtefact()
-                                                                        .getKey())
-                                                             .collect(Collectors.joining(", "));
-                            if (!cross.isEmpty()) {
-                                undepleted.clear();
-                                undepleted.addAll(cross);
-                                logger.warn("Retrying to deplete artefacts left after cross-processing: [{}] ", crossArtefactsLeft);
-                            }
-                            if (++retryCount == crossRetryCount) {
-                                logger.error("Final retry completed. Left artefacts after cross-processing: [{}]", crossArtefactsLeft);
-                                break;
-                            }
-                            logger.info("Retry [{}] completed - left [{}] undepleated artefacts: [{}].", retryCount, undepleted.size(),
-                                    undepleted);
-                        }
+                        new SynchronizationRetryScheduler(depleter, this).process(undepleted);
                     } catch (Exception e) {
                         logger.error("Error occurred while cross-processing of undepleated artefacts", e);
                     }
@@ -352,20 +389,27 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             logger.trace("Cleaning up removed artefacts...");
 
             // cleanup
-            for (Synchronizer synchronizer : synchronizers) {
-                List<? extends Artefact> registered = synchronizer.getService()
-                                                                  .getAll();
-                for (Artefact artefact : registered) {
-                    if (synchronizer.isAccepted(artefact.getType())) {
-                        if (!repository.getResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + artefact.getLocation())
-                                       .exists()) {
-                            synchronizer.cleanup(artefact);
+            if (incremental) {
+                cleanupDeleted(deletedLocations);
+            } else {
+                for (Synchronizer synchronizer : synchronizers) {
+                    List<? extends Artefact> registered = synchronizer.getService()
+                                                                      .getAll();
+                    for (Artefact artefact : registered) {
+                        if (synchronizer.isAccepted(artefact.getType())) {
+                            if (!repository.getResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + artefact.getLocation())
+                                           .exists()) {
+                                synchronizer.cleanup(artefact);
+                            }
                         }
                     }
                 }
             }
             logger.trace("Cleaning up removed artefacts done.");
 
+            // remember the dependencies for the next incremental runs
+            indexDependencies(!incremental, deletedLocations);
+
             // report results
             getErrors().forEach(errMsg -> {
                 logger.error("Error occured during synchronization: [{}]", errMsg);
@@ -397,7 +441,6 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             definitions.clear();
             artefacts.clear();
 
-            synchronizationWatcher.reset();
             initialized.set(true);
             processing.set(false);
         }
@@ -426,6 +469,169 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         }
     }
 
+    /**
+     * Collect the definitions under the changed locations. The definitions under the locations, which
+     * do not exist anymore, are marked as deleted.
+     *
+     * @param changedLocations the changed locations
+     * @param deletedLocations the collected locations of the deleted definitions
+     */
+    private void collectChanges(Set<String> changedLocations, Set<String> deletedLocations) {
+        String registryFolder = getRegistryFolder();
+        SynchronizationWalker synchronizationWalker = new SynchronizationWalker(this);
+        for (String location : changedLocations) {
+            Path path = Path.of(registryFolder, location);
+            try {
+                if (Files.isDirectory(path)) {
+                    synchronizationWalker.walk(registryFolder, path.toString());
+                } else if (Files.exists(path)) {
+                    checkFile(path, Files.readAttributes(path, BasicFileAttributes.class), location);
+                }
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+                addError(e.getMessage());
+            }
+            for (Definition existing : definitionService.findUnderLocation(location)) {
+                if (!existing.getState()
+                             .equals(DefinitionState.DELETED)
+                        && !Files.exists(Path.of(registryFolder, existing.getLocation()))) {
+                    registerDeleteState(existing);
+                    deletedLocations.add(existing.getLocation());
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect the artefacts related to the changed ones. The dependents of the new, modified and
+     * deleted artefacts are parsed again, as they have to be processed after their dependencies. The
+     * not changed dependencies are retrieved, so that the topological order is complete.
+     *
+     * @param deletedLocations the locations of the deleted definitions
+     */
+    private void collectRelated(Set<String> deletedLocations) {
+        Set<String> changedKeys = new HashSet<>();
+        for (Artefact artefact : artefacts.values()) {
+            if (ArtefactLifecycle.NEW.equals(artefact.getLifecycle()) || ArtefactLifecycle.MODIFIED.equals(artefact.getLifecycle())) {
+                changedKeys.add(artefact.getKey());
+            }
+        }
+        changedKeys.addAll(known.getKeys(deletedLocations));
+
+        // the transitive dependents
+        Set<String> dependentKeys = known.getDependents(changedKeys);
+
+        Set<String> collectedLocations = new HashSet<>();
+        definitions.values()
+                   .forEach(map -> map.values()
+                                      .forEach(d -> collectedLocations.add(d.getLocation())));
+        collectedLocations.addAll(deletedLocations);
+
+        String registryFolder = getRegistryFolder();
+        Map<Synchronizer<? extends Artefact, ?>, Map<String, Definition>> related = new HashMap<>();
+        for (String key : dependentKeys) {
+            SynchronizationDependencies.KnownArtefact dependent = known.get(key);
+            if (dependent == null || !collectedLocations.add(dependent.location())) {
+                continue;
+            }
+            Definition definition = definitionService.findByLocation(dependent.location());
+            Synchronizer<? extends Artefact, ?> synchronizer = findSynchronizer(dependent.type());
+            Path file = Path.of(registryFolder, dependent.location());
+            if (definition == null || synchronizer == null || !Files.exists(file)
+                    || !DefinitionState.PARSED.equals(definition.getState())) {
+                continue;
+            }
+            try {
+                definition.setContent(Files.readAllBytes(file));
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+                continue;
+            }
+            logger.debug("Processing the dependent artefact: {}", key);
+            definition.setState(DefinitionState.MODIFIED);
+            definitionService.save(definition);
+            checkSynchronizerMap(synchronizer).put(definition.getKey(), definition);
+            related.computeIfAbsent(synchronizer, s -> new HashMap<>())
+                   .put(definition.getKey(), definition);
+        }
+        parseDefinitions(related);
+
+        // the direct dependencies, which are not part of this run
+        Set<String> dependencyKeys = new HashSet<>();
+        for (Artefact artefact : new ArrayList<>(artefacts.values())) {
+            if (artefact.getDependencies() != null) {
+                dependencyKeys.addAll(artefact.getDependencies());
+            }
+        }
+        for (String key : dependencyKeys) {
+            SynchronizationDependencies.KnownArtefact dependency = known.get(key);
+            if (artefacts.containsKey(key) || dependency == null || !collectedLocations.add(dependency.location())) {
+                continue;
+            }
+            Synchronizer<? extends Artefact, ?> synchronizer = findSynchronizer(dependency.type());
+            if (synchronizer != null) {
+                addArtefacts(retrieve(synchronizer, dependency.location()));
+            }
+        }
+    }
+
+    /**
+     * Cleanup the artefacts of the deleted definitions.
+     *
+     * @param deletedLocations the locations of the deleted definitions
+     */
+    private void cleanupDeleted(Set<String> deletedLocations) {
+        for (String location : deletedLocations) {
+            for (Synchronizer synchronizer : synchronizers) {
+                List<? extends Artefact> registered = synchronizer.getService()
+                                                                  .findByLocation(location);
+                for (Artefact artefact : registered) {
+                    if (synchronizer.isAccepted(artefact.getType())) {
+                        synchronizer.cleanup(artefact);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Remember the processed artefacts and their dependencies.
+     *
+     * @param rebuild whether to rebuild the index from scratch
+     * @param deletedLocations the locations of the deleted definitions
+     */
+    private void indexDependencies(boolean rebuild, Set<String> deletedLocations) {
+        known.index(artefacts.values(), rebuild, deletedLocations);
+    }
+
+    /**
+     * Find the synchronizer accepting the artefact type.
+     *
+     * @param type the type
+     * @return the synchronizer or null
+     */
+    private Synchronizer<? extends Artefact, ?> findSynchronizer(String type) {
+        for (Synchronizer<? extends Artefact, ?> synchronizer : synchronizers) {
+            if (synchronizer.isAccepted(type)) {
+                return synchronizer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieve the not fatal artefacts of a location.
+     *
+     * @param synchronizer the synchronizer
+     * @param location the location
+     * @return the artefacts
+     */
+    private List<? extends Artefact> retrieve(Synchronizer<? extends Artefact, ?> synchronizer, String location) {
+        List<? extends Artefact> retrieved = new ArrayList<>(synchronizer.retrieve(location));
+        retrieved.removeIf(a -> !location.equals(a.getLocation()) || ArtefactLifecycle.FATAL.equals(a.getLifecycle()));
+        return retrieved;
+    }
+
     /**
      * Mark deleted.
      */
@@ -450,10 +656,15 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 
     /**
      * Load definitions.
+     *
+     * @param source the definitions per synchronizer
      */
-    private void parseDefinitions() {
+    private void parseDefinitions(Map<Synchronizer<? extends Artefact, ?>, Map<String, Definition>> source) {
         for (Synchronizer synchronizer : synchronizers) {
-            Map<String, Definition> map = checkSynchronizerMap(synchronizer);
+            Map<String, Definition> map = source.get(synchronizer);
+            if (map == null) {
+                continue;
+            }
             Collection<Definition> immutableDefinitions = Collections.synchronizedCollection(map.values());
             for (Definition definition : immutableDefinitions) {
                 try {
@@ -492,16 +703,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                             }
                             break;
                         case PARSED: // not new nor modified
-                            parsed = synchronizer.retrieve(definition.getLocation());
-
-                            Iterator<? extends Artefact> iterator = parsed.iterator();
-                            while (iterator.hasNext()) {
-                                Artefact a = iterator.next();
-                                if (ArtefactLifecycle.FATAL.equals(a.getLifecycle())) {
-                                    iterator.remove();
-                                }
-                            }
-                            addArtefacts(parsed);
+                            addArtefacts(retrieve(synchronizer, definition.getLocation()));
                             break;
                         case BROKEN: // has been broken
                             // do not try to parse it again as it is still not modified
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.artefact.ArtefactLifecycle;
+import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologicalDepleter;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologyWrapper;
+import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Re-attempts the artefacts, which have not been depleted during the synchronization. An artefact
+ * blocked by another undepleted artefact of the same run is re-attempted as soon as the latter is
+ * depleted. An artefact without undepleted dependencies has failed due to an external reason, hence
+ * it is re-attempted with an exponential backoff up to a limited number of times. If all the
+ * remaining artefacts are blocked by each other, e.g. by a dependency cycle, the whole blocked set
+ * is attempted together the same way. The reason for each artefact left undepleted is reported.
+ */
+class SynchronizationRetryScheduler {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(SynchronizationRetryScheduler.class);
+
+    /** The depleter. */
+    private final TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter;
+
+    /** The callback. */
+    private final SynchronizerCallback callback;
+
+    /** The max attempts for the external failures. */
+    private final int maxAttempts;
+
+    /** The initial backoff interval. */
+    private final long initialInterval;
+
+    /** The max backoff interval. */
+    private final long maxInterval;
+
+    /**
+     * Instantiates a new synchronization retry scheduler.
+     *
+     * @param depleter the depleter
+     * @param callback the callback
+     */
+    SynchronizationRetryScheduler(TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter, SynchronizerCallback callback) {
+        this.depleter = depleter;
+        this.callback = callback;
+        this.maxAttempts = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT", 10);
+        this.initialInterval = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INITIAL_INTERVAL", 500);
+        this.maxInterval = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL", 10000);
+    }
+
+    /**
+     * Re-attempt the undepleted artefacts until all of them are depleted or none can be attempted
+     * anymore.
+     *
+     * @param undepleted the undepleted artefacts
+     * @return the artefacts left undepleted
+     */
+    Set<TopologyWrapper<? extends Artefact>> process(Set<TopologyWrapper<? extends Artefact>> undepleted) {
+        Map<String, Pending> pending = new HashMap<>();
+        for (TopologyWrapper<? extends Artefact> wrapper : undepleted) {
+            pending.put(wrapper.getId(), new Pending(wrapper));
+        }
+
+        int round = 0;
+        while (!pending.isEmpty()) {
+            long now = System.currentTimeMillis();
+            Set<TopologyWrapper<? extends Artefact>> ready = new HashSet<>();
+            List<Pending> blocked = new ArrayList<>();
+            long nextAttempt = Long.MAX_VALUE;
+            for (Pending p : pending.values()) {
+                if (p.attempts >= maxAttempts) {
+                    continue;
+                }
+                if (!getBlockers(p, pending).isEmpty()) {
+                    blocked.add(p);
+                    continue;
+                }
+                if (p.nextAttempt <= now) {
+                    ready.add(p.wrapper);
+                } else {
+                    nextAttempt = Math.min(nextAttempt, p.nextAttempt);
+                }
+            }
+
+            if (ready.isEmpty() && nextAttempt == Long.MAX_VALUE && !blocked.isEmpty()) {
+                // the rest is blocked by each other, hence attempt the blocked set together
+                long blockedAttempt = blocked.stream()
+                                             .mapToLong(p -> p.nextAttempt)
+                                             .max()
+                                             .getAsLong();
+                if (blockedAttempt <= now) {
+                    blocked.forEach(p -> ready.add(p.wrapper));
+                } else {
+                    nextAttempt = blockedAttempt;
+                }
+            }
+
+            if (ready.isEmpty()) {
+                if (nextAttempt == Long.MAX_VALUE) {
+                    // the rest has exhausted the attempts
+                    break;
+                }
+                try {
+                    Thread.sleep(nextAttempt - now);
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                    break;
+                }
+                continue;
+            }
+
+            round++;
+            logger.info("Retry [{}] - cross-processing of [{}] undepleted artefacts: [{}]", round, ready.size(), ready);
+            Set<TopologyWrapper<? extends Artefact>> failed = new HashSet<>();
+            deplete(ready, ArtefactPhase.PREPARE, ArtefactLifecycle.PREPARED, failed);
+            deplete(ready, ArtefactPhase.CREATE, ArtefactLifecycle.CREATED, failed);
+            deplete(ready, ArtefactPhase.UPDATE, ArtefactLifecycle.UPDATED, failed);
+            deplete(ready, ArtefactPhase.START, ArtefactLifecycle.STARTED, failed);
+
+            for (TopologyWrapper<? extends Artefact> wrapper : ready) {
+                if (!failed.contains(wrapper)) {
+                    pending.remove(wrapper.getId());
+                }
+            }
+            for (TopologyWrapper<? extends Artefact> wrapper : failed) {
+                Pending p = pending.get(wrapper.getId());
+                if (p != null) {
+                    // attempted without dependencies to wait for or together with them, hence an external failure
+                    p.attempts++;
+                    p.nextAttempt = System.currentTimeMillis() + Math.min(maxInterval, initialInterval << Math.min(p.attempts - 1, 20));
+                }
+            }
+        }
+
+        report(pending);
+        return pending.values()
+                      .stream()
+                      .map(p -> p.wrapper)
+                      .collect(Collectors.toSet());
+    }
+
+    /**
+     * Deplete the artefacts in the given phase and collect the failed ones.
+     *
+     * @param ready the artefacts
+     * @param phase the phase
+     * @param lifecycle the lifecycle
+     * @param failed the failed artefacts
+     */
+    private void deplete(Set<TopologyWrapper<? extends Artefact>> ready, ArtefactPhase phase, ArtefactLifecycle lifecycle,
+            Set<TopologyWrapper<? extends Artefact>> failed) {
+        Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(ready, phase);
+        failed.addAll(results);
+        callback.registerErrors(results, lifecycle);
+    }
+
+    /**
+     * Gets the keys of the pending dependencies of the artefact.
+     *
+     * @param p the pending artefact
+     * @param pending the pending artefacts
+     * @return the blockers
+     */
+    private static List<String> getBlockers(Pending p, Map<String, Pending> pending) {
+        List<String> blockers = new ArrayList<>();
+        Set<String> dependencies = p.wrapper.getArtefact()
+                                            .getDependencies();
+        if (dependencies != null) {
+            for (String dependency : dependencies) {
+                if (!dependency.equals(p.wrapper.getId()) && pending.containsKey(dependency)) {
+                    blockers.add(dependency);
+                }
+            }
+        }
+        return blockers;
+    }
+
+    /**
+     * Report the reason for each artefact left undepleted.
+     *
+     * @param pending the pending artefacts
+     */
+    private void report(Map<String, Pending> pending) {
+        for (Pending p : pending.values()) {
+            Artefact artefact = p.wrapper.getArtefact();
+            List<String> blockers = getBlockers(p, pending);
+            String reason;
+            if (!blockers.isEmpty()) {
+                List<String> states = new ArrayList<>();
+                for (String blocker : blockers) {
+                    states.add(blocker + " in lifecycle " + pending.get(blocker).wrapper.getArtefact()
+                                                                                        .getLifecycle());
+                }
+                reason = String.format("Artefact [%s] is blocked by the undepleted dependencies %s", artefact.getKey(), states);
+            } else {
+                reason = String.format("Artefact [%s] has failed in lifecycle [%s] after [%d] retries with error [%s]", artefact.getKey(),
+                        artefact.getLifecycle(), p.attempts, artefact.getError());
+            }
+            logger.error(reason);
+            callback.addError(reason);
+        }
+    }
+
+    /**
+     * The pending artefact.
+     */
+    private static class Pending {
+
+        /** The wrapper. */
+        private final TopologyWrapper<? extends Artefact> wrapper;
+
+        /** The attempts after external failures. */
+        private int attempts;
+
+        /** The time of the next attempt. */
+        private long nextAttempt;
+
+        /**
+         * Instantiates a new pending artefact.
+         *
+         * @param wrapper the wrapper
+         */
+        Pending(TopologyWrapper<? extends Artefact> wrapper) {
+            this.wrapper = wrapper;
+        }
+    }
+
+}
@@ -56,8 +56,19 @@ public class SynchronizationWalker {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     public void walk(String root) throws IOException {
+        walk(root, root);
+    }
+
+    /**
+     * Walk a folder under the root, reporting the locations relative to the root.
+     *
+     * @param root the root
+     * @param folder the folder
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void walk(String root, String folder) throws IOException {
         EnumSet<FileVisitOption> opts = EnumSet.of(FileVisitOption.FOLLOW_LINKS);
-        Files.walkFileTree(Paths.get(root), opts, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+        Files.walkFileTree(Paths.get(folder), opts, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
 
             @Override
             public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
@@ -17,16 +17,21 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.dirigible.repository.api.IRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 /**
- * The Class SynchronizationWatcher.
+ * The Class SynchronizationWatcher. Besides the modified flag, it keeps the registry locations
+ * reported as changed since the last synchronization, so that only they can be processed.
  */
 @Component
 @Scope("singleton")
@@ -38,6 +43,12 @@ public class SynchronizationWatcher {
     /** The modified. */
     private final AtomicBoolean modified = new AtomicBoolean(false);
 
+    /** Whether the whole registry has to be synchronized, e.g. on startup or when forced. */
+    private final AtomicBoolean full = new AtomicBoolean(true);
+
+    /** The changed registry locations. */
+    private final Set<String> locations = ConcurrentHashMap.newKeySet();
+
     /**
      * Initialize.
      *
@@ -60,8 +71,12 @@ public class SynchronizationWatcher {
                      try {
                          while ((watchKey = watchService.take()) != null) {
                              List<WatchEvent<?>> events = watchKey.pollEvents();
-                             if (!events.isEmpty()) {
-                                 modified.set(true);
+                             for (WatchEvent<?> event : events) {
+                                 if (event.context() instanceof Path changed) {
+                                     changed(IRepository.SEPARATOR + changed.getFileName());
+                                 } else {
+                                     force();
+                                 }
                              }
                              watchKey.reset();
                          }
@@ -87,13 +102,49 @@ public class SynchronizationWatcher {
      */
     public void reset() {
         modified.set(false);
+        full.set(false);
+        locations.clear();
     }
 
     /**
-     * Force.
+     * Force the synchronization of the whole registry.
      */
     public void force() {
+        full.set(true);
+        modified.set(true);
+    }
+
+    /**
+     * Register a changed location relative to the registry root. It can be a file or a folder, existing
+     * or deleted.
+     *
+     * @param location the location
+     */
+    public void changed(String location) {
+        locations.add(location);
         modified.set(true);
     }
 
+    /**
+     * Take the changes registered so far and reset the watcher.
+     *
+     * @return the changes
+     */
+    public synchronized Changes takeChanges() {
+        modified.set(false);
+        boolean wasFull = full.getAndSet(false);
+        Set<String> taken = new HashSet<>(locations);
+        locations.removeAll(taken);
+        return new Changes(wasFull, taken);
+    }
+
+    /**
+     * The changes since the last synchronization.
+     *
+     * @param full whether the whole registry has to be synchronized
+     * @param locations the changed locations relative to the registry root
+     */
+    public record Changes(boolean full, Set<String> locations) {
+    }
+
 }
@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.initializers.synchronizer;
 
 import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -42,7 +43,7 @@ public class SynchronizationWatcherPublisherHandler implements PublisherHandler
      */
     @Override
     public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
-        synchronizationWatcher.force();
+        changed(registryLocation);
     }
 
     /**
@@ -62,7 +63,20 @@ public class SynchronizationWatcherPublisherHandler implements PublisherHandler
      */
     @Override
     public void afterUnpublish(String location) {
-        synchronizationWatcher.force();
+        changed(location);
+    }
+
+    /**
+     * Register the changed registry location, or the whole registry if the location is not under it.
+     *
+     * @param registryLocation the registry location
+     */
+    private void changed(String registryLocation) {
+        if (registryLocation == null || !registryLocation.startsWith(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/")) {
+            synchronizationWatcher.force();
+            return;
+        }
+        synchronizationWatcher.changed(registryLocation.substring(IRepositoryStructure.PATH_REGISTRY_PUBLIC.length()));
     }
 
 }
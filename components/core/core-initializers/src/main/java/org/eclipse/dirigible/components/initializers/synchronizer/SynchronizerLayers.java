@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologicalSorter;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologicallySortable;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologyWrapper;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+
+/**
+ * Groups the synchronizers into layers, so that the synchronizers of a layer depend only on the
+ * synchronizers of the previous layers. A synchronizer depends on another one, if it declares the
+ * type of its artefacts as dependency type, or if any of its artefacts depends on an artefact of
+ * the other one. A synchronizer, which does not declare dependency types, depends on all the
+ * synchronizers preceding it in the given order, i.e. the
+ * {@link org.springframework.core.annotation.Order} sequence. The synchronizers of the same layer
+ * can be processed concurrently.
+ */
+class SynchronizerLayers {
+
+    /**
+     * Compute the layers. The order of the synchronizers within a layer follows the given order.
+     *
+     * @param synchronizers the synchronizers in the order of their sequential processing
+     * @param wrappers the wrappers of the artefacts to be processed
+     * @return the layers
+     */
+    static List<List<Synchronizer<? extends Artefact, ?>>> compute(List<Synchronizer<?, ?>> synchronizers,
+            List<TopologyWrapper<? extends Artefact>> wrappers) {
+        Map<Synchronizer<?, ?>, Node> nodes = new HashMap<>();
+        List<Node> list = new ArrayList<>();
+        for (Synchronizer<?, ?> synchronizer : synchronizers) {
+            Node node = new Node(String.valueOf(list.size()), synchronizer);
+            nodes.put(synchronizer, node);
+            list.add(node);
+        }
+
+        // the declared dependency types, otherwise the preceding synchronizers
+        for (int i = 0; i < list.size(); i++) {
+            Node node = list.get(i);
+            Set<String> types = node.synchronizer.getDependencyTypes();
+            if (types == null || types.isEmpty()) {
+                node.dependencies.addAll(list.subList(0, i));
+                continue;
+            }
+            for (String type : types) {
+                for (Node other : list) {
+                    if (other != node && other.synchronizer.isAccepted(type)) {
+                        node.dependencies.add(other);
+                    }
+                }
+            }
+        }
+
+        // the dependencies between the artefacts
+        Map<String, Synchronizer<?, ?>> owners = new HashMap<>();
+        for (TopologyWrapper<? extends Artefact> wrapper : wrappers) {
+            owners.put(wrapper.getId(), wrapper.getSynchronizer());
+        }
+        for (TopologyWrapper<? extends Artefact> wrapper : wrappers) {
+            Set<String> keys = wrapper.getArtefact()
+                                      .getDependencies();
+            Node node = nodes.get(wrapper.getSynchronizer());
+            if (keys == null || node == null) {
+                continue;
+            }
+            for (String key : keys) {
+                Node other = nodes.get(owners.get(key));
+                if (other != null && other != node) {
+                    node.dependencies.add(other);
+                }
+            }
+        }
+
+        // the dependencies come first, a dependency not placed yet is part of a cycle
+        Map<Node, Integer> levels = new HashMap<>();
+        for (Node node : new TopologicalSorter<Node>().sort(list)) {
+            int level = 0;
+            for (Node dependency : node.dependencies) {
+                Integer dependencyLevel = levels.get(dependency);
+                if (dependencyLevel != null) {
+                    level = Math.max(level, dependencyLevel + 1);
+                }
+            }
+            levels.put(node, level);
+        }
+
+        Map<Integer, List<Synchronizer<? extends Artefact, ?>>> layers = new TreeMap<>();
+        for (Node node : list) {
+            layers.computeIfAbsent(levels.getOrDefault(node, 0), l -> new ArrayList<>())
+                  .add((Synchronizer<? extends Artefact, ?>) node.synchronizer);
+        }
+        return new ArrayList<>(layers.values());
+    }
+
+    /**
+     * The synchronizer node.
+     */
+    private static class Node implements TopologicallySortable {
+
+        /** The id. */
+        private final String id;
+
+        /** The synchronizer. */
+        private final Synchronizer<?, ?> synchronizer;
+
+        /** The dependencies. */
+        private final Set<Node> dependencies = new LinkedHashSet<>();
+
+        /**
+         * Instantiates a new node.
+         *
+         * @param id the id
+         * @param synchronizer the synchronizer
+         */
+        Node(String id, Synchronizer<?, ?> synchronizer) {
+            this.id = id;
+            this.synchronizer = synchronizer;
+        }
+
+        /**
+         * Gets the id.
+         *
+         * @return the id
+         */
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Gets the dependencies.
+         *
+         * @return the dependencies
+         */
+        @Override
+        public List<TopologicallySortable> getDependencies() {
+            return new ArrayList<>(dependencies);
+        }
+
+    }
+
+}
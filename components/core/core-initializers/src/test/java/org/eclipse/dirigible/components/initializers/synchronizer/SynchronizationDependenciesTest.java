@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class SynchronizationDependenciesTest.
+ */
+public class SynchronizationDependenciesTest {
+
+    /** The table. */
+    private final Artefact table = artefact("/p/a.table", "table", "A");
+
+    /** The view depending on the table. */
+    private final Artefact view = artefact("/p/b.view", "view", "B", table.getKey());
+
+    /** The report depending on the view. */
+    private final Artefact report = artefact("/p/c.report", "report", "C", view.getKey());
+
+    /** The unrelated job. */
+    private final Artefact job = artefact("/p/d.job", "job", "D");
+
+    /**
+     * Creates an artefact.
+     *
+     * @param location the location
+     * @param type the type
+     * @param name the name
+     * @param dependencies the dependencies
+     * @return the artefact
+     */
+    private static Artefact artefact(String location, String type, String name, String... dependencies) {
+        return new Artefact(location, name, type, null, Set.of(dependencies)) {};
+    }
+
+    /**
+     * The transitive dependents are found.
+     */
+    @Test
+    public void dependentsTest() {
+        SynchronizationDependencies dependencies = new SynchronizationDependencies();
+        dependencies.index(List.of(table, view, report, job), true, Set.of());
+
+        assertEquals(Set.of(view.getKey(), report.getKey()), dependencies.getDependents(Set.of(table.getKey())));
+        assertEquals(Set.of(report.getKey()), dependencies.getDependents(Set.of(view.getKey())));
+        assertEquals(Set.of(report.getKey()), dependencies.getDependents(Set.of(table.getKey(), view.getKey())));
+        assertEquals(Set.of(), dependencies.getDependents(Set.of(job.getKey())));
+        assertEquals("/p/b.view", dependencies.get(view.getKey())
+                                              .location());
+        assertEquals(Set.of(table.getKey(), view.getKey()), dependencies.getKeys(Set.of("/p/a.table", "/p/b.view")));
+    }
+
+    /**
+     * A changed artefact replaces its previously known dependencies.
+     */
+    @Test
+    public void changedTest() {
+        SynchronizationDependencies dependencies = new SynchronizationDependencies();
+        dependencies.index(List.of(table, view, report, job), true, Set.of());
+
+        // the view does not depend on the table anymore, but on the job
+        Artefact changed = artefact("/p/b.view", "view", "B", job.getKey());
+        dependencies.index(List.of(changed), false, Set.of());
+
+        assertEquals(Set.of(), dependencies.getDependents(Set.of(table.getKey())));
+        assertEquals(Set.of(view.getKey(), report.getKey()), dependencies.getDependents(Set.of(job.getKey())));
+    }
+
+    /**
+     * The artefacts of the deleted locations are forgotten, but their dependents are still found.
+     */
+    @Test
+    public void removedTest() {
+        SynchronizationDependencies dependencies = new SynchronizationDependencies();
+        dependencies.index(List.of(table, view, report, job), true, Set.of());
+
+        dependencies.index(List.of(), false, Set.of("/p/b.view"));
+
+        assertNull(dependencies.get(view.getKey()));
+        assertEquals(Set.of(), dependencies.getKeys(Set.of("/p/b.view")));
+        assertEquals(Set.of(), dependencies.getDependents(Set.of(table.getKey())));
+        assertEquals(Set.of(report.getKey()), dependencies.getDependents(Set.of(view.getKey())));
+
+        // a full run starts from scratch
+        dependencies.index(List.of(job), true, Set.of());
+        assertNull(dependencies.get(table.getKey()));
+        assertEquals(Set.of(), dependencies.getDependents(Set.of(view.getKey())));
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.eclipse.dirigible.components.initializers.SynchronousSpringEventsConfig;
+import org.eclipse.dirigible.components.repository.RepositoryConfig;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+/**
+ * The Class SynchronizationInitializerIncrementalTest.
+ */
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {SynchronousSpringEventsConfig.class}, loader = AnnotationConfigContextLoader.class)
+@EntityScan("org.eclipse.dirigible.components")
+public class SynchronizationInitializerIncrementalTest {
+
+    /** The Constant EXTENSION. */
+    private static final String EXTENSION =
+            "{\"location\":\"%s\",\"module\":\"%s\",\"extensionPoint\":\"/test/test\",\"description\":\"Test Incremental Extension\"}";
+
+    /**
+     * The Class ContextConfiguration.
+     */
+    @Configuration
+    @ComponentScan("org.eclipse.dirigible.components")
+    static class ContextConfiguration {
+
+        /**
+         * Repository.
+         *
+         * @return the i repository
+         */
+        @Bean("SynchronizationInitializerIncrementalTestReposiotry")
+        public IRepository repository() {
+            return new RepositoryConfig().repository();
+        }
+
+    }
+
+    /** The listener. */
+    @Autowired
+    private SynchronizationInitializer initializer;
+
+    /** The synchronization processor. */
+    @Autowired
+    private SynchronizationProcessor synchronizationProcessor;
+
+    /** The synchronization watcher. */
+    @Autowired
+    private SynchronizationWatcher synchronizationWatcher;
+
+    /** The repository. */
+    @Autowired
+    private IRepository repository;
+
+    /** The datasource. */
+    @Autowired
+    private DataSource datasource;
+
+    /**
+     * Only the changed locations are synchronized in the incremental runs.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void testSynchronizationIncremental() throws SQLException {
+
+        try (Connection connection = datasource.getConnection()) {
+
+            // initialization
+            initializer.onApplicationEvent(null);
+
+            // create two extensions in a folder not observed by the registry watcher, but report only the first
+            // one
+            write("/test/incremental_a.extension", "/test/incremental_a");
+            write("/test/incremental_b.extension", "/test/incremental_b");
+            synchronizationWatcher.changed("/test/incremental_a.extension");
+            synchronizationProcessor.processSynchronizers();
+            assertEquals("/test/incremental_a", getModule(connection, "/test/incremental_a.extension"));
+            assertNull(getModule(connection, "/test/incremental_b.extension"));
+
+            // report the folder
+            synchronizationWatcher.changed("/test");
+            synchronizationProcessor.processSynchronizers();
+            assertEquals("/test/incremental_b", getModule(connection, "/test/incremental_b.extension"));
+
+            // modify the first one
+            write("/test/incremental_a.extension", "/test/incremental_a_modified");
+            synchronizationWatcher.changed("/test/incremental_a.extension");
+            synchronizationProcessor.processSynchronizers();
+            assertEquals("/test/incremental_a_modified", getModule(connection, "/test/incremental_a.extension"));
+            assertEquals("/test/incremental_b", getModule(connection, "/test/incremental_b.extension"));
+
+            // remove the second one
+            repository.getResource("/registry/public/test/incremental_b.extension")
+                      .delete();
+            synchronizationWatcher.changed("/test/incremental_b.extension");
+            synchronizationProcessor.processSynchronizers();
+            assertNull(getModule(connection, "/test/incremental_b.extension"));
+            assertEquals("/test/incremental_a_modified", getModule(connection, "/test/incremental_a.extension"));
+
+            // remove the first one, reported by the folder
+            repository.getResource("/registry/public/test/incremental_a.extension")
+                      .delete();
+            synchronizationWatcher.changed("/test");
+            synchronizationProcessor.processSynchronizers();
+            assertNull(getModule(connection, "/test/incremental_a.extension"));
+        }
+    }
+
+    /**
+     * Write an extension to the registry.
+     *
+     * @param location the location
+     * @param module the module
+     */
+    private void write(String location, String module) {
+        byte[] content = String.format(EXTENSION, location, module)
+                               .getBytes(StandardCharsets.UTF_8);
+        String path = "/registry/public" + location;
+        if (repository.hasResource(path)) {
+            repository.getResource(path)
+                      .setContent(content);
+        } else {
+            repository.createResource(path, content);
+        }
+    }
+
+    /**
+     * Gets the module of the extension.
+     *
+     * @param connection the connection
+     * @param location the location
+     * @return the module or null if there is no such extension
+     * @throws SQLException the SQL exception
+     */
+    private static String getModule(Connection connection, String location) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT * FROM DIRIGIBLE_EXTENSIONS WHERE ARTEFACT_LOCATION = ?")) {
+            stmt.setString(1, location);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString("EXTENSION_MODULE") : null;
+            }
+        }
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication
+    static class TestConfiguration {
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologicalDepleter;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologyWrapper;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class SynchronizationRetrySchedulerTest.
+ */
+public class SynchronizationRetrySchedulerTest {
+
+    /** The first artefact of the cycle. */
+    private final Artefact first = artefact("/p/a.cycle", "A", "cycle:B");
+
+    /** The second artefact of the cycle. */
+    private final Artefact second = artefact("/p/b.cycle", "B", "cycle:A");
+
+    /** The callback. */
+    private final SynchronizerCallback callback = mock(SynchronizerCallback.class);
+
+    /** The synchronizer. */
+    @SuppressWarnings("unchecked")
+    private final Synchronizer<Artefact, ?> synchronizer = mock(Synchronizer.class);
+
+    /** The wrappers. */
+    private final Map<String, TopologyWrapper<Artefact>> wrappers = new HashMap<>();
+
+    /**
+     * Creates an artefact.
+     *
+     * @param location the location
+     * @param name the name
+     * @param dependency the dependency
+     * @return the artefact
+     */
+    private static Artefact artefact(String location, String name, String dependency) {
+        return new Artefact(location, name, "cycle", null, Set.of(dependency)) {};
+    }
+
+    /**
+     * Sets the short retries up.
+     */
+    @BeforeEach
+    public void setUp() {
+        Configuration.set("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT", "2");
+        Configuration.set("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INITIAL_INTERVAL", "1");
+        when(synchronizer.isAccepted(anyString())).thenReturn(true);
+    }
+
+    /**
+     * Restore the defaults.
+     */
+    @AfterEach
+    public void tearDown() {
+        Configuration.remove("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT");
+        Configuration.remove("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INITIAL_INTERVAL");
+    }
+
+    /**
+     * Process the cycle.
+     *
+     * @return the artefacts left undepleted
+     */
+    private Set<TopologyWrapper<? extends Artefact>> process() {
+        Set<TopologyWrapper<? extends Artefact>> undepleted = new HashSet<>();
+        undepleted.add(new TopologyWrapper<>(first, wrappers, synchronizer));
+        undepleted.add(new TopologyWrapper<>(second, wrappers, synchronizer));
+        return new SynchronizationRetryScheduler(new TopologicalDepleter<>(), callback).process(undepleted);
+    }
+
+    /**
+     * The artefacts blocked by each other are attempted together, so the second one completes as soon
+     * as the first one has been attempted in the same phase.
+     */
+    @Test
+    public void cycleTest() {
+        Set<ArtefactPhase> attempted = new HashSet<>();
+        when(synchronizer.complete(any(), any())).thenAnswer(invocation -> {
+            TopologyWrapper<?> wrapper = invocation.getArgument(0);
+            ArtefactPhase phase = invocation.getArgument(1);
+            if (wrapper.getArtefact() == first) {
+                attempted.add(phase);
+                return true;
+            }
+            return attempted.contains(phase);
+        });
+
+        assertTrue(process().isEmpty());
+        verify(callback, times(0)).addError(anyString());
+    }
+
+    /**
+     * The artefacts of a cycle, which keep failing, are reported after the exhausted attempts.
+     */
+    @Test
+    public void failingCycleTest() {
+        when(synchronizer.complete(any(), any())).thenReturn(false);
+
+        Set<TopologyWrapper<? extends Artefact>> result = process();
+
+        assertEquals(2, result.size());
+        verify(callback, times(2)).addError(anyString());
+        verify(synchronizer, times(4)).complete(any(), eq(ArtefactPhase.PREPARE));
+    }
+
+}
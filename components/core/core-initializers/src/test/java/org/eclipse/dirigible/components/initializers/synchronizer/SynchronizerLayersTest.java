@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class SynchronizerLayersTest.
+ */
+public class SynchronizerLayersTest {
+
+    /** The synchronizers by type in the order of {@link SynchronizersOrder}. */
+    private final Map<String, Synchronizer<?, ?>> synchronizers = new LinkedHashMap<>();
+
+    /** The orders by type. */
+    private final Map<String, Integer> orders = new HashMap<>();
+
+    /**
+     * Adds a synchronizer.
+     *
+     * @param type the type
+     * @param order the order
+     * @param dependencyTypes the dependency types
+     */
+    private void add(String type, int order, String... dependencyTypes) {
+        Synchronizer<?, ?> synchronizer = mock(Synchronizer.class);
+        when(synchronizer.isAccepted(anyString())).thenAnswer(invocation -> type.equals(invocation.getArgument(0)));
+        when(synchronizer.getDependencyTypes()).thenReturn(Set.of(dependencyTypes));
+        when(synchronizer.toString()).thenReturn(type);
+        synchronizers.put(type, synchronizer);
+        orders.put(type, order);
+    }
+
+    /**
+     * Adds the synchronizers of the platform with their declared dependency types.
+     */
+    private void addPlatformSynchronizers() {
+        add("extensionpoint", SynchronizersOrder.EXTENSIONPOINT);
+        add("extension", SynchronizersOrder.EXTENSION, "extensionpoint");
+        add("role", SynchronizersOrder.ROLE);
+        add("access", SynchronizersOrder.ACCESS, "role");
+        add("job", SynchronizersOrder.JOB);
+        add("listener", SynchronizersOrder.LISTENER);
+        add("expose", SynchronizersOrder.EXPOSE);
+        add("openapi", SynchronizersOrder.OPENAPI);
+        add("websocket", SynchronizersOrder.WEBSOCKET);
+        add("datasource", SynchronizersOrder.DATASOURCE);
+        add("schema", SynchronizersOrder.SCHEMA, "datasource");
+        add("table", SynchronizersOrder.TABLE, "datasource", "schema");
+        add("view", SynchronizersOrder.VIEW, "table", "schema");
+        add("entity", SynchronizersOrder.ENTITY, "datasource", "table");
+        add("bpmn", SynchronizersOrder.BPMN);
+        add("odata", SynchronizersOrder.ODATA, "table", "view", "schema");
+        add("csvim", SynchronizersOrder.CSVIM, "table", "view", "schema");
+        add("confluence", SynchronizersOrder.CONFLUENCE);
+        add("markdown", SynchronizersOrder.MARKDOWN);
+    }
+
+    /**
+     * Compute the layers without artefacts.
+     *
+     * @return the layers as types
+     */
+    private List<List<String>> compute() {
+        List<List<String>> result = new ArrayList<>();
+        for (List<Synchronizer<? extends Artefact, ?>> layer : SynchronizerLayers.compute(new ArrayList<>(synchronizers.values()),
+                List.of())) {
+            result.add(layer.stream()
+                            .map(Object::toString)
+                            .toList());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the layer index of the type.
+     *
+     * @param layers the layers
+     * @param type the type
+     * @return the layer index
+     */
+    private static int layerOf(List<List<String>> layers, String type) {
+        for (int i = 0; i < layers.size(); i++) {
+            if (layers.get(i)
+                      .contains(type)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(type);
+    }
+
+    /**
+     * The synchronizers without declared dependency types keep the order sequence, the declared ones
+     * are processed concurrently.
+     */
+    @Test
+    public void platformLayersTest() {
+        addPlatformSynchronizers();
+
+        assertEquals(List.of(List.of("extensionpoint"), List.of("extension"), List.of("role"), List.of("access"), List.of("job"),
+                List.of("listener"), List.of("expose"), List.of("openapi"), List.of("websocket"), List.of("datasource"), List.of("schema"),
+                List.of("table"), List.of("view", "entity"), List.of("bpmn", "odata", "csvim"), List.of("confluence"), List.of("markdown")),
+                compute());
+    }
+
+    /**
+     * Each synchronizer is processed after the declared dependency types, or after all the
+     * synchronizers of a lower order, if it has no declared dependency types.
+     */
+    @Test
+    public void orderRespectedTest() {
+        addPlatformSynchronizers();
+        List<List<String>> layers = compute();
+
+        for (Map.Entry<String, Synchronizer<?, ?>> entry : synchronizers.entrySet()) {
+            String type = entry.getKey();
+            Set<String> declared = entry.getValue()
+                                        .getDependencyTypes();
+            for (String other : synchronizers.keySet()) {
+                boolean dependency = declared.isEmpty() ? orders.get(other) < orders.get(type) : declared.contains(other);
+                if (dependency) {
+                    assertTrue(layerOf(layers, other) < layerOf(layers, type), type + " must be processed after " + other);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.repository;
+
+import org.eclipse.dirigible.repository.search.RepositorySearcher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * The Class RepositorySearchMetricsConfigurator.
+ */
+@Component
+class RepositorySearchMetricsConfigurator implements ApplicationListener<ApplicationReadyEvent> {
+
+    /** The Constant METER_SCOPE_NAME. */
+    private static final String METER_SCOPE_NAME = "dirigible-repository";
+
+    /** The open telemetry. */
+    private final OpenTelemetry openTelemetry;
+
+    /**
+     * Instantiates a new repository search metrics configurator.
+     *
+     * @param openTelemetry the open telemetry
+     */
+    RepositorySearchMetricsConfigurator(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+    }
+
+    /**
+     * On application event.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Meter meter = openTelemetry.getMeter(METER_SCOPE_NAME);
+
+        meter.gaugeBuilder("repository_search_indexing_lag")
+             .setDescription("Time since the oldest repository change which is not indexed yet")
+             .setUnit("ms")
+             .ofLongs()
+             .buildWithCallback(observation -> observation.record(RepositorySearcher.getIndexingLag()));
+
+        meter.gaugeBuilder("repository_search_indexing_queue_size")
+             .setDescription("Current number of repository changes waiting to be indexed")
+             .ofLongs()
+             .buildWithCallback(observation -> observation.record(RepositorySearcher.getIndexingQueueSize()));
+    }
+
+}
@@ -70,23 +70,24 @@ public class CsvProcessor {
      * @param csvRecords the csv records
      * @param headerNames the header names
      * @param csvFile the csv file
+     * @return the number of the inserted records, 0 if the batch failed
      * @throws SQLException the SQL exception
      */
-    public void insert(Connection connection, String schema, TableMetadata tableMetadata, List<CsvRecord> csvRecords,
+    public int insert(Connection connection, String schema, TableMetadata tableMetadata, List<CsvRecord> csvRecords,
             List<String> headerNames, CsvFile csvFile) throws SQLException {
         if (csvRecords.isEmpty()) {
-            logger.info("Skipping import - CSV records are empty for csv file [{}].", csvFile);
-            return;
+            logger.debug("Skipping import - CSV records are empty for csv file [{}].", csvFile);
+            return 0;
         }
 
         if (tableMetadata == null) {
             logger.warn("Missing table metadata for file [{}] on insert", csvFile);
-            return;
+            return 0;
         }
         if (null != schema) {
             connection.setSchema(schema);
         }
-        logger.info("Will insert data into table [{}] in schema [{}]", tableMetadata.getName(), schema);
+        logger.debug("Will insert data into table [{}] in schema [{}]", tableMetadata.getName(), schema);
         List<ColumnMetadata> availableTableColumns = tableMetadata.getColumns();
         InsertBuilder insertBuilder = new InsertBuilder(SqlFactory.deriveDialect(connection));
         insertBuilder.into(tableMetadata.getName());
@@ -100,13 +101,16 @@ public class CsvProcessor {
                 populateInsertPreparedStatementValues(next, availableTableColumns, preparedStatement);
                 preparedStatement.addBatch();
             }
-            logger.info(String.format("CSV records with Ids [%s] were successfully added in BATCH INSERT for table [%s].",
-                    csvRecords.stream()
-                              .map(e -> e.getCsvRecord()
-                                         .get(0))
-                              .collect(Collectors.toList()),
-                    tableMetadata.getName()));
             preparedStatement.executeBatch();
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("CSV records with Ids [%s] were successfully added in BATCH INSERT for table [%s].",
+                        csvRecords.stream()
+                                  .map(e -> e.getCsvRecord()
+                                             .get(0))
+                                  .collect(Collectors.toList()),
+                        tableMetadata.getName()));
+            }
+            return csvRecords.size();
         } catch (Throwable t) {
             String errorMessage = String.format(
                     "Error occurred while trying to BATCH INSERT CSV records [%s] into table [%s].", csvRecords.stream()
@@ -118,6 +122,7 @@ public class CsvProcessor {
             CsvimUtils.logProcessorErrors(errorMessage, ERROR_TYPE_PROCESSOR, csvFile.getFile(), CsvFile.ARTEFACT_TYPE, MODULE);
             logger.error(errorMessage, t);
         }
+        return 0;
     }
 
     /**
@@ -130,22 +135,23 @@ public class CsvProcessor {
      * @param headerNames the header names
      * @param pkName the pk name
      * @param csvFile the csv file
+     * @return the number of the updated records, 0 if the batch failed
      * @throws SQLException the SQL exception
      */
-    public void update(Connection connection, String schema, TableMetadata tableMetadata, List<CsvRecord> csvRecords,
+    public int update(Connection connection, String schema, TableMetadata tableMetadata, List<CsvRecord> csvRecords,
             List<String> headerNames, String pkName, CsvFile csvFile) throws SQLException {
         if (csvRecords.isEmpty()) {
-            logger.info("Skipping update - CSV records are empty for csv file [{}].", csvFile);
-            return;
+            logger.debug("Skipping update - CSV records are empty for csv file [{}].", csvFile);
+            return 0;
         }
         if (tableMetadata == null) {
             logger.warn("Missing table metadata for file [{}] on update", csvFile);
-            return;
+            return 0;
         }
         if (null != schema) {
             connection.setSchema(schema);
         }
-        logger.info("Will update data into table [{}] in schema [{}]", tableMetadata.getName(), schema);
+        logger.debug("Will update data into table [{}] in schema [{}]", tableMetadata.getName(), schema);
         List<ColumnMetadata> availableTableColumns = tableMetadata.getColumns();
         UpdateBuilder updateBuilder = new UpdateBuilder(SqlFactory.deriveDialect(connection));
         updateBuilder.table(tableMetadata.getName());
@@ -171,15 +177,16 @@ public class CsvProcessor {
                 executeUpdatePreparedStatement(next, availableTableColumns, preparedStatement);
                 preparedStatement.addBatch();
             }
-            if (logger.isInfoEnabled()) {
-                logger.info(String.format("CSV records with Ids [%s] were successfully added in BATCH UPDATED for table [%s].",
+            preparedStatement.executeBatch();
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("CSV records with Ids [%s] were successfully added in BATCH UPDATED for table [%s].",
                         csvRecords.stream()
                                   .map(e -> e.getCsvRecord()
                                              .get(0))
                                   .collect(Collectors.toList()),
                         tableMetadata.getName()));
             }
-            preparedStatement.executeBatch();
+            return csvRecords.size();
         } catch (Throwable t) {
             String errorMessage = String.format(
                     "Error occurred while trying to BATCH UPDATE CSV records [%s] into table [%s].", csvRecords.stream()
@@ -193,6 +200,7 @@ public class CsvProcessor {
                 logger.error(errorMessage, t);
             }
         }
+        return 0;
     }
 
     /**
@@ -229,8 +237,6 @@ public class CsvProcessor {
         } else {
             updateCsvWithoutHeader(csvRecord, tableColumns, statement);
         }
-
-        statement.execute();
     }
 
     /**
@@ -22,6 +22,7 @@ import org.eclipse.dirigible.components.data.management.domain.ColumnMetadata;
 import org.eclipse.dirigible.components.data.management.domain.TableMetadata;
 import org.eclipse.dirigible.components.data.sources.config.DefaultDataSourceName;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.eclipse.dirigible.database.sql.DataTypeUtils;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.SelectBuilder;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -37,14 +38,22 @@ import javax.sql.DataSource;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.eclipse.dirigible.components.api.platform.RepositoryFacade.getResource;
@@ -107,6 +116,9 @@ public class CsvimProcessor {
     private static final String PROBLEM_WITH_TABLE_METADATA_OR_CSVPARSER =
             "No table metadata found for table [%s] or CSVParser not created";
 
+    /** The Constant KEYS_CHUNK_SIZE, the max number of the keys looked up by a single query. */
+    private static final int KEYS_CHUNK_SIZE = 500;
+
     /** The csv processor. */
     private final CsvProcessor csvProcessor;
 
@@ -135,6 +147,15 @@ public class CsvimProcessor {
         this.strictMode = Boolean.parseBoolean(Configuration.get("DIRIGIBLE_CSV_STRICT_MODE", "false"));
     }
 
+    /**
+     * Process.
+     *
+     * @param csvFile the csv file
+     * @param content the content
+     * @param dataSourceName the dataSourceName, if a null is passed, the default DataSource will be
+     *        used
+     * @throws Exception the exception
+     */
     public void process(CsvFile csvFile, byte[] content, String dataSourceName) throws Exception {
         try (InputStream inStream = new ByteArrayInputStream(content)) {
             this.process(csvFile, inStream, dataSourceName);
@@ -172,20 +193,16 @@ public class CsvimProcessor {
 
             String pkName = getPkName(tableMetadata, csvParser.getHeaderNames());
 
-            List<CSVRecord> recordsToInsert = new ArrayList<>();
-            List<CSVRecord> recordsToUpdate = new ArrayList<>();
-
-            String pkNameForCSVRecord = getPkNameForCSVRecord(connection, tableName, targetSchema, csvParser.getHeaderNames());
+            List<CSVRecord> batch = new ArrayList<>();
 
             List<ColumnMetadata> tableColumns = tableMetadata.getColumns();
             boolean skipComparing = isEmptyTable(targetSchema, tableName, connection);
 
             int countAll = 0;
-            int countBatch = 0;
             int batchSize = getCsvDataBatchSize();
+            ImportProgress progress = new ImportProgress(csvFile.getFile(), tableName);
             for (CSVRecord csvRecord : csvParser) {
                 countAll++;
-                countBatch++;
                 if (csvRecord.size() != tableColumns.size()) {
                     if (isStrictMode()) {
                         CsvimUtils.logProcessorErrors(String.format(PROBLEM_MESSAGE_DIFFERENT_COLUMNS_SIZE, csvFile.getFile()),
@@ -193,37 +210,18 @@ public class CsvimProcessor {
                         throw new Exception(String.format(ERROR_MESSAGE_DIFFERENT_COLUMNS_SIZE, csvFile.getFile()));
                     }
                 }
-                if (skipComparing) {
-                    recordsToInsert.add(csvRecord);
-                } else {
-                    String pkValueForCSVRecord = getPkValueForCSVRecord(csvRecord, tableMetadata, csvParser.getHeaderNames());
-
-                    if (pkValueForCSVRecord == null) {
-                        recordsToInsert.add(csvRecord);
-                    } else {
-                        if (!recordExists(targetSchema, tableName, pkNameForCSVRecord, pkValueForCSVRecord, connection)) {
-                            recordsToInsert.add(csvRecord);
-                        } else {
-                            recordsToUpdate.add(csvRecord);
-                        }
-                    }
-                }
-                if (countBatch >= batchSize) {
-                    countBatch = 0;
-                    insertCsvRecords(connection, targetSchema, tableMetadata, recordsToInsert, csvParser.getHeaderNames(), csvFile);
-                    if (Boolean.TRUE.equals(csvFile.getUpsert())) {
-                        updateCsvRecords(connection, targetSchema, tableMetadata, recordsToUpdate, csvParser.getHeaderNames(), pkName,
-                                csvFile);
-                    }
-                    recordsToInsert.clear();
-                    recordsToUpdate.clear();
+                batch.add(csvRecord);
+                if (batch.size() >= batchSize) {
+                    processCsvRecords(connection, targetSchema, tableMetadata, batch, csvParser.getHeaderNames(), pkName, skipComparing,
+                            csvFile, progress);
+                    batch.clear();
+                    progress.report(false);
                 }
             }
 
-            insertCsvRecords(connection, targetSchema, tableMetadata, recordsToInsert, csvParser.getHeaderNames(), csvFile);
-            if (Boolean.TRUE.equals(csvFile.getUpsert())) {
-                updateCsvRecords(connection, targetSchema, tableMetadata, recordsToUpdate, csvParser.getHeaderNames(), pkName, csvFile);
-            }
+            processCsvRecords(connection, targetSchema, tableMetadata, batch, csvParser.getHeaderNames(), pkName, skipComparing, csvFile,
+                    progress);
+            progress.report(true);
             if (countAll > 0 && csvFile.getSequence() != null) {
                 int sequenceStart = countAll + 1;
 
@@ -345,34 +343,126 @@ public class CsvimProcessor {
     }
 
     /**
-     * Gets the pk name for CSV record.
+     * Process a batch of CSV records. The primary keys of the batch which already exist in the table
+     * are loaded with a single query, the records with existing keys are updated, if upsert is enabled,
+     * the rest are inserted.
      *
      * @param connection the connection
-     * @param tableName the table name
      * @param schema the schema
+     * @param tableModel the table model
+     * @param records the records
      * @param headerNames the header names
-     * @return the pk name for CSV record
+     * @param pkName the pk name
+     * @param skipComparing whether the table was empty, so all the records are new
+     * @param csvFile the csv file
+     * @param progress the progress
+     * @throws SQLException the SQL exception
      */
-    private String getPkNameForCSVRecord(Connection connection, String tableName, String schema, List<String> headerNames) {
-        TableMetadata tableModel = CsvimUtils.getTableMetadata(tableName, schema, connection);
-        if (tableModel != null) {
-            List<ColumnMetadata> columnModels = tableModel.getColumns();
-            if (headerNames.size() > 0) {
-                ColumnMetadata found = columnModels.stream()
-                                                   .filter(ColumnMetadata::isKey)
-                                                   .findFirst()
-                                                   .orElse(null);
-                return found != null ? found.getName() : null;
+    private void processCsvRecords(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> records,
+            List<String> headerNames, String pkName, boolean skipComparing, CsvFile csvFile, ImportProgress progress) throws SQLException {
+        List<CSVRecord> recordsToInsert = new ArrayList<>();
+        List<CSVRecord> recordsToUpdate = new ArrayList<>();
+        ColumnMetadata pkColumn = tableModel.getColumns()
+                                            .stream()
+                                            .filter(ColumnMetadata::isKey)
+                                            .findFirst()
+                                            .orElse(null);
+        if (skipComparing || pkColumn == null) {
+            recordsToInsert.addAll(records);
+        } else {
+            Map<CSVRecord, String> pkValues = new LinkedHashMap<>();
+            for (CSVRecord csvRecord : records) {
+                pkValues.put(csvRecord, getPkValueForCSVRecord(csvRecord, tableModel, headerNames));
             }
+            Set<String> existingKeys = getExistingKeys(connection, schema, tableModel.getName(), pkColumn, pkValues.values());
+            pkValues.forEach((csvRecord, pkValue) -> {
+                if (pkValue != null && existingKeys.contains(normalizeKey(pkValue, pkColumn.getType()))) {
+                    recordsToUpdate.add(csvRecord);
+                } else {
+                    recordsToInsert.add(csvRecord);
+                }
+            });
+        }
+        int inserted = insertCsvRecords(connection, schema, tableModel, recordsToInsert, headerNames, csvFile);
+        progress.inserted += inserted;
+        progress.rejected += recordsToInsert.size() - inserted;
+        if (Boolean.TRUE.equals(csvFile.getUpsert())) {
+            int updated = updateCsvRecords(connection, schema, tableModel, recordsToUpdate, headerNames, pkName, csvFile);
+            progress.updated += updated;
+            progress.rejected += recordsToUpdate.size() - updated;
+        } else {
+            progress.skipped += recordsToUpdate.size();
+        }
+    }
 
-            for (ColumnMetadata columnModel : columnModels) {
-                if (columnModel.isKey()) {
-                    return columnModel.getName();
+    /**
+     * Gets those of the primary keys which exist in the table, querying them in chunks.
+     *
+     * @param connection the connection
+     * @param schema the schema
+     * @param tableName the table name
+     * @param pkColumn the pk column
+     * @param pkValues the pk values, null values are ignored
+     * @return the existing keys, normalized
+     * @throws SQLException if the keys cannot be queried, as the records cannot be told apart then
+     */
+    private Set<String> getExistingKeys(Connection connection, String schema, String tableName, ColumnMetadata pkColumn,
+            Collection<String> pkValues) throws SQLException {
+        Set<String> existingKeys = new HashSet<>();
+        List<String> values = pkValues.stream()
+                                      .filter(Objects::nonNull)
+                                      .distinct()
+                                      .collect(Collectors.toList());
+        for (int from = 0; from < values.size(); from += KEYS_CHUNK_SIZE) {
+            List<String> chunk = values.subList(from, Math.min(values.size(), from + KEYS_CHUNK_SIZE));
+            SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
+            String sql = selectBuilder.column(pkColumn.getName())
+                                      .from(tableName)
+                                      .schema(schema)
+                                      .where(pkColumn.getName() + " IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")")
+                                      .build();
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    csvProcessor.setValue(pstmt, i + 1, pkColumn.getType(), chunk.get(i));
+                }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        existingKeys.add(normalizeKey(rs.getString(1), pkColumn.getType()));
+                    }
                 }
             }
         }
+        return existingKeys;
+    }
 
-        return null;
+    /**
+     * Normalize a key value, so that the CSV and the database representations of a number are equal.
+     *
+     * @param value the value
+     * @param dataType the data type
+     * @return the normalized value
+     */
+    private static String normalizeKey(String value, String dataType) {
+        if (value == null) {
+            return null;
+        }
+        String key = value.trim();
+        switch (DataTypeUtils.getSqlTypeByDataType(dataType)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                try {
+                    return new BigDecimal(key).stripTrailingZeros()
+                                              .toPlainString();
+                } catch (NumberFormatException e) {
+                    return key;
+                }
+            default:
+                return key;
+        }
     }
 
     /**
@@ -393,15 +483,16 @@ public class CsvimProcessor {
      * @param recordsToProcess the records to process
      * @param headerNames the header names
      * @param csvFile the csv file
+     * @return the number of the inserted records
      */
-    private void insertCsvRecords(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> recordsToProcess,
+    private int insertCsvRecords(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> recordsToProcess,
             List<String> headerNames, CsvFile csvFile) {
         try {
             List<CsvRecord> csvRecords = recordsToProcess.stream()
                                                          .map(e -> new CsvRecord(e, tableModel, headerNames,
                                                                  csvFile.getDistinguishEmptyFromNull()))
                                                          .collect(Collectors.toList());
-            csvProcessor.insert(connection, schema, tableModel, csvRecords, headerNames, csvFile);
+            return csvProcessor.insert(connection, schema, tableModel, csvRecords, headerNames, csvFile);
         } catch (Exception e) {
             String csvRecordValue = e.getMessage();
             CsvimUtils.logProcessorErrors(String.format(PROBLEM_MESSAGE_INSERT_RECORD, tableModel.getName(), csvRecordValue),
@@ -410,6 +501,7 @@ public class CsvimProcessor {
                 logger.error(String.format(ERROR_MESSAGE_INSERT_RECORD, tableModel.getName(), csvRecordValue, csvFile.getFile()), e);
             }
         }
+        return 0;
     }
 
     /**
@@ -422,15 +514,16 @@ public class CsvimProcessor {
      * @param headerNames the header names
      * @param pkName the pk name
      * @param csvFile the csv file
+     * @return the number of the updated records
      */
-    private void updateCsvRecords(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> recordsToProcess,
+    private int updateCsvRecords(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> recordsToProcess,
             List<String> headerNames, String pkName, CsvFile csvFile) {
         try {
             List<CsvRecord> csvRecords = recordsToProcess.stream()
                                                          .map(e -> new CsvRecord(e, tableModel, headerNames,
                                                                  csvFile.getDistinguishEmptyFromNull()))
                                                          .collect(Collectors.toList());
-            csvProcessor.update(connection, schema, tableModel, csvRecords, headerNames, pkName, csvFile);
+            return csvProcessor.update(connection, schema, tableModel, csvRecords, headerNames, pkName, csvFile);
         } catch (SQLException e) {
             String csvRecordValue = e.getMessage();
             CsvimUtils.logProcessorErrors(String.format(PROBLEM_MESSAGE_INSERT_RECORD, tableModel.getName(), csvRecordValue),
@@ -439,6 +532,7 @@ public class CsvimProcessor {
                 logger.error(String.format(ERROR_MESSAGE_INSERT_RECORD, tableModel.getName(), csvRecordValue, csvFile.getFile()), e);
             }
         }
+        return 0;
     }
 
     /**
@@ -498,47 +592,6 @@ public class CsvimProcessor {
         return null;
     }
 
-    /**
-     * Record exists.
-     *
-     * @param schema the schema name
-     * @param tableName the table name
-     * @param pkNameForCSVRecord the pk name for CSV record
-     * @param pkValueForCSVRecord the pk value for CSV record
-     * @param connection the connection
-     * @return true, if successful
-     * @throws SQLException the SQL exception
-     */
-    private boolean recordExists(String schema, String tableName, String pkNameForCSVRecord, String pkValueForCSVRecord,
-            Connection connection) throws SQLException {
-        boolean exists = false;
-        SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
-        String sql = selectBuilder.distinct()
-                                  .column("1 " + pkNameForCSVRecord)
-                                  .from(tableName)
-                                  .schema(schema)
-                                  .where(pkNameForCSVRecord + " = ?")
-                                  .build();
-        try (PreparedStatement pstmt = connection.prepareCall(sql)) {
-            ResultSet rs;
-            try {
-                pstmt.setString(1, pkValueForCSVRecord);
-                rs = pstmt.executeQuery();
-            } catch (Throwable e) {
-                pstmt.setInt(1, Integer.parseInt(pkValueForCSVRecord));
-                rs = pstmt.executeQuery();
-            }
-            if (rs.next()) {
-                try {
-                    exists = "1".equals(rs.getString(1));
-                } catch (Throwable e) {
-                    exists = 1 == rs.getInt(1);
-                }
-            }
-        }
-        return exists;
-    }
-
     /**
      * Checks if is empty table.
      *
@@ -596,4 +649,82 @@ public class CsvimProcessor {
         return resource.getContent();
     }
 
+    /**
+     * Gets the csv content as stream, so that large files are imported without being loaded in memory.
+     *
+     * @param resource the resource
+     * @return the csv content stream
+     * @throws RepositoryReadException the repository read exception
+     */
+    public InputStream getCsvContentAsStream(IResource resource) throws RepositoryReadException {
+        return resource.getContentAsStream();
+    }
+
+    /**
+     * The progress of the import of a CSV file.
+     */
+    private static class ImportProgress {
+
+        /** The Constant REPORT_INTERVAL_MILLIS. */
+        private static final long REPORT_INTERVAL_MILLIS = 10_000;
+
+        /** The file. */
+        private final String file;
+
+        /** The table. */
+        private final String table;
+
+        /** The start time. */
+        private final long started = System.currentTimeMillis();
+
+        /** The last report time. */
+        private long reported = started;
+
+        /** The inserted records. */
+        private int inserted;
+
+        /** The updated records. */
+        private int updated;
+
+        /** The records skipped, as they exist and upsert is disabled. */
+        private int skipped;
+
+        /** The records rejected by the database. */
+        private int rejected;
+
+        /**
+         * Instantiates a new import progress.
+         *
+         * @param file the file
+         * @param table the table
+         */
+        ImportProgress(String file, String table) {
+            this.file = file;
+            this.table = table;
+        }
+
+        /**
+         * Report the progress, periodically while importing and once when finished.
+         *
+         * @param finished whether the import has finished
+         */
+        void report(boolean finished) {
+            long now = System.currentTimeMillis();
+            if (!finished && now - reported < REPORT_INTERVAL_MILLIS) {
+                return;
+            }
+            reported = now;
+            int processed = inserted + updated + skipped + rejected;
+            double seconds = Math.max(1, now - started) / 1000d;
+            String message = String.format(
+                    "%s CSV file [%s] into table [%s]: [%d] records processed, [%d] inserted, [%d] updated, [%d] skipped, [%d] rejected, [%.1f] records/sec",
+                    finished ? "Imported" : "Importing", file, table, processed, inserted, updated, skipped, rejected, processed / seconds);
+            if (finished && rejected > 0) {
+                logger.warn(message);
+            } else {
+                logger.info(message);
+            }
+        }
+    }
+
 }
@@ -26,6 +26,9 @@ import org.eclipse.dirigible.components.data.csvim.service.CsvFileService;
 import org.eclipse.dirigible.components.data.csvim.service.CsvimService;
 import org.eclipse.dirigible.components.data.sources.config.SystemDataSourceName;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.eclipse.dirigible.components.data.structures.domain.Schema;
+import org.eclipse.dirigible.components.data.structures.domain.Table;
+import org.eclipse.dirigible.components.data.structures.domain.View;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +36,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.text.ParseException;
@@ -40,6 +44,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The Class CSVIM Synchronizer.
@@ -262,9 +267,9 @@ public class CsvimSynchronizer extends MultitenantBaseSynchronizer<Csvim, Long>
                 if (!resource.exists()) {
                     throw new Exception("CSV does not exist: " + csvFile.getFile());
                 }
-                byte[] content = csvimProcessor.getCsvContent(resource);
-
-                csvimProcessor.process(csvFile, content, csvim.getDatasource());
+                try (InputStream content = csvimProcessor.getCsvContentAsStream(resource)) {
+                    csvimProcessor.process(csvFile, content, csvim.getDatasource());
+                }
 
                 csvFile.setImported(true);
                 csvFileService.save(csvFile);
@@ -326,6 +331,16 @@ public class CsvimSynchronizer extends MultitenantBaseSynchronizer<Csvim, Long>
         return Csvim.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(Table.ARTEFACT_TYPE, View.ARTEFACT_TYPE, Schema.ARTEFACT_TYPE);
+    }
+
     /**
      * Checks if is multitenant artefact.
      *
@@ -209,4 +209,38 @@ public class CsvProcessorTest {
 
         }
     }
+
+    /**
+     * Import upsert.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void importUpsert() throws SQLException {
+        try (Connection connection = dataSourceManager.getDefaultDataSource()
+                                                      .getConnection()) {
+            connection.createStatement()
+                      .execute("CREATE TABLE CSV_A (A1 INT PRIMARY KEY, A2 VARCHAR(20), A3 VARCHAR(20))");
+            try {
+                csvimProcessor.setStrictMode(true);
+                CsvFile csvFile = new CsvFile(null, "CSV_A", null, "import", true, true, ",", "\"", null, false, null);
+                csvimProcessor.process(csvFile, "A1,A2,A3\n1,a2_1,a3_1\n2,a2_2,a3_2".getBytes(), defaultDataSourceName);
+                csvFile.setUpsert(true);
+                csvimProcessor.process(csvFile, "A1,A2,A3\n2,a2_2u,a3_2u\n3,a2_3,a3_3".getBytes(), defaultDataSourceName);
+                ResultSet rs = connection.createStatement()
+                                         .executeQuery("SELECT COUNT(*) FROM CSV_A");
+                rs.next();
+                assertEquals(3, rs.getInt(1), "The new record has not been inserted");
+                rs = connection.createStatement()
+                               .executeQuery("SELECT A2 FROM CSV_A WHERE A1 = 2");
+                rs.next();
+                assertEquals("a2_2u", rs.getString(1), "The existing record has not been updated");
+            } catch (Exception e) {
+                fail(e.getMessage(), e);
+            } finally {
+                connection.createStatement()
+                          .execute("DROP TABLE CSV_A");
+            }
+        }
+    }
 }
@@ -12,12 +12,14 @@ package org.eclipse.dirigible.components.data.export.service;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import org.apache.commons.io.output.WriterOutputStream;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.platform.WorkspaceFacade;
 import org.eclipse.dirigible.components.base.helpers.JsonHelper;
 import org.eclipse.dirigible.components.data.csvim.domain.CsvFile;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseMetadataHelper;
+import org.eclipse.dirigible.components.data.management.helpers.DatabaseResultSetHelper;
 import org.eclipse.dirigible.components.data.management.load.DataSourceMetadataLoader;
 import org.eclipse.dirigible.components.data.management.service.DatabaseDefinitionService;
 import org.eclipse.dirigible.components.data.management.service.DatabaseExecutionService;
@@ -37,13 +39,23 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 
 import static java.text.MessageFormat.format;
@@ -64,6 +76,18 @@ public class DataExportService {
      */
     private static final String DEFAULT_WORKSPACE_NAME = "workspace";
 
+    /** The Constant DIRIGIBLE_DATABASE_EXPORT_FETCH_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_EXPORT_FETCH_SIZE = "DIRIGIBLE_DATABASE_EXPORT_FETCH_SIZE";
+
+    /** The Constant DEFAULT_FETCH_SIZE. */
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /** The Constant DIRIGIBLE_DATABASE_EXPORT_PARALLELISM. */
+    private static final String DIRIGIBLE_DATABASE_EXPORT_PARALLELISM = "DIRIGIBLE_DATABASE_EXPORT_PARALLELISM";
+
+    /** The Constant DEFAULT_PARALLELISM. */
+    private static final int DEFAULT_PARALLELISM = 1;
+
     /**
      * The data sources manager.
      */
@@ -128,6 +152,8 @@ public class DataExportService {
             if (dataSource != null) {
                 Workspace workspace;
                 ArrayList<CsvFile> csvFiles = new ArrayList<>();
+                List<String> artifacts = new ArrayList<>();
+                List<Callable<File>> exports = new ArrayList<>();
 
                 String metadata = DatabaseMetadataHelper.getMetadataAsJson(dataSource);
                 JsonElement database = GsonHelper.parseJson(metadata);
@@ -151,9 +177,6 @@ public class DataExportService {
                     JsonArray tables = scheme.get("tables")
                                              .getAsJsonArray();
                     for (int j = 0; j < tables.size(); j++) {
-                        File file;
-                        CsvFile csvFile = new CsvFile();
-
                         JsonObject table = tables.get(j)
                                                  .getAsJsonObject();
                         String artifact = table.get("name")
@@ -165,26 +188,20 @@ public class DataExportService {
                         } catch (Exception e) {
                             logger.error(e.getMessage(), e);
                         }
-
-                        StringWriter sw = new StringWriter();
-                        OutputStream output;
-                        try {
-                            output = WriterOutputStream.builder()
-                                                       .setWriter(sw)
-                                                       .setCharset(StandardCharsets.UTF_8)
-                                                       .get();
-                        } catch (IOException e) {
-                            throw new SQLException(e);
-                        }
-                        databaseExecutionService.executeStatement(dataSource, sql, true, false, true, false, output);
-                        String tableExport = sw.toString();
-
-                        file = project.createFile(schema.toLowerCase() + "." + artifact.toLowerCase() + ".csv", tableExport.getBytes());
-
-                        setCsvFileFields(csvFile, schema, artifact, file.getProjectPath());
-                        csvFiles.add(csvFile);
+                        String query = sql;
+                        String fileName = schema.toLowerCase() + "." + artifact.toLowerCase() + ".csv";
+                        artifacts.add(artifact);
+                        exports.add(() -> exportTable(dataSource, query, project, fileName));
                     }
                 }
+
+                List<File> files = exportTables(exports);
+                for (int i = 0; i < files.size(); i++) {
+                    CsvFile csvFile = new CsvFile();
+                    setCsvFileFields(csvFile, schema, artifacts.get(i), files.get(i)
+                                                                             .getProjectPath());
+                    csvFiles.add(csvFile);
+                }
                 JsonObject csvimContent = transformCsvFilesToJson(csvFiles);
 
                 project.createFile(schema + ".csvim", csvimContent.toString()
@@ -199,6 +216,114 @@ public class DataExportService {
         }
     }
 
+    /**
+     * Export the tables, concurrently if configured so.
+     *
+     * @param exports the table exports
+     * @return the exported files, in the order of the exports
+     */
+    private List<File> exportTables(List<Callable<File>> exports) {
+        int parallelism = Math.max(1, Configuration.getAsInt(DIRIGIBLE_DATABASE_EXPORT_PARALLELISM, DEFAULT_PARALLELISM));
+        List<File> files = new ArrayList<>(exports.size());
+        if (parallelism == 1 || exports.size() < 2) {
+            for (Callable<File> export : exports) {
+                files.add(call(export));
+            }
+            return files;
+        }
+        ExecutorService executor = newExecutor(Math.min(parallelism, exports.size()));
+        try {
+            List<Future<File>> futures = new ArrayList<>(exports.size());
+            for (Callable<File> export : exports) {
+                futures.add(executor.submit(() -> call(export)));
+            }
+            for (Future<File> future : futures) {
+                files.add(future.get());
+            }
+            return files;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Call the table export.
+     *
+     * @param export the table export
+     * @return the exported file
+     */
+    private static File call(Callable<File> export) {
+        try {
+            return export.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Export a table in a CSV file of the project. The rows are fetched with a cursor and written to a
+     * temporary file as they are read, which is then streamed into the project file, so that the table
+     * content is never held in memory.
+     *
+     * @param dataSource the data source
+     * @param sql the query of all the rows of the table
+     * @param project the project
+     * @param fileName the file name
+     * @return the file
+     * @throws Exception the exception
+     */
+    private File exportTable(DirigibleDataSource dataSource, String sql, Project project, String fileName) throws Exception {
+        int fetchSize = Configuration.getAsInt(DIRIGIBLE_DATABASE_EXPORT_FETCH_SIZE, DEFAULT_FETCH_SIZE);
+        Path temp = Files.createTempFile("dirigible-export-", ".csv");
+        try {
+            try (Connection connection = dataSource.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                // some drivers (e.g. PostgreSQL) use a cursor only outside of the auto-commit mode
+                connection.setAutoCommit(false);
+                try (PreparedStatement statement =
+                        connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    statement.setFetchSize(fetchSize);
+                    try (ResultSet resultSet = statement.executeQuery();
+                            OutputStream output = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                        DatabaseResultSetHelper.toCsv(resultSet, false, false, output);
+                    }
+                } finally {
+                    connection.rollback();
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+            File file = project.getFile(fileName);
+            try (InputStream input = Files.newInputStream(temp)) {
+                file.setContent(input);
+            }
+            logger.debug("Exported [{}] in [{}] bytes", fileName, Files.size(temp));
+            return file;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * New executor of daemon threads.
+     *
+     * @param threads the number of the threads
+     * @return the executor service
+     */
+    private static ExecutorService newExecutor(int threads) {
+        ThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("data-export-%d")
+                                                                      .daemon(true)
+                                                                      .build();
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
     /**
      * Export metadata as project.
      *
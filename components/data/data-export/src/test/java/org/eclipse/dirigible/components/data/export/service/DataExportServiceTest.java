@@ -11,11 +11,16 @@ package org.eclipse.dirigible.components.data.export.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 
 import org.eclipse.dirigible.components.data.sources.domain.DataSource;
+import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.data.sources.repository.DataSourceRepository;
 import org.eclipse.dirigible.components.ide.workspace.domain.File;
 import org.eclipse.dirigible.components.ide.workspace.domain.Project;
@@ -57,6 +62,10 @@ public class DataExportServiceTest {
     @Autowired
     private DataExportService dataExportService;
 
+    /** The datasources manager. */
+    @Autowired
+    private DataSourcesManager datasourcesManager;
+
     /** The workspace service. */
     @Autowired
     private WorkspaceService workspaceService;
@@ -134,6 +143,40 @@ public class DataExportServiceTest {
         assertNotNull(foundFile);
     }
 
+    /**
+     * Export schema in csvs test.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void exportSchemaInCsvsTest() throws SQLException {
+        try (Connection connection = datasourcesManager.getDataSource("TestDB")
+                                                       .getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS EXPORT_TEST");
+            statement.execute("DROP TABLE IF EXISTS EXPORT_TEST.CITIES");
+            statement.execute("CREATE TABLE EXPORT_TEST.CITIES (ID INT PRIMARY KEY, NAME VARCHAR(50))");
+            statement.execute("INSERT INTO EXPORT_TEST.CITIES VALUES (1, 'Sofia'), (2, 'Plovdiv'), (3, 'Варна')");
+        }
+        try {
+            dataExportService.exportSchemaInCsvs("TestDB", "EXPORT_TEST");
+            Workspace workspace = workspaceService.getWorkspace("workspace");
+            Project project = workspace.getProject("TestDB");
+            File file = project.getFile("export_test.cities.csv");
+            assertTrue(file.exists());
+            String content = new String(file.getContent(), StandardCharsets.UTF_8);
+            assertEquals("ID,NAME\r\n1,Sofia\r\n2,Plovdiv\r\n3,Варна\r\n", content);
+            assertTrue(project.getFile("EXPORT_TEST.csvim")
+                              .exists());
+        } finally {
+            try (Connection connection = datasourcesManager.getDataSource("TestDB")
+                                                           .getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA EXPORT_TEST CASCADE");
+            }
+        }
+    }
+
     /**
      * The Class TestConfiguration.
      */
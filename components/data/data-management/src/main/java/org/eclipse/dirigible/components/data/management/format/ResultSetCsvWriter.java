@@ -12,6 +12,7 @@ package org.eclipse.dirigible.components.data.management.format;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.sql.Clob;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -93,7 +94,7 @@ public class ResultSetCsvWriter extends AbstractResultSetWriter<String> {
     @Override
     public void write(ResultSet resultSet, OutputStream output) throws Exception {
 
-        OutputStreamWriter sw = new OutputStreamWriter(output);
+        OutputStreamWriter sw = new OutputStreamWriter(output, StandardCharsets.UTF_8);
 
         ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
 
@@ -92,67 +92,12 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
         jsonGenerator.writeStartArray();
 
         int count = 0;
+        ResultSetMetaData resultSetMetaData = null;
         while (resultSet.next()) {
-            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-
-            jsonGenerator.writeStartObject();
-
-            for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                String name = resultSetMetaData.getColumnName(i);
-                String label = resultSetMetaData.getColumnLabel(i);
-                Object value = resultSet.getObject(name);
-                if (value == null && stringify) {
-                    value = "[NULL]";
-                }
-                if (value != null && ("org.bson.Document".equals(value.getClass()
-                                                                      .getCanonicalName())
-                        || "org.bson.types.ObjectId".equals(value.getClass()
-                                                                 .getCanonicalName())
-                        || "java.util.ArrayList".equals(value.getClass()
-                                                             .getCanonicalName()))) {
-                    if (stringify) {
-                        value = value.toString();
-                    }
-                }
-                if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
-                        && !java.util.Date.class.isAssignableFrom(value.getClass())
-                        && !java.math.BigInteger.class.isAssignableFrom(value.getClass())
-                        && !java.math.BigDecimal.class.isAssignableFrom(value.getClass())) {
-                    if (stringify) {
-                        value = "[BINARY]";
-                    }
-                }
-
-                jsonGenerator.writeFieldName(label != null ? label : name);
-
-                if (value instanceof String) {
-                    jsonGenerator.writeString((String) value);
-                } else if (value instanceof Character) {
-                    jsonGenerator.writeString(new String(new char[] {(char) value}));
-                } else if (value instanceof Float) {
-                    jsonGenerator.writeNumber((Float) value);
-                } else if (value instanceof Double) {
-                    jsonGenerator.writeNumber((Double) value);
-                } else if (value instanceof BigDecimal) {
-                    jsonGenerator.writeNumber((BigDecimal) value);
-                } else if (value instanceof Long) {
-                    jsonGenerator.writeNumber((Long) value);
-                } else if (value instanceof BigInteger) {
-                    jsonGenerator.writeNumber((BigInteger) value);
-                } else if (value instanceof Integer) {
-                    jsonGenerator.writeNumber((Integer) value);
-                } else if (value instanceof Byte) {
-                    jsonGenerator.writeNumber((Byte) value);
-                } else if (value instanceof Short) {
-                    jsonGenerator.writeNumber((Short) value);
-                } else if (value instanceof Boolean) {
-                    jsonGenerator.writeBoolean((Boolean) value);
-                } else {
-                    jsonGenerator.writeString(value == null ? null : value.toString());
-                }
+            if (resultSetMetaData == null) {
+                resultSetMetaData = resultSet.getMetaData();
             }
-
-            jsonGenerator.writeEndObject();
+            writeRow(resultSet, resultSetMetaData, jsonGenerator);
 
             if (this.isLimited() && (++count > getLimit())) {
                 break;
@@ -163,4 +108,73 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
         jsonGenerator.flush();
     }
 
+    /**
+     * Write the current row of the result set as a JSON object.
+     *
+     * @param resultSet the result set, positioned on the row
+     * @param resultSetMetaData the result set meta data
+     * @param jsonGenerator the json generator
+     * @throws Exception the exception
+     */
+    public void writeRow(ResultSet resultSet, ResultSetMetaData resultSetMetaData, JsonGenerator jsonGenerator) throws Exception {
+        jsonGenerator.writeStartObject();
+
+        for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
+            String name = resultSetMetaData.getColumnName(i);
+            String label = resultSetMetaData.getColumnLabel(i);
+            Object value = resultSet.getObject(name);
+            if (value == null && stringify) {
+                value = "[NULL]";
+            }
+            if (value != null && ("org.bson.Document".equals(value.getClass()
+                                                                  .getCanonicalName())
+                    || "org.bson.types.ObjectId".equals(value.getClass()
+                                                             .getCanonicalName())
+                    || "java.util.ArrayList".equals(value.getClass()
+                                                         .getCanonicalName()))) {
+                if (stringify) {
+                    value = value.toString();
+                }
+            }
+            if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
+                    && !java.util.Date.class.isAssignableFrom(value.getClass())
+                    && !java.math.BigInteger.class.isAssignableFrom(value.getClass())
+                    && !java.math.BigDecimal.class.isAssignableFrom(value.getClass())) {
+                if (stringify) {
+                    value = "[BINARY]";
+                }
+            }
+
+            jsonGenerator.writeFieldName(label != null ? label : name);
+
+            if (value instanceof String) {
+                jsonGenerator.writeString((String) value);
+            } else if (value instanceof Character) {
+                jsonGenerator.writeString(new String(new char[] {(char) value}));
+            } else if (value instanceof Float) {
+                jsonGenerator.writeNumber((Float) value);
+            } else if (value instanceof Double) {
+                jsonGenerator.writeNumber((Double) value);
+            } else if (value instanceof BigDecimal) {
+                jsonGenerator.writeNumber((BigDecimal) value);
+            } else if (value instanceof Long) {
+                jsonGenerator.writeNumber((Long) value);
+            } else if (value instanceof BigInteger) {
+                jsonGenerator.writeNumber((BigInteger) value);
+            } else if (value instanceof Integer) {
+                jsonGenerator.writeNumber((Integer) value);
+            } else if (value instanceof Byte) {
+                jsonGenerator.writeNumber((Byte) value);
+            } else if (value instanceof Short) {
+                jsonGenerator.writeNumber((Short) value);
+            } else if (value instanceof Boolean) {
+                jsonGenerator.writeBoolean((Boolean) value);
+            } else {
+                jsonGenerator.writeString(value == null ? null : value.toString());
+            }
+        }
+
+        jsonGenerator.writeEndObject();
+    }
+
 }
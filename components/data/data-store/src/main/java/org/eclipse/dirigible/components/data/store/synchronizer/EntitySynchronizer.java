@@ -16,9 +16,11 @@ import org.eclipse.dirigible.components.base.artefact.topology.TopologyWrapper;
 import org.eclipse.dirigible.components.base.synchronizer.BaseSynchronizer;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
+import org.eclipse.dirigible.components.data.sources.domain.DataSource;
 import org.eclipse.dirigible.components.data.store.DataStore;
 import org.eclipse.dirigible.components.data.store.domain.Entity;
 import org.eclipse.dirigible.components.data.store.service.EntityService;
+import org.eclipse.dirigible.components.data.structures.domain.Table;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Class BpmnSynchronizer.
@@ -266,4 +269,14 @@ public class EntitySynchronizer extends BaseSynchronizer<Entity, Long> {
         return Entity.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(DataSource.ARTEFACT_TYPE, Table.ARTEFACT_TYPE);
+    }
+
 }
@@ -42,6 +42,7 @@ import java.sql.SQLException;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static java.text.MessageFormat.format;
 
@@ -590,4 +591,14 @@ public class SchemasSynchronizer extends MultitenantBaseSynchronizer<Schema, Lon
         return Schema.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(org.eclipse.dirigible.components.data.sources.domain.DataSource.ARTEFACT_TYPE);
+    }
+
 }
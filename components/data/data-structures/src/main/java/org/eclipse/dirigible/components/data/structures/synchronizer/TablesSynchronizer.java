@@ -18,6 +18,7 @@ import org.eclipse.dirigible.components.base.helpers.JsonHelper;
 import org.eclipse.dirigible.components.base.synchronizer.MultitenantBaseSynchronizer;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
+import org.eclipse.dirigible.components.data.sources.domain.DataSource;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.data.structures.domain.*;
 import org.eclipse.dirigible.components.data.structures.service.TableService;
@@ -34,6 +35,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Class TablesSynchronizer.
@@ -515,4 +517,14 @@ public class TablesSynchronizer extends MultitenantBaseSynchronizer<Table, Long>
         return Table.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(DataSource.ARTEFACT_TYPE, Schema.ARTEFACT_TYPE);
+    }
+
 }
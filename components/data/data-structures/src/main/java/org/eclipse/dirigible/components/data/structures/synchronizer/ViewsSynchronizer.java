@@ -19,6 +19,8 @@ import org.eclipse.dirigible.components.base.synchronizer.MultitenantBaseSynchro
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.eclipse.dirigible.components.data.structures.domain.Schema;
+import org.eclipse.dirigible.components.data.structures.domain.Table;
 import org.eclipse.dirigible.components.data.structures.domain.View;
 import org.eclipse.dirigible.components.data.structures.service.ViewService;
 import org.eclipse.dirigible.components.data.structures.synchronizer.view.ViewCreateProcessor;
@@ -35,6 +37,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Class ViewsSynchronizer.
@@ -310,4 +313,14 @@ public class ViewsSynchronizer extends MultitenantBaseSynchronizer<View, Long> {
         return View.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(Table.ARTEFACT_TYPE, Schema.ARTEFACT_TYPE);
+    }
+
 }
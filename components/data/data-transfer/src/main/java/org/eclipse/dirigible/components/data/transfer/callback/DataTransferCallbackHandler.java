@@ -120,6 +120,15 @@ public interface DataTransferCallbackHandler {
      */
     void tableTransferFailed(String table, String error);
 
+    /**
+     * Table transfer rate, reported when the data of the table has been transferred.
+     *
+     * @param table the table
+     * @param transferedRecords the transfered records
+     * @param recordsPerSecond the records per second
+     */
+    void tableTransferRate(String table, int transferedRecords, double recordsPerSecond);
+
     /**
      * Record transfer finished.
      *
@@ -141,6 +141,16 @@ public class DummyDataTransferCallbackHandler implements DataTransferCallbackHan
     @Override
     public void tableTransferFailed(String table, String error) {}
 
+    /**
+     * Table transfer rate.
+     *
+     * @param table the table
+     * @param transferedRecords the transfered records
+     * @param recordsPerSecond the records per second
+     */
+    @Override
+    public void tableTransferRate(String table, int transferedRecords, double recordsPerSecond) {}
+
     /**
      * Record transfer finished.
      *
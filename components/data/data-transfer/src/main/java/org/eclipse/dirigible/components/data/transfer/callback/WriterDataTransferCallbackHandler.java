@@ -43,7 +43,7 @@ public class WriterDataTransferCallbackHandler implements DataTransferCallbackHa
     private String identifier;
 
     /** The stopped. */
-    private boolean stopped = false;
+    private volatile boolean stopped = false;
 
     /**
      * Instantiates a new writer data transfer callback handler.
@@ -57,12 +57,12 @@ public class WriterDataTransferCallbackHandler implements DataTransferCallbackHa
     }
 
     /**
-     * Write.
+     * Write. The tables may be transferred concurrently, so the messages are serialized.
      *
      * @param s the s
      * @param severity the severity
      */
-    private void write(String s, String severity) {
+    private synchronized void write(String s, String severity) {
         try {
             String message = String.format("[%s][%s] %s", identifier, severity, s);
             this.writer.write(message);
@@ -242,6 +242,18 @@ public class WriterDataTransferCallbackHandler implements DataTransferCallbackHa
         write("Data transfer has been failed for table: " + table + " with error: " + error, SEVERITY_ERROR);
     }
 
+    /**
+     * Table transfer rate.
+     *
+     * @param table the table
+     * @param transferedRecords the transfered records
+     * @param recordsPerSecond the records per second
+     */
+    @Override
+    public void tableTransferRate(String table, int transferedRecords, double recordsPerSecond) {
+        write(String.format("Data transfer rate for table: %s is %.1f records per second", table, recordsPerSecond), SEVERITY_INFO);
+    }
+
     /**
      * Record transfer finished.
      *
@@ -20,6 +20,9 @@ public class DataTransferConfiguration {
     /** The target schema. */
     private String targetSchema;
 
+    /** The number of the tables transferred concurrently, null for the configured default. */
+    private Integer parallelism;
+
     /**
      * Gets the source schema.
      *
@@ -56,4 +59,22 @@ public class DataTransferConfiguration {
         this.targetSchema = targetSchema;
     }
 
+    /**
+     * Gets the parallelism.
+     *
+     * @return the parallelism
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the parallelism.
+     *
+     * @param parallelism the parallelism to set
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
 }
@@ -9,18 +9,38 @@
  */
 package org.eclipse.dirigible.components.data.transfer.service;
 
+import java.math.BigDecimal;
+import java.sql.Array;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.artefact.topology.TopologicalSorter;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
@@ -29,6 +49,7 @@ import org.eclipse.dirigible.components.data.transfer.callback.DummyDataTransfer
 import org.eclipse.dirigible.components.data.transfer.domain.DataTransfer;
 import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
 import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableRelationModel;
 import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCreateTableProcessor;
 import org.eclipse.dirigible.database.sql.SqlFactory;
 import org.eclipse.dirigible.database.sql.builders.records.InsertBuilder;
@@ -52,8 +73,20 @@ public class DataTransferService {
     /** The Constant DEFAULT_BATCH_SIZE. */
     private static final int DEFAULT_BATCH_SIZE = 1000;
 
-    /** The batch size. */
-    private static int BATCH_SIZE = 1000;
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM = "DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM";
+
+    /** The Constant DEFAULT_PARALLELISM. */
+    private static final int DEFAULT_PARALLELISM = 1;
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_QUEUE_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_QUEUE_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_QUEUE_SIZE";
+
+    /** The Constant DEFAULT_QUEUE_SIZE. */
+    private static final int DEFAULT_QUEUE_SIZE = 4;
+
+    /** The Constant END_OF_ROWS, marks the end of the rows in the queue. */
+    private static final List<Object[]> END_OF_ROWS = new ArrayList<>();
 
 
     /** The data sources manager. */
@@ -108,44 +141,71 @@ public class DataTransferService {
             handler = new DummyDataTransferCallbackHandler();
         }
 
-        BATCH_SIZE = Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        int parallelism = configuration.getParallelism() != null ? configuration.getParallelism()
+                : Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM, DEFAULT_PARALLELISM);
 
         handler.transferStarted(configuration);
 
-        try (Connection sourceConnection = source.getConnection()) {
-
-            try (Connection targetConnection = target.getConnection()) {
-
-                List<PersistenceTableModel> tables =
-                        DataTransferReverseTableProcessor.reverseTables(source, configuration.getSourceSchema(), handler);
-                if (handler.isStopped()) {
-                    return;
-                }
-                tables = sortTables(tables, handler);
-                sourceConnection.setSchema(configuration.getSourceSchema());
-                targetConnection.setSchema(configuration.getTargetSchema());
-                transferDataTables(tables, sourceConnection, targetConnection, handler);
-
-                handler.transferFinished(tables.size());
-
-            } catch (SQLException e) {
-                String error = "Error occured when trying to connect to the target database";
-                if (logger.isErrorEnabled()) {
-                    logger.error(error, e);
+        List<PersistenceTableModel> tables;
+        try {
+            tables = DataTransferReverseTableProcessor.reverseTables(source, configuration.getSourceSchema(), handler);
+        } catch (SQLException e) {
+            throw failed(handler, "Error occured when trying to connect to the source database", e);
+        }
+        if (handler.isStopped()) {
+            return;
+        }
+        tables = sortTables(tables, handler);
+
+        TransferContext context = new TransferContext(Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                Math.max(1, Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_QUEUE_SIZE, DEFAULT_QUEUE_SIZE)),
+                newExecutor("data-transfer-reader-", 0));
+        try {
+            if (parallelism > 1 && tables.size() > 1) {
+                // each table uses its own connections
+                transferDataTables(tables, source, target, configuration, parallelism, handler, context);
+            } else {
+                try (Connection sourceConnection = source.getConnection()) {
+                    try (Connection targetConnection = target.getConnection()) {
+                        sourceConnection.setSchema(configuration.getSourceSchema());
+                        targetConnection.setSchema(configuration.getTargetSchema());
+                        transferDataTables(tables, sourceConnection, targetConnection, handler, context);
+                    } catch (SQLException e) {
+                        throw failed(handler, "Error occured when trying to connect to the target database", e);
+                    }
+                } catch (SQLException e) {
+                    throw failed(handler, "Error occured when trying to connect to the source database", e);
                 }
-                handler.transferFailed(error);
-                throw new Exception(e);
             }
-
-        } catch (SQLException e) {
-            String error = "Error occured when trying to connect to the source database";
+        } catch (RuntimeException e) {
+            String error = "Error occured while transferring the data";
             if (logger.isErrorEnabled()) {
                 logger.error(error, e);
             }
-            handler.transferFailed(error);
+            handler.transferFailed(error + " -> " + e.getMessage());
             throw new Exception(e);
+        } finally {
+            context.readers()
+                   .shutdownNow();
         }
 
+        handler.transferFinished(tables.size());
+    }
+
+    /**
+     * Report the failed transfer.
+     *
+     * @param handler the handler
+     * @param error the error
+     * @param e the cause
+     * @return the exception to be thrown
+     */
+    private static Exception failed(DataTransferCallbackHandler handler, String error, SQLException e) {
+        if (logger.isErrorEnabled()) {
+            logger.error(error, e);
+        }
+        handler.transferFailed(error);
+        return new Exception(e);
     }
 
     /**
@@ -184,15 +244,16 @@ public class DataTransferService {
     }
 
     /**
-     * Transfer data.
+     * Transfer data one table after another on the given connections.
      *
      * @param tables the tables
      * @param sourceConnection the source connection
      * @param targetConnection the target connection
      * @param handler the handler
+     * @param context the context of the transfer
      */
     private void transferDataTables(List<PersistenceTableModel> tables, Connection sourceConnection, Connection targetConnection,
-            DataTransferCallbackHandler handler) {
+            DataTransferCallbackHandler handler, TransferContext context) {
 
         handler.dataTransferStarted();
 
@@ -200,191 +261,397 @@ public class DataTransferService {
             if (handler.isStopped()) {
                 return;
             }
-            if (logger.isInfoEnabled()) {
-                logger.info(String.format("Data transfer of table %s has been started...", tableModel.getTableName()));
+            transferDataTable(tableModel, sourceConnection, targetConnection, handler, context);
+            if (handler.isStopped()) {
+                return;
             }
-            handler.tableTransferStarted(tableModel.getTableName());
-            try {
-
-                if (!SqlFactory.getNative(sourceConnection)
-                               .existsTable(targetConnection, tableModel.getTableName())) {
-                    PersistenceCreateTableProcessor createTableProcessor = new PersistenceCreateTableProcessor(null);
-                    createTableProcessor.create(targetConnection, tableModel);
-                } else {
-                    String countSQL = SqlFactory.getNative(sourceConnection)
-                                                .select()
-                                                .column("count(*)")
-                                                .from(tableModel.getTableName())
-                                                .build();
-                    try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(countSQL)) {
-                        ResultSet rs = pstmtTarget.executeQuery();
-                        while (rs.next()) {
-                            int count = rs.getInt(1);
-                            if (count > 0) {
-                                handler.tableSkipped(tableModel.getTableName(), "table exists and it is not empty");
-                                continue;
-                            }
-                        }
+        }
+
+        handler.dataTransferFinished();
+    }
+
+    /**
+     * Transfer data of independent tables concurrently. A table is started as soon as the tables it
+     * refers to, i.e. the ones before it in the topological order, have been transferred. Each table
+     * uses its own source and target connections.
+     *
+     * @param tables the tables in topological order
+     * @param source the source
+     * @param target the target
+     * @param configuration the configuration
+     * @param parallelism the number of the tables transferred concurrently
+     * @param handler the handler
+     * @param context the context of the transfer
+     */
+    private void transferDataTables(List<PersistenceTableModel> tables, DataSource source, DataSource target,
+            DataTransferConfiguration configuration, int parallelism, DataTransferCallbackHandler handler, TransferContext context) {
+
+        handler.dataTransferStarted();
+
+        ExecutorService writers = newExecutor("data-transfer-", parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            Map<String, CompletableFuture<Void>> transfers = new LinkedHashMap<>();
+            for (PersistenceTableModel tableModel : tables) {
+                List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+                for (PersistenceTableRelationModel relation : tableModel.getRelations()) {
+                    CompletableFuture<Void> dependency = transfers.get(relation.getToTableName());
+                    if (dependency != null) {
+                        dependencies.add(dependency);
                     }
                 }
+                CompletableFuture<Void> transfer = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]))
+                                                                    .thenRunAsync(() -> {
+                                                                        if (!handler.isStopped()) {
+                                                                            transferDataTable(tableModel, source, target, configuration,
+                                                                                    handler, context);
+                                                                        }
+                                                                    }, writers)
+                                                                    .exceptionally(e -> {
+                                                                        // unexpected failure, the dependent tables are still attempted
+                                                                        Throwable cause =
+                                                                                e instanceof CompletionException ? e.getCause() : e;
+                                                                        String error =
+                                                                                "Error occured while transferring the data for table: "
+                                                                                        + tableModel.getTableName();
+                                                                        if (logger.isErrorEnabled()) {
+                                                                            logger.error(error, cause);
+                                                                        }
+                                                                        handler.tableTransferFailed(tableModel.getTableName(),
+                                                                                error + " -> " + cause.getMessage());
+                                                                        failure.compareAndSet(null, cause);
+                                                                        return null;
+                                                                    });
+                transfers.put(tableModel.getTableName(), transfer);
+            }
+            CompletableFuture.allOf(transfers.values()
+                                             .toArray(new CompletableFuture[0]))
+                             .join();
+        } finally {
+            writers.shutdownNow();
+        }
 
-                String selectSQL = SqlFactory.getNative(sourceConnection)
-                                             .select()
-                                             .column("*")
-                                             .from(tableModel.getTableName())
-                                             .build();
-
-                handler.tableSelectSQL(selectSQL);
-
-                int transferedRecords = 0;
-
-                try (PreparedStatement pstmtSource = sourceConnection.prepareStatement(selectSQL)) {
-                    try (ResultSet rs = pstmtSource.executeQuery()) {
-                        ResultSetMetaData resultSetMetaData = rs.getMetaData();
-
-                        InsertBuilder insertBuilder = SqlFactory.getNative(targetConnection)
-                                                                .insert()
-                                                                .into(tableModel.getTableName());
-                        for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                            String columnName = resultSetMetaData.getColumnName(i);
-                            insertBuilder.column(columnName);
-                        }
-
-                        String insertSQL = insertBuilder.build();
-                        handler.tableInsertSQL(insertSQL);
-
-                        try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(insertSQL)) {
-                            while (rs.next()) {
-                                if (handler.isStopped()) {
-                                    return;
-                                }
-                                for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                                    int type = resultSetMetaData.getColumnType(i);
-                                    switch (type) {
-                                        case java.sql.Types.ARRAY:
-                                            pstmtTarget.setArray(i, rs.getArray(i));
-                                            break;
-                                        case java.sql.Types.BIGINT:
-                                            pstmtTarget.setLong(i, rs.getLong(i));
-                                            break;
-                                        case java.sql.Types.BINARY:
-                                            pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
-                                            break;
-                                        case java.sql.Types.BIT:
-                                            pstmtTarget.setBoolean(i, rs.getBoolean(i));
-                                            break;
-                                        case java.sql.Types.BLOB:
-                                            pstmtTarget.setBlob(i, rs.getBlob(i));
-                                            break;
-                                        case java.sql.Types.BOOLEAN:
-                                            pstmtTarget.setBoolean(i, rs.getBoolean(i));
-                                            break;
-                                        case java.sql.Types.CHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.CLOB:
-                                            pstmtTarget.setClob(i, rs.getClob(i));
-                                            break;
-                                        case java.sql.Types.DATE:
-                                            pstmtTarget.setDate(i, rs.getDate(i));
-                                            break;
-                                        case java.sql.Types.DECIMAL:
-                                            pstmtTarget.setBigDecimal(i, rs.getBigDecimal(i));
-                                            break;
-                                        case java.sql.Types.DOUBLE:
-                                            pstmtTarget.setDouble(i, rs.getDouble(i));
-                                            break;
-                                        case java.sql.Types.FLOAT:
-                                            pstmtTarget.setFloat(i, rs.getFloat(i));
-                                            break;
-                                        case java.sql.Types.INTEGER:
-                                            pstmtTarget.setInt(i, rs.getInt(i));
-                                            break;
-                                        case java.sql.Types.LONGNVARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.LONGVARBINARY:
-                                            pstmtTarget.setBinaryStream(i, rs.getBinaryStream(i));
-                                            break;
-                                        case java.sql.Types.LONGVARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.NCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.NCLOB:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.NUMERIC:
-                                            pstmtTarget.setDouble(i, rs.getDouble(i));
-                                            break;
-                                        case java.sql.Types.NVARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.REAL:
-                                            pstmtTarget.setFloat(i, rs.getFloat(i));
-                                            break;
-                                        case java.sql.Types.SMALLINT:
-                                            pstmtTarget.setShort(i, rs.getShort(i));
-                                            break;
-                                        case java.sql.Types.TIME:
-                                            pstmtTarget.setTime(i, rs.getTime(i));
-                                            break;
-                                        case java.sql.Types.TIME_WITH_TIMEZONE:
-                                            pstmtTarget.setTime(i, rs.getTime(i));
-                                            break;
-                                        case java.sql.Types.TIMESTAMP:
-                                            pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
-                                            break;
-                                        case java.sql.Types.TIMESTAMP_WITH_TIMEZONE:
-                                            pstmtTarget.setTimestamp(i, rs.getTimestamp(i));
-                                            break;
-                                        case java.sql.Types.TINYINT:
-                                            pstmtTarget.setByte(i, rs.getByte(i));
-                                            break;
-                                        case java.sql.Types.VARBINARY:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        case java.sql.Types.VARCHAR:
-                                            pstmtTarget.setString(i, rs.getString(i));
-                                            break;
-                                        default:
-                                            pstmtTarget.setObject(i, rs.getObject(i));
-                                            break;
-                                    }
-
-                                }
-                                handler.recordTransferFinished(tableModel.getTableName(), ++transferedRecords);
-                                pstmtTarget.addBatch();
-                                if (transferedRecords % BATCH_SIZE == 0) {
-                                    pstmtTarget.executeBatch();
-                                }
-                            }
-                            if (transferedRecords % BATCH_SIZE != 0) {
-                                pstmtTarget.executeBatch();
-                            }
-                        }
+        if (failure.get() != null) {
+            throw new CompletionException(failure.get());
+        }
+        if (handler.isStopped()) {
+            return;
+        }
+        handler.dataTransferFinished();
+    }
+
+    /**
+     * Transfer data of a table on its own connections.
+     *
+     * @param tableModel the table model
+     * @param source the source
+     * @param target the target
+     * @param configuration the configuration
+     * @param handler the handler
+     * @param context the context of the transfer
+     */
+    private void transferDataTable(PersistenceTableModel tableModel, DataSource source, DataSource target,
+            DataTransferConfiguration configuration, DataTransferCallbackHandler handler, TransferContext context) {
+        try (Connection sourceConnection = source.getConnection(); Connection targetConnection = target.getConnection()) {
+            sourceConnection.setSchema(configuration.getSourceSchema());
+            targetConnection.setSchema(configuration.getTargetSchema());
+            transferDataTable(tableModel, sourceConnection, targetConnection, handler, context);
+        } catch (SQLException e) {
+            String error = "Error occured when trying to connect for table: " + tableModel.getTableName();
+            if (logger.isErrorEnabled()) {
+                logger.error(error, e);
+            }
+            handler.tableTransferFailed(tableModel.getTableName(), error + " -> " + e.getMessage());
+        }
+    }
+
+    /**
+     * Transfer data of a table. The rows are read by a reader thread and handed over in batches through
+     * a bounded queue to the current thread, which writes them, so that the source is read while the
+     * target executes the previous batch.
+     *
+     * @param tableModel the table model
+     * @param sourceConnection the source connection
+     * @param targetConnection the target connection
+     * @param handler the handler
+     * @param context the context of the transfer
+     */
+    private void transferDataTable(PersistenceTableModel tableModel, Connection sourceConnection, Connection targetConnection,
+            DataTransferCallbackHandler handler, TransferContext context) {
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Data transfer of table %s has been started...", tableModel.getTableName()));
+        }
+        handler.tableTransferStarted(tableModel.getTableName());
+        try {
+
+            if (!SqlFactory.getNative(sourceConnection)
+                           .existsTable(targetConnection, tableModel.getTableName())) {
+                PersistenceCreateTableProcessor createTableProcessor = new PersistenceCreateTableProcessor(null);
+                createTableProcessor.create(targetConnection, tableModel);
+            } else {
+                String countSQL = SqlFactory.getNative(sourceConnection)
+                                            .select()
+                                            .column("count(*)")
+                                            .from(tableModel.getTableName())
+                                            .build();
+                try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(countSQL);
+                        ResultSet rs = pstmtTarget.executeQuery()) {
+                    if (rs.next() && rs.getInt(1) > 0) {
+                        handler.tableSkipped(tableModel.getTableName(), "table exists and it is not empty");
+                        return;
                     }
                 }
+            }
+
+            String selectSQL = SqlFactory.getNative(sourceConnection)
+                                         .select()
+                                         .column("*")
+                                         .from(tableModel.getTableName())
+                                         .build();
+
+            handler.tableSelectSQL(selectSQL);
+
+            long started = System.nanoTime();
+            int transferedRecords;
+
+            try (PreparedStatement pstmtSource = sourceConnection.prepareStatement(selectSQL)) {
+                pstmtSource.setFetchSize(context.batchSize());
+                try (ResultSet rs = pstmtSource.executeQuery()) {
+                    ResultSetMetaData resultSetMetaData = rs.getMetaData();
+
+                    InsertBuilder insertBuilder = SqlFactory.getNative(targetConnection)
+                                                            .insert()
+                                                            .into(tableModel.getTableName());
+                    int[] types = new int[resultSetMetaData.getColumnCount()];
+                    for (int i = 1; i <= types.length; i++) {
+                        String columnName = resultSetMetaData.getColumnName(i);
+                        insertBuilder.column(columnName);
+                        types[i - 1] = resultSetMetaData.getColumnType(i);
+                    }
+
+                    String insertSQL = insertBuilder.build();
+                    handler.tableInsertSQL(insertSQL);
 
-                String message = String.format("Data of table %s has been transferred successfully.", tableModel.getTableName());
-                if (logger.isInfoEnabled()) {
-                    logger.info(message);
+                    try (PreparedStatement pstmtTarget = targetConnection.prepareStatement(insertSQL)) {
+                        transferedRecords = transferRows(tableModel.getTableName(), rs, types, pstmtTarget, handler, context);
+                    }
                 }
+            }
+            if (handler.isStopped()) {
+                return;
+            }
+
+            double seconds = (System.nanoTime() - started) / 1_000_000_000d;
+            handler.tableTransferRate(tableModel.getTableName(), transferedRecords,
+                    seconds > 0 ? transferedRecords / seconds : transferedRecords);
+
+            String message = String.format("Data of table %s has been transferred successfully.", tableModel.getTableName());
+            if (logger.isInfoEnabled()) {
+                logger.info(message);
+            }
 
-                handler.tableTransferFinished(tableModel.getTableName(), transferedRecords);
+            handler.tableTransferFinished(tableModel.getTableName(), transferedRecords);
 
-            } catch (Exception e) {
-                String error = "Error occured while transferring the data for table: " + tableModel.getTableName();
-                if (logger.isErrorEnabled()) {
-                    logger.error(error, e);
+        } catch (Exception e) {
+            String error = "Error occured while transferring the data for table: " + tableModel.getTableName();
+            if (logger.isErrorEnabled()) {
+                logger.error(error, e);
+            }
+            handler.tableTransferFailed(tableModel.getTableName(), error + " -> " + e.getMessage());
+        }
+    }
+
+    /**
+     * Transfer the rows, reading them on a reader thread and writing them on the current one.
+     *
+     * @param tableName the table name
+     * @param rs the result set
+     * @param types the column types
+     * @param pstmtTarget the target statement
+     * @param handler the handler
+     * @param context the context of the transfer
+     * @return the transfered records
+     * @throws Exception the exception
+     */
+    private int transferRows(String tableName, ResultSet rs, int[] types, PreparedStatement pstmtTarget,
+            DataTransferCallbackHandler handler, TransferContext context) throws Exception {
+        BlockingQueue<List<Object[]>> queue = new ArrayBlockingQueue<>(context.queueSize());
+        AtomicBoolean aborted = new AtomicBoolean();
+        Future<?> reading = context.readers()
+                                   .submit(() -> {
+                                       readRows(rs, types, context.batchSize(), queue, aborted, handler);
+                                       return null;
+                                   });
+        int transferedRecords = 0;
+        try {
+            List<Object[]> batch;
+            while ((batch = queue.take()) != END_OF_ROWS) {
+                for (Object[] row : batch) {
+                    for (int i = 0; i < types.length; i++) {
+                        setValue(pstmtTarget, i + 1, types[i], row[i]);
+                    }
+                    handler.recordTransferFinished(tableName, ++transferedRecords);
+                    pstmtTarget.addBatch();
+                }
+                pstmtTarget.executeBatch();
+            }
+            reading.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            if (!reading.isDone()) {
+                // the writer failed, stop the reader before the result set gets closed
+                aborted.set(true);
+                queue.clear();
+                try {
+                    reading.get();
+                } catch (ExecutionException e) {
+                    logger.debug("Reading of table {} failed after the writing failed", tableName, e);
                 }
-                handler.tableTransferFailed(tableModel.getTableName(), error + " -> " + e.getMessage());
             }
         }
+        return transferedRecords;
+    }
 
-        handler.dataTransferFinished();
+    /**
+     * Read the rows in batches into the queue, until the result set is exhausted or the transfer is
+     * stopped or aborted.
+     *
+     * @param rs the result set
+     * @param types the column types
+     * @param batchSize the batch size
+     * @param queue the queue
+     * @param aborted the aborted flag
+     * @param handler the handler
+     * @throws SQLException the SQL exception
+     * @throws InterruptedException the interrupted exception
+     */
+    private static void readRows(ResultSet rs, int[] types, int batchSize, BlockingQueue<List<Object[]>> queue, AtomicBoolean aborted,
+            DataTransferCallbackHandler handler) throws SQLException, InterruptedException {
+        try {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            while (!handler.isStopped() && !aborted.get() && rs.next()) {
+                Object[] row = new Object[types.length];
+                for (int i = 0; i < types.length; i++) {
+                    row[i] = getValue(rs, i + 1, types[i]);
+                }
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    offer(queue, batch, aborted);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                offer(queue, batch, aborted);
+            }
+        } finally {
+            offer(queue, END_OF_ROWS, aborted);
+        }
+    }
+
+    /**
+     * Put the batch in the queue, waiting for space unless the transfer is aborted.
+     *
+     * @param queue the queue
+     * @param batch the batch
+     * @param aborted the aborted flag
+     * @throws InterruptedException the interrupted exception
+     */
+    private static void offer(BlockingQueue<List<Object[]>> queue, List<Object[]> batch, AtomicBoolean aborted)
+            throws InterruptedException {
+        while (!aborted.get() && !queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            // wait for the writer
+        }
+    }
+
+    /**
+     * Gets the value of a column. The large objects are read completely, as they are not accessible
+     * after the cursor moves on.
+     *
+     * @param rs the result set
+     * @param i the column index
+     * @param type the column type
+     * @return the value
+     * @throws SQLException the SQL exception
+     */
+    private static Object getValue(ResultSet rs, int i, int type) throws SQLException {
+        Object value = switch (type) {
+            case Types.ARRAY -> rs.getArray(i);
+            case Types.BIGINT -> rs.getLong(i);
+            case Types.BINARY, Types.BLOB, Types.LONGVARBINARY -> rs.getBytes(i);
+            case Types.BIT, Types.BOOLEAN -> rs.getBoolean(i);
+            case Types.CHAR, Types.NCHAR, Types.VARCHAR, Types.NVARCHAR, Types.VARBINARY -> rs.getString(i);
+            case Types.CLOB, Types.NCLOB, Types.LONGVARCHAR, Types.LONGNVARCHAR -> rs.getString(i);
+            case Types.DATE -> rs.getDate(i);
+            case Types.DECIMAL -> rs.getBigDecimal(i);
+            case Types.DOUBLE, Types.NUMERIC -> rs.getDouble(i);
+            case Types.FLOAT, Types.REAL -> rs.getFloat(i);
+            case Types.INTEGER -> rs.getInt(i);
+            case Types.SMALLINT -> rs.getShort(i);
+            case Types.TIME, Types.TIME_WITH_TIMEZONE -> rs.getTime(i);
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> rs.getTimestamp(i);
+            case Types.TINYINT -> rs.getByte(i);
+            default -> rs.getObject(i);
+        };
+        return rs.wasNull() ? null : value;
     }
 
+    /**
+     * Sets the value of a parameter.
+     *
+     * @param pstmt the statement
+     * @param i the parameter index
+     * @param type the column type
+     * @param value the value, as read by {@link #getValue(ResultSet, int, int)}
+     * @throws SQLException the SQL exception
+     */
+    private static void setValue(PreparedStatement pstmt, int i, int type, Object value) throws SQLException {
+        if (value == null) {
+            pstmt.setNull(i, type);
+            return;
+        }
+        switch (type) {
+            case Types.ARRAY -> pstmt.setArray(i, (Array) value);
+            case Types.BIGINT -> pstmt.setLong(i, (Long) value);
+            case Types.BINARY, Types.BLOB, Types.LONGVARBINARY -> pstmt.setBytes(i, (byte[]) value);
+            case Types.BIT, Types.BOOLEAN -> pstmt.setBoolean(i, (Boolean) value);
+            case Types.CHAR, Types.NCHAR, Types.VARCHAR, Types.NVARCHAR, Types.VARBINARY -> pstmt.setString(i, (String) value);
+            case Types.CLOB, Types.NCLOB, Types.LONGVARCHAR, Types.LONGNVARCHAR -> pstmt.setString(i, (String) value);
+            case Types.DATE -> pstmt.setDate(i, (Date) value);
+            case Types.DECIMAL -> pstmt.setBigDecimal(i, (BigDecimal) value);
+            case Types.DOUBLE, Types.NUMERIC -> pstmt.setDouble(i, (Double) value);
+            case Types.FLOAT, Types.REAL -> pstmt.setFloat(i, (Float) value);
+            case Types.INTEGER -> pstmt.setInt(i, (Integer) value);
+            case Types.SMALLINT -> pstmt.setShort(i, (Short) value);
+            case Types.TIME, Types.TIME_WITH_TIMEZONE -> pstmt.setTime(i, (Time) value);
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> pstmt.setTimestamp(i, (Timestamp) value);
+            case Types.TINYINT -> pstmt.setByte(i, (Byte) value);
+            default -> pstmt.setObject(i, value);
+        }
+    }
+
+    /**
+     * New executor of daemon threads.
+     *
+     * @param prefix the thread name prefix
+     * @param threads the number of the threads, 0 for unbounded
+     * @return the executor service
+     */
+    private static ExecutorService newExecutor(String prefix, int threads) {
+        ThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(prefix + "%d")
+                                                                      .daemon(true)
+                                                                      .build();
+        return threads > 0 ? Executors.newFixedThreadPool(threads, threadFactory) : Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * The settings and the reader threads of a single transfer.
+     *
+     * @param batchSize the number of the rows per batch
+     * @param queueSize the number of the batches read ahead of the writer
+     * @param readers the executor of the readers
+     */
+    private record TransferContext(int batchSize, int queueSize, ExecutorService readers) {
+    }
 
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.data.transfer.callback.DummyDataTransferCallbackHandler;
+import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class DataTransferServiceTest.
+ */
+public class DataTransferServiceTest {
+
+    /** The number of the rows per table. */
+    private static final int ROWS = 50;
+
+    /** The source. */
+    private DataSource source;
+
+    /** The target. */
+    private DataSource target;
+
+    /**
+     * Sets the source and the target databases up. The child tables refer to their parents, the broken
+     * table exists in the target without one of its columns.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @BeforeEach
+    public void setUp() throws SQLException {
+        Configuration.set("DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE", "7");
+        source = createDataSource();
+        target = createDataSource();
+        execute(source, "CREATE TABLE PARENT (ID INT PRIMARY KEY, NAME VARCHAR(20))",
+                "CREATE TABLE CHILD (ID INT PRIMARY KEY, PARENT_ID INT, FOREIGN KEY (PARENT_ID) REFERENCES PARENT(ID))",
+                "CREATE TABLE GRANDCHILD (ID INT PRIMARY KEY, CHILD_ID INT, FOREIGN KEY (CHILD_ID) REFERENCES CHILD(ID))",
+                "CREATE TABLE OTHER (ID INT PRIMARY KEY)", "CREATE TABLE BROKEN (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        for (int i = 1; i <= ROWS; i++) {
+            execute(source, "INSERT INTO PARENT VALUES (" + i + ", 'parent" + i + "')", "INSERT INTO CHILD VALUES (" + i + ", " + i + ")",
+                    "INSERT INTO GRANDCHILD VALUES (" + i + ", " + i + ")", "INSERT INTO OTHER VALUES (" + i + ")",
+                    "INSERT INTO BROKEN VALUES (" + i + ", 'broken" + i + "')");
+        }
+        execute(target, "CREATE TABLE BROKEN (ID INT PRIMARY KEY)");
+    }
+
+    /**
+     * Restore the batch size.
+     */
+    @AfterEach
+    public void tearDown() {
+        Configuration.remove("DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE");
+    }
+
+    /**
+     * Creates an in-memory database.
+     *
+     * @return the data source
+     */
+    private static DataSource createDataSource() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    /**
+     * Execute the statements.
+     *
+     * @param dataSource the data source
+     * @param sqls the statements
+     * @throws SQLException the SQL exception
+     */
+    private static void execute(DataSource dataSource, String... sqls) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Count the rows of the target table.
+     *
+     * @param table the table
+     * @return the count
+     * @throws SQLException the SQL exception
+     */
+    private int count(String table) throws SQLException {
+        try (Connection connection = target.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * Creates the configuration of a parallel transfer.
+     *
+     * @return the configuration
+     */
+    private static DataTransferConfiguration createConfiguration() {
+        DataTransferConfiguration configuration = new DataTransferConfiguration();
+        configuration.setSourceSchema("PUBLIC");
+        configuration.setTargetSchema("PUBLIC");
+        configuration.setParallelism(4);
+        return configuration;
+    }
+
+    /**
+     * The tables are transferred concurrently, each after the tables it refers to, and the failing
+     * table does not stop the others.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void parallelTransferTest() throws Exception {
+        RecordingHandler handler = new RecordingHandler(null);
+
+        new DataTransferService(null).transfer(source, target, createConfiguration(), handler);
+
+        List<String> events = handler.getEvents();
+        assertTrue(events.indexOf("finished:PARENT") < events.indexOf("started:CHILD"), events.toString());
+        assertTrue(events.indexOf("finished:CHILD") < events.indexOf("started:GRANDCHILD"), events.toString());
+        assertTrue(events.contains("failed:BROKEN"), events.toString());
+        assertTrue(events.contains("transfer finished"), events.toString());
+        assertFalse(events.contains("transfer failed"), events.toString());
+        assertEquals(ROWS, count("PARENT"));
+        assertEquals(ROWS, count("CHILD"));
+        assertEquals(ROWS, count("GRANDCHILD"));
+        assertEquals(ROWS, count("OTHER"));
+        assertEquals(0, count("BROKEN"));
+    }
+
+    /**
+     * An unexpected failure of a table task is reported as a failure of the transfer.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void parallelTransferUnexpectedFailureTest() throws Exception {
+        RecordingHandler handler = new RecordingHandler("OTHER");
+
+        assertThrows(Exception.class, () -> new DataTransferService(null).transfer(source, target, createConfiguration(), handler));
+
+        List<String> events = handler.getEvents();
+        assertTrue(events.contains("failed:OTHER"), events.toString());
+        assertTrue(events.contains("transfer failed"), events.toString());
+        assertFalse(events.contains("transfer finished"), events.toString());
+        assertEquals(ROWS, count("GRANDCHILD"));
+    }
+
+    /**
+     * The handler recording the events of the tables.
+     */
+    private static class RecordingHandler extends DummyDataTransferCallbackHandler {
+
+        /** The events. */
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        /** The table, which start throws an unexpected exception. */
+        private final String throwingTable;
+
+        /**
+         * Instantiates a new recording handler.
+         *
+         * @param throwingTable the table, which start throws an unexpected exception
+         */
+        RecordingHandler(String throwingTable) {
+            this.throwingTable = throwingTable;
+        }
+
+        /**
+         * Gets the events.
+         *
+         * @return the events
+         */
+        List<String> getEvents() {
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+
+        @Override
+        public void tableTransferStarted(String table) {
+            if (table.equals(throwingTable)) {
+                throw new IllegalStateException("Unexpected failure of " + table);
+            }
+            events.add("started:" + table);
+        }
+
+        @Override
+        public void tableTransferFinished(String table, int transferedRecords) {
+            events.add("finished:" + table);
+        }
+
+        @Override
+        public void tableTransferFailed(String table, String error) {
+            events.add("failed:" + table);
+        }
+
+        @Override
+        public void transferFinished(int count) {
+            events.add("transfer finished");
+        }
+
+        @Override
+        public void transferFailed(String error) {
+            events.add("transfer failed");
+        }
+    }
+
+}
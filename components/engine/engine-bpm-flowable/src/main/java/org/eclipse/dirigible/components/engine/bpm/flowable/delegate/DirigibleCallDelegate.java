@@ -17,6 +17,7 @@ import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.engine.bpm.flowable.dto.ExecutionData;
 import org.eclipse.dirigible.components.open.telemetry.OpenTelemetryProvider;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -274,7 +275,8 @@ public class DirigibleCallDelegate implements JavaDelegate {
         Span.current()
             .setAttribute("handler", path.toString());
 
-        try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(context, false)) {
+        try (DirigibleJavascriptCodeRunner runner = DirigibleJavascriptCodeRunnerPool.get()
+                                                                                     .borrow(context, false)) {
             Source source = runner.prepareSource(task.getSourceFilePath());
             Value value = runner.run(source);
 
@@ -11,6 +11,7 @@ package org.eclipse.dirigible.components.engine.javascript.service;
 
 import org.eclipse.dirigible.components.base.http.access.UserRequestVerifier;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
 import org.eclipse.dirigible.graalium.core.JavascriptSourceProvider;
 import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -117,7 +118,8 @@ public class JavascriptHandler {
             }
 
             Path absoluteSourcePath = sourceProvider.getAbsoluteSourcePath(projectName, projectFilePath);
-            try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(parameters, debug)) {
+            try (DirigibleJavascriptCodeRunner runner = DirigibleJavascriptCodeRunnerPool.get()
+                                                                                         .borrow(parameters, debug)) {
                 Source source = runner.prepareSource(absoluteSourcePath);
                 runner.getGraalJSInterceptor()
                       .onBeforeRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
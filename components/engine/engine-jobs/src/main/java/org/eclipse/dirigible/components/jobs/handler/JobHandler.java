@@ -16,6 +16,7 @@ import org.eclipse.dirigible.components.jobs.domain.JobLog;
 import org.eclipse.dirigible.components.jobs.service.JobLogService;
 import org.eclipse.dirigible.components.jobs.tenant.JobNameCreator;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
@@ -105,7 +106,8 @@ public class JobHandler implements Job {
             context.put("handler", handler);
             Path handlerPath = Path.of(handler);
 
-            try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner()) {
+            try (DirigibleJavascriptCodeRunner runner = DirigibleJavascriptCodeRunnerPool.get()
+                                                                                         .borrow()) {
                 runner.run(handlerPath);
                 registeredFinished(name, handler, triggered);
             } catch (RuntimeException ex) {
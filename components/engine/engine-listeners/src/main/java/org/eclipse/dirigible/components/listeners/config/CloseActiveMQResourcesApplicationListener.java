@@ -12,6 +12,7 @@ package org.eclipse.dirigible.components.listeners.config;
 import org.apache.activemq.broker.BrokerService;
 import org.eclipse.dirigible.components.base.ApplicationListenersOrder.ApplicationStoppedEventListeners;
 import org.eclipse.dirigible.components.listeners.service.ListenersManager;
+import org.eclipse.dirigible.components.listeners.service.ProducerSessionPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +53,9 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
     /** The listeners manager. */
     private final ListenersManager listenersManager;
 
+    /** The producer session pool. */
+    private final ProducerSessionPool producerSessionPool;
+
     /**
      * Instantiates a new close active MQ resources application listener.
      *
@@ -59,14 +63,16 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
      * @param connection the connection
      * @param session the session
      * @param listenersManager the listeners manager
+     * @param producerSessionPool the producer session pool
      */
     @Autowired
     CloseActiveMQResourcesApplicationListener(BrokerService broker, @Qualifier("ActiveMQConnection") Connection connection,
-            @Qualifier("ActiveMQSession") Session session, ListenersManager listenersManager) {
+            @Qualifier("ActiveMQSession") Session session, ListenersManager listenersManager, ProducerSessionPool producerSessionPool) {
         this.broker = broker;
         this.connection = connection;
         this.session = session;
         this.listenersManager = listenersManager;
+        this.producerSessionPool = producerSessionPool;
     }
 
     /**
@@ -99,6 +105,7 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
     private void closeResources(ApplicationEvent event) {
         LOGGER.info("Closing ActiveMQ resources due to event {}", event);
         stopListeners();
+        closeProducerSessions();
         closeSession();
         closeConnection();
         stopBroker();
@@ -115,6 +122,17 @@ class CloseActiveMQResourcesApplicationListener implements ApplicationListener<A
         }
     }
 
+    /**
+     * Close producer sessions.
+     */
+    private void closeProducerSessions() {
+        try {
+            producerSessionPool.close();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to close producer sessions", ex);
+        }
+    }
+
     /**
      * Close session.
      */
@@ -42,6 +42,21 @@ public class Listener extends Artefact {
     @Expose
     private ListenerKind kind;
 
+    /** The number of the concurrent consumers, applicable for queues only. */
+    @Column(name = "LISTENER_CONCURRENCY", nullable = true)
+    @Expose
+    private Integer concurrency;
+
+    /** The number of the messages dispatched to a consumer in advance. */
+    @Column(name = "LISTENER_PREFETCH", nullable = true)
+    @Expose
+    private Integer prefetch;
+
+    /** The max number of the messages delivered to a single onMessages handler invocation. */
+    @Column(name = "LISTENER_BATCH_SIZE", nullable = true)
+    @Expose
+    private Integer batchSize;
+
     /**
      * Instantiates a new listener.
      *
@@ -116,6 +131,60 @@ public class Listener extends Artefact {
         this.kind = kind;
     }
 
+    /**
+     * Gets the concurrency.
+     *
+     * @return the concurrency
+     */
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets the concurrency.
+     *
+     * @param concurrency the new concurrency
+     */
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Gets the prefetch.
+     *
+     * @return the prefetch
+     */
+    public Integer getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets the prefetch.
+     *
+     * @param prefetch the new prefetch
+     */
+    public void setPrefetch(Integer prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Gets the batch size.
+     *
+     * @return the batch size
+     */
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the batch size.
+     *
+     * @param batchSize the new batch size
+     */
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
     /**
      * To string.
      *
@@ -123,9 +192,10 @@ public class Listener extends Artefact {
      */
     @Override
     public String toString() {
-        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", location='" + location + '\''
-                + ", name='" + name + '\'' + ", type='" + type + '\'' + ", description='" + description + '\'' + ", key='" + key + '\''
-                + ", dependencies='" + dependencies + '\'' + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy="
-                + updatedBy + ", updatedAt=" + updatedAt + '}';
+        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", concurrency=" + concurrency
+                + ", prefetch=" + prefetch + ", batchSize=" + batchSize + ", location='" + location + '\'' + ", name='" + name + '\''
+                + ", type='" + type + '\'' + ", description='" + description + '\'' + ", key='" + key + '\'' + ", dependencies='"
+                + dependencies + '\'' + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy=" + updatedBy
+                + ", updatedAt=" + updatedAt + '}';
     }
 }
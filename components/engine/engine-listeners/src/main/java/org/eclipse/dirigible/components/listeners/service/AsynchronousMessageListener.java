@@ -9,13 +9,19 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageListener;
 import jakarta.jms.TextMessage;
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
 import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.graalvm.polyglot.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,6 +89,74 @@ class AsynchronousMessageListener implements MessageListener {
         }
     }
 
+    /**
+     * On messages. The messages are passed as an array to a single invocation of the onMessages handler
+     * per tenant.
+     *
+     * @param messages the messages
+     */
+    void onMessages(List<Message> messages) {
+        LOGGER.trace("Start processing [{}] received messages in [{}] by [{}] ...", messages.size(), listenerDescriptor.getDestination(),
+                listenerDescriptor.getHandlerPath());
+        try {
+            Map<String, List<String>> tenantMessages = new LinkedHashMap<>();
+            for (Message message : messages) {
+                if (!(message instanceof TextMessage textMsg)) {
+                    String msg = String.format("Invalid message [%s] has been received in destination [%s]", message,
+                            listenerDescriptor.getDestination());
+                    throw new IllegalStateException(msg);
+                }
+                tenantMessages.computeIfAbsent(tenantPropertyManager.getCurrentTenantId(message), k -> new ArrayList<>())
+                              .add(extractMessage(textMsg));
+            }
+            for (Map.Entry<String, List<String>> entry : tenantMessages.entrySet()) {
+                LOGGER.debug("Processing [{}] messages WITH context for tenant [{}].", entry.getValue()
+                                                                                            .size(),
+                        entry.getKey());
+                tenantContext.execute(entry.getKey(), () -> {
+                    executeOnMessagesHandler(entry.getValue());
+                    return null;
+                });
+            }
+            LOGGER.trace("Done processing the received messages in [{}] by [{}]", listenerDescriptor.getDestination(),
+                    listenerDescriptor.getHandlerPath());
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to handle messages: " + messages, e);
+        }
+    }
+
+    /**
+     * Execute on messages handler.
+     *
+     * @param messages the messages
+     */
+    private void executeOnMessagesHandler(List<String> messages) {
+        try (DirigibleJavascriptCodeRunner runner = createJSCodeRunner()) {
+            String handlerPath = listenerDescriptor.getHandlerPath();
+            Module module = runner.run(handlerPath);
+            runner.runMethod(module, "onMessages", createArray(runner, messages));
+        }
+    }
+
+    /**
+     * Creates a javascript array of the messages in the context of the runner.
+     *
+     * @param runner the runner
+     * @param messages the messages
+     * @return the array
+     */
+    Object createArray(DirigibleJavascriptCodeRunner runner, List<String> messages) {
+        Value array = runner.getCodeRunner()
+                            .getGraalContext()
+                            .eval("js", "[]");
+        for (int i = 0; i < messages.size(); i++) {
+            array.setArrayElement(i, messages.get(i));
+        }
+        return array;
+    }
+
     /**
      * Execute on message handler.
      *
@@ -117,7 +191,8 @@ class AsynchronousMessageListener implements MessageListener {
      * @return the dirigible javascript code runner
      */
     DirigibleJavascriptCodeRunner createJSCodeRunner() {
-        return new DirigibleJavascriptCodeRunner();
+        return DirigibleJavascriptCodeRunnerPool.get()
+                                                .borrow();
     }
 
 }
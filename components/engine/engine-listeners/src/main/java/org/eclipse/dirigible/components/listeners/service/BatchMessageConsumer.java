@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+
+/**
+ * Receives the messages of a transacted session in batches on a dedicated thread. A batch is
+ * collected until it is full or the batch timeout elapses, handled by a single onMessages
+ * invocation and acknowledged by a single commit. A failed batch is rolled back, so that its
+ * messages are redelivered according to the redelivery policy. A failure to receive, e.g. a
+ * transient broker error, rolls back the messages received so far and is retried with a back off.
+ * The thread ends once the consumer is stopped.
+ */
+class BatchMessageConsumer implements Runnable {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchMessageConsumer.class);
+
+    /** The Constant RECEIVE_TIMEOUT. */
+    private static final long RECEIVE_TIMEOUT = 1000;
+
+    /** The Constant INITIAL_BACK_OFF, in milliseconds. */
+    private static final long INITIAL_BACK_OFF = 1000;
+
+    /** The Constant MAX_BACK_OFF, in milliseconds. */
+    private static final long MAX_BACK_OFF = 30000;
+
+    /** The session. */
+    private final Session session;
+
+    /** The consumer. */
+    private final MessageConsumer consumer;
+
+    /** The message listener. */
+    private final AsynchronousMessageListener messageListener;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The batch timeout in milliseconds. */
+    private final long batchTimeout;
+
+    /** The stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * Instantiates a new batch message consumer.
+     *
+     * @param session the session
+     * @param consumer the consumer
+     * @param messageListener the message listener
+     * @param batchSize the batch size
+     * @param batchTimeout the batch timeout in milliseconds
+     */
+    BatchMessageConsumer(Session session, MessageConsumer consumer, AsynchronousMessageListener messageListener, int batchSize,
+            long batchTimeout) {
+        this.session = session;
+        this.consumer = consumer;
+        this.messageListener = messageListener;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    /**
+     * Start the consumer thread.
+     *
+     * @param name the thread name
+     */
+    void start(String name) {
+        Thread thread = new Thread(this, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop the consumer thread after the batch in progress.
+     */
+    void stop() {
+        stopped = true;
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Run.
+     */
+    @Override
+    public void run() {
+        long backOff = INITIAL_BACK_OFF;
+        while (!stopped) {
+            List<Message> batch;
+            try {
+                batch = receiveBatch();
+            } catch (JMSException | RuntimeException ex) {
+                if (stopped) {
+                    LOGGER.debug("Batch consumer [{}] has been stopped", consumer, ex);
+                    return;
+                }
+                LOGGER.error("Failed to receive a batch of messages, will retry in [{}] ms", backOff, ex);
+                rollback();
+                backOff(backOff);
+                backOff = Math.min(backOff * 2, MAX_BACK_OFF);
+                continue;
+            }
+            backOff = INITIAL_BACK_OFF;
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                messageListener.onMessages(batch);
+                session.commit();
+            } catch (JMSException | RuntimeException ex) {
+                LOGGER.error("Failed to handle a batch of [{}] messages, they will be redelivered", batch.size(), ex);
+                rollback();
+            }
+        }
+    }
+
+    /**
+     * Wait before receiving again, unless stopped meanwhile.
+     *
+     * @param millis the milliseconds
+     */
+    synchronized void backOff(long millis) {
+        try {
+            if (!stopped) {
+                wait(millis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread()
+                  .interrupt();
+            stopped = true;
+        }
+    }
+
+    /**
+     * Receive a batch of messages, waiting for the first one for a limited time.
+     *
+     * @return the messages
+     * @throws JMSException the JMS exception
+     */
+    List<Message> receiveBatch() throws JMSException {
+        List<Message> batch = new ArrayList<>(batchSize);
+        Message message = consumer.receive(RECEIVE_TIMEOUT);
+        if (message == null) {
+            return batch;
+        }
+        batch.add(message);
+        long deadline = System.currentTimeMillis() + batchTimeout;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.currentTimeMillis();
+            message = remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait();
+            if (message == null) {
+                break;
+            }
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    /**
+     * Rollback.
+     */
+    private void rollback() {
+        try {
+            session.rollback();
+        } catch (JMSException | RuntimeException ex) {
+            LOGGER.warn("Failed to rollback session [{}]", session, ex);
+        }
+    }
+
+}
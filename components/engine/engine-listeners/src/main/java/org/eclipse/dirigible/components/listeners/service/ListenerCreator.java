@@ -40,7 +40,19 @@ class ListenerCreator {
         ListenerType type = fromEntityType(entity.getKind());
 
         String destination = destinationNameManager.toTenantName(entity.getName());
-        return new ListenerDescriptor(type, destination, entity.getHandler());
+        return new ListenerDescriptor(type, destination, entity.getHandler(), valueOrDefault(entity.getConcurrency(), 1),
+                valueOrDefault(entity.getPrefetch(), 0), valueOrDefault(entity.getBatchSize(), 1));
+    }
+
+    /**
+     * Value or default.
+     *
+     * @param value the value
+     * @param defaultValue the default value
+     * @return the value if positive, the default value otherwise
+     */
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
     }
 
     /**
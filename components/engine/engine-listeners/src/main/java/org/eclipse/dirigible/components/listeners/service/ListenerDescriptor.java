@@ -25,6 +25,15 @@ class ListenerDescriptor {
     /** The handler path. */
     private final String handlerPath;
 
+    /** The number of the concurrent consumers. */
+    private final int concurrency;
+
+    /** The prefetch size, zero for the broker default. */
+    private final int prefetch;
+
+    /** The batch size, one for delivery of the messages one by one. */
+    private final int batchSize;
+
     /**
      * Instantiates a new listener descriptor.
      *
@@ -33,9 +42,27 @@ class ListenerDescriptor {
      * @param handlerPath the handler path
      */
     ListenerDescriptor(ListenerType type, String destination, String handlerPath) {
+        this(type, destination, handlerPath, 1, 0, 1);
+    }
+
+    /**
+     * Instantiates a new listener descriptor. The consumption settings do not take part in the identity
+     * of the listener, so that a changed listener is found by its previous descriptor.
+     *
+     * @param type the type
+     * @param destination the destination
+     * @param handlerPath the handler path
+     * @param concurrency the number of the concurrent consumers
+     * @param prefetch the prefetch size, zero for the broker default
+     * @param batchSize the batch size, one for delivery of the messages one by one
+     */
+    ListenerDescriptor(ListenerType type, String destination, String handlerPath, int concurrency, int prefetch, int batchSize) {
         this.type = type;
         this.destination = destination;
         this.handlerPath = handlerPath;
+        this.concurrency = concurrency;
+        this.prefetch = prefetch;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -65,6 +92,33 @@ class ListenerDescriptor {
         return handlerPath;
     }
 
+    /**
+     * Gets the number of the concurrent consumers.
+     *
+     * @return the concurrency
+     */
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Gets the prefetch size.
+     *
+     * @return the prefetch
+     */
+    int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Gets the batch size.
+     *
+     * @return the batch size
+     */
+    int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * To string.
      *
@@ -72,7 +126,8 @@ class ListenerDescriptor {
      */
     @Override
     public String toString() {
-        return "Listener{" + "type=" + type + ", destination='" + destination + '\'' + ", handlerPath='" + handlerPath + '\'' + '}';
+        return "Listener{" + "type=" + type + ", destination='" + destination + '\'' + ", handlerPath='" + handlerPath + '\''
+                + ", concurrency=" + concurrency + ", prefetch=" + prefetch + ", batchSize=" + batchSize + '}';
     }
 
     /**
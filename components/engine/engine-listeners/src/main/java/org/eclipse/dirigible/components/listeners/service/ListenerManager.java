@@ -15,11 +15,14 @@ import org.apache.activemq.ActiveMQConnection;
 import org.apache.activemq.RedeliveryPolicy;
 import org.apache.activemq.broker.region.policy.RedeliveryPolicyMap;
 import org.apache.activemq.command.ActiveMQDestination;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.listeners.config.ActiveMQConnectionArtifactsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.IllegalStateException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The Class BackgroundListenerManager.
@@ -38,6 +41,9 @@ public class ListenerManager {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(ListenerManager.class);
 
+    /** The Constant DIRIGIBLE_LISTENER_BATCH_TIMEOUT. */
+    private static final String DIRIGIBLE_LISTENER_BATCH_TIMEOUT = "DIRIGIBLE_LISTENER_BATCH_TIMEOUT";
+
     /** The listener. */
     private final ListenerDescriptor listenerDescriptor;
 
@@ -50,6 +56,9 @@ public class ListenerManager {
     /** The connection artifacts. */
     private ConnectionArtifacts connectionArtifacts;
 
+    /** The batch consumers. */
+    private final List<BatchMessageConsumer> batchConsumers = new ArrayList<>();
+
     /**
      * Instantiates a new background listener manager.
      *
@@ -75,24 +84,109 @@ public class ListenerManager {
         }
 
         LOGGER.info("Starting a message listener for {} ...", listenerDescriptor);
+        String handlerPath = listenerDescriptor.getHandlerPath();
+        ListenerExceptionHandler exceptionListener = new ListenerExceptionHandler(handlerPath);
+
+        Connection connection = connectionArtifactsFactory.createConnection(exceptionListener);
+        ConnectionArtifacts artifacts = null;
         try {
-            String handlerPath = listenerDescriptor.getHandlerPath();
-            ListenerExceptionHandler exceptionListener = new ListenerExceptionHandler(handlerPath);
+            configurePrefetch(connection);
 
-            Connection connection = connectionArtifactsFactory.createConnection(exceptionListener);
-            Session session = connectionArtifactsFactory.createSession(connection);
+            boolean batch = listenerDescriptor.getBatchSize() > 1;
+            int concurrency = getConcurrency();
+            for (int i = 0; i < concurrency; i++) {
+                Session session = batch ? connectionArtifactsFactory.createTransactedSession(connection)
+                        : connectionArtifactsFactory.createSession(connection);
+                Destination destination = createDestination(session);
+                if (artifacts == null) {
+                    configureRedeliveryPolicy(connection, destination);
+                }
 
-            Destination destination = createDestination(session);
-            configureRedeliveryPolicy(connection, destination);
+                MessageConsumer consumer = session.createConsumer(destination);
+                if (artifacts == null) {
+                    artifacts = new ConnectionArtifacts(connection, session, consumer);
+                } else {
+                    artifacts.add(session, consumer);
+                }
+                startConsumer(session, consumer, i, batch);
+            }
 
-            MessageConsumer consumer = session.createConsumer(destination);
+            connectionArtifacts = artifacts;
+        } catch (JMSException | RuntimeException ex) {
+            stopBatchConsumers();
+            if (artifacts != null) {
+                artifacts.closeAll();
+            } else {
+                closeConnection(connection);
+            }
+            if (ex instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to start listener for " + listenerDescriptor, ex);
+        }
+    }
 
-            AsynchronousMessageListener messageListener = asynchronousMessageListenerFactory.create(listenerDescriptor);
+    /**
+     * Start delivering the messages of the consumer to the handler, one by one or in batches.
+     *
+     * @param session the session
+     * @param consumer the consumer
+     * @param index the consumer index
+     * @param batch whether in batch mode
+     * @throws JMSException the JMS exception
+     */
+    private void startConsumer(Session session, MessageConsumer consumer, int index, boolean batch) throws JMSException {
+        AsynchronousMessageListener messageListener = asynchronousMessageListenerFactory.create(listenerDescriptor);
+        if (batch) {
+            long batchTimeout = Configuration.getAsInt(DIRIGIBLE_LISTENER_BATCH_TIMEOUT, 100);
+            BatchMessageConsumer batchConsumer =
+                    new BatchMessageConsumer(session, consumer, messageListener, listenerDescriptor.getBatchSize(), batchTimeout);
+            batchConsumers.add(batchConsumer);
+            batchConsumer.start("listener-" + listenerDescriptor.getDestination() + "-" + index);
+        } else {
             consumer.setMessageListener(messageListener);
+        }
+    }
 
-            connectionArtifacts = new ConnectionArtifacts(connection, session, consumer);
-        } catch (JMSException ex) {
-            throw new IllegalStateException("Failed to start listener for " + listenerDescriptor, ex);
+    /**
+     * Gets the number of the consumers. A topic subscriber receives all the messages, hence a topic is
+     * always consumed by a single consumer.
+     *
+     * @return the concurrency
+     */
+    private int getConcurrency() {
+        int concurrency = Math.max(1, listenerDescriptor.getConcurrency());
+        if (concurrency > 1 && listenerDescriptor.getType() == ListenerType.TOPIC) {
+            LOGGER.warn("Concurrency [{}] is not applicable for topic listener {}, a single consumer will be used", concurrency,
+                    listenerDescriptor);
+            return 1;
+        }
+        return concurrency;
+    }
+
+    /**
+     * Configure the prefetch size of the consumers to be created.
+     *
+     * @param connection the connection
+     */
+    private void configurePrefetch(Connection connection) {
+        int prefetch = listenerDescriptor.getPrefetch();
+        if (prefetch > 0 && connection instanceof ActiveMQConnection amqConnection) {
+            amqConnection.getPrefetchPolicy()
+                         .setAll(prefetch);
+        }
+    }
+
+    /**
+     * Close connection.
+     *
+     * @param connection the connection
+     */
+    private void closeConnection(Connection connection) {
+        try {
+            connection.close();
+        } catch (JMSException | RuntimeException ex) {
+            LOGGER.warn("Failed to close connection {}", connection, ex);
         }
     }
 
@@ -155,8 +249,17 @@ public class ListenerManager {
             return;
         }
         LOGGER.info("Stopping message listener for {} ...", listenerDescriptor);
+        stopBatchConsumers();
         connectionArtifacts.closeAll();
         connectionArtifacts = null;
         LOGGER.info("Stopped message listener for {}", listenerDescriptor);
     }
+
+    /**
+     * Stop the batch consumers, before their sessions are closed.
+     */
+    private void stopBatchConsumers() {
+        batchConsumers.forEach(BatchMessageConsumer::stop);
+        batchConsumers.clear();
+    }
 }
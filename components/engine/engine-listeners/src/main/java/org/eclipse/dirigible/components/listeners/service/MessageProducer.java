@@ -9,11 +9,13 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import java.util.List;
 import jakarta.jms.*;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.listeners.service.ProducerSessionPool.PooledSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 /**
@@ -25,8 +27,11 @@ public class MessageProducer {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageProducer.class);
 
-    /** The session. */
-    private final Session session;
+    /** The Constant DIRIGIBLE_MESSAGING_TOPIC_PERSISTENT. */
+    private static final String DIRIGIBLE_MESSAGING_TOPIC_PERSISTENT = "DIRIGIBLE_MESSAGING_TOPIC_PERSISTENT";
+
+    /** The session pool. */
+    private final ProducerSessionPool sessionPool;
 
     /** The destination name manager. */
     private final DestinationNameManager destinationNameManager;
@@ -37,48 +42,63 @@ public class MessageProducer {
     /**
      * Instantiates a new message producer.
      *
-     * @param session the session
+     * @param sessionPool the session pool
      * @param destinationNameManager the destination name manager
      * @param tenantPropertyManager the tenant property manager
      */
     @Autowired
-    MessageProducer(@Qualifier("ActiveMQSession") Session session, DestinationNameManager destinationNameManager,
+    MessageProducer(ProducerSessionPool sessionPool, DestinationNameManager destinationNameManager,
             TenantPropertyManager tenantPropertyManager) {
-        this.session = session;
+        this.sessionPool = sessionPool;
         this.destinationNameManager = destinationNameManager;
         this.tenantPropertyManager = tenantPropertyManager;
     }
 
     /**
-     * Send message to topic.
+     * Send message to topic with the configured default delivery mode.
      *
      * @param topic the topic
      * @param message the message
      * @throws JMSException the JMS exception
      */
     public void sendMessageToTopic(String topic, String message) throws JMSException {
-        String destinationName = destinationNameManager.toTenantName(topic);
-        Destination destination = session.createTopic(destinationName);
-        sendMessage(message, destination);
+        sendMessageToTopic(topic, message, isTopicPersistent());
     }
 
     /**
-     * Send message.
+     * Send message to topic.
      *
+     * @param topic the topic
      * @param message the message
-     * @param destination the destination
+     * @param persistent false for fire-and-forget delivery, which does not survive a broker restart
      * @throws JMSException the JMS exception
      */
-    private void sendMessage(String message, Destination destination) throws JMSException {
-        try (jakarta.jms.MessageProducer producer = session.createProducer(destination)) {
-            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
+    public void sendMessageToTopic(String topic, String message, boolean persistent) throws JMSException {
+        sendMessagesToTopic(topic, List.of(message), persistent);
+    }
 
-            TextMessage textMessage = session.createTextMessage(message);
-            tenantPropertyManager.setCurrentTenant(textMessage);
+    /**
+     * Send messages to topic in a single transaction with the configured default delivery mode.
+     *
+     * @param topic the topic
+     * @param messages the messages
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessagesToTopic(String topic, List<String> messages) throws JMSException {
+        sendMessagesToTopic(topic, messages, isTopicPersistent());
+    }
 
-            producer.send(textMessage);
-            LOGGER.trace("Message sent in [{}]", destination);
-        }
+    /**
+     * Send messages to topic in a single transaction.
+     *
+     * @param topic the topic
+     * @param messages the messages
+     * @param persistent false for fire-and-forget delivery, which does not survive a broker restart
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessagesToTopic(String topic, List<String> messages, boolean persistent) throws JMSException {
+        String destinationName = destinationNameManager.toTenantName(topic);
+        sendMessages(messages, destinationName, true, persistent ? DeliveryMode.PERSISTENT : DeliveryMode.NON_PERSISTENT);
     }
 
     /**
@@ -89,9 +109,61 @@ public class MessageProducer {
      * @throws JMSException the JMS exception
      */
     public void sendMessageToQueue(String queue, String message) throws JMSException {
+        sendMessagesToQueue(queue, List.of(message));
+    }
+
+    /**
+     * Send messages to queue in a single transaction.
+     *
+     * @param queue the queue
+     * @param messages the messages
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessagesToQueue(String queue, List<String> messages) throws JMSException {
         String destinationName = destinationNameManager.toTenantName(queue);
-        Destination destination = session.createQueue(destinationName);
-        sendMessage(message, destination);
+        sendMessages(messages, destinationName, false, DeliveryMode.PERSISTENT);
+    }
+
+    /**
+     * Send the messages with a pooled session and commit them at once. The session is dropped from the
+     * pool on failure.
+     *
+     * @param messages the messages
+     * @param destinationName the destination name
+     * @param topic true for a topic, false for a queue
+     * @param deliveryMode the delivery mode
+     * @throws JMSException the JMS exception
+     */
+    private void sendMessages(List<String> messages, String destinationName, boolean topic, int deliveryMode) throws JMSException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        PooledSession pooled = sessionPool.borrow();
+        try {
+            Session session = pooled.getSession();
+            jakarta.jms.MessageProducer producer = pooled.getProducer(destinationName, topic);
+            producer.setDeliveryMode(deliveryMode);
+            for (String message : messages) {
+                TextMessage textMessage = session.createTextMessage(message);
+                tenantPropertyManager.setCurrentTenant(textMessage);
+                producer.send(textMessage);
+            }
+            session.commit();
+            LOGGER.trace("[{}] message(s) sent in [{}]", messages.size(), destinationName);
+        } catch (JMSException | RuntimeException ex) {
+            sessionPool.invalidate(pooled);
+            throw ex;
+        }
+        sessionPool.release(pooled);
+    }
+
+    /**
+     * Checks whether the topic messages are persistent by default.
+     *
+     * @return true, if persistent
+     */
+    private static boolean isTopicPersistent() {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_MESSAGING_TOPIC_PERSISTENT, "true"));
     }
 
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import jakarta.jms.Connection;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+/**
+ * Bounded pool of transacted sessions used for sending messages. A session is used by a single
+ * thread at a time and keeps its producers cached per destination, so that sending does not create
+ * a session, a destination and a producer per message.
+ */
+@Component
+public class ProducerSessionPool {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProducerSessionPool.class);
+
+    /** The Constant DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE. */
+    private static final String DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE = "DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE";
+
+    /** The Constant DIRIGIBLE_MESSAGING_PRODUCER_POOL_TIMEOUT. */
+    private static final String DIRIGIBLE_MESSAGING_PRODUCER_POOL_TIMEOUT = "DIRIGIBLE_MESSAGING_PRODUCER_POOL_TIMEOUT";
+
+    /** The Constant DIRIGIBLE_MESSAGING_PRODUCER_CACHE_SIZE. */
+    private static final String DIRIGIBLE_MESSAGING_PRODUCER_CACHE_SIZE = "DIRIGIBLE_MESSAGING_PRODUCER_CACHE_SIZE";
+
+    /** The session factory. */
+    private final SessionFactory sessionFactory;
+
+    /** The max number of sessions. */
+    private final int maxSize;
+
+    /** The borrow timeout in milliseconds. */
+    private final long timeout;
+
+    /** The max number of cached producers per session. */
+    private final int producerCacheSize;
+
+    /** The lock guarding the idle sessions, the size and the closed flag. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Signalled when a session is released, a place is freed or the pool is closed. */
+    private final Condition available = lock.newCondition();
+
+    /** The idle sessions. */
+    private final Deque<PooledSession> idle = new ArrayDeque<>();
+
+    /** The number of the open sessions. */
+    private int size;
+
+    /** The closed flag. */
+    private boolean closed;
+
+    /**
+     * Instantiates a new producer session pool.
+     *
+     * @param connection the connection
+     */
+    @Autowired
+    ProducerSessionPool(@Qualifier("ActiveMQConnection") Connection connection) {
+        this(() -> connection.createSession(true, Session.SESSION_TRANSACTED),
+                Configuration.getAsInt(DIRIGIBLE_MESSAGING_PRODUCER_POOL_SIZE, Runtime.getRuntime()
+                                                                                      .availableProcessors()),
+                Configuration.getAsInt(DIRIGIBLE_MESSAGING_PRODUCER_POOL_TIMEOUT, 30000),
+                Configuration.getAsInt(DIRIGIBLE_MESSAGING_PRODUCER_CACHE_SIZE, 100));
+    }
+
+    /**
+     * Instantiates a new producer session pool.
+     *
+     * @param sessionFactory the session factory
+     * @param maxSize the max number of sessions
+     * @param timeout the borrow timeout in milliseconds
+     * @param producerCacheSize the max number of cached producers per session
+     */
+    ProducerSessionPool(SessionFactory sessionFactory, int maxSize, long timeout, int producerCacheSize) {
+        this.sessionFactory = sessionFactory;
+        this.maxSize = Math.max(1, maxSize);
+        this.timeout = timeout;
+        this.producerCacheSize = Math.max(1, producerCacheSize);
+    }
+
+    /**
+     * Borrow a session. The session must be given back with {@link #release(PooledSession)} or
+     * {@link #invalidate(PooledSession)}.
+     *
+     * @return the pooled session
+     * @throws JMSException if the pool is closed, exhausted or the session cannot be created
+     */
+    PooledSession borrow() throws JMSException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new JMSException("Producer session pool is closed");
+                }
+                PooledSession pooled = idle.poll();
+                if (pooled != null) {
+                    return pooled;
+                }
+                if (size < maxSize) {
+                    size++;
+                    break;
+                }
+                if (remaining <= 0) {
+                    throw new JMSException("Timeout of [" + timeout + "] ms while waiting for a producer session");
+                }
+                try {
+                    remaining = available.awaitNanos(remaining);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread()
+                          .interrupt();
+                    throw new JMSException("Interrupted while waiting for a producer session");
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            return new PooledSession(sessionFactory.create());
+        } catch (JMSException | RuntimeException ex) {
+            free();
+            throw ex;
+        }
+    }
+
+    /**
+     * Give back a healthy session to the pool.
+     *
+     * @param pooled the pooled session
+     */
+    void release(PooledSession pooled) {
+        lock.lock();
+        try {
+            if (!closed) {
+                idle.offer(pooled);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        invalidate(pooled);
+    }
+
+    /**
+     * Close a session, which is not usable anymore, and free its place in the pool.
+     *
+     * @param pooled the pooled session
+     */
+    void invalidate(PooledSession pooled) {
+        free();
+        pooled.close();
+    }
+
+    /**
+     * Free the place of a session and wake up a waiting borrower to take it.
+     */
+    private void free() {
+        lock.lock();
+        try {
+            size--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the pool and the idle sessions. The sessions in use are closed on release, the waiting
+     * borrowers fail.
+     */
+    public void close() {
+        Deque<PooledSession> sessions;
+        lock.lock();
+        try {
+            closed = true;
+            sessions = new ArrayDeque<>(idle);
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (PooledSession pooled : sessions) {
+            invalidate(pooled);
+        }
+    }
+
+    /**
+     * The factory of the pooled sessions.
+     */
+    @FunctionalInterface
+    interface SessionFactory {
+
+        /**
+         * Creates the session.
+         *
+         * @return the session
+         * @throws JMSException the JMS exception
+         */
+        Session create() throws JMSException;
+    }
+
+    /**
+     * The pooled session together with its cached producers.
+     */
+    class PooledSession {
+
+        /** The session. */
+        private final Session session;
+
+        /** The producers per destination, the least recently used is closed first. */
+        private final Map<String, jakarta.jms.MessageProducer> producers = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * Instantiates a new pooled session.
+         *
+         * @param session the session
+         */
+        PooledSession(Session session) {
+            this.session = session;
+        }
+
+        /**
+         * Gets the session.
+         *
+         * @return the session
+         */
+        Session getSession() {
+            return session;
+        }
+
+        /**
+         * Gets the cached producer for the destination or creates a new one.
+         *
+         * @param destinationName the destination name
+         * @param topic true for a topic, false for a queue
+         * @return the producer
+         * @throws JMSException the JMS exception
+         */
+        jakarta.jms.MessageProducer getProducer(String destinationName, boolean topic) throws JMSException {
+            String key = (topic ? "topic://" : "queue://") + destinationName;
+            jakarta.jms.MessageProducer producer = producers.get(key);
+            if (producer == null) {
+                Destination destination = topic ? session.createTopic(destinationName) : session.createQueue(destinationName);
+                producer = session.createProducer(destination);
+                producers.put(key, producer);
+                evict();
+            }
+            return producer;
+        }
+
+        /**
+         * Close the least recently used producers above the cache size.
+         */
+        private void evict() {
+            Iterator<jakarta.jms.MessageProducer> iterator = producers.values()
+                                                                      .iterator();
+            while (producers.size() > producerCacheSize && iterator.hasNext()) {
+                jakarta.jms.MessageProducer producer = iterator.next();
+                iterator.remove();
+                try {
+                    producer.close();
+                } catch (JMSException | RuntimeException ex) {
+                    LOGGER.warn("Failed to close producer [{}]", producer, ex);
+                }
+            }
+        }
+
+        /**
+         * Close the session and its producers.
+         */
+        private void close() {
+            producers.clear();
+            try {
+                session.close();
+            } catch (JMSException | RuntimeException ex) {
+                LOGGER.warn("Failed to close producer session [{}]", session, ex);
+            }
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ import jakarta.jms.JMSException;
 import jakarta.jms.Session;
 import org.apache.activemq.broker.BrokerService;
 import org.eclipse.dirigible.components.listeners.service.ListenersManager;
+import org.eclipse.dirigible.components.listeners.service.ProducerSessionPool;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -53,6 +54,10 @@ class CloseActiveMQResourcesApplicationListenerTest {
     @Mock
     private ListenersManager listenersManager;
 
+    /** The producer session pool. */
+    @Mock
+    private ProducerSessionPool producerSessionPool;
+
     /** The closed event. */
     @Mock
     private ContextClosedEvent closedEvent;
@@ -96,11 +101,14 @@ class CloseActiveMQResourcesApplicationListenerTest {
      * @throws Exception the exception
      */
     private void verifyClosedResources() throws JMSException, Exception {
-        InOrder inOrder = Mockito.inOrder(listenersManager, session, connection, broker);
+        InOrder inOrder = Mockito.inOrder(listenersManager, producerSessionPool, session, connection, broker);
 
         inOrder.verify(listenersManager)
                .stopListeners();
 
+        inOrder.verify(producerSessionPool)
+               .close();
+
         inOrder.verify(session)
                .close();
 
@@ -118,7 +126,7 @@ class CloseActiveMQResourcesApplicationListenerTest {
     void testOnNotApplicableEvent() {
         listener.onApplicationEvent(startedEvent);
 
-        verifyNoInteractions(listenersManager, session, connection, broker);
+        verifyNoInteractions(listenersManager, producerSessionPool, session, connection, broker);
     }
 
     /**
@@ -136,6 +144,21 @@ class CloseActiveMQResourcesApplicationListenerTest {
         verifyClosedResources();
     }
 
+    /**
+     * Test close producer sessions doesnt terminate the close.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    void testCloseProducerSessionsDoesntTerminateTheClose() throws Exception {
+        doThrow(RuntimeException.class).when(producerSessionPool)
+                                       .close();
+
+        listener.onApplicationEvent(closedEvent);
+
+        verifyClosedResources();
+    }
+
     /**
      * Test close session doesnt terminate the close.
      *
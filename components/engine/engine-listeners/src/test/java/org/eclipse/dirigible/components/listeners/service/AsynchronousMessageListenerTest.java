@@ -10,11 +10,14 @@
 package org.eclipse.dirigible.components.listeners.service;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
 import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
 import org.junit.jupiter.api.BeforeEach;
@@ -117,4 +120,35 @@ class AsynchronousMessageListenerTest {
         assertThrows(IllegalStateException.class, () -> asyncMessageListener.onMessage(bytesMessage));
     }
 
+    /**
+     * Test on messages.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testOnMessages() throws JMSException {
+        Object array = new Object();
+        when(tenantPropertyManager.getCurrentTenantId(textMessage)).thenReturn(TENANT_ID);
+        doReturn(jsCodeRunner).when(asyncMessageListener)
+                              .createJSCodeRunner();
+        doReturn(array).when(asyncMessageListener)
+                       .createArray(eq(jsCodeRunner), any());
+        when(listenerDescriptor.getHandlerPath()).thenReturn(HANDLER);
+        when(textMessage.getText()).thenReturn(MESSAGE);
+        when(jsCodeRunner.run(HANDLER)).thenReturn(module);
+
+        asyncMessageListener.onMessages(List.of(textMessage, textMessage));
+
+        verify(asyncMessageListener).createArray(jsCodeRunner, List.of(MESSAGE, MESSAGE));
+        verify(jsCodeRunner).runMethod(module, "onMessages", array);
+    }
+
+    /**
+     * Test on messages with unsupported message.
+     */
+    @Test
+    void testOnMessagesWithUnsupportedMessage() {
+        assertThrows(IllegalStateException.class, () -> asyncMessageListener.onMessages(List.of(bytesMessage)));
+    }
+
 }
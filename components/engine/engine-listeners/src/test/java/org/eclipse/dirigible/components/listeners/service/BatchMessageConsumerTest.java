@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+/**
+ * The Class BatchMessageConsumerTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchMessageConsumerTest {
+
+    /** The batch consumer. */
+    private BatchMessageConsumer batchConsumer;
+
+    /** The session. */
+    @Mock
+    private Session session;
+
+    /** The consumer. */
+    @Mock
+    private MessageConsumer consumer;
+
+    /** The message listener. */
+    @Mock
+    private AsynchronousMessageListener messageListener;
+
+    /** The first message. */
+    @Mock
+    private TextMessage first;
+
+    /** The second message. */
+    @Mock
+    private TextMessage second;
+
+    /** The back offs. */
+    private final List<Long> backOffs = new ArrayList<>();
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    void setUp() {
+        batchConsumer = new BatchMessageConsumer(session, consumer, messageListener, 2, 100) {
+
+            @Override
+            synchronized void backOff(long millis) {
+                backOffs.add(millis);
+            }
+        };
+    }
+
+    /**
+     * Stop the consumer on the invocation.
+     *
+     * @return the answer
+     */
+    private Answer<Void> stop() {
+        return invocation -> {
+            batchConsumer.stop();
+            return null;
+        };
+    }
+
+    /**
+     * Test receive batch is limited by the batch size.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testReceiveBatchIsLimitedByBatchSize() throws JMSException {
+        when(consumer.receive(anyLong())).thenReturn(first, second, first);
+
+        assertThat(batchConsumer.receiveBatch()).containsExactly(first, second);
+    }
+
+    /**
+     * Test receive batch without messages.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testReceiveBatchWithoutMessages() throws JMSException {
+        when(consumer.receive(anyLong())).thenReturn(null);
+
+        assertThat(batchConsumer.receiveBatch()).isEmpty();
+    }
+
+    /**
+     * Test run commits the handled batch once.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testRunCommitsHandledBatch() throws JMSException {
+        when(consumer.receive(anyLong())).thenReturn(first, second);
+        doAnswer(stop()).when(session)
+                        .commit();
+
+        batchConsumer.run();
+
+        InOrder inOrder = Mockito.inOrder(messageListener, session);
+        inOrder.verify(messageListener)
+               .onMessages(List.of(first, second));
+        inOrder.verify(session)
+               .commit();
+        verify(session, never()).rollback();
+    }
+
+    /**
+     * Test run rolls back the failed batch.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testRunRollsBackFailedBatch() throws JMSException {
+        when(consumer.receive(anyLong())).thenReturn(first, second);
+        doThrow(java.lang.IllegalStateException.class).when(messageListener)
+                                                      .onMessages(List.of(first, second));
+        doAnswer(stop()).when(session)
+                        .rollback();
+
+        batchConsumer.run();
+
+        verify(session).rollback();
+        verify(session, never()).commit();
+    }
+
+    /**
+     * Test run keeps receiving after a receive failure.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testRunRecoversFromReceiveFailure() throws JMSException {
+        when(consumer.receive(anyLong())).thenReturn(first)
+                                         .thenThrow(JMSException.class)
+                                         .thenThrow(JMSException.class)
+                                         .thenReturn(first, second);
+        doAnswer(stop()).when(session)
+                        .commit();
+
+        batchConsumer.run();
+
+        InOrder inOrder = Mockito.inOrder(messageListener, session);
+        inOrder.verify(session, times(2))
+               .rollback();
+        inOrder.verify(messageListener)
+               .onMessages(List.of(first, second));
+        inOrder.verify(session)
+               .commit();
+        assertThat(backOffs).containsExactly(1000L, 2000L);
+    }
+
+    /**
+     * Test run ends on a receive failure after the stop.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testRunEndsOnReceiveFailureWhenStopped() throws JMSException {
+        when(consumer.receive(anyLong())).thenAnswer(invocation -> {
+            batchConsumer.stop();
+            throw new IllegalStateException("closed");
+        });
+
+        batchConsumer.run();
+
+        verify(session, never()).rollback();
+        assertThat(backOffs).isEmpty();
+    }
+
+}
@@ -75,6 +75,32 @@ class ConnectionArtifactsTest {
         verifyClosedArtifacts();
     }
 
+    /**
+     * Test close all closes the added sessions.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testCloseAllClosesAddedSessions() throws JMSException {
+        Session otherSession = Mockito.mock(Session.class);
+        MessageConsumer otherConsumer = Mockito.mock(MessageConsumer.class);
+        artifacts.add(otherSession, otherConsumer);
+
+        artifacts.closeAll();
+
+        InOrder inOrder = Mockito.inOrder(messageConsumer, otherConsumer, session, otherSession, connection);
+        inOrder.verify(messageConsumer)
+               .close();
+        inOrder.verify(otherConsumer)
+               .close();
+        inOrder.verify(session)
+               .close();
+        inOrder.verify(otherSession)
+               .close();
+        inOrder.verify(connection)
+               .close();
+    }
+
     /**
      * Verify closed artifacts.
      *
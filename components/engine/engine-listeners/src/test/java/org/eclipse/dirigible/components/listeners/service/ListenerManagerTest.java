@@ -220,4 +220,99 @@ class ListenerManagerTest {
         verifyConfiguredMessageListener();
     }
 
+    /**
+     * Test start listener for queue with concurrency.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testStartListenerForQueueWithConcurrency() throws JMSException {
+        mockConnectionAndSession();
+        when(listenerDescriptor.getType()).thenReturn(ListenerType.QUEUE);
+        when(listenerDescriptor.getDestination()).thenReturn(QUEUE);
+        when(listenerDescriptor.getConcurrency()).thenReturn(3);
+
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(consumer);
+
+        manager.startListener();
+
+        verify(connectionArtifactsFactory).createConnection(any(ExceptionListener.class));
+        verify(connectionArtifactsFactory, times(3)).createSession(connection);
+        verify(session, times(3)).createConsumer(queue);
+        verify(consumer, times(3)).setMessageListener(asynchronousMessageListener);
+    }
+
+    /**
+     * Test start listener for topic ignores concurrency.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testStartListenerForTopicIgnoresConcurrency() throws JMSException {
+        mockConnectionAndSession();
+        when(listenerDescriptor.getType()).thenReturn(ListenerType.TOPIC);
+        when(listenerDescriptor.getDestination()).thenReturn(TOPIC);
+        when(listenerDescriptor.getConcurrency()).thenReturn(3);
+
+        when(session.createTopic(TOPIC)).thenReturn(topic);
+        when(session.createConsumer(topic)).thenReturn(consumer);
+
+        manager.startListener();
+
+        verify(connectionArtifactsFactory).createSession(connection);
+        verify(session).createConsumer(topic);
+    }
+
+    /**
+     * Test start listener in batch mode.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testStartListenerInBatchMode() throws JMSException {
+        when(connectionArtifactsFactory.createConnection(any(ExceptionListener.class))).thenReturn(connection);
+        when(connectionArtifactsFactory.createTransactedSession(connection)).thenReturn(session);
+        when(listenerDescriptor.getType()).thenReturn(ListenerType.QUEUE);
+        when(listenerDescriptor.getDestination()).thenReturn(QUEUE);
+        when(listenerDescriptor.getBatchSize()).thenReturn(10);
+
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenReturn(null);
+
+        manager.startListener();
+
+        verify(connectionArtifactsFactory, never()).createSession(connection);
+        verify(consumer, never()).setMessageListener(any());
+        verify(consumer, timeout(1000).atLeastOnce()).receive(anyLong());
+
+        // stops the batch consumer thread
+        manager.stopListener();
+
+        verify(consumer).close();
+    }
+
+    /**
+     * Test start listener on consumer error closes the connection.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testStartListenerOnConsumerErrorClosesArtifacts() throws JMSException {
+        mockConnectionAndSession();
+        when(listenerDescriptor.getType()).thenReturn(ListenerType.QUEUE);
+        when(listenerDescriptor.getDestination()).thenReturn(QUEUE);
+        when(listenerDescriptor.getConcurrency()).thenReturn(2);
+
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(consumer)
+                                           .thenThrow(JMSException.class);
+
+        assertThrows(IllegalStateException.class, () -> manager.startListener());
+
+        verify(consumer).close();
+        verify(connection).close();
+    }
+
 }
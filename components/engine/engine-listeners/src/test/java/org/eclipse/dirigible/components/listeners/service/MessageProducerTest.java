@@ -9,13 +9,19 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import java.util.List;
 import jakarta.jms.*;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +48,6 @@ class MessageProducerTest {
     private static final String TENANT_TOPIC = "1e7252b1-3bca-4285-bd4e-60e19886d063###test-topic";
 
     /** The producer. */
-    @InjectMocks
     private MessageProducer producer;
     /** The session. */
     @Mock
@@ -68,6 +73,15 @@ class MessageProducerTest {
     @Mock
     private TenantPropertyManager tenantPropertyManager;
 
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    void setUp() {
+        ProducerSessionPool sessionPool = new ProducerSessionPool(() -> session, 1, 100, 10);
+        producer = new MessageProducer(sessionPool, destinationNameManager, tenantPropertyManager);
+    }
+
     /**
      * Test send message to topic.
      *
@@ -82,8 +96,31 @@ class MessageProducerTest {
 
         producer.sendMessageToTopic(TOPIC, MESSAGE);
 
+        verify(jsmProducer).setDeliveryMode(DeliveryMode.PERSISTENT);
         verify(jsmProducer).send(txtMessage);
         verify(tenantPropertyManager).setCurrentTenant(txtMessage);
+        verify(session).commit();
+    }
+
+    /**
+     * Test send non persistent message to topic.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendNonPersistentMessageToTopic() throws JMSException {
+        when(destinationNameManager.toTenantName(TOPIC)).thenReturn(TENANT_TOPIC);
+        when(session.createTopic(TENANT_TOPIC)).thenReturn(topic);
+        when(session.createProducer(topic)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessageToTopic(TOPIC, MESSAGE, false);
+
+        InOrder inOrder = Mockito.inOrder(jsmProducer);
+        inOrder.verify(jsmProducer)
+               .setDeliveryMode(DeliveryMode.NON_PERSISTENT);
+        inOrder.verify(jsmProducer)
+               .send(txtMessage);
     }
 
     /**
@@ -104,4 +141,64 @@ class MessageProducerTest {
         verify(tenantPropertyManager).setCurrentTenant(txtMessage);
     }
 
+    /**
+     * Test the producer is reused by the subsequent sends.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesToQueueReusesProducer() throws JMSException {
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessageToQueue(QUEUE, MESSAGE);
+        producer.sendMessageToQueue(QUEUE, MESSAGE);
+
+        verify(session).createQueue(TENANT_QUEUE);
+        verify(session).createProducer(queue);
+        verify(jsmProducer, times(2)).send(txtMessage);
+    }
+
+    /**
+     * Test a batch is committed at once.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesToQueueCommitsBatch() throws JMSException {
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessagesToQueue(QUEUE, List.of(MESSAGE, MESSAGE, MESSAGE));
+
+        InOrder inOrder = Mockito.inOrder(jsmProducer, session);
+        inOrder.verify(jsmProducer, times(3))
+               .send(txtMessage);
+        inOrder.verify(session)
+               .commit();
+    }
+
+    /**
+     * Test a failed session is closed.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessageToQueueClosesFailedSession() throws JMSException {
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+        doThrow(JMSException.class).when(jsmProducer)
+                                   .send(txtMessage);
+
+        assertThrows(JMSException.class, () -> producer.sendMessageToQueue(QUEUE, MESSAGE));
+
+        verify(session).close();
+    }
+
 }
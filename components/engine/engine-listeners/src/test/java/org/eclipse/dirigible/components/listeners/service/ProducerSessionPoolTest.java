@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.dirigible.components.listeners.service.ProducerSessionPool.PooledSession;
+import org.junit.jupiter.api.Test;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+/**
+ * The Class ProducerSessionPoolTest.
+ */
+class ProducerSessionPoolTest {
+
+    /** The pool with a single session and a long borrow timeout. */
+    private final ProducerSessionPool pool = new ProducerSessionPool(() -> mock(Session.class), 1, 30000, 10);
+
+    /**
+     * Borrow in another thread.
+     *
+     * @return the borrowed session
+     */
+    private CompletableFuture<PooledSession> borrowAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.borrow();
+            } catch (JMSException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    /**
+     * Test a released session is taken by the waiting borrower.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    void testReleaseWakesWaiter() throws Exception {
+        PooledSession pooled = pool.borrow();
+        CompletableFuture<PooledSession> waiter = borrowAsync();
+        Thread.sleep(100);
+
+        pool.release(pooled);
+
+        assertSame(pooled, waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test an invalidated session frees its place for the waiting borrower.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    void testInvalidateWakesWaiter() throws Exception {
+        PooledSession pooled = pool.borrow();
+        CompletableFuture<PooledSession> waiter = borrowAsync();
+        Thread.sleep(100);
+
+        pool.invalidate(pooled);
+
+        PooledSession created = waiter.get(5, TimeUnit.SECONDS);
+        assertNotNull(created);
+        verify(pooled.getSession()).close();
+    }
+
+    /**
+     * Test closing the pool fails the waiting borrower and closes the released session.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    void testCloseWakesWaiter() throws Exception {
+        PooledSession pooled = pool.borrow();
+        CompletableFuture<PooledSession> waiter = borrowAsync();
+        Thread.sleep(100);
+
+        pool.close();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertNotNull(ex.getCause());
+        pool.release(pooled);
+        verify(pooled.getSession()).close();
+    }
+
+    /**
+     * Test the borrow timeout.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    void testTimeout() throws Exception {
+        ProducerSessionPool shortPool = new ProducerSessionPool(() -> mock(Session.class), 1, 50, 10);
+        shortPool.borrow();
+
+        assertThrows(JMSException.class, shortPool::borrow);
+    }
+
+}
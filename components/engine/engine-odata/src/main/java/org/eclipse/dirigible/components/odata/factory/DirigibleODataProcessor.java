@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.factory;
+
+import java.io.ByteArrayInputStream;
+import org.apache.olingo.odata2.api.commons.HttpStatusCodes;
+import org.apache.olingo.odata2.api.commons.ODataHttpHeaders;
+import org.apache.olingo.odata2.api.edm.EdmServiceMetadata;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.apache.olingo.odata2.api.processor.ODataResponse;
+import org.apache.olingo.odata2.api.uri.info.GetMetadataUriInfo;
+import org.eclipse.dirigible.components.odata.factory.ODataModel.MetadataDocument;
+import org.eclipse.dirigible.engine.odata2.sql.api.OData2EventHandler;
+import org.eclipse.dirigible.engine.odata2.sql.processor.DefaultSQLProcessor;
+
+/**
+ * The SQL processor bound to a cached OData model. The metadata document is served from the
+ * serialized document of the model with an entity tag.
+ */
+class DirigibleODataProcessor extends DefaultSQLProcessor {
+
+    /** The Constant IF_NONE_MATCH. */
+    private static final String IF_NONE_MATCH = "If-None-Match";
+
+    /** The model. */
+    private final ODataModel model;
+
+    /**
+     * Instantiates a new dirigible O data processor.
+     *
+     * @param model the model
+     * @param odata2EventHandler the odata 2 event handler
+     */
+    DirigibleODataProcessor(ODataModel model, OData2EventHandler odata2EventHandler) {
+        super(model.getTableMappingProvider(), odata2EventHandler);
+        this.model = model;
+    }
+
+    /**
+     * Read metadata.
+     *
+     * @param uriInfo the uri info
+     * @param contentType the content type
+     * @return the o data response
+     * @throws ODataException the o data exception
+     */
+    @Override
+    public ODataResponse readMetadata(GetMetadataUriInfo uriInfo, String contentType) throws ODataException {
+        String etag = model.getETag();
+        if (matches(getContext().getRequestHeader(IF_NONE_MATCH), etag)) {
+            return ODataResponse.status(HttpStatusCodes.NOT_MODIFIED)
+                                .eTag(etag)
+                                .build();
+        }
+        EdmServiceMetadata serviceMetadata = getContext().getService()
+                                                         .getEntityDataModel()
+                                                         .getServiceMetadata();
+        MetadataDocument document = model.getMetadataDocument(serviceMetadata);
+        return ODataResponse.status(HttpStatusCodes.OK)
+                            .header(ODataHttpHeaders.DATASERVICEVERSION, document.dataServiceVersion())
+                            .eTag(etag)
+                            .entity(new ByteArrayInputStream(document.content()))
+                            .build();
+    }
+
+    /**
+     * Checks whether the If-None-Match header matches the entity tag.
+     *
+     * @param ifNoneMatch the if none match header
+     * @param etag the etag
+     * @return true, if matches
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -10,13 +10,11 @@
 package org.eclipse.dirigible.components.odata.factory;
 
 import static org.eclipse.dirigible.engine.odata2.sql.processor.DefaultSQLProcessor.DEFAULT_DATA_SOURCE_CONTEXT_KEY;
-import java.io.InputStream;
 import java.util.ServiceLoader;
 import javax.sql.DataSource;
 import org.apache.olingo.odata2.api.ODataCallback;
 import org.apache.olingo.odata2.api.ODataService;
 import org.apache.olingo.odata2.api.ODataServiceFactory;
-import org.apache.olingo.odata2.api.edm.provider.EdmProvider;
 import org.apache.olingo.odata2.api.ep.EntityProvider;
 import org.apache.olingo.odata2.api.exception.ODataApplicationException;
 import org.apache.olingo.odata2.api.exception.ODataException;
@@ -24,13 +22,11 @@ import org.apache.olingo.odata2.api.processor.ODataContext;
 import org.apache.olingo.odata2.api.processor.ODataErrorCallback;
 import org.apache.olingo.odata2.api.processor.ODataErrorContext;
 import org.apache.olingo.odata2.api.processor.ODataResponse;
-import org.apache.olingo.odata2.core.edm.provider.EdmxProvider;
 import org.eclipse.dirigible.commons.api.context.InvalidStateException;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.odata.service.ODataMetadataService;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2EventHandler;
-import org.eclipse.dirigible.engine.odata2.sql.processor.DefaultSQLProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -71,13 +67,26 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
     }
 
     /**
-     * Gets the edm table mapping provider.
+     * Gets the edm table mapping provider of the current model.
      *
      * @return the edm table mapping provider
      * @throws ODataException the o data exception
      */
     public ODataEdmTableMappingProvider getEdmTableMappingProvider() throws ODataException {
-        return new ODataEdmTableMappingProvider();
+        return getModel().getTableMappingProvider();
+    }
+
+    /**
+     * Gets the current model, it is loaded from the metadata and the mappings only after an OData
+     * artefact change.
+     *
+     * @return the model
+     * @throws ODataException the o data exception
+     */
+    private ODataModel getModel() throws ODataException {
+        return ODataModelCache.get()
+                              .getModel(() -> ODataModel.parse(odataMetadataService.getMetadataContent(),
+                                      new ODataEdmTableMappingProvider()));
     }
 
     /**
@@ -90,15 +99,13 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
     @Override
     public ODataService createService(ODataContext ctx) throws ODataException {
         try {
-            EdmProvider edmProvider = new EdmxProvider();
-            InputStream metadata = odataMetadataService.getMetadata();
-            ((EdmxProvider) edmProvider).parse(metadata, false);
+            ODataModel model = getModel();
 
             setDefaultDataSource(ctx);
 
-            DefaultSQLProcessor singleProcessor = new DefaultSQLProcessor(getEdmTableMappingProvider(), getEventHandler());
+            DirigibleODataProcessor singleProcessor = new DirigibleODataProcessor(model, getEventHandler());
 
-            return createODataSingleProcessorService(edmProvider, singleProcessor);
+            return createODataSingleProcessorService(model.getEdmProvider(), singleProcessor);
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
                 logger.error(e.getMessage(), e);
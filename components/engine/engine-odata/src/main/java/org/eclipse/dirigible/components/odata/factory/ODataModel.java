@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.factory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.apache.olingo.odata2.api.edm.EdmServiceMetadata;
+import org.apache.olingo.odata2.api.edm.provider.EdmProvider;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.apache.olingo.odata2.core.edm.provider.EdmxProvider;
+
+/**
+ * The parsed OData model shared by the requests until an OData artefact changes. It consists of the
+ * EDM provider, the table bindings and the serialized metadata document, which is created on the
+ * first $metadata request.
+ */
+class ODataModel {
+
+    /** The edm provider. */
+    private final EdmProvider edmProvider;
+
+    /** The table mapping provider. */
+    private final ODataEdmTableMappingProvider tableMappingProvider;
+
+    /** The entity tag of the metadata document. */
+    private final String etag;
+
+    /** The serialized metadata document. */
+    private volatile MetadataDocument metadataDocument;
+
+    /**
+     * Instantiates a new o data model.
+     *
+     * @param edmProvider the edm provider
+     * @param tableMappingProvider the table mapping provider
+     * @param etag the entity tag of the metadata document
+     */
+    ODataModel(EdmProvider edmProvider, ODataEdmTableMappingProvider tableMappingProvider, String etag) {
+        this.edmProvider = edmProvider;
+        this.tableMappingProvider = tableMappingProvider;
+        this.etag = etag;
+    }
+
+    /**
+     * Parse the model.
+     *
+     * @param edmx the EDMX document
+     * @param tableMappingProvider the table mapping provider
+     * @return the o data model
+     * @throws ODataException the o data exception
+     */
+    static ODataModel parse(byte[] edmx, ODataEdmTableMappingProvider tableMappingProvider) throws ODataException {
+        EdmxProvider edmProvider = new EdmxProvider();
+        edmProvider.parse(new ByteArrayInputStream(edmx), false);
+        return new ODataModel(edmProvider, tableMappingProvider, etag(edmx));
+    }
+
+    /**
+     * Gets the edm provider.
+     *
+     * @return the edm provider
+     */
+    EdmProvider getEdmProvider() {
+        return edmProvider;
+    }
+
+    /**
+     * Gets the table mapping provider.
+     *
+     * @return the table mapping provider
+     */
+    ODataEdmTableMappingProvider getTableMappingProvider() {
+        return tableMappingProvider;
+    }
+
+    /**
+     * Gets the entity tag of the metadata document.
+     *
+     * @return the etag
+     */
+    String getETag() {
+        return etag;
+    }
+
+    /**
+     * Gets the metadata document serialized once from the service metadata of this model.
+     *
+     * @param serviceMetadata the service metadata
+     * @return the metadata document
+     * @throws ODataException the o data exception
+     */
+    MetadataDocument getMetadataDocument(EdmServiceMetadata serviceMetadata) throws ODataException {
+        MetadataDocument document = metadataDocument;
+        if (document == null) {
+            try {
+                document = new MetadataDocument(serviceMetadata.getMetadata()
+                                                               .readAllBytes(),
+                        serviceMetadata.getDataServiceVersion());
+            } catch (IOException e) {
+                throw new ODataException(e);
+            }
+            metadataDocument = document;
+        }
+        return document;
+    }
+
+    /**
+     * Calculate the entity tag.
+     *
+     * @param content the content
+     * @return the entity tag
+     */
+    private static String etag(byte[] content) {
+        try {
+            return "\"" + HexFormat.of()
+                                   .formatHex(MessageDigest.getInstance("MD5")
+                                                           .digest(content))
+                    + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * The serialized metadata document.
+     *
+     * @param content the content
+     * @param dataServiceVersion the data service version
+     */
+    record MetadataDocument(byte[] content, String dataServiceVersion) {
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.factory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the parsed OData model between the OData artefact changes. The model is loaded on the first
+ * request after an invalidation. A model loaded concurrently with an invalidation serves the
+ * request which loaded it, but it is not cached.
+ */
+public class ODataModelCache {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ODataModelCache.class);
+
+    /** The Constant INSTANCE. */
+    private static final ODataModelCache INSTANCE = new ODataModelCache();
+
+    /**
+     * Instantiates a new o data model cache.
+     */
+    ODataModelCache() {}
+
+    /** The version, incremented on each invalidation. */
+    private final AtomicLong version = new AtomicLong();
+
+    /** The cached model. */
+    private volatile ODataModel model;
+
+    /**
+     * Gets the instance.
+     *
+     * @return the o data model cache
+     */
+    public static ODataModelCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Drop the cached model, so that it is loaded again by the next request.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        model = null;
+    }
+
+    /**
+     * Gets the cached model or loads it.
+     *
+     * @param loader the loader
+     * @return the model
+     * @throws ODataException the o data exception
+     */
+    ODataModel getModel(Loader loader) throws ODataException {
+        ODataModel current = model;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = model;
+            if (current != null) {
+                return current;
+            }
+            long loadedVersion = version.get();
+            long start = System.currentTimeMillis();
+            current = loader.load();
+            if (version.get() == loadedVersion) {
+                model = current;
+            }
+            logger.debug("OData model loaded in [{}] ms", System.currentTimeMillis() - start);
+            return current;
+        }
+    }
+
+    /**
+     * The model loader.
+     */
+    @FunctionalInterface
+    interface Loader {
+
+        /**
+         * Load the model.
+         *
+         * @return the o data model
+         * @throws ODataException the o data exception
+         */
+        ODataModel load() throws ODataException;
+    }
+
+}
@@ -26,7 +26,7 @@ import org.eclipse.dirigible.components.engine.javascript.service.JavascriptServ
 import org.eclipse.dirigible.components.odata.api.ODataHandlerMethods;
 import org.eclipse.dirigible.components.odata.api.ODataHandlerTypes;
 import org.eclipse.dirigible.components.odata.domain.ODataHandler;
-import org.eclipse.dirigible.components.odata.service.ODataHandlerService;
+import org.eclipse.dirigible.components.odata.service.ODataHandlerRegistry;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2EventHandler;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.slf4j.Logger;
@@ -73,8 +73,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.create.name();
             String type = ODataHandlerTypes.before.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("requestContentType", requestContentType);
             context.put("contentType", contentType);
@@ -111,8 +111,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.create.name();
             String type = ODataHandlerTypes.after.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("requestContentType", requestContentType);
             context.put("contentType", contentType);
@@ -175,8 +175,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.create.name();
             String type = ODataHandlerTypes.on.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("requestContentType", requestContentType);
             context.put("contentType", contentType);
@@ -211,8 +211,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.create.name();
             String type = ODataHandlerTypes.forbid.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             return handlers.size() > 0;
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
@@ -244,8 +244,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.update.name();
             String type = ODataHandlerTypes.before.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("requestContentType", requestContentType);
             context.put("merge", merge);
@@ -284,8 +284,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.update.name();
             String type = ODataHandlerTypes.after.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("requestContentType", requestContentType);
             context.put("merge", merge);
@@ -338,8 +338,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.update.name();
             String type = ODataHandlerTypes.on.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("requestContentType", requestContentType);
             context.put("merge", merge);
@@ -376,8 +376,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.update.name();
             String type = ODataHandlerTypes.forbid.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             return handlers.size() > 0;
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
@@ -405,8 +405,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.delete.name();
             String type = ODataHandlerTypes.before.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("contentType", contentType);
             executeHandlers(handlers, context);
@@ -438,8 +438,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.delete.name();
             String type = ODataHandlerTypes.after.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("contentType", contentType);
             executeHandlers(handlers, context);
@@ -469,8 +469,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.delete.name();
             String type = ODataHandlerTypes.on.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             return handlers.size() > 0;
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
@@ -498,8 +498,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.delete.name();
             String type = ODataHandlerTypes.on.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             context.put("uriInfo", uriInfo);
             context.put("contentType", contentType);
             String responseMessage = executeHandler(handlers, context);
@@ -531,8 +531,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                  .getName();
             String method = ODataHandlerMethods.delete.name();
             String type = ODataHandlerTypes.forbid.name();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             return handlers.size() > 0;
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
@@ -639,8 +639,8 @@ public class ScriptingOData2EventHandler implements OData2EventHandler {
                                       .getNamespace();
             String name = uriInfo.getTargetType()
                                  .getName();
-            List<ODataHandler> handlers = ODataHandlerService.get()
-                                                             .getByNamespaceNameMethodAndKind(namespace, name, method, type);
+            List<ODataHandler> handlers = ODataHandlerRegistry.get()
+                                                              .getHandlers(namespace, name, method, type);
             return handlers.size() > 0;
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.eclipse.dirigible.components.odata.domain.ODataHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory index of the OData handlers by namespace, name, method and kind. The index is an
+ * immutable snapshot, which is replaced as a whole when the handler artefacts change, so that the
+ * handler lookup during a request is a single hash lookup without a database round-trip.
+ */
+public class ODataHandlerRegistry {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ODataHandlerRegistry.class);
+
+    /** The Constant INSTANCE. */
+    private static final ODataHandlerRegistry INSTANCE = new ODataHandlerRegistry(() -> ODataHandlerService.get()
+                                                                                                           .getAll());
+
+    /** The loader of all the handlers, used for the initial snapshot. */
+    private final Supplier<List<ODataHandler>> loader;
+
+    /** The snapshot, null until loaded. */
+    private volatile Map<HandlerKey, List<ODataHandler>> handlers;
+
+    /**
+     * Instantiates a new o data handler registry.
+     *
+     * @param loader the loader of all the handlers
+     */
+    ODataHandlerRegistry(Supplier<List<ODataHandler>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Gets the instance.
+     *
+     * @return the o data handler registry
+     */
+    public static ODataHandlerRegistry get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the handlers by namespace, name, method and kind.
+     *
+     * @param namespace the namespace
+     * @param name the name
+     * @param method the method
+     * @param kind the kind
+     * @return the handlers, empty if none
+     */
+    public List<ODataHandler> getHandlers(String namespace, String name, String method, String kind) {
+        Map<HandlerKey, List<ODataHandler>> current = handlers;
+        if (current == null) {
+            current = load();
+        }
+        return current.getOrDefault(new HandlerKey(namespace, name, method, kind), List.of());
+    }
+
+    /**
+     * Replace the snapshot with one built from the given handlers.
+     *
+     * @param all all the handlers
+     */
+    public synchronized void rebuild(Collection<ODataHandler> all) {
+        handlers = index(all);
+        logger.debug("OData handlers registry rebuilt with [{}] handlers", all.size());
+    }
+
+    /**
+     * Load the initial snapshot, unless it has been built already.
+     *
+     * @return the snapshot
+     */
+    private synchronized Map<HandlerKey, List<ODataHandler>> load() {
+        if (handlers == null) {
+            rebuild(loader.get());
+        }
+        return handlers;
+    }
+
+    /**
+     * Build the immutable index.
+     *
+     * @param all all the handlers
+     * @return the index
+     */
+    private static Map<HandlerKey, List<ODataHandler>> index(Collection<ODataHandler> all) {
+        Map<HandlerKey, List<ODataHandler>> index = new HashMap<>();
+        for (ODataHandler handler : all) {
+            index.computeIfAbsent(new HandlerKey(handler.getNamespace(), handler.getName(), handler.getMethod(), handler.getKind()),
+                    k -> new ArrayList<>())
+                 .add(handler);
+        }
+        index.replaceAll((k, v) -> List.copyOf(v));
+        return Map.copyOf(index);
+    }
+
+    /**
+     * The lookup key.
+     *
+     * @param namespace the namespace
+     * @param name the name
+     * @param method the method
+     * @param kind the kind
+     */
+    private record HandlerKey(String namespace, String name, String method, String kind) {
+    }
+
+}
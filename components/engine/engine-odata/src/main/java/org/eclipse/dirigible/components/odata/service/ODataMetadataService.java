@@ -48,6 +48,16 @@ public class ODataMetadataService {
      * @throws ODataException the o data exception
      */
     public InputStream getMetadata() throws ODataException {
+        return new ByteArrayInputStream(getMetadataContent());
+    }
+
+    /**
+     * Gets the metadata content.
+     *
+     * @return the metadata content
+     * @throws ODataException the o data exception
+     */
+    public byte[] getMetadataContent() throws ODataException {
         StringBuilder builder = new StringBuilder();
         builder.append("<?xml version='1.0' encoding='UTF-8'?>\n");
         builder.append(
@@ -79,8 +89,8 @@ public class ODataMetadataService {
         builder.append("    </edmx:DataServices>\n");
         builder.append("</edmx:Edmx>\n");
 
-        return new ByteArrayInputStream(builder.toString()
-                                               .getBytes());
+        return builder.toString()
+                      .getBytes();
     }
 
 }
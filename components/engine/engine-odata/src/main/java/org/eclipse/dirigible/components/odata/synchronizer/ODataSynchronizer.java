@@ -19,7 +19,11 @@ import org.eclipse.dirigible.components.base.helpers.JsonHelper;
 import org.eclipse.dirigible.components.base.synchronizer.BaseSynchronizer;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
+import org.eclipse.dirigible.components.data.structures.domain.Schema;
+import org.eclipse.dirigible.components.data.structures.domain.Table;
+import org.eclipse.dirigible.components.data.structures.domain.View;
 import org.eclipse.dirigible.components.odata.domain.*;
+import org.eclipse.dirigible.components.odata.factory.ODataModelCache;
 import org.eclipse.dirigible.components.odata.service.*;
 import org.eclipse.dirigible.components.odata.transformers.DefaultTableMetadataProvider;
 import org.eclipse.dirigible.components.odata.transformers.OData2ODataHTransformer;
@@ -35,6 +39,7 @@ import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Class ListenerSynchronizer.
@@ -253,27 +258,35 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
      * @throws SQLException the SQL exception
      */
     public void generateOData(OData odata) throws SQLException {
-        // METADATA AND MAPPINGS GENERATION LOGIC
-        String[] odataxc = generateODataSchema(odata);
-        String odatax = odataxc[0];
-        String odatac = odataxc[1];
-        ODataSchema odataSchema = new ODataSchema(odata.getLocation(), odata.getName(), null, null, odatax.getBytes());
-        odataSchemaService.save(odataSchema);
-        ODataContainer odataContainer = new ODataContainer(odata.getLocation(), odata.getName(), null, null, odatac.getBytes());
-        odataContainerService.save(odataContainer);
+        try {
+            // METADATA AND MAPPINGS GENERATION LOGIC
+            String[] odataxc = generateODataSchema(odata);
+            String odatax = odataxc[0];
+            String odatac = odataxc[1];
+            ODataSchema odataSchema = new ODataSchema(odata.getLocation(), odata.getName(), null, null, odatax.getBytes());
+            odataSchemaService.save(odataSchema);
+            ODataContainer odataContainer = new ODataContainer(odata.getLocation(), odata.getName(), null, null, odatac.getBytes());
+            odataContainerService.save(odataContainer);
 
-        String[] odatams = generateODataMappings(odata);
-        int i = 1;
-        for (String odatam : odatams) {
-            ODataMapping odataMapping = new ODataMapping(odata.getLocation(), odata.getName() + "#" + i++, null, null, odatam.getBytes());
-            odataMappingService.save(odataMapping);
-        }
+            String[] odatams = generateODataMappings(odata);
+            int i = 1;
+            for (String odatam : odatams) {
+                ODataMapping odataMapping =
+                        new ODataMapping(odata.getLocation(), odata.getName() + "#" + i++, null, null, odatam.getBytes());
+                odataMappingService.save(odataMapping);
+            }
 
-        List<ODataHandler> odatahs = generateODataHandlers(odata);
-        for (ODataHandler odatah : odatahs) {
-            ODataHandler odataHandler = new ODataHandler(odata.getLocation(), odatah.getName() + "#" + i++, null, null,
-                    odatah.getNamespace(), odatah.getMethod(), odatah.getKind(), odatah.getHandler());
-            odataHandlerService.save(odataHandler);
+            List<ODataHandler> odatahs = generateODataHandlers(odata);
+            for (ODataHandler odatah : odatahs) {
+                ODataHandler odataHandler = new ODataHandler(odata.getLocation(), odatah.getName() + "#" + i++, null, null,
+                        odatah.getNamespace(), odatah.getMethod(), odatah.getKind(), odatah.getHandler());
+                odataHandlerService.save(odataHandler);
+            }
+            ODataHandlerRegistry.get()
+                                .rebuild(odataHandlerService.getAll());
+        } finally {
+            ODataModelCache.get()
+                           .invalidate();
         }
     }
 
@@ -316,11 +329,18 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
      * @param odata the odata
      */
     public void cleanupOData(OData odata) {
-        // CLEAN UP LOGIC
-        odataSchemaService.removeSchema(odata.getLocation());
-        odataContainerService.removeContainer(odata.getLocation());
-        odataMappingService.removeMappings(odata.getLocation());
-        odataHandlerService.removeHandlers(odata.getLocation());
+        try {
+            // CLEAN UP LOGIC
+            odataSchemaService.removeSchema(odata.getLocation());
+            odataContainerService.removeContainer(odata.getLocation());
+            odataMappingService.removeMappings(odata.getLocation());
+            odataHandlerService.removeHandlers(odata.getLocation());
+            ODataHandlerRegistry.get()
+                                .rebuild(odataHandlerService.getAll());
+        } finally {
+            ODataModelCache.get()
+                           .invalidate();
+        }
     }
 
     /**
@@ -335,10 +355,15 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
             odataContainerService.removeContainer(odata.getLocation());
             odataMappingService.removeMappings(odata.getLocation());
             odataHandlerService.removeHandlers(odata.getLocation());
+            ODataHandlerRegistry.get()
+                                .rebuild(odataHandlerService.getAll());
             getService().delete(odata);
         } catch (Exception e) {
             callback.addError(e.getMessage());
             callback.registerState(this, odata, ArtefactLifecycle.DELETED, e);
+        } finally {
+            ODataModelCache.get()
+                           .invalidate();
         }
     }
 
@@ -372,4 +397,14 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
         return OData.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(Table.ARTEFACT_TYPE, View.ARTEFACT_TYPE, Schema.ARTEFACT_TYPE);
+    }
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.telemetry;
+
+import java.util.function.ToLongFunction;
+import org.eclipse.dirigible.engine.odata2.sql.processor.EntitySetMetrics;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * The Class ODataEntitySetMetricsConfigurator.
+ */
+@Component
+class ODataEntitySetMetricsConfigurator implements ApplicationListener<ApplicationReadyEvent> {
+
+    /** The Constant METER_SCOPE_NAME. */
+    private static final String METER_SCOPE_NAME = "dirigible-odata";
+
+    /** The Constant ENTITY_SET. */
+    private static final AttributeKey<String> ENTITY_SET = AttributeKey.stringKey("entity_set");
+
+    /** The open telemetry. */
+    private final OpenTelemetry openTelemetry;
+
+    /**
+     * Instantiates a new o data entity set metrics configurator.
+     *
+     * @param openTelemetry the open telemetry
+     */
+    ODataEntitySetMetricsConfigurator(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+    }
+
+    /**
+     * On application event.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Meter meter = openTelemetry.getMeter(METER_SCOPE_NAME);
+
+        meter.counterBuilder("odata_entity_set_reads")
+             .setDescription("Number of the entity set reads")
+             .buildWithCallback(observation -> record(observation, EntitySetMetrics::getReads));
+
+        meter.counterBuilder("odata_entity_set_streamed_reads")
+             .setDescription("Number of the entity set reads serialized straight from the database cursor")
+             .buildWithCallback(observation -> record(observation, EntitySetMetrics::getStreamedReads));
+
+        meter.counterBuilder("odata_entity_set_rows")
+             .setDescription("Number of the entities returned by the entity set reads")
+             .buildWithCallback(observation -> record(observation, EntitySetMetrics::getRows));
+
+        meter.gaugeBuilder("odata_entity_set_max_rows")
+             .setDescription("Max number of the entities returned by a single entity set read")
+             .ofLongs()
+             .buildWithCallback(observation -> record(observation, EntitySetMetrics::getMaxRows));
+
+        meter.counterBuilder("odata_entity_set_allocated_bytes")
+             .setDescription("Heap allocated while reading and serializing the entity sets")
+             .setUnit("By")
+             .buildWithCallback(observation -> record(observation, EntitySetMetrics::getAllocatedBytes));
+    }
+
+    /**
+     * Record a value per entity set.
+     *
+     * @param observation the observation
+     * @param value the value
+     */
+    private static void record(ObservableLongMeasurement observation, ToLongFunction<EntitySetMetrics> value) {
+        EntitySetMetrics.getAll()
+                        .forEach((entitySet, metrics) -> observation.record(value.applyAsLong(metrics),
+                                Attributes.of(ENTITY_SET, entitySet)));
+    }
+
+}
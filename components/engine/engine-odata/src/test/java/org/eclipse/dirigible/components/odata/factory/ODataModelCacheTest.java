@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ODataModelCacheTest.
+ */
+public class ODataModelCacheTest {
+
+    /**
+     * Test the model is loaded once until invalidated.
+     *
+     * @throws ODataException the o data exception
+     */
+    @Test
+    public void testLoadedOnceUntilInvalidated() throws ODataException {
+        ODataModelCache cache = new ODataModelCache();
+        AtomicInteger loads = new AtomicInteger();
+        ODataModelCache.Loader loader = () -> new ODataModel(null, null, "\"" + loads.incrementAndGet() + "\"");
+
+        ODataModel first = cache.getModel(loader);
+        assertSame(first, cache.getModel(loader));
+        assertEquals(1, loads.get());
+
+        cache.invalidate();
+
+        assertNotSame(first, cache.getModel(loader));
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Test a model loaded concurrently with an invalidation is not cached.
+     *
+     * @throws ODataException the o data exception
+     */
+    @Test
+    public void testModelLoadedDuringInvalidationIsNotCached() throws ODataException {
+        ODataModelCache cache = new ODataModelCache();
+        AtomicInteger loads = new AtomicInteger();
+        ODataModelCache.Loader loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                cache.invalidate();
+            }
+            return new ODataModel(null, null, "\"" + loads.get() + "\"");
+        };
+
+        ODataModel stale = cache.getModel(loader);
+        ODataModel fresh = cache.getModel(loader);
+
+        assertNotSame(stale, fresh);
+        assertSame(fresh, cache.getModel(loader));
+    }
+
+    /**
+     * Test the If-None-Match header matching.
+     */
+    @Test
+    public void testIfNoneMatch() {
+        assertTrue(DirigibleODataProcessor.matches("\"abc\"", "\"abc\""));
+        assertTrue(DirigibleODataProcessor.matches("\"x\", W/\"abc\"", "\"abc\""));
+        assertTrue(DirigibleODataProcessor.matches("*", "\"abc\""));
+        assertFalse(DirigibleODataProcessor.matches("\"x\"", "\"abc\""));
+        assertFalse(DirigibleODataProcessor.matches(null, "\"abc\""));
+    }
+
+}
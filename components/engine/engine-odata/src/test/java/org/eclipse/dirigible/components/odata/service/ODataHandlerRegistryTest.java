@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.dirigible.components.odata.domain.ODataHandler;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ODataHandlerRegistryTest.
+ */
+public class ODataHandlerRegistryTest {
+
+    /**
+     * Test lookup.
+     */
+    @Test
+    public void testLookup() {
+        ODataHandler first = handler("FirstType", "create", "before", "/a.js");
+        ODataHandler second = handler("FirstType", "create", "before", "/b.js");
+        ODataHandler other = handler("FirstType", "update", "after", "/c.js");
+        AtomicInteger loads = new AtomicInteger();
+        ODataHandlerRegistry registry = new ODataHandlerRegistry(() -> {
+            loads.incrementAndGet();
+            return List.of(first, second, other);
+        });
+
+        assertEquals(List.of(first, second), registry.getHandlers("org.test", "FirstType", "create", "before"));
+        assertEquals(List.of(other), registry.getHandlers("org.test", "FirstType", "update", "after"));
+        assertTrue(registry.getHandlers("org.test", "SecondType", "create", "before")
+                           .isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * Test rebuild.
+     */
+    @Test
+    public void testRebuild() {
+        ODataHandler first = handler("FirstType", "create", "before", "/a.js");
+        ODataHandlerRegistry registry = new ODataHandlerRegistry(() -> List.of(first));
+        assertEquals(List.of(first), registry.getHandlers("org.test", "FirstType", "create", "before"));
+
+        registry.rebuild(List.of());
+        assertTrue(registry.getHandlers("org.test", "FirstType", "create", "before")
+                           .isEmpty());
+    }
+
+    /**
+     * Handler.
+     *
+     * @param name the name
+     * @param method the method
+     * @param kind the kind
+     * @param handler the handler
+     * @return the o data handler
+     */
+    private static ODataHandler handler(String name, String method, String kind, String handler) {
+        return new ODataHandler("/test.odata", name, null, null, "org.test", method, kind, handler);
+    }
+
+}
@@ -20,6 +20,7 @@ import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
 import org.eclipse.dirigible.components.security.domain.Access;
 import org.eclipse.dirigible.components.security.domain.Constraints;
+import org.eclipse.dirigible.components.security.domain.Role;
 import org.eclipse.dirigible.components.security.service.AccessService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,7 @@ import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The Class AccessSynchronizer.
@@ -209,4 +211,14 @@ public class AccessSynchronizer extends BaseSynchronizer<Access, Long> {
         return Access.ARTEFACT_TYPE;
     }
 
+    /**
+     * Gets the dependency types.
+     *
+     * @return the dependency types
+     */
+    @Override
+    public Set<String> getDependencyTypes() {
+        return Set.of(Role.ARTEFACT_TYPE);
+    }
+
 }
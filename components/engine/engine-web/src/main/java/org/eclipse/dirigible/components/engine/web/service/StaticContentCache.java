@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the content hashes and the gzip variants of the static web content. The hashes of the
+ * registry files are kept by file and are recomputed only when the file changes, the compressed
+ * variants are kept by content hash, so that they are shared by identical files and never stale.
+ */
+@Component
+public class StaticContentCache {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(StaticContentCache.class);
+
+    /** The Constant DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE. */
+    private static final String DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE = "DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE";
+
+    /** The Constant DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE. */
+    private static final String DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE = "DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE";
+
+    /** The Constant DIRIGIBLE_WEB_COMPRESSION_CACHE_SIZE. */
+    private static final String DIRIGIBLE_WEB_COMPRESSION_CACHE_SIZE = "DIRIGIBLE_WEB_COMPRESSION_CACHE_SIZE";
+
+    /** The min size of the content to be compressed. */
+    private final long minSize = Configuration.getAsInt(DIRIGIBLE_WEB_COMPRESSION_MIN_SIZE, 1024);
+
+    /** The max size of the content to be compressed. */
+    private final long maxSize = Configuration.getAsInt(DIRIGIBLE_WEB_COMPRESSION_MAX_SIZE, 4 * 1024 * 1024);
+
+    /** The max total size of the cached compressed variants. */
+    private final long cacheSize = Configuration.getAsInt(DIRIGIBLE_WEB_COMPRESSION_CACHE_SIZE, 64 * 1024 * 1024);
+
+    /** The hashes by file path. */
+    private final Map<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /** The gzip variants by content hash, the least recently used are evicted first. */
+    private final Map<String, byte[]> compressed = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The total size of the compressed variants. */
+    private long compressedSize;
+
+    /**
+     * Gets the hash of the file content.
+     *
+     * @param file the file
+     * @return the hash
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public String getHash(File file) throws IOException {
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long size = file.length();
+        Fingerprint fingerprint = fingerprints.get(key);
+        if (fingerprint == null || fingerprint.lastModified() != lastModified || fingerprint.size() != size) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                fingerprint = new Fingerprint(lastModified, size, hash(in));
+            }
+            fingerprints.put(key, fingerprint);
+        }
+        return fingerprint.hash();
+    }
+
+    /**
+     * Gets the hash of the content.
+     *
+     * @param content the content
+     * @return the hash
+     */
+    public String getHash(byte[] content) {
+        MessageDigest digest = newDigest();
+        return encode(digest.digest(content));
+    }
+
+    /**
+     * Checks if content of this type and size is worth compressing.
+     *
+     * @param contentType the content type
+     * @param size the size
+     * @return true, if compressible
+     */
+    public boolean isCompressible(String contentType, long size) {
+        return size >= minSize && size <= maxSize && isCompressible(contentType);
+    }
+
+    /**
+     * Checks if content of this type is compressible, i.e. text-based.
+     *
+     * @param contentType the content type
+     * @return true, if compressible
+     */
+    public static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("text/") || type.contains("javascript") || type.contains("json") || type.contains("xml")
+                || type.contains("svg");
+    }
+
+    /**
+     * Gets the gzip variant of the content with the given hash, compressing it if not cached.
+     *
+     * @param hash the content hash
+     * @param content the content supplier, used if not cached
+     * @return the compressed content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public byte[] getGzip(String hash, ContentSupplier content) throws IOException {
+        byte[] gzip;
+        synchronized (compressed) {
+            gzip = compressed.get(hash);
+        }
+        if (gzip == null) {
+            gzip = gzip(content.get());
+            put(hash, gzip);
+        }
+        return gzip;
+    }
+
+    /**
+     * Compute the hashes and the gzip variants of the compressible files, so that they are ready before
+     * the first request.
+     *
+     * @param file the file or the folder
+     */
+    public void warm(File file) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    warm(child);
+                }
+            }
+            return;
+        }
+        if (!file.isFile()
+                || !isCompressible(ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(file.getName())), file.length())) {
+            return;
+        }
+        try {
+            getGzip(getHash(file), () -> Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            logger.warn("Failed to prepare the static content of [{}]", file, e);
+        }
+    }
+
+    /**
+     * Forget the hashes of the file or the files in the folder.
+     *
+     * @param file the file or the folder
+     */
+    public void invalidate(File file) {
+        String prefix = file.getAbsolutePath();
+        fingerprints.keySet()
+                    .removeIf(key -> key.equals(prefix) || key.startsWith(prefix + File.separator));
+    }
+
+    /**
+     * Cache the compressed variant, evicting the least recently used ones above the cache size.
+     *
+     * @param hash the hash
+     * @param gzip the compressed content
+     */
+    private void put(String hash, byte[] gzip) {
+        if (gzip.length > cacheSize) {
+            return;
+        }
+        synchronized (compressed) {
+            byte[] previous = compressed.put(hash, gzip);
+            compressedSize += gzip.length - (previous != null ? previous.length : 0);
+            Iterator<byte[]> iterator = compressed.values()
+                                                  .iterator();
+            while (compressedSize > cacheSize && iterator.hasNext()) {
+                compressedSize -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Hash the stream.
+     *
+     * @param in the input stream
+     * @return the hash
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static String hash(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+            digestIn.transferTo(OutputStream.nullOutputStream());
+        }
+        return encode(digest.digest());
+    }
+
+    /**
+     * Gzip the content.
+     *
+     * @param content the content
+     * @return the compressed content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * New digest.
+     *
+     * @return the message digest
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Encode the digest.
+     *
+     * @param digest the digest
+     * @return the encoded digest
+     */
+    private static String encode(byte[] digest) {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(digest);
+    }
+
+    /**
+     * The supplier of the content to be compressed.
+     */
+    @FunctionalInterface
+    public interface ContentSupplier {
+
+        /**
+         * Gets the content.
+         *
+         * @return the content
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        byte[] get() throws IOException;
+    }
+
+    /**
+     * The hash of a file with the attributes it has been computed for.
+     *
+     * @param lastModified the last modified
+     * @param size the size
+     * @param hash the hash
+     */
+    private record Fingerprint(long lastModified, long size, String hash) {
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.service;
+
+import java.io.File;
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prepares the hashes and the compressed variants of the static content when it is published, and
+ * forgets them when it is unpublished.
+ */
+@Component
+public class StaticContentPublisherHandler implements PublisherHandler {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(StaticContentPublisherHandler.class);
+
+    /** The repository. */
+    private final IRepository repository;
+
+    /** The static content cache. */
+    private final StaticContentCache staticContentCache;
+
+    /**
+     * Instantiates a new static content publisher handler.
+     *
+     * @param repository the repository
+     * @param staticContentCache the static content cache
+     */
+    @Autowired
+    public StaticContentPublisherHandler(IRepository repository, StaticContentCache staticContentCache) {
+        this.repository = repository;
+        this.staticContentCache = staticContentCache;
+    }
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        File file = getFile(registryLocation);
+        if (file != null) {
+            staticContentCache.invalidate(file);
+            staticContentCache.warm(file);
+        }
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        File file = getFile(location);
+        if (file != null) {
+            staticContentCache.invalidate(file);
+        }
+    }
+
+    /**
+     * Gets the file of the registry location, if the repository is on the file system.
+     *
+     * @param location the location
+     * @return the file or null
+     */
+    private File getFile(String location) {
+        if (location == null) {
+            return null;
+        }
+        try {
+            return new File(repository.getInternalResourcePath(location));
+        } catch (RepositoryException e) {
+            logger.debug("Static content of [{}] is not on the file system", location, e);
+            return null;
+        }
+    }
+
+}
@@ -12,13 +12,15 @@ package org.eclipse.dirigible.components.engine.web.service;
 import jakarta.servlet.http.HttpServletRequest;
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
-import org.eclipse.dirigible.commons.config.ResourcesCache;
-import org.eclipse.dirigible.commons.config.ResourcesCache.Cache;
 import org.eclipse.dirigible.components.registry.accessor.RegistryAccessor;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryException;
 import org.eclipse.dirigible.repository.api.RepositoryNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -28,7 +30,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.context.annotation.RequestScope;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * The Class WebService.
@@ -37,12 +46,27 @@ import java.nio.charset.StandardCharsets;
 @RequestScope
 public class WebService {
 
-    /** The Constant WEB_CACHE. */
-    private static final Cache WEB_CACHE = ResourcesCache.getWebCache();
-
     /** The Constant INDEX_HTML. */
     private static final String INDEX_HTML = "index.html";
 
+    /**
+     * The Constant DIRIGIBLE_WEB_IMMUTABLE_PATTERN, the pattern of the paths of the assets which change
+     * their name with their content, e.g. the bundles of a build, none by default.
+     */
+    private static final String DIRIGIBLE_WEB_IMMUTABLE_PATTERN = "DIRIGIBLE_WEB_IMMUTABLE_PATTERN";
+
+    /** The Constant DIRIGIBLE_WEB_IMMUTABLE_MAX_AGE. */
+    private static final String DIRIGIBLE_WEB_IMMUTABLE_MAX_AGE = "DIRIGIBLE_WEB_IMMUTABLE_MAX_AGE";
+
+    /** The compiled immutable patterns. */
+    private static final Map<String, Pattern> IMMUTABLE_PATTERNS = new ConcurrentHashMap<>();
+
+    /** The Constant GZIP. */
+    private static final String GZIP = "gzip";
+
+    /** The Constant BROTLI. */
+    private static final String BROTLI = "br";
+
     /** The request. */
     @Autowired
     private HttpServletRequest request;
@@ -51,6 +75,10 @@ public class WebService {
     @Autowired
     private RegistryAccessor registryAccessor;
 
+    /** The static content cache. */
+    @Autowired
+    private StaticContentCache staticContentCache;
+
     /**
      * Gets the resource.
      *
@@ -63,34 +91,34 @@ public class WebService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Listing of web folders is forbidden.");
         } else if (path.trim()
                        .endsWith(IRepositoryStructure.SEPARATOR)) {
-            return getResourceByPath(path + INDEX_HTML);
+            return getResourceByPath(path + INDEX_HTML, false);
         }
-        ResponseEntity resourceResponse = getResourceByPath(path);
-        if (!Configuration.isProductiveIFrameEnabled()) {
-            resourceResponse.getHeaders()
-                            .add("X-Frame-Options", "Deny");
-        }
-        return resourceResponse;
+        return getResourceByPath(path, !Configuration.isProductiveIFrameEnabled());
     }
 
     /**
      * Gets the resource by path.
      *
      * @param path the path
+     * @param denyFrame whether to deny the framing
      * @return the resource by path
      */
-    private ResponseEntity getResourceByPath(String path) {
-        if (isCached(path)) {
-            return sendResourceNotModified();
-        }
-
+    private ResponseEntity getResourceByPath(String path, boolean denyFrame) {
         if (registryAccessor.existResource(path)) {
             IResource resource = registryAccessor.getResource(path);
             if (resource == null) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Resource requested is not exposed.");
             }
             String contentType = resource.getContentType();
-            return sendResource(path, resource.isBinary(), resource.getContent(), contentType);
+            File file = getFile(resource.getPath());
+            try {
+                if (file != null && file.isFile()) {
+                    return sendFile(path, file, resource.isBinary(), contentType, denyFrame);
+                }
+                return sendResource(path, resource.isBinary(), resource.getContent(), contentType, denyFrame);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read resource: " + path, e);
+            }
         }
 
         String errorMessage = "Resource not found: " + path;
@@ -98,24 +126,63 @@ public class WebService {
             byte[] content = registryAccessor.getRegistryContent(path);
             if (content != null) {
                 String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(path));
-                return sendResource(path, ContentTypeHelper.isBinary(contentType), content, contentType);
+                return sendResource(path, ContentTypeHelper.isBinary(contentType), content, contentType, denyFrame);
             } else {
                 throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Requested resource not found.");
             }
         } catch (RepositoryNotFoundException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, errorMessage);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress resource: " + path, e);
         }
     }
 
     /**
-     * Send resource not modified.
+     * Gets the file of the registry resource, if the repository is on the file system.
      *
+     * @param repositoryPath the repository path
+     * @return the file or null
+     */
+    private File getFile(String repositoryPath) {
+        try {
+            return new File(registryAccessor.getRepository()
+                                            .getInternalResourcePath(repositoryPath));
+        } catch (RepositoryException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Send a registry file, streaming it rather than loading it in memory. The identity variant
+     * supports HTTP Range requests.
+     *
+     * @param path the path
+     * @param file the file
+     * @param isBinary the is binary
+     * @param contentType the content type
+     * @param denyFrame whether to deny the framing
      * @return the response
+     * @throws IOException Signals that an I/O exception has occurred.
      */
-    private ResponseEntity sendResourceNotModified() {
-        final HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.add("ETag", getTag());
-        return new ResponseEntity(httpHeaders, HttpStatus.NOT_MODIFIED);
+    private ResponseEntity sendFile(String path, File file, boolean isBinary, String contentType, boolean denyFrame) throws IOException {
+        String hash = staticContentCache.getHash(file);
+        long size = file.length();
+        boolean compressible = staticContentCache.isCompressible(contentType, size);
+        String encoding = compressible ? negotiateEncoding(path) : null;
+        String tag = tag(hash, encoding);
+        if (isNotModified(tag)) {
+            return sendResourceNotModified(tag, compressible);
+        }
+        Resource body;
+        if (BROTLI.equals(encoding)) {
+            body = new FileSystemResource(getFile(registryAccessor.getResource(path + "." + BROTLI)
+                                                                  .getPath()));
+        } else if (GZIP.equals(encoding)) {
+            body = new ByteArrayResource(staticContentCache.getGzip(hash, () -> Files.readAllBytes(file.toPath())));
+        } else {
+            body = new FileSystemResource(file);
+        }
+        return new ResponseEntity(body, createHeaders(path, isBinary, contentType, tag, encoding, compressible, denyFrame), HttpStatus.OK);
     }
 
     /**
@@ -125,52 +192,163 @@ public class WebService {
      * @param isBinary the is binary
      * @param content the content
      * @param contentType the content type
+     * @param denyFrame whether to deny the framing
      * @return the response
+     * @throws IOException Signals that an I/O exception has occurred.
      */
-    private ResponseEntity sendResource(String path, boolean isBinary, byte[] content, String contentType) {
-        String tag = cacheResource(path);
+    private ResponseEntity sendResource(String path, boolean isBinary, byte[] content, String contentType, boolean denyFrame)
+            throws IOException {
+        String hash = staticContentCache.getHash(content);
+        boolean compressible = staticContentCache.isCompressible(contentType, content.length);
+        String encoding = compressible && GZIP.equals(negotiateEncoding(null)) ? GZIP : null;
+        String tag = tag(hash, encoding);
+        if (isNotModified(tag)) {
+            return sendResourceNotModified(tag, compressible);
+        }
+        Resource body = GZIP.equals(encoding) ? new ByteArrayResource(staticContentCache.getGzip(hash, () -> content))
+                : new ByteArrayResource(content);
+        return new ResponseEntity(body, createHeaders(path, isBinary, contentType, tag, encoding, compressible, denyFrame), HttpStatus.OK);
+    }
+
+    /**
+     * Negotiate the content encoding. Brotli is used only if a precompressed variant is published next
+     * to the resource, gzip variants are generated. Range requests are always served uncompressed.
+     *
+     * @param path the path, null if the resource is not in the registry
+     * @return the encoding or null for the identity
+     */
+    private String negotiateEncoding(String path) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || request.getHeader(HttpHeaders.RANGE) != null) {
+            return null;
+        }
+        if (path != null && accepts(acceptEncoding, BROTLI) && registryAccessor.existResource(path + "." + BROTLI)) {
+            return BROTLI;
+        }
+        return accepts(acceptEncoding, GZIP) ? GZIP : null;
+    }
+
+    /**
+     * Checks whether the encoding is accepted.
+     *
+     * @param acceptEncoding the Accept-Encoding header
+     * @param encoding the encoding
+     * @return true, if accepted
+     */
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        for (String accepted : acceptEncoding.split(",")) {
+            String[] parts = accepted.trim()
+                                     .split(";");
+            if (parts[0].trim()
+                        .equalsIgnoreCase(encoding)) {
+                return parts.length < 2 || !parts[1].trim()
+                                                    .matches("q\\s*=\\s*0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the response headers.
+     *
+     * @param path the path
+     * @param isBinary the is binary
+     * @param contentType the content type
+     * @param tag the tag
+     * @param encoding the encoding, null for the identity
+     * @param compressible whether the response varies by encoding
+     * @param denyFrame whether to deny the framing
+     * @return the http headers
+     */
+    private HttpHeaders createHeaders(String path, boolean isBinary, String contentType, String tag, String encoding, boolean compressible,
+            boolean denyFrame) {
         final HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setContentType(MediaType.valueOf(contentType));
-        httpHeaders.add("Cache-Control", "public, must-revalidate, max-age=0");
+        MediaType mediaType = MediaType.valueOf(contentType);
+        if (!isBinary && mediaType.getCharset() == null) {
+            mediaType = new MediaType(mediaType, StandardCharsets.UTF_8);
+        }
+        httpHeaders.setContentType(mediaType);
+        httpHeaders.add("Cache-Control", getCacheControl(path));
         httpHeaders.add("ETag", tag);
-        if (isBinary) {
-            return new ResponseEntity(content, httpHeaders, HttpStatus.OK);
+        if (encoding != null) {
+            httpHeaders.add(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        if (compressible) {
+            httpHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (denyFrame) {
+            httpHeaders.add("X-Frame-Options", "Deny");
         }
-        return new ResponseEntity(new String(content, StandardCharsets.UTF_8), httpHeaders, HttpStatus.OK);
+        return httpHeaders;
     }
 
     /**
-     * Cache resource.
+     * Gets the cache control. Only the paths of the configured immutable pattern are cached for long,
+     * as the name of a file edited in place does not tell whether it is a content hash. Everything else
+     * is revalidated by the tag.
      *
      * @param path the path
-     * @return the string
+     * @return the cache control
      */
-    private String cacheResource(String path) {
-        String tag = WEB_CACHE.generateTag();
-        WEB_CACHE.setTag(path, tag);
-        return tag;
+    private static String getCacheControl(String path) {
+        String immutablePattern = Configuration.get(DIRIGIBLE_WEB_IMMUTABLE_PATTERN);
+        if (immutablePattern != null && !immutablePattern.isBlank()
+                && IMMUTABLE_PATTERNS.computeIfAbsent(immutablePattern, Pattern::compile)
+                                     .matcher(path)
+                                     .matches()) {
+            return "public, max-age=" + Configuration.getAsInt(DIRIGIBLE_WEB_IMMUTABLE_MAX_AGE, 31536000) + ", immutable";
+        }
+        return "public, must-revalidate, max-age=0";
     }
 
     /**
-     * Checks if is cached.
+     * The strong tag of the content variant.
      *
-     * @param path the path
-     * @return true, if is cached
+     * @param hash the content hash
+     * @param encoding the encoding, null for the identity
+     * @return the tag
      */
-    private boolean isCached(String path) {
-        String tag = getTag();
-        String cachedTag = WEB_CACHE.getTag(path);
-        return tag != null && tag.equals(cachedTag);
+    private static String tag(String hash, String encoding) {
+        return "\"" + hash + (encoding != null ? "-" + encoding : "") + "\"";
+    }
 
+    /**
+     * Send resource not modified.
+     *
+     * @param tag the tag
+     * @param compressible whether the response varies by encoding
+     * @return the response
+     */
+    private ResponseEntity sendResourceNotModified(String tag, boolean compressible) {
+        final HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add("ETag", tag);
+        if (compressible) {
+            httpHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return new ResponseEntity(httpHeaders, HttpStatus.NOT_MODIFIED);
     }
 
     /**
-     * Gets the tag.
+     * Checks if the client has the current variant already.
      *
-     * @return the tag
+     * @param tag the tag
+     * @return true, if not modified
      */
-    private String getTag() {
-        return request.getHeader("If-None-Match");
+    private boolean isNotModified(String tag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if ("*".equals(trimmed) || tag.equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
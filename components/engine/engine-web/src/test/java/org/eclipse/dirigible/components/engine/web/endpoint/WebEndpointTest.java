@@ -14,6 +14,7 @@ import org.eclipse.dirigible.components.initializers.classpath.ClasspathExpander
 import org.eclipse.dirigible.components.initializers.definition.DefinitionRepository;
 import org.eclipse.dirigible.components.initializers.synchronizer.SynchronizationProcessor;
 import org.eclipse.dirigible.components.initializers.synchronizer.SynchronizationWatcher;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +24,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.web.FilterChainProxy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -35,9 +37,11 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -105,6 +109,8 @@ public class WebEndpointTest {
         Files.writeString(Paths.get(registyrFolder, "demo", "ui", "hello-world.txt"), "Hello World!", StandardOpenOption.CREATE);
         Files.writeString(Paths.get(registyrFolder, "demo", "hidden", "hidden.txt"), "Hidden", StandardOpenOption.CREATE);
         Files.writeString(Paths.get(registyrFolder, "demo", "ui", "index.html"), "Hidden", StandardOpenOption.CREATE);
+        Files.writeString(Paths.get(registyrFolder, "demo", "ui", "large.txt"), "Hello World!\n".repeat(200), StandardOpenOption.CREATE);
+        Files.writeString(Paths.get(registyrFolder, "demo", "ui", "report-20240101.js"), "// report", StandardOpenOption.CREATE);
         try {
             synchronizationWatcher.force();
             synchronizationProcessor.processSynchronizers();
@@ -112,6 +118,36 @@ public class WebEndpointTest {
                    .andDo(print())
                    .andExpect(content().string(containsString("Hello World!")))
                    .andExpect(status().is2xxSuccessful());
+            String tag = mockMvc.perform(get("/services/web/demo/ui/hello-world.txt"))
+                                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"")))
+                                .andReturn()
+                                .getResponse()
+                                .getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt"))
+                   .andExpect(header().string(HttpHeaders.ETAG, tag));
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt").header(HttpHeaders.IF_NONE_MATCH, tag))
+                   .andExpect(status().isNotModified());
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt").header(HttpHeaders.RANGE, "bytes=0-4"))
+                   .andExpect(status().isPartialContent())
+                   .andExpect(content().string("Hello"));
+            mockMvc.perform(get("/services/web/demo/ui/large.txt").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                   .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+            mockMvc.perform(get("/services/web/demo/ui/large.txt"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+            mockMvc.perform(get("/services/web/demo/ui/report-20240101.js"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, must-revalidate, max-age=0"));
+            Configuration.set("DIRIGIBLE_WEB_IMMUTABLE_PATTERN", ".*/ui/report-[0-9]+\\.js");
+            try {
+                mockMvc.perform(get("/services/web/demo/ui/report-20240101.js"))
+                       .andExpect(status().isOk())
+                       .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"));
+            } finally {
+                Configuration.remove("DIRIGIBLE_WEB_IMMUTABLE_PATTERN");
+            }
             mockMvc.perform(get("/services/web/demo/ui/not-existing.txt"))
                    .andDo(print())
                    .andExpect(status().isNotFound());
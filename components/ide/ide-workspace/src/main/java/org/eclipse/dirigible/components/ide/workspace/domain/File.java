@@ -11,6 +11,8 @@ package org.eclipse.dirigible.components.ide.workspace.domain;
 
 import org.eclipse.dirigible.repository.api.*;
 
+import java.io.InputStream;
+
 /**
  * The Workspace's File.
  */
@@ -58,6 +60,28 @@ public class File implements IResource {
         return internal.getContent();
     }
 
+    /**
+     * Gets the content as stream.
+     *
+     * @return the content stream
+     * @throws RepositoryReadException the repository read exception
+     */
+    @Override
+    public InputStream getContentAsStream() throws RepositoryReadException {
+        return internal.getContentAsStream();
+    }
+
+    /**
+     * Sets the content from a stream.
+     *
+     * @param content the content stream
+     * @throws RepositoryWriteException the repository write exception
+     */
+    @Override
+    public void setContent(InputStream content) throws RepositoryWriteException {
+        internal.setContent(content);
+    }
+
     /**
      * Gets the name.
      *
@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.commons.api.helpers;
 
+import com.google.gson.JsonArray;
+
 /**
  * The Class BytesHelper.
  */
@@ -24,6 +26,21 @@ public class BytesHelper {
         return GsonHelper.fromJson(input, byte[].class);
     }
 
+    /**
+     * Transform a json array to bytes array.
+     *
+     * @param input the input
+     * @return the byte[]
+     */
+    public static byte[] jsonToBytes(JsonArray input) {
+        byte[] bytes = new byte[input.size()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) input.get(i)
+                                   .getAsInt();
+        }
+        return bytes;
+    }
+
     /**
      * Transform a bytes array to json string.
      *
@@ -15,6 +15,7 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
@@ -26,6 +27,7 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -111,6 +113,20 @@ public class FileSystemUtils {
         Files.write(path, content);
     }
 
+    /**
+     * Save file from a stream, without loading the content in memory.
+     *
+     * @param workspacePath the workspace path
+     * @param content the content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static void saveFile(String workspacePath, InputStream content) throws IOException {
+        createFoldersIfNecessary(workspacePath);
+        Path path = FileSystems.getDefault()
+                               .getPath(FilenameUtils.normalize(workspacePath));
+        Files.copy(content, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
     /**
      * Load file.
      *
@@ -11,6 +11,7 @@ package org.eclipse.dirigible.graalium.core;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
@@ -232,6 +233,16 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
         return onMessage.execute(args);
     }
 
+    /**
+     * Binds the given dirigible context to a runner created in advance, e.g. by the
+     * {@link DirigibleJavascriptCodeRunnerPool}.
+     *
+     * @param context the parameters
+     */
+    void bindContext(Map<Object, Object> context) {
+        codeRunner.addGlobalObjects(List.of(new DirigibleContextGlobalObject(context)));
+    }
+
     /**
      * Gets the code runner.
      *
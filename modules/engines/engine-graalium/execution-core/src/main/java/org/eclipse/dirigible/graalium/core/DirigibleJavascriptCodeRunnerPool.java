@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.spring.BeanProvider;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of pre-warmed {@link DirigibleJavascriptCodeRunner} instances, partitioned by
+ * tenant. The runners are created in the background, so that the context creation, the polyfills
+ * evaluation and the module resolvers registration are not paid by the borrower. A borrowed runner
+ * gets the borrower's dirigible context bound and is used only once - the evaluated ES modules are
+ * cached per context, hence a used context is closed on {@link AutoCloseable#close()} instead of
+ * being returned to the pool. Debug runners wait for the debugger on creation, hence they are never
+ * pooled and always created in place.
+ */
+public class DirigibleJavascriptCodeRunnerPool {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DirigibleJavascriptCodeRunnerPool.class);
+
+    /** The tenant key used outside of a tenant context. */
+    private static final String BACKGROUND_TENANT = "background";
+
+    /** The instance. */
+    private static volatile DirigibleJavascriptCodeRunnerPool INSTANCE;
+
+    /** The partitions. */
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    /** The executor creating the runners in advance. */
+    private final ExecutorService warmUpExecutor;
+
+    /** The borrows count. */
+    private final AtomicLong borrowsCount = new AtomicLong();
+
+    /** The count of borrows served by a pre-warmed runner. */
+    private final AtomicLong hitsCount = new AtomicLong();
+
+    /** The total borrow wait time in nanoseconds. */
+    private final AtomicLong borrowWaitNanos = new AtomicLong();
+
+    /** Whether pooling is enabled. */
+    private final boolean enabled;
+
+    /** The max pre-warmed runners per partition. */
+    private final int maxSize;
+
+    /** The factory of the runners by context and debug flag. */
+    private final BiFunction<Map<Object, Object>, Boolean, DirigibleJavascriptCodeRunner> runnerFactory;
+
+    /**
+     * Instantiates a new dirigible javascript code runner pool.
+     */
+    DirigibleJavascriptCodeRunnerPool() {
+        this(Boolean.parseBoolean(Configuration.get("DIRIGIBLE_GRAALIUM_CONTEXT_POOL_ENABLED", Boolean.TRUE.toString())),
+                Configuration.getAsInt("DIRIGIBLE_GRAALIUM_CONTEXT_POOL_SIZE", Runtime.getRuntime()
+                                                                                      .availableProcessors()),
+                Configuration.getAsInt("DIRIGIBLE_GRAALIUM_CONTEXT_POOL_WARM_UP_THREADS", 1), DirigibleJavascriptCodeRunner::new);
+    }
+
+    /**
+     * Instantiates a new dirigible javascript code runner pool.
+     *
+     * @param enabled whether pooling is enabled
+     * @param maxSize the max pre-warmed runners per partition
+     * @param warmUpThreads the warm up threads
+     * @param runnerFactory the runner factory
+     */
+    DirigibleJavascriptCodeRunnerPool(boolean enabled, int maxSize, int warmUpThreads,
+            BiFunction<Map<Object, Object>, Boolean, DirigibleJavascriptCodeRunner> runnerFactory) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.runnerFactory = runnerFactory;
+        this.warmUpExecutor = Executors.newFixedThreadPool(Math.max(1, warmUpThreads), runnable -> {
+            Thread thread = new Thread(runnable, "graalium-context-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the pool instance.
+     *
+     * @return the pool
+     */
+    public static DirigibleJavascriptCodeRunnerPool get() {
+        if (INSTANCE == null) {
+            synchronized (DirigibleJavascriptCodeRunnerPool.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new DirigibleJavascriptCodeRunnerPool();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Borrow a runner with an empty context.
+     *
+     * @return the dirigible javascript code runner
+     */
+    public DirigibleJavascriptCodeRunner borrow() {
+        return borrow(new HashMap<>(), false);
+    }
+
+    /**
+     * Borrow a runner bound to the given context. The runner must be closed after usage. If there is no
+     * pre-warmed runner available, or a debug runner is requested, a new one is created in place.
+     *
+     * @param context the parameters
+     * @param debug the debug
+     * @return the dirigible javascript code runner
+     */
+    public DirigibleJavascriptCodeRunner borrow(Map<Object, Object> context, boolean debug) {
+        if (!enabled || maxSize <= 0 || debug) {
+            return runnerFactory.apply(context, debug);
+        }
+        Partition partition = partitions.computeIfAbsent(getCurrentTenantId(), tenantId -> new Partition(tenantId, maxSize));
+
+        long start = System.nanoTime();
+        try {
+            DirigibleJavascriptCodeRunner runner = partition.ready.poll();
+            while (runner != null) {
+                try {
+                    runner.bindContext(context);
+                    hitsCount.incrementAndGet();
+                    return runner;
+                } catch (RuntimeException e) {
+                    logger.debug("Discarding pre-warmed javascript runner which could not be bound", e);
+                    runner.close();
+                    runner = partition.ready.poll();
+                }
+            }
+            return runnerFactory.apply(context, false);
+        } finally {
+            borrowWaitNanos.addAndGet(System.nanoTime() - start);
+            borrowsCount.incrementAndGet();
+            warmUp(partition);
+        }
+    }
+
+    /**
+     * Schedules the creation of runners until the partition is full.
+     *
+     * @param partition the partition
+     */
+    private void warmUp(Partition partition) {
+        if (partition.ready.remainingCapacity() == 0 || !partition.warmingUp.compareAndSet(false, true)) {
+            return;
+        }
+        warmUpExecutor.execute(() -> {
+            try {
+                while (partition.ready.remainingCapacity() > 0) {
+                    DirigibleJavascriptCodeRunner runner = runnerFactory.apply(new HashMap<>(), false);
+                    if (!partition.ready.offer(runner)) {
+                        runner.close();
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to pre-warm a javascript runner for tenant [{}]", partition.tenantId, e);
+            } finally {
+                partition.warmingUp.set(false);
+            }
+        });
+    }
+
+    /**
+     * Gets the pre-warmed runners count.
+     *
+     * @return the idle count
+     */
+    public int getIdleCount() {
+        return partitions.values()
+                         .stream()
+                         .mapToInt(p -> p.ready.size())
+                         .sum();
+    }
+
+    /**
+     * Gets the borrows count.
+     *
+     * @return the borrows count
+     */
+    public long getBorrowsCount() {
+        return borrowsCount.get();
+    }
+
+    /**
+     * Gets the count of borrows served by a pre-warmed runner.
+     *
+     * @return the hits count
+     */
+    public long getHitsCount() {
+        return hitsCount.get();
+    }
+
+    /**
+     * Gets the total borrow wait time in milliseconds.
+     *
+     * @return the borrow wait time
+     */
+    public long getBorrowWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(borrowWaitNanos.get());
+    }
+
+    /**
+     * Gets the current tenant id.
+     *
+     * @return the current tenant id
+     */
+    private static String getCurrentTenantId() {
+        try {
+            if (BeanProvider.isInitialzed()) {
+                TenantContext tenantContext = BeanProvider.getTenantContext();
+                if (tenantContext.isInitialized()) {
+                    return tenantContext.getCurrentTenant()
+                                        .getId();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Failed to get the current tenant", e);
+        }
+        return BACKGROUND_TENANT;
+    }
+
+    /**
+     * The Partition.
+     */
+    private static class Partition {
+
+        /** The tenant id. */
+        private final String tenantId;
+
+        /** The pre-warmed runners. */
+        private final BlockingQueue<DirigibleJavascriptCodeRunner> ready;
+
+        /** Whether a warm up is in progress. */
+        private final AtomicBoolean warmingUp = new AtomicBoolean(false);
+
+        /**
+         * Instantiates a new partition.
+         *
+         * @param tenantId the tenant id
+         * @param size the size
+         */
+        Partition(String tenantId, int size) {
+            this.tenantId = tenantId;
+            this.ready = new LinkedBlockingQueue<>(size);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * The Class DirigibleJavascriptCodeRunnerPoolMetricsConfigurator.
+ */
+@Component
+class DirigibleJavascriptCodeRunnerPoolMetricsConfigurator implements ApplicationListener<ApplicationReadyEvent> {
+
+    /** The Constant METER_SCOPE_NAME. */
+    private static final String METER_SCOPE_NAME = "dirigible-graalium";
+
+    /** The open telemetry. */
+    private final OpenTelemetry openTelemetry;
+
+    /**
+     * Instantiates a new dirigible javascript code runner pool metrics configurator.
+     *
+     * @param openTelemetry the open telemetry
+     */
+    DirigibleJavascriptCodeRunnerPoolMetricsConfigurator(OpenTelemetry openTelemetry) {
+        this.openTelemetry = openTelemetry;
+    }
+
+    /**
+     * On application event.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Meter meter = openTelemetry.getMeter(METER_SCOPE_NAME);
+        DirigibleJavascriptCodeRunnerPool pool = DirigibleJavascriptCodeRunnerPool.get();
+
+        meter.gaugeBuilder("graalium_context_pool_idle")
+             .setDescription("Current number of pre-warmed javascript contexts")
+             .ofLongs()
+             .buildWithCallback(observation -> observation.record(pool.getIdleCount()));
+
+        meter.counterBuilder("graalium_context_pool_borrows")
+             .setDescription("Total number of javascript context borrows")
+             .buildWithCallback(observation -> observation.record(pool.getBorrowsCount()));
+
+        meter.counterBuilder("graalium_context_pool_hits")
+             .setDescription("Total number of javascript context borrows served by a pre-warmed context")
+             .buildWithCallback(observation -> observation.record(pool.getHitsCount()));
+
+        meter.counterBuilder("graalium_context_pool_borrow_wait_time")
+             .setDescription("Total time spent obtaining a javascript context in milliseconds")
+             .setUnit("ms")
+             .buildWithCallback(observation -> observation.record(pool.getBorrowWaitMillis()));
+    }
+
+}
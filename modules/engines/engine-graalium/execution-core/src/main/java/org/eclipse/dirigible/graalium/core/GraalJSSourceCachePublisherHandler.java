@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.nio.file.Path;
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.graalium.core.javascript.GraalJSSourceCache;
+import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceCache;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the cached javascript and module sources of the published and unpublished registry
+ * resources.
+ */
+@Component
+class GraalJSSourceCachePublisherHandler implements PublisherHandler {
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        invalidate(registryLocation);
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        invalidate(location);
+    }
+
+    /**
+     * Invalidate the cached sources under the given registry location.
+     *
+     * @param registryLocation the registry location
+     */
+    private void invalidate(String registryLocation) {
+        if (registryLocation == null || !registryLocation.startsWith(IRepositoryStructure.PATH_REGISTRY_PUBLIC)) {
+            GraalJSSourceCache.invalidateAll();
+            DirigibleSourceCache.invalidateAll();
+            return;
+        }
+        DirigibleSourceCache.invalidate(registryLocation);
+        IRepository repository = (IRepository) StaticObjects.get(StaticObjects.REPOSITORY);
+        GraalJSSourceCache.invalidate(Path.of(repository.getInternalResourcePath(registryLocation)));
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.modules;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.eclipse.dirigible.commons.config.Configuration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Size-bounded cache of the module sources resolved by the {@link DirigibleSourceProvider}, keyed
+ * by the repository path. The paths which could not be resolved are cached separately for a shorter
+ * time, so that the extension probing of the module resolution does not hit the repository on every
+ * lookup. The entries are evicted on publishing, and expire after a while, so that changes made
+ * directly in the repository are picked up as well.
+ */
+public class DirigibleSourceCache {
+
+    /** The Constant DIRIGIBLE_GRAALIUM_MODULE_CACHE_SIZE_LIMIT_IN_BYTES. */
+    private static final String DIRIGIBLE_GRAALIUM_MODULE_CACHE_SIZE_LIMIT_IN_BYTES = "DIRIGIBLE_GRAALIUM_MODULE_CACHE_SIZE_LIMIT_IN_BYTES";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_MODULE_CACHE_TTL_SECONDS. */
+    private static final String DIRIGIBLE_GRAALIUM_MODULE_CACHE_TTL_SECONDS = "DIRIGIBLE_GRAALIUM_MODULE_CACHE_TTL_SECONDS";
+
+    /** The Constant DIRIGIBLE_GRAALIUM_MODULE_CACHE_MISSING_TTL_SECONDS. */
+    private static final String DIRIGIBLE_GRAALIUM_MODULE_CACHE_MISSING_TTL_SECONDS = "DIRIGIBLE_GRAALIUM_MODULE_CACHE_MISSING_TTL_SECONDS";
+
+    /** The Constant DEFAULT_SIZE_LIMIT_IN_BYTES. */
+    private static final long DEFAULT_SIZE_LIMIT_IN_BYTES = 64L * 1024 * 1024;
+
+    /** The Constant DEFAULT_TTL_SECONDS. */
+    private static final int DEFAULT_TTL_SECONDS = 300;
+
+    /** The Constant DEFAULT_MISSING_TTL_SECONDS. */
+    private static final int DEFAULT_MISSING_TTL_SECONDS = 60;
+
+    /** The Constant MISSING_MAX_SIZE. */
+    private static final int MISSING_MAX_SIZE = 10_000;
+
+    /** The resolved sources. */
+    private static final Cache<Path, byte[]> SOURCES = Caffeine.newBuilder()
+                                                               .maximumWeight(Long.parseLong(Configuration.get(
+                                                                       DIRIGIBLE_GRAALIUM_MODULE_CACHE_SIZE_LIMIT_IN_BYTES,
+                                                                       String.valueOf(DEFAULT_SIZE_LIMIT_IN_BYTES))))
+                                                               .weigher((Path key, byte[] value) -> value.length)
+                                                               .expireAfterWrite(Duration.ofSeconds(Configuration.getAsInt(
+                                                                       DIRIGIBLE_GRAALIUM_MODULE_CACHE_TTL_SECONDS, DEFAULT_TTL_SECONDS)))
+                                                               .build();
+
+    /** The paths which do not exist. */
+    private static final Cache<Path, Boolean> MISSING = Caffeine.newBuilder()
+                                                                .maximumSize(MISSING_MAX_SIZE)
+                                                                .expireAfterWrite(Duration.ofSeconds(Configuration.getAsInt(
+                                                                        DIRIGIBLE_GRAALIUM_MODULE_CACHE_MISSING_TTL_SECONDS,
+                                                                        DEFAULT_MISSING_TTL_SECONDS)))
+                                                                .build();
+
+    /**
+     * Gets the cached source content.
+     *
+     * @param repositoryPath the repository path
+     * @return the content or null if not cached
+     */
+    public static byte[] get(String repositoryPath) {
+        return SOURCES.getIfPresent(Path.of(repositoryPath));
+    }
+
+    /**
+     * Checks if the path is known to be missing.
+     *
+     * @param repositoryPath the repository path
+     * @return true, if missing
+     */
+    public static boolean isMissing(String repositoryPath) {
+        return MISSING.getIfPresent(Path.of(repositoryPath)) != null;
+    }
+
+    /**
+     * Puts the source content.
+     *
+     * @param repositoryPath the repository path
+     * @param content the content
+     */
+    public static void put(String repositoryPath, byte[] content) {
+        Path key = Path.of(repositoryPath);
+        MISSING.invalidate(key);
+        SOURCES.put(key, content);
+    }
+
+    /**
+     * Marks the path as missing.
+     *
+     * @param repositoryPath the repository path
+     */
+    public static void putMissing(String repositoryPath) {
+        MISSING.put(Path.of(repositoryPath), Boolean.TRUE);
+    }
+
+    /**
+     * Invalidates the given repository path and all the paths under it.
+     *
+     * @param repositoryPath the repository path
+     */
+    public static void invalidate(String repositoryPath) {
+        Path prefix = Path.of(repositoryPath);
+        SOURCES.asMap()
+               .keySet()
+               .removeIf(key -> key.startsWith(prefix));
+        MISSING.asMap()
+               .keySet()
+               .removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Invalidates all the cached sources.
+     */
+    public static void invalidateAll() {
+        SOURCES.invalidateAll();
+        MISSING.invalidateAll();
+    }
+
+}
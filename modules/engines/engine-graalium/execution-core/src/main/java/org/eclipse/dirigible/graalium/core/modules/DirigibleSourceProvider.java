@@ -89,7 +89,8 @@ public class DirigibleSourceProvider implements JavascriptSourceProvider {
     }
 
     /**
-     * Gets the source.
+     * Gets the source. The resolved sources as well as the paths which could not be resolved are cached
+     * in the {@link DirigibleSourceCache}.
      *
      * @param sourceFilePath the project file path
      * @return the source
@@ -100,16 +101,27 @@ public class DirigibleSourceProvider implements JavascriptSourceProvider {
 
         String internalRepositoryRelativeSourcePath = getInternalRepositoryRelativeSourcePath(sourceFilePath);
 
+        byte[] cached = DirigibleSourceCache.get(internalRepositoryRelativeSourcePath);
+        if (cached != null) {
+            return new String(cached, StandardCharsets.UTF_8);
+        }
+        if (DirigibleSourceCache.isMissing(internalRepositoryRelativeSourcePath)) {
+            return null;
+        }
+
         byte[] maybeContentFromRepository = tryGetFromRepository(internalRepositoryRelativeSourcePath);
         if (maybeContentFromRepository != null) {
+            DirigibleSourceCache.put(internalRepositoryRelativeSourcePath, maybeContentFromRepository);
             return new String(maybeContentFromRepository, StandardCharsets.UTF_8);
         }
 
         byte[] maybeContentFromClassLoader = tryGetFromClassLoader(internalRepositoryRelativeSourcePath, sourceFilePath);
         if (maybeContentFromClassLoader != null) {
+            DirigibleSourceCache.put(internalRepositoryRelativeSourcePath, maybeContentFromClassLoader);
             return new String(maybeContentFromClassLoader, StandardCharsets.UTF_8);
         }
 
+        DirigibleSourceCache.putMissing(internalRepositoryRelativeSourcePath);
         return null;
     }
 
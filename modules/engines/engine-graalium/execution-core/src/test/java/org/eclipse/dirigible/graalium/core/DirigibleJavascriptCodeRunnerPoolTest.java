@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * The Class DirigibleJavascriptCodeRunnerPoolTest.
+ */
+public class DirigibleJavascriptCodeRunnerPoolTest {
+
+    /** The created runners debug flags. */
+    private final List<Boolean> created = new CopyOnWriteArrayList<>();
+
+    /** The created runners. */
+    private final List<DirigibleJavascriptCodeRunner> runners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a runner mock.
+     *
+     * @param context the context
+     * @param debug the debug
+     * @return the runner
+     */
+    private DirigibleJavascriptCodeRunner create(Map<Object, Object> context, boolean debug) {
+        DirigibleJavascriptCodeRunner runner = mock(DirigibleJavascriptCodeRunner.class);
+        created.add(debug);
+        runners.add(runner);
+        return runner;
+    }
+
+    /**
+     * Wait for the pool to have the given idle count.
+     *
+     * @param pool the pool
+     * @param count the count
+     * @throws InterruptedException the interrupted exception
+     */
+    private static void awaitIdle(DirigibleJavascriptCodeRunnerPool pool, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getIdleCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, pool.getIdleCount());
+    }
+
+    /**
+     * Borrow warms up the partition and binds the context to the pre-warmed runner.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void borrowWarmUpAndBindTest() throws InterruptedException {
+        DirigibleJavascriptCodeRunnerPool pool = new DirigibleJavascriptCodeRunnerPool(true, 2, 1, this::create);
+
+        pool.borrow();
+        assertEquals(0, pool.getHitsCount());
+        awaitIdle(pool, 2);
+        assertEquals(3, created.size());
+
+        Map<Object, Object> context = new HashMap<>();
+        context.put("key", "value");
+        DirigibleJavascriptCodeRunner runner = pool.borrow(context, false);
+        verify(runner).bindContext(context);
+        assertEquals(1, pool.getHitsCount());
+        assertEquals(2, pool.getBorrowsCount());
+
+        awaitIdle(pool, 2);
+        assertFalse(created.contains(Boolean.TRUE));
+    }
+
+    /**
+     * Debug runners are never pooled.
+     */
+    @Test
+    public void borrowDebugTest() {
+        DirigibleJavascriptCodeRunnerPool pool = new DirigibleJavascriptCodeRunnerPool(true, 2, 1, this::create);
+
+        DirigibleJavascriptCodeRunner runner = pool.borrow(new HashMap<>(), true);
+        verify(runner, never()).bindContext(any());
+        assertEquals(List.of(Boolean.TRUE), created);
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(0, pool.getBorrowsCount());
+    }
+
+    /**
+     * A pre-warmed runner which cannot be bound is closed and replaced.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void borrowDiscardsBrokenRunnerTest() throws InterruptedException {
+        DirigibleJavascriptCodeRunnerPool pool = new DirigibleJavascriptCodeRunnerPool(true, 1, 1, (context, debug) -> {
+            DirigibleJavascriptCodeRunner runner = create(context, debug);
+            doThrow(new IllegalStateException("closed")).when(runner)
+                                                        .bindContext(any());
+            return runner;
+        });
+        pool.borrow();
+        awaitIdle(pool, 1);
+        DirigibleJavascriptCodeRunner broken = runners.get(1);
+
+        DirigibleJavascriptCodeRunner runner = pool.borrow();
+        verify(broken).close();
+        assertNotSame(broken, runner);
+        assertEquals(0, pool.getHitsCount());
+    }
+
+    /**
+     * Disabled pool creates the runners in place.
+     */
+    @Test
+    public void disabledTest() {
+        DirigibleJavascriptCodeRunnerPool pool = new DirigibleJavascriptCodeRunnerPool(false, 2, 1, this::create);
+
+        pool.borrow();
+        pool.borrow();
+        assertEquals(2, created.size());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+}
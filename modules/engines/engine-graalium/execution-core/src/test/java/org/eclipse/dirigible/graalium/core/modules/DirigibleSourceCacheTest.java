@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class DirigibleSourceCacheTest.
+ */
+public class DirigibleSourceCacheTest {
+
+    /**
+     * Clean up the cache.
+     */
+    @Before
+    @After
+    public void cleanUp() {
+        DirigibleSourceCache.invalidateAll();
+    }
+
+    /**
+     * Put and get sources and missing paths.
+     */
+    @Test
+    public void putAndGetTest() {
+        assertNull(DirigibleSourceCache.get("/registry/public/project/a.js"));
+
+        DirigibleSourceCache.putMissing("/registry/public/project/a.js");
+        assertTrue(DirigibleSourceCache.isMissing("/registry/public/project/a.js"));
+
+        DirigibleSourceCache.put("/registry/public/project/a.js", bytes("a"));
+        assertFalse(DirigibleSourceCache.isMissing("/registry/public/project/a.js"));
+        assertEquals("a", string(DirigibleSourceCache.get("/registry/public/project/a.js")));
+    }
+
+    /**
+     * Invalidation removes the sources and the missing paths under the location only.
+     */
+    @Test
+    public void invalidateTest() {
+        DirigibleSourceCache.put("/registry/public/project/a.js", bytes("a"));
+        DirigibleSourceCache.put("/registry/public/project/lib/b.js", bytes("b"));
+        DirigibleSourceCache.putMissing("/registry/public/project/c.js");
+        DirigibleSourceCache.put("/registry/public/project2/a.js", bytes("a2"));
+
+        DirigibleSourceCache.invalidate("/registry/public/project");
+
+        assertNull(DirigibleSourceCache.get("/registry/public/project/a.js"));
+        assertNull(DirigibleSourceCache.get("/registry/public/project/lib/b.js"));
+        assertFalse(DirigibleSourceCache.isMissing("/registry/public/project/c.js"));
+        assertEquals("a2", string(DirigibleSourceCache.get("/registry/public/project2/a.js")));
+
+        DirigibleSourceCache.invalidateAll();
+        assertNull(DirigibleSourceCache.get("/registry/public/project2/a.js"));
+    }
+
+    /**
+     * The provider reads the repository again only after invalidation.
+     */
+    @Test
+    public void providerTest() {
+        IRepository repository = mock(IRepository.class);
+        IResource resource = mock(IResource.class);
+        when(repository.getResource("/registry/public/project/a.js")).thenReturn(resource);
+        when(resource.exists()).thenReturn(true);
+        when(resource.getContent()).thenReturn(bytes("v1"), bytes("v2"));
+        Object previous = StaticObjects.exists(StaticObjects.REPOSITORY) ? StaticObjects.get(StaticObjects.REPOSITORY) : null;
+        StaticObjects.set(StaticObjects.REPOSITORY, repository);
+        try {
+            DirigibleSourceProvider provider = new DirigibleSourceProvider();
+            assertEquals("v1", provider.getSource("project/a.js"));
+            assertEquals("v1", provider.getSource("project/a"));
+            verify(repository, times(1)).getResource("/registry/public/project/a.js");
+
+            DirigibleSourceCache.invalidate("/registry/public/project");
+            assertEquals("v2", provider.getSource("project/a.js"));
+            verify(repository, times(2)).getResource("/registry/public/project/a.js");
+        } finally {
+            if (previous != null) {
+                StaticObjects.set(StaticObjects.REPOSITORY, previous);
+            }
+        }
+    }
+
+    /**
+     * Bytes.
+     *
+     * @param content the content
+     * @return the bytes
+     */
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * String.
+     *
+     * @param content the content
+     * @return the string
+     */
+    private static String string(byte[] content) {
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+}
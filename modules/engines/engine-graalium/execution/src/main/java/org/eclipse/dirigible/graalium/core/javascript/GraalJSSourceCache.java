@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import org.eclipse.dirigible.graalium.core.graal.configuration.Configuration;
+import org.graalvm.polyglot.Source;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the parsed {@link Source} objects shared by all the contexts of the engine. The entries
+ * are keyed by the source file path and are valid as long as the checksum of the file content is
+ * the same, so that the engine can reuse the already parsed and compiled code of a module.
+ */
+public class GraalJSSourceCache {
+
+    /** The Constant DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE. */
+    private static final String DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE = "DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE";
+
+    /** The Constant DEFAULT_SOURCE_CACHE_SIZE. */
+    private static final String DEFAULT_SOURCE_CACHE_SIZE = "2000";
+
+    /** The cache. */
+    private static final Cache<Path, CachedSource> CACHE = Caffeine.newBuilder()
+                                                                   .maximumSize(Long.parseLong(
+                                                                           Configuration.get(DIRIGIBLE_GRAALIUM_SOURCE_CACHE_SIZE,
+                                                                                   DEFAULT_SOURCE_CACHE_SIZE)))
+                                                                   .build();
+
+    /**
+     * Gets the cached source for the given path if the content checksum matches, otherwise creates and
+     * caches a new one.
+     *
+     * @param path the path
+     * @param content the current content of the file
+     * @param sourceSupplier the source supplier
+     * @return the source
+     */
+    public static Source get(Path path, byte[] content, Supplier<Source> sourceSupplier) {
+        Path key = normalize(path);
+        String checksum = checksum(content);
+        CachedSource cached = CACHE.getIfPresent(key);
+        if (cached != null && cached.checksum()
+                                    .equals(checksum)) {
+            return cached.source();
+        }
+        Source source = sourceSupplier.get();
+        CACHE.put(key, new CachedSource(checksum, source));
+        return source;
+    }
+
+    /**
+     * Invalidates the given path and all the paths under it.
+     *
+     * @param path the path
+     */
+    public static void invalidate(Path path) {
+        Path prefix = normalize(path);
+        CACHE.asMap()
+             .keySet()
+             .removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Invalidates all the cached sources.
+     */
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Gets the cached sources count.
+     *
+     * @return the size
+     */
+    public static long size() {
+        CACHE.cleanUp();
+        return CACHE.estimatedSize();
+    }
+
+    /**
+     * Normalize.
+     *
+     * @param path the path
+     * @return the path
+     */
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath()
+                   .normalize();
+    }
+
+    /**
+     * Checksum.
+     *
+     * @param content the content
+     * @return the string
+     */
+    private static String checksum(byte[] content) {
+        try {
+            return HexFormat.of()
+                            .formatHex(MessageDigest.getInstance("MD5")
+                                                    .digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * The Cached source.
+     */
+    private record CachedSource(String checksum, Source source) {
+    }
+
+}
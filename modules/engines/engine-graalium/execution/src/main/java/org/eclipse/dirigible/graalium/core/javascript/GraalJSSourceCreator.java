@@ -11,7 +11,9 @@ package org.eclipse.dirigible.graalium.core.javascript;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.eclipse.dirigible.graalium.core.javascript.modules.ModuleType;
 import org.graalvm.polyglot.Source;
@@ -69,15 +71,25 @@ public class GraalJSSourceCreator {
     }
 
     /**
-     * Creates the source.
+     * Creates the source. The source is shared through the {@link GraalJSSourceCache} as long as the
+     * file content is not changed.
      *
      * @param sourceFilePath the source file path
      * @return the source
      */
     public Source createSource(Path sourceFilePath) {
         File codeFile = sourceFilePath.toFile();
-        Source.Builder sourceBuilder = Source.newBuilder("js", codeFile);
-        return createSource(sourceBuilder);
+        byte[] content;
+        try {
+            content = Files.readAllBytes(sourceFilePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read source file " + sourceFilePath, e);
+        }
+        return GraalJSSourceCache.get(sourceFilePath, content, () -> {
+            Source.Builder sourceBuilder = Source.newBuilder("js", codeFile)
+                                                 .content(new String(content, StandardCharsets.UTF_8));
+            return createSource(sourceBuilder);
+        });
     }
 
     /**
@@ -92,7 +104,7 @@ public class GraalJSSourceCreator {
             // }
             sourceBuilder.mimeType("application/javascript+module");
 
-            return sourceBuilder.cached(false)
+            return sourceBuilder.cached(true)
                                 .encoding(StandardCharsets.UTF_8)
                                 .build();
         } catch (IOException e) {
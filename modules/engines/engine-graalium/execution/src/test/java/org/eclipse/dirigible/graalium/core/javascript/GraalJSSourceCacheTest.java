@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.graalvm.polyglot.Source;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class GraalJSSourceCacheTest.
+ */
+public class GraalJSSourceCacheTest {
+
+    /** The created sources count. */
+    private final AtomicInteger created = new AtomicInteger();
+
+    /**
+     * Clean up the cache.
+     */
+    @Before
+    @After
+    public void cleanUp() {
+        GraalJSSourceCache.invalidateAll();
+    }
+
+    /**
+     * Gets the source through the cache.
+     *
+     * @param path the path
+     * @param content the content
+     * @return the source
+     */
+    private Source get(String path, String content) {
+        return GraalJSSourceCache.get(Path.of(path), content.getBytes(StandardCharsets.UTF_8), () -> {
+            created.incrementAndGet();
+            return Source.newBuilder("js", content, path)
+                         .buildLiteral();
+        });
+    }
+
+    /**
+     * The same content is served from the cache.
+     */
+    @Test
+    public void getTest() {
+        Source source = get("/registry/public/project/a.mjs", "export const a = 1;");
+        assertSame(source, get("/registry/public/project/a.mjs", "export const a = 1;"));
+        assertSame(source, get("/registry/public/project/../project/a.mjs", "export const a = 1;"));
+        assertEquals(1, created.get());
+        assertEquals(1, GraalJSSourceCache.size());
+    }
+
+    /**
+     * A changed content replaces the cached source.
+     */
+    @Test
+    public void changedContentTest() {
+        Source source = get("/registry/public/project/a.mjs", "export const a = 1;");
+        Source changed = get("/registry/public/project/a.mjs", "export const a = 2;");
+        assertNotSame(source, changed);
+        assertSame(changed, get("/registry/public/project/a.mjs", "export const a = 2;"));
+        assertEquals(2, created.get());
+        assertEquals(1, GraalJSSourceCache.size());
+    }
+
+    /**
+     * Invalidation removes the given location and everything under it.
+     */
+    @Test
+    public void invalidateTest() {
+        get("/registry/public/project/a.mjs", "export const a = 1;");
+        get("/registry/public/project/lib/b.mjs", "export const b = 1;");
+        get("/registry/public/other/c.mjs", "export const c = 1;");
+        assertEquals(3, GraalJSSourceCache.size());
+
+        GraalJSSourceCache.invalidate(Path.of("/registry/public/project"));
+        assertEquals(1, GraalJSSourceCache.size());
+
+        get("/registry/public/project/a.mjs", "export const a = 1;");
+        assertEquals(4, created.get());
+
+        GraalJSSourceCache.invalidateAll();
+        assertEquals(0, GraalJSSourceCache.size());
+    }
+
+}
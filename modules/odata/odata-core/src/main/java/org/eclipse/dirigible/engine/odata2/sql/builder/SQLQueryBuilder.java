@@ -14,6 +14,7 @@ import org.apache.olingo.odata2.api.ep.entry.ODataEntry;
 import org.apache.olingo.odata2.api.exception.ODataException;
 import org.apache.olingo.odata2.api.processor.ODataContext;
 import org.apache.olingo.odata2.api.uri.*;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2Exception;
 import org.eclipse.dirigible.engine.odata2.sql.api.SQLInterceptor;
 import org.eclipse.dirigible.engine.odata2.sql.api.SQLStatementParam;
@@ -37,6 +38,19 @@ public class SQLQueryBuilder {
      */
     public static final int DEFAULT_SERVER_PAGING_SIZE = 1000;
 
+    /**
+     * Prefix of the $skiptoken carrying the last key of the previous page, rather than a number of rows
+     * to skip.
+     */
+    public static final String KEYSET_SKIP_TOKEN_PREFIX = "key:";
+
+    /** The Constant DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED. */
+    private static final String DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED = "DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED";
+
+    /** The key types supported by the keyset paging. */
+    private static final EdmSimpleTypeKind[] KEYSET_TYPES = {EdmSimpleTypeKind.String, EdmSimpleTypeKind.Byte, EdmSimpleTypeKind.SByte,
+            EdmSimpleTypeKind.Int16, EdmSimpleTypeKind.Int32, EdmSimpleTypeKind.Int64};
+
     /** The table binding. */
     private final EdmTableBindingProvider tableBinding;
 
@@ -152,6 +166,7 @@ public class SQLQueryBuilder {
              .skip(effectiveSkip)
              .from(target, uri.getKeyPredicates());
             q.filter(uri.getTargetEntitySet(), uri.getFilter());
+            keyset(q, uri, needsServersidePaging);
         } else {
             // we have the problem that top does not work for exapnd. Therefore we do 2 queries to select the
             // ids of the target entities (with applied filter),
@@ -161,6 +176,8 @@ public class SQLQueryBuilder {
             q.select(uri.getSelect(), uri.getExpand())
              .from(target, uri.getKeyPredicates());
             q.filter(uri.getTargetEntitySet(), getKeyProperty(target), readIdsForExpand);
+            // the paging is done by the ids query, keep only the key property for the next link
+            q.setKeysetProperty(getKeysetProperty(uri, needsServersidePaging));
         }
         q.join(uri.getStartEntitySet(), uri.getTargetEntitySet(), uri.getNavigationSegments())
          .with(uri.getKeyPredicates());
@@ -173,6 +190,38 @@ public class SQLQueryBuilder {
         return chain.onRead(q, uri, context);
     }
 
+    /**
+     * Builds the select entity set query with $expand as a single statement. The leading entities are
+     * selected with the query for the ids, including its top, skip, filter and order, which is embedded
+     * as a subquery instead of being executed upfront.
+     *
+     * @param uri the uri
+     * @param context the context
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    public SQLSelectBuilder buildSelectEntitySetForExpandQuery(final UriInfo uri, ODataContext context) throws ODataException {
+        EdmEntityType target = uri.getTargetEntitySet()
+                                  .getEntityType();
+        SQLSelectBuilder leadingEntitiesQuery = buildSelectEntitySetIdsForTopAndExpandQuery(uri, context);
+
+        SQLSelectBuilder q = new SQLSelectBuilder(tableBinding);
+        q.setServersidePaging(leadingEntitiesQuery.isServersidePaging());
+        q.setKeysetProperty(leadingEntitiesQuery.getKeysetProperty());
+        q.select(uri.getSelect(), uri.getExpand())
+         .from(target, uri.getKeyPredicates());
+        q.filter(uri.getTargetEntitySet(), getKeyProperty(target), leadingEntitiesQuery);
+        q.join(uri.getStartEntitySet(), uri.getTargetEntitySet(), uri.getNavigationSegments())
+         .with(uri.getKeyPredicates());
+        q.validateOrderBy(uri);
+        q.groupBy(uri.getTargetEntitySet()
+                     .getEntityType());
+        q.orderBy(uri.getOrderBy(), uri.getTargetEntitySet()
+                                       .getEntityType());
+
+        return chain.onRead(q, uri, context);
+    }
+
     /**
      * Builds the select entity set ids for top and expand query.
      *
@@ -204,16 +253,19 @@ public class SQLQueryBuilder {
         q.filter(uri.getTargetEntitySet(), uri.getFilter())
          .join(uri.getStartEntitySet(), uri.getTargetEntitySet(), uri.getNavigationSegments())
          .with(uri.getKeyPredicates());
+        keyset(q, uri, needsServersidePaging);
 
         // adds additional joins on the navigation properties required for correct ordering of the result
-        // set
-        for (ArrayList<NavigationPropertySegment> segments : uri.getExpand()) {
-            EdmEntitySet joinTarget = uri.getTargetEntitySet();
-            for (NavigationPropertySegment nav : segments) {
-                // when we have Owners/Addresses the addresses needs to be joined with the Owners.
-                // The joinTarget would be Owner when nav.getTargetEntitySet is Address
-                q.join(nav.getTargetEntitySet(), joinTarget, Collections.emptyList());
-                joinTarget = nav.getTargetEntitySet();
+        // set, only if ordered, as the joins of the to-many navigations repeat the ids and break the top
+        if (uri.getOrderBy() != null) {
+            for (ArrayList<NavigationPropertySegment> segments : uri.getExpand()) {
+                EdmEntitySet joinTarget = uri.getTargetEntitySet();
+                for (NavigationPropertySegment nav : segments) {
+                    // when we have Owners/Addresses the addresses needs to be joined with the Owners.
+                    // The joinTarget would be Owner when nav.getTargetEntitySet is Address
+                    q.join(nav.getTargetEntitySet(), joinTarget, Collections.emptyList());
+                    joinTarget = nav.getTargetEntitySet();
+                }
             }
         }
         q.groupBy(uri.getTargetEntitySet()
@@ -339,6 +391,79 @@ public class SQLQueryBuilder {
         }
     }
 
+    /**
+     * Applies the keyset paging, if possible for the request, restricting the rows to the ones after
+     * the last key carried by the $skiptoken.
+     *
+     * @param q the query
+     * @param uri the uri
+     * @param needsServersidePaging the needs serverside paging
+     * @throws EdmException the edm exception
+     */
+    private void keyset(SQLSelectBuilder q, UriInfo uri, boolean needsServersidePaging) throws EdmException {
+        EdmProperty keyProperty = getKeysetProperty(uri, needsServersidePaging);
+        String lastKey = getKeysetSkipToken(uri);
+        if (keyProperty == null) {
+            if (lastKey != null) {
+                throw new OData2Exception("$skiptoken with a key is not supported for this request", REQUESTED_RANGE_NOT_SATISFIABLE);
+            }
+            return;
+        }
+        if (lastKey != null && keyProperty.getType() != EdmSimpleTypeKind.String.getEdmSimpleTypeInstance()) {
+            try {
+                Long.parseLong(lastKey);
+            } catch (NumberFormatException e) {
+                throw new OData2Exception("$skiptoken must carry a numeric key", REQUESTED_RANGE_NOT_SATISFIABLE, e);
+            }
+        }
+        q.keyset(uri.getTargetEntitySet()
+                    .getEntityType(),
+                keyProperty, lastKey);
+    }
+
+    /**
+     * Gets the key property for keyset paging. The keyset paging is used for server-side paging in the
+     * default order by a single key of string or integer type, so that the next page is selected by the
+     * key instead of skipping all the previous rows.
+     *
+     * @param uri the uri
+     * @param needsServersidePaging the needs serverside paging
+     * @return the key property, null if the offset paging is to be used
+     * @throws EdmException the edm exception
+     */
+    private EdmProperty getKeysetProperty(UriInfo uri, boolean needsServersidePaging) throws EdmException {
+        if (!needsServersidePaging || uri.getOrderBy() != null
+                || !Boolean.parseBoolean(Configuration.get(DIRIGIBLE_ODATA_KEYSET_PAGING_ENABLED, "true"))) {
+            return null;
+        }
+        EdmEntityType target = uri.getTargetEntitySet()
+                                  .getEntityType();
+        List<String> keyProperties = target.getKeyPropertyNames();
+        if (keyProperties.size() != 1) {
+            return null;
+        }
+        EdmProperty keyProperty = (EdmProperty) target.getProperty(keyProperties.get(0));
+        EdmType type = keyProperty.getType();
+        for (EdmSimpleTypeKind kind : KEYSET_TYPES) {
+            if (kind.getEdmSimpleTypeInstance() == type) {
+                return keyProperty;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the last key carried by the $skiptoken.
+     *
+     * @param uri the uri
+     * @return the last key, null if the $skiptoken is missing or numeric
+     */
+    private static String getKeysetSkipToken(UriInfo uri) {
+        String skipToken = uri.getSkipToken();
+        return skipToken != null && skipToken.startsWith(KEYSET_SKIP_TOKEN_PREFIX) ? skipToken.substring(KEYSET_SKIP_TOKEN_PREFIX.length())
+                : null;
+    }
+
     /**
      * Calculate needs serverside paging.
      *
@@ -361,7 +486,7 @@ public class SQLQueryBuilder {
     private static Integer calculateEffectiveSkip(final UriInfo uri) {
         String skipTokenString = uri.getSkipToken();
         Integer skipToken;
-        if (skipTokenString != null) {
+        if (skipTokenString != null && !skipTokenString.startsWith(KEYSET_SKIP_TOKEN_PREFIX)) {
             try {
                 skipToken = Integer.parseInt(skipTokenString);
                 if (skipToken < 0) {
@@ -49,6 +49,9 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
     /** The Constant SPACE. */
     private static final String SPACE = " ";
 
+    /** The Constant LEADING_ENTITIES_ALIAS. */
+    private static final String LEADING_ENTITIES_ALIAS = "LEADING_ENTITIES";
+
     /** The structural types in join. */
     private final Set<String> structuralTypesInJoin;
 
@@ -67,6 +70,21 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
     /** The serverside paging. */
     private boolean serversidePaging;
 
+    /** The key property of the keyset paging, null for offset paging. */
+    private EdmProperty keysetProperty;
+
+    /** The keyset column, null on the first page. */
+    private String keysetColumn;
+
+    /** The keyset param with the last key of the previous page, null on the first page. */
+    private SQLStatementParam keysetParam;
+
+    /** The query selecting the keys of the leading entities, null if filtered by ids or not at all. */
+    private SQLSelectBuilder leadingEntitiesQuery;
+
+    /** The key column of the leading entities. */
+    private String leadingEntitiesColumn;
+
     /**
      * Instantiates a new SQL select builder.
      *
@@ -270,6 +288,73 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
         return this;
     }
 
+    /**
+     * Filter by the keys selected by another query, in the same statement. The query is rendered as a
+     * derived table, so that its own top and skip are applied before the filtering.
+     *
+     * @param filterTarget the filter target
+     * @param keyProperty the key property
+     * @param leadingEntitiesQuery the query selecting the keys of the leading entities
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    public SQLSelectBuilder filter(final EdmEntitySet filterTarget, final EdmProperty keyProperty,
+            final SQLSelectBuilder leadingEntitiesQuery) throws ODataException {
+        this.leadingEntitiesColumn = getSQLTableColumnInfo(filterTarget.getEntityType(), keyProperty).getColumnName();
+        this.leadingEntitiesQuery = leadingEntitiesQuery;
+        return this;
+    }
+
+    /**
+     * Page by the key instead of by offset. The rows are restricted to the ones with a key greater than
+     * the last key of the previous page, if given.
+     *
+     * @param entityType the entity type
+     * @param keyProperty the single key property
+     * @param lastKey the last key of the previous page, null for the first page
+     * @return the SQL select builder
+     * @throws EdmException the edm exception
+     */
+    public SQLSelectBuilder keyset(final EdmEntityType entityType, final EdmProperty keyProperty, final String lastKey)
+            throws EdmException {
+        this.keysetProperty = keyProperty;
+        if (lastKey != null) {
+            ColumnInfo column = getSQLTableColumnInfo(entityType, keyProperty);
+            this.keysetColumn = column.getColumnName();
+            this.keysetParam = new SQLStatementParam(lastKey, keyProperty, column);
+        }
+        return this;
+    }
+
+    /**
+     * Checks if the keyset paging is used.
+     *
+     * @return true if the next page is selected by the last key
+     */
+    public boolean isKeysetPaging() {
+        return keysetProperty != null;
+    }
+
+    /**
+     * Gets the key property of the keyset paging.
+     *
+     * @return the key property, null for offset paging
+     */
+    public EdmProperty getKeysetProperty() {
+        return keysetProperty;
+    }
+
+    /**
+     * Sets the key property of the keyset paging, when the paging itself is done by another query.
+     *
+     * @param keysetProperty the key property
+     * @return the SQL select builder
+     */
+    public SQLSelectBuilder setKeysetProperty(final EdmProperty keysetProperty) {
+        this.keysetProperty = keysetProperty;
+        return this;
+    }
+
     /**
      * Gets the select expression.
      *
@@ -333,8 +418,42 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
         List<SQLStatementParam> selectClauseStatementParams = getSelectExpression().getStatementParams();
         List<SQLStatementParam> whereClauseStatementParams = getWhereClause().getStatementParams();
 
-        return Stream.concat(selectClauseStatementParams.stream(), whereClauseStatementParams.stream())
-                     .collect(Collectors.toList());
+        List<SQLStatementParam> params = Stream.concat(selectClauseStatementParams.stream(), whereClauseStatementParams.stream())
+                                               .collect(Collectors.toList());
+        if (keysetParam != null) {
+            params.add(keysetParam);
+        }
+        if (leadingEntitiesQuery != null) {
+            params.addAll(leadingEntitiesQuery.getStatementParams());
+        }
+        return params;
+    }
+
+    /**
+     * Evaluate the where clause together with the keyset and the leading entities restrictions.
+     *
+     * @param context the context
+     * @return the where expression, empty if none
+     * @throws ODataException the o data exception
+     */
+    private String evaluateWhere(final SQLContext context) throws ODataException {
+        List<String> predicates = new ArrayList<>();
+        if (!getWhereClause().isEmpty()) {
+            predicates.add(getWhereClause().evaluate(context));
+        }
+        if (keysetParam != null) {
+            predicates.add(keysetColumn + " > ?");
+        }
+        if (leadingEntitiesQuery != null) {
+            predicates.add(leadingEntitiesColumn + " IN (SELECT * FROM (" + leadingEntitiesQuery.buildSelect(context) + ") "
+                    + LEADING_ENTITIES_ALIAS + ")");
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        return predicates.stream()
+                         .map(predicate -> "(" + predicate + ")")
+                         .collect(Collectors.joining(" AND "));
     }
 
     /**
@@ -375,9 +494,10 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
         builder.append(selectExpression.evaluate(context, FROM))
                .append(SPACE);
         builder.append(evaluateJoins(context));
-        if (!getWhereClause().isEmpty()) {
+        String whereExpression = evaluateWhere(context);
+        if (!whereExpression.isEmpty()) {
             builder.append(" WHERE ");
-            builder.append(getWhereClause().evaluate(context))
+            builder.append(whereExpression)
                    .append(SPACE);
         }
 
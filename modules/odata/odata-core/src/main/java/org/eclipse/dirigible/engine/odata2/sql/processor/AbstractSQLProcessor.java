@@ -37,6 +37,7 @@ import org.apache.olingo.odata2.api.uri.info.*;
 import org.apache.olingo.odata2.core.commons.ContentType;
 import org.apache.olingo.odata2.core.uri.KeyPredicateImpl;
 import org.apache.olingo.odata2.core.uri.UriInfoImpl;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2EventHandler;
 import org.eclipse.dirigible.engine.odata2.sql.api.SQLProcessor;
 import org.eclipse.dirigible.engine.odata2.sql.api.SQLStatement;
@@ -84,6 +85,18 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
     private static final String ENTRY_CONTEXT_KEY = "entry";
     /** The Constant ENTRY_JSON_CONTEXT_KEY. */
     private static final String ENTRY_JSON_CONTEXT_KEY = "entryJSON";
+    /** The Constant DIRIGIBLE_ODATA_FETCH_SIZE. */
+    private static final String DIRIGIBLE_ODATA_FETCH_SIZE = "DIRIGIBLE_ODATA_FETCH_SIZE";
+    /** The Constant DEFAULT_FETCH_SIZE. */
+    private static final int DEFAULT_FETCH_SIZE = 100;
+    /** The Constant DIRIGIBLE_ODATA_STREAMING_ENABLED. */
+    private static final String DIRIGIBLE_ODATA_STREAMING_ENABLED = "DIRIGIBLE_ODATA_STREAMING_ENABLED";
+    /** The Constant DIRIGIBLE_ODATA_EXPAND_STRATEGY. */
+    private static final String DIRIGIBLE_ODATA_EXPAND_STRATEGY = "DIRIGIBLE_ODATA_EXPAND_STRATEGY";
+    /** The Constant EXPAND_STRATEGY_SUBQUERY, selecting the leading entities in the same statement. */
+    private static final String EXPAND_STRATEGY_SUBQUERY = "subquery";
+    /** The Constant EXPAND_STRATEGY_IDS, reading the ids of the leading entities upfront. */
+    private static final String EXPAND_STRATEGY_IDS = "ids";
     /** The odata 2 event handler. */
     private final OData2EventHandler odata2EventHandler;
     /** The result set reader. */
@@ -283,6 +296,10 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
         logger.info("Created select statement: [{}]", sql);
 
         PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        int fetchSize = Configuration.getAsInt(DIRIGIBLE_ODATA_FETCH_SIZE, DEFAULT_FETCH_SIZE);
+        if (fetchSize > 0) {
+            preparedStatement.setFetchSize(fetchSize);
+        }
 
         setParamsOnStatement(preparedStatement, selectQuery.getStatementParams());
         return preparedStatement;
@@ -301,6 +318,7 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
         final InlineCount inlineCountType = uriInfo.getInlineCount();
         final EdmEntitySet targetEntitySet = uriInfo.getTargetEntitySet();
         final EdmEntityType targetEntityType = targetEntitySet.getEntityType();
+        final long allocatedSince = EntitySetMetrics.currentThreadAllocatedBytes();
 
         Collection<EdmProperty> properties = getSelectedProperties(uriInfo.getSelect(), targetEntityType);
         List<ResultSetReader.ExpandAccumulator> entitiesFeed = new ArrayList<>();
@@ -314,27 +332,40 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
             } else {
                 count = null;
             }
-            List<String> readIdsForExpand = new ArrayList<>();
-            if (OData2Utils.hasExpand((UriInfo) uriInfo)) {
+            SQLSelectBuilder query;
+            if (!OData2Utils.hasExpand((UriInfo) uriInfo)) {
+                query = this.getSQLQueryBuilder()
+                            .buildSelectEntitySetQuery((UriInfo) uriInfo, getContext());
+            } else if (EXPAND_STRATEGY_IDS.equalsIgnoreCase(Configuration.get(DIRIGIBLE_ODATA_EXPAND_STRATEGY, EXPAND_STRATEGY_SUBQUERY))) {
                 if (logger.isDebugEnabled()) {
                     logger.debug("Reading the ids that will be used for $expand");
                 }
-                readIdsForExpand = readIdsForExpand(uriInfo);
-                if (logger.isInfoEnabled()) {
-                    logger.info("Using IDs for $expand: {}", readIdsForExpand);
+                List<String> readIdsForExpand = readIdsForExpand(uriInfo);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Using IDs for $expand: {}", readIdsForExpand);
                 }
+                query = this.getSQLQueryBuilder()
+                            .buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
+            } else {
+                query = this.getSQLQueryBuilder()
+                            .buildSelectEntitySetForExpandQuery((UriInfo) uriInfo, getContext());
             }
-
-            SQLSelectBuilder query = this.getSQLQueryBuilder()
-                                         .buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
             try (PreparedStatement statement = createSelectStatement(query, connection)) {
                 try (ResultSet resultSet = statement.executeQuery()) {
+                    if (isStreamable((UriInfo) uriInfo, query, count)) {
+                        // the entries are serialized while being read, before the connection is closed
+                        nextLink = needsNextLink(query, targetEntityType, count) ? generateNextLink(query, targetEntityType) : null;
+                        ResultSetFeed feed = new ResultSetFeed(resultSetReader, query, targetEntityType, properties, resultSet);
+                        ODataResponse response =
+                                ExpandCallBack.writeFeed(getContext(), (UriInfo) uriInfo, feed, contentType, count, nextLink);
+                        EntitySetMetrics.record(targetEntitySet.getName(), feed.getCount(), true, allocatedSince);
+                        return response;
+                    }
                     ResultSetReader.ExpandAccumulator currentAccumulator = new ResultSetReader.ExpandAccumulator(targetEntityType);
                     while (resultSet.next()) {
                         boolean hasGeneratedId = query.hasKeyGeneratedPresent(targetEntitySet.getEntityType());
                         ResultSetReader.ResultSetEntity currentTargetEntity =
                                 resultSetReader.getResultSetEntity(query, targetEntityType, properties, resultSet, hasGeneratedId);
-                        logger.info("Current entity set object is {}", currentTargetEntity);
                         if (!currentAccumulator.isAccumulatorFor(currentTargetEntity) || currentTargetEntity.keys.isEmpty()) {
                             currentAccumulator = new ResultSetReader.ExpandAccumulator(currentTargetEntity);
                             entitiesFeed.add(currentAccumulator);
@@ -347,13 +378,51 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
                     }
                     boolean needsNextLink = query.isServersidePaging() && entitiesFeed.size() == this.getSQLQueryBuilder()
                                                                                                      .getEntityPagingSize(targetEntityType);
-                    nextLink = needsNextLink ? generateNextLink(query, targetEntityType) : null;
+                    nextLink = needsNextLink ? generateNextLink(query, targetEntityType, entitiesFeed.get(entitiesFeed.size() - 1)
+                                                                                                     .getResultSetEntity())
+                            : null;
                 }
             }
         } catch (Exception e) {
             throw new ODataException("Unable to read entity set", e);
         }
-        return ExpandCallBack.writeFeedWithExpand(getContext(), (UriInfo) uriInfo, entitiesFeed, contentType, count, nextLink);
+        ODataResponse response =
+                ExpandCallBack.writeFeedWithExpand(getContext(), (UriInfo) uriInfo, entitiesFeed, contentType, count, nextLink);
+        EntitySetMetrics.record(targetEntitySet.getName(), entitiesFeed.size(), false, allocatedSince);
+        return response;
+    }
+
+    /**
+     * Checks whether the feed can be serialized straight from the cursor. This is the case for feeds
+     * without $expand, if the next link can be decided before reading the entries - either there is no
+     * server-side paging or the inline count is requested and the paging is not by the last key.
+     *
+     * @param uriInfo the uri info
+     * @param query the query
+     * @param count the inline count, null if not requested
+     * @return true, if streamable
+     */
+    protected boolean isStreamable(UriInfo uriInfo, SQLSelectBuilder query, Integer count) {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_ODATA_STREAMING_ENABLED, "true")) && !OData2Utils.hasExpand(uriInfo)
+                && (!query.isServersidePaging() || (count != null && !query.isKeysetPaging()));
+    }
+
+    /**
+     * Checks whether a streamed feed needs a next link, i.e. whether the page is full.
+     *
+     * @param query the query
+     * @param targetEntityType the target entity type
+     * @param count the inline count, null if not requested
+     * @return true, if the next link is needed
+     */
+    private boolean needsNextLink(SQLSelectBuilder query, EdmEntityType targetEntityType, Integer count) {
+        if (!query.isServersidePaging() || count == null) {
+            return false;
+        }
+        int skip = Math.max(0, query.getSelectExpression()
+                                    .getSkip());
+        return count - skip >= this.getSQLQueryBuilder()
+                                   .getEntityPagingSize(targetEntityType);
     }
 
     /**
@@ -396,9 +465,32 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
     protected String generateNextLink(SQLSelectBuilder query, EdmEntityType targetEntityType) throws ODataException {
         int top = query.getSelectExpression()
                        .getTop();
+        int skip = Math.max(0, query.getSelectExpression()
+                                    .getSkip());
         int pagingSize = this.getSQLQueryBuilder()
                              .getEntityPagingSize(targetEntityType);
-        return OData2Utils.generateNextLink(getContext(), top, pagingSize);
+        // the next page starts after the rows skipped so far and the current page
+        return OData2Utils.generateNextLink(getContext(), skip + (top > 0 ? top : pagingSize), pagingSize);
+    }
+
+    /**
+     * Generates the next link for server-side paging. In case of keyset paging the link carries the key
+     * of the last entity of the current page, otherwise the number of the rows to skip.
+     *
+     * @param query the query
+     * @param targetEntityType the target entity type
+     * @param lastEntity the last entity of the current page
+     * @return the link
+     * @throws ODataException in case of an error
+     */
+    protected String generateNextLink(SQLSelectBuilder query, EdmEntityType targetEntityType, ResultSetReader.ResultSetEntity lastEntity)
+            throws ODataException {
+        if (!query.isKeysetPaging()) {
+            return generateNextLink(query, targetEntityType);
+        }
+        Object lastKey = lastEntity.keys.get(query.getKeysetProperty()
+                                                  .getName());
+        return OData2Utils.generateNextLink(getContext(), SQLQueryBuilder.KEYSET_SKIP_TOKEN_PREFIX + lastKey);
     }
 
     /**
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.odata2.sql.processor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read statistics per entity set: the number of the feed reads, the rows returned and the heap
+ * allocated by the thread while reading and serializing the feeds.
+ */
+public class EntitySetMetrics {
+
+    /** The Constant STATISTICS. */
+    private static final Map<String, EntitySetMetrics> STATISTICS = new ConcurrentHashMap<>();
+
+    /** The Constant THREAD_MX_BEAN, null if the allocated bytes are not measurable. */
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    /** The reads. */
+    private final LongAdder reads = new LongAdder();
+
+    /** The streamed reads. */
+    private final LongAdder streamedReads = new LongAdder();
+
+    /** The rows. */
+    private final LongAdder rows = new LongAdder();
+
+    /** The max rows of a single read. */
+    private final AtomicLong maxRows = new AtomicLong();
+
+    /** The allocated bytes. */
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    /**
+     * Gets the statistics of all the entity sets read so far.
+     *
+     * @return the statistics by entity set name
+     */
+    public static Map<String, EntitySetMetrics> getAll() {
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes or -1, if not supported
+     */
+    static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Record a feed read.
+     *
+     * @param entitySet the entity set name
+     * @param count the number of the rows
+     * @param streamed whether the feed has been streamed from the cursor
+     * @param allocatedSince the allocated bytes of the current thread before the read
+     */
+    static void record(String entitySet, long count, boolean streamed, long allocatedSince) {
+        EntitySetMetrics metrics = STATISTICS.computeIfAbsent(entitySet, k -> new EntitySetMetrics());
+        metrics.reads.increment();
+        if (streamed) {
+            metrics.streamedReads.increment();
+        }
+        metrics.rows.add(count);
+        metrics.maxRows.accumulateAndGet(count, Math::max);
+        if (allocatedSince >= 0) {
+            metrics.allocatedBytes.add(Math.max(0, currentThreadAllocatedBytes() - allocatedSince));
+        }
+    }
+
+    /**
+     * Gets the thread MX bean, if it supports measuring the allocated bytes.
+     *
+     * @return the thread MX bean or null
+     */
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()
+                && sunBean.isThreadAllocatedMemoryEnabled()) {
+            return sunBean;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the reads.
+     *
+     * @return the reads
+     */
+    public long getReads() {
+        return reads.sum();
+    }
+
+    /**
+     * Gets the streamed reads.
+     *
+     * @return the streamed reads
+     */
+    public long getStreamedReads() {
+        return streamedReads.sum();
+    }
+
+    /**
+     * Gets the rows.
+     *
+     * @return the rows
+     */
+    public long getRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Gets the max rows of a single read.
+     *
+     * @return the max rows
+     */
+    public long getMaxRows() {
+        return maxRows.get();
+    }
+
+    /**
+     * Gets the allocated bytes.
+     *
+     * @return the allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.odata2.sql.processor;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.olingo.odata2.api.edm.EdmEntityType;
+import org.apache.olingo.odata2.api.edm.EdmProperty;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.eclipse.dirigible.engine.odata2.sql.builder.SQLSelectBuilder;
+
+/**
+ * Feed over an open result set. The entries are read from the cursor while the feed is being
+ * serialized, so that only the current row is held in memory. Consecutive rows of the same entity
+ * are collapsed into a single entry, as done for the buffered feed. The iterator can be obtained
+ * once and does not keep the entries it has passed. The random access reads ahead and keeps the
+ * entries up to the requested one, hence {@link #size()} reads and keeps all the remaining entries,
+ * while the entries already passed by the iterator are not accessible anymore.
+ */
+class ResultSetFeed extends AbstractList<Map<String, Object>> {
+
+    /** The result set reader. */
+    private final ResultSetReader resultSetReader;
+
+    /** The query. */
+    private final SQLSelectBuilder query;
+
+    /** The entity type. */
+    private final EdmEntityType entityType;
+
+    /** The selected properties. */
+    private final Collection<EdmProperty> properties;
+
+    /** The result set. */
+    private final ResultSet resultSet;
+
+    /** The has generated id flag. */
+    private final boolean hasGeneratedId;
+
+    /** The entries read ahead and not yet passed by the iterator. */
+    private final List<Map<String, Object>> buffer = new ArrayList<>();
+
+    /** The number of the entries passed by the iterator and not kept. */
+    private int offset;
+
+    /** The last entity read. */
+    private ResultSetReader.ResultSetEntity last;
+
+    /** The exhausted flag. */
+    private boolean exhausted;
+
+    /** The iterated flag. */
+    private boolean iterated;
+
+    /**
+     * Instantiates a new result set feed.
+     *
+     * @param resultSetReader the result set reader
+     * @param query the query
+     * @param entityType the entity type
+     * @param properties the selected properties
+     * @param resultSet the result set
+     */
+    ResultSetFeed(ResultSetReader resultSetReader, SQLSelectBuilder query, EdmEntityType entityType, Collection<EdmProperty> properties,
+            ResultSet resultSet) {
+        this.resultSetReader = resultSetReader;
+        this.query = query;
+        this.entityType = entityType;
+        this.properties = properties;
+        this.resultSet = resultSet;
+        this.hasGeneratedId = query.hasKeyGeneratedPresent(entityType);
+    }
+
+    /**
+     * Gets the number of the entries read so far.
+     *
+     * @return the count
+     */
+    int getCount() {
+        return offset + buffer.size();
+    }
+
+    /**
+     * Iterator.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("The result set feed can be iterated only once");
+        }
+        if (offset > 0) {
+            throw new IllegalStateException("The result set feed has already been passed");
+        }
+        iterated = true;
+        return new Iterator<>() {
+
+            /** The position. */
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return readUpTo(position);
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Map<String, Object> entry = buffer.get(position - offset);
+                position++;
+                if (position == getCount()) {
+                    // the passed entries are not kept
+                    offset = position;
+                    buffer.clear();
+                }
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * Gets the entry, reading ahead up to it.
+     *
+     * @param index the index
+     * @return the entry
+     */
+    @Override
+    public Map<String, Object> get(int index) {
+        if (index < 0 || !readUpTo(index)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getCount());
+        }
+        if (index < offset) {
+            throw new IllegalStateException("The entry [" + index + "] has already been passed by the iterator");
+        }
+        return buffer.get(index - offset);
+    }
+
+    /**
+     * Gets the number of the entries, reading all the remaining ones.
+     *
+     * @return the size
+     */
+    @Override
+    public int size() {
+        readUpTo(Integer.MAX_VALUE);
+        return getCount();
+    }
+
+    /**
+     * Checks whether the feed is empty, reading at most the first entry.
+     *
+     * @return true, if empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return !readUpTo(0);
+    }
+
+    /**
+     * Read the entries up to the index, if not read yet.
+     *
+     * @param index the index
+     * @return true, if the entry at the index exists
+     */
+    private boolean readUpTo(int index) {
+        while (getCount() <= index && !exhausted) {
+            ResultSetReader.ResultSetEntity entity = read();
+            if (entity == null) {
+                exhausted = true;
+            } else {
+                buffer.add(entity.data);
+            }
+        }
+        return getCount() > index;
+    }
+
+    /**
+     * Read the next entity, skipping the rows of the last one.
+     *
+     * @return the entity or null, if the cursor is exhausted
+     */
+    private ResultSetReader.ResultSetEntity read() {
+        try {
+            while (resultSet.next()) {
+                ResultSetReader.ResultSetEntity entity =
+                        resultSetReader.getResultSetEntity(query, entityType, properties, resultSet, hasGeneratedId);
+                if (last == null || !last.equals(entity) || entity.keys.isEmpty()) {
+                    last = entity;
+                    return entity;
+                }
+            }
+            return null;
+        } catch (SQLException | ODataException | IOException e) {
+            throw new IllegalStateException("Unable to read entity set", e);
+        }
+    }
+
+}
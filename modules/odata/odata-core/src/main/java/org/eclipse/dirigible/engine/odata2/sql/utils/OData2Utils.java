@@ -29,6 +29,8 @@ import org.apache.olingo.odata2.api.uri.expression.OrderExpression;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2Exception;
 import org.eclipse.dirigible.engine.odata2.sql.builder.SQLSelectBuilder;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -77,8 +79,6 @@ public class OData2Utils {
      * @throws ODataException in case of an error
      */
     public static String generateNextLink(ODataContext context, int top, int pagingSize) throws ODataException {
-        String nextLink;
-
         final int skipToken;
         if (top > 0) {
             // We already have limited the maximum number of results for the current request
@@ -88,7 +88,21 @@ public class OData2Utils {
         } else {
             skipToken = pagingSize;
         }
+        return generateNextLink(context, String.valueOf(skipToken));
+    }
 
+    /**
+     * Generates the next link for server-side paging with the given $skiptoken. The next-link is based
+     * on the URI of the current request, except that {@code $skip} or {@code $skiptoken} will be
+     * removed.
+     *
+     * @param context the context
+     * @param skipToken the skip token
+     * @return the link
+     * @throws ODataException in case of an error
+     */
+    public static String generateNextLink(ODataContext context, String skipToken) throws ODataException {
+        String nextLink;
         final StringBuilder nextLinkBuilder = new StringBuilder();
         String requestUri = percentEncodeNextLink(context.getPathInfo()
                                                          .getServiceRoot()
@@ -98,7 +112,8 @@ public class OData2Utils {
         nextLinkBuilder.append(requestUri);
         nextLinkBuilder.append(requestUri.contains("?") ? "&" : "?");
         nextLinkBuilder.append("$skiptoken=");
-        nextLinkBuilder.append(skipToken);
+        nextLinkBuilder.append(URLEncoder.encode(skipToken, StandardCharsets.UTF_8)
+                                         .replace("+", "%20"));
         nextLink = nextLinkBuilder.toString();
         return nextLink;
     }
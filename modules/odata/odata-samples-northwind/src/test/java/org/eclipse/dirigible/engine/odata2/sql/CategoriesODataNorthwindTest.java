@@ -12,11 +12,22 @@ package org.eclipse.dirigible.engine.odata2.sql;
 import static org.apache.olingo.odata2.api.commons.ODataHttpMethod.GET;
 import static org.junit.Assert.assertEquals;
 
+import static org.junit.Assert.assertTrue;
+
 import java.io.InputStream;
 
 import jakarta.ws.rs.core.Response;
 
 import org.apache.cxf.helpers.IOUtils;
+import org.apache.olingo.odata2.api.ODataService;
+import org.apache.olingo.odata2.api.edm.EdmEntityType;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.apache.olingo.odata2.api.processor.ODataContext;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.engine.odata2.sql.builder.SQLQueryBuilder;
+import org.eclipse.dirigible.engine.odata2.sql.mapping.DefaultEdmTableMappingProvider;
+import org.eclipse.dirigible.engine.odata2.sql.processor.DefaultSQLProcessor;
+import org.eclipse.dirigible.engine.odata2.sql.test.util.OData2TestUtils;
 import org.junit.Test;
 
 /**
@@ -56,6 +67,156 @@ public class CategoriesODataNorthwindTest extends AbstractODataNorthwindTest {
         assertEquals(expectedData, data);
     }
 
+    /**
+     * HTTP GET: https://services.odata.org/V2/Northwind/Northwind.svc/Categories?$top=100&$format=json
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testGetWithTop() throws Exception {
+        Response response = OData2RequestBuilder.createRequest(sf) //
+                                                .segments("Categories") //
+                                                .param("$top", "100") //
+                                                .param("$format", "json") //
+                                                .executeRequest(GET);
+        String data = IOUtils.toString((InputStream) response.getEntity());
+        String expectedData = loadExpectedData("Categories-get.json");
+        assertEquals(expectedData, data);
+    }
+
+    /**
+     * HTTP GET:
+     * https://services.odata.org/V2/Northwind/Northwind.svc/Categories?$expand=Products&$top=2&$format=json
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testGetWithExpand() throws Exception {
+        String data = getWithExpand();
+        assertEquals(2, countOccurrences(data, "\"CategoryName\""));
+        assertEquals(24, countOccurrences(data, "\"ProductName\""));
+
+        Configuration.set("DIRIGIBLE_ODATA_EXPAND_STRATEGY", "ids");
+        try {
+            assertEquals(data, getWithExpand());
+        } finally {
+            Configuration.remove("DIRIGIBLE_ODATA_EXPAND_STRATEGY");
+        }
+    }
+
+    /**
+     * Gets the categories with expanded products.
+     *
+     * @return the data
+     * @throws Exception the exception
+     */
+    private String getWithExpand() throws Exception {
+        Response response = OData2RequestBuilder.createRequest(sf) //
+                                                .segments("Categories") //
+                                                .param("$expand", "Products") //
+                                                .param("$top", "2") //
+                                                .param("$format", "json") //
+                                                .executeRequest(GET);
+        return IOUtils.toString((InputStream) response.getEntity());
+    }
+
+    /**
+     * HTTP GET:
+     * https://services.odata.org/V2/Northwind/Northwind.svc/Categories?$skiptoken=key:5&$format=json
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testGetWithKeysetSkipToken() throws Exception {
+        Response response = OData2RequestBuilder.createRequest(sf) //
+                                                .segments("Categories") //
+                                                .param("$skiptoken", "key:5") //
+                                                .param("$format", "json") //
+                                                .executeRequest(GET);
+        String data = IOUtils.toString((InputStream) response.getEntity());
+        assertEquals(3, countOccurrences(data, "\"CategoryName\""));
+        assertEquals(-1, data.indexOf("\"CategoryID\":5,"));
+        assertEquals(-1, data.indexOf("__next"));
+    }
+
+    /**
+     * HTTP GET:
+     * https://services.odata.org/V2/Northwind/Northwind.svc/Categories?$inlinecount=allpages&$orderby=CategoryID&$format=json
+     * with a server-side paging size of 5, streamed from the cursor
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testGetWithInlineCountAndNextLink() throws Exception {
+        OData2TestServiceFactory pagingFactory = createPagingServiceFactory(5);
+        String data = getWithInlineCount(pagingFactory, null);
+        assertEquals(5, countOccurrences(data, "\"CategoryName\""));
+        assertTrue(data.contains("\"__count\":\"8\""));
+        assertTrue(data.contains("\"__next\":\"") && data.contains("skiptoken=5"));
+
+        data = getWithInlineCount(pagingFactory, "5");
+        assertEquals(3, countOccurrences(data, "\"CategoryName\""));
+        assertTrue(data.contains("\"__count\":\"8\""));
+        assertTrue(data.contains("\"CategoryID\":6,"));
+        assertEquals(-1, data.indexOf("__next"));
+    }
+
+    /**
+     * Gets the categories ordered by id with the inline count.
+     *
+     * @param serviceFactory the service factory
+     * @param skipToken the skip token, null for the first page
+     * @return the data
+     * @throws Exception the exception
+     */
+    private String getWithInlineCount(OData2TestServiceFactory serviceFactory, String skipToken) throws Exception {
+        OData2RequestBuilder request = OData2RequestBuilder.createRequest(serviceFactory) //
+                                                           .segments("Categories") //
+                                                           .param("$inlinecount", "allpages") //
+                                                           .param("$orderby", "CategoryID") //
+                                                           .param("$format", "json");
+        if (skipToken != null) {
+            request.param("$skiptoken", skipToken);
+        }
+        Response response = request.executeRequest(GET);
+        return IOUtils.toString((InputStream) response.getEntity());
+    }
+
+    /**
+     * Creates a service factory with the given server-side paging size.
+     *
+     * @param pagingSize the paging size
+     * @return the service factory
+     * @throws ODataException the o data exception
+     */
+    private OData2TestServiceFactory createPagingServiceFactory(int pagingSize) throws ODataException {
+        return new OData2TestServiceFactory(ds, getODataEntities()) {
+            @Override
+            public ODataService createService(ODataContext ctx) throws ODataException {
+                setDefaultDataSource(ctx);
+                SQLQueryBuilder queryBuilder =
+                        new SQLQueryBuilder(new DefaultEdmTableMappingProvider(OData2TestUtils.resources(getODataEntities()))) {
+                            @Override
+                            public Integer getEntityPagingSize(EdmEntityType targetType) {
+                                return pagingSize;
+                            }
+                        };
+                return createODataSingleProcessorService(createAnnotationEdmProvider(), new DefaultSQLProcessor(queryBuilder));
+            }
+        };
+    }
+
+    /**
+     * Count the occurrences.
+     *
+     * @param data the data
+     * @param part the part
+     * @return the count
+     */
+    private static int countOccurrences(String data, String part) {
+        return data.split(part, -1).length - 1;
+    }
+
     /**
      * HTTP GET: https://services.odata.org/V2/Northwind/Northwind.svc/Categories(1)?$format=json
      *
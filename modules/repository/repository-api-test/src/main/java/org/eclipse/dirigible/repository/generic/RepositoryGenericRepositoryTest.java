@@ -14,6 +14,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 
@@ -165,6 +167,52 @@ public class RepositoryGenericRepositoryTest {
         }
     }
 
+    /**
+     * Test get resource content as stream.
+     */
+    @Test
+    public void testGetResourceContentAsStream() {
+        if (repository == null) {
+            return;
+        }
+
+        try {
+            repository.createResource("/testCollection/testResourceStream.txt", //$NON-NLS-1$
+                    "test content".getBytes()); //$NON-NLS-1$
+            IResource resource = repository.getResource("/testCollection/testResourceStream.txt"); //$NON-NLS-1$
+            try (InputStream in = resource.getContentAsStream()) {
+                assertTrue(Arrays.equals(in.readAllBytes(), "test content".getBytes())); //$NON-NLS-1$
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test set resource content from stream.
+     */
+    @Test
+    public void testSetResourceContentFromStream() {
+        if (repository == null) {
+            return;
+        }
+
+        try {
+            IResource resource = repository.getResource("/testCollection/testResourceFromStream.txt"); //$NON-NLS-1$
+            resource.setContent(new ByteArrayInputStream("first content".getBytes())); //$NON-NLS-1$
+            assertTrue(resource.exists());
+            assertTrue(Arrays.equals(resource.getContent(), "first content".getBytes())); //$NON-NLS-1$
+            resource.setContent(new ByteArrayInputStream("second".getBytes())); //$NON-NLS-1$
+            assertTrue(Arrays.equals(repository.getResource("/testCollection/testResourceFromStream.txt") //$NON-NLS-1$
+                                               .getContent(),
+                    "second".getBytes())); //$NON-NLS-1$
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
+
     /**
      * Test get resource.
      */
@@ -9,6 +9,10 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * The <code>IResource</code> interface represents a resource located in the repository.
  */
@@ -25,6 +29,17 @@ public interface IResource extends IEntity {
      */
     public byte[] getContent() throws RepositoryReadException;
 
+    /**
+     * Returns the content of the resource as a stream, which should be closed by the caller. The
+     * implementations may stream the content from the underlying storage, without loading it in memory.
+     *
+     * @return the content stream
+     * @throws RepositoryReadException in case the content cannot be retrieved
+     */
+    public default InputStream getContentAsStream() throws RepositoryReadException {
+        return new ByteArrayInputStream(getContent());
+    }
+
     /**
      * Sets this resource's content.
      *
@@ -33,6 +48,21 @@ public interface IResource extends IEntity {
      */
     public void setContent(byte[] content) throws RepositoryWriteException;
 
+    /**
+     * Sets this resource's content from a stream. The implementations may stream the content to the
+     * underlying storage, without loading it in memory. The stream is not closed.
+     *
+     * @param content the content stream
+     * @throws RepositoryWriteException the repository write exception
+     */
+    public default void setContent(InputStream content) throws RepositoryWriteException {
+        try {
+            setContent(content.readAllBytes());
+        } catch (IOException e) {
+            throw new RepositoryWriteException("Could not read the content.", e);
+        }
+    }
+
     /**
      * Sets this resource's content.
      *
@@ -551,6 +551,15 @@ public abstract class FileSystemRepository implements IRepository {
         return repositoryDao;
     }
 
+    /**
+     * Gets the repository searcher.
+     *
+     * @return the repository searcher
+     */
+    public RepositorySearcher getRepositorySearcher() {
+        return repositorySearcher;
+    }
+
     /**
      * Import zip.
      *
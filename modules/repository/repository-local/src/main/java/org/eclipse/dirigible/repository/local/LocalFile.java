@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.repository.local;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 
 /**
@@ -78,6 +80,17 @@ public class LocalFile extends LocalObject {
                               .getFileContent(this);
     }
 
+    /**
+     * Gets the data as stream.
+     *
+     * @return the data stream
+     * @throws LocalRepositoryException the local repository exception
+     */
+    public InputStream getDataAsStream() throws LocalRepositoryException {
+        return getRepository().getRepositoryDao()
+                              .getFileContentAsStream(this);
+    }
+
     /**
      * Sets the data.
      *
@@ -89,6 +102,17 @@ public class LocalFile extends LocalObject {
                        .setFileContent(this, content);
     }
 
+    /**
+     * Sets the data from a stream.
+     *
+     * @param content the new data stream
+     * @throws LocalRepositoryException the local repository exception
+     */
+    public void setData(InputStream content) throws LocalRepositoryException {
+        getRepository().getRepositoryDao()
+                       .setFileContent(this, content);
+    }
+
     /**
      * Checks if is binary.
      *
@@ -9,22 +9,28 @@
  */
 package org.eclipse.dirigible.repository.local;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.RepositoryCache;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositoryWriteException;
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
+import org.eclipse.dirigible.repository.search.RepositorySearcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,6 +92,7 @@ public class LocalRepositoryDao {
             String workspacePath = storeFile(path, content);
             cache.put(workspacePath, content);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.resourceChanged(toRepositoryPath(workspacePath)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -95,17 +102,68 @@ public class LocalRepositoryDao {
     public String storeFile(String path, byte[] content) throws FileNotFoundException, IOException {
         String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
         FileSystemUtils.saveFile(workspacePath, content);
+        storeVersion(path, workspacePath);
+        return workspacePath;
+    }
+
+    /**
+     * Store file from a stream.
+     *
+     * @param path the path
+     * @param content the content stream
+     * @return the workspace path
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public String storeFile(String path, InputStream content) throws IOException {
+        String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
+        FileSystemUtils.saveFile(workspacePath, content);
+        storeVersion(path, workspacePath);
+        return workspacePath;
+    }
+
+    /**
+     * Store a copy of the already saved file in the versions folder, if the repository is versioned.
+     *
+     * @param path the path
+     * @param workspacePath the workspace path
+     */
+    private void storeVersion(String path, String workspacePath) {
         try {
             if (repository.isVersioned()) {
                 String versionsPath =
                         workspacePath.replace(IRepository.SEPARATOR + FileSystemRepository.PATH_SEGMENT_ROOT + IRepository.SEPARATOR,
                                 IRepository.SEPARATOR + FileSystemRepository.PATH_SEGMENT_VERSIONS + IRepository.SEPARATOR);
-                FileSystemUtils.saveFile(versionsPath + IRepository.SEPARATOR + formatter.format(new Date()), content);
+                try (InputStream in = Files.newInputStream(Path.of(workspacePath))) {
+                    FileSystemUtils.saveFile(versionsPath + IRepository.SEPARATOR + formatter.format(new Date()), in);
+                }
             }
         } catch (Exception ev) {
             logger.warn("Error while storing version for file: {} with: {}", path, ev.getMessage());
         }
-        return workspacePath;
+    }
+
+    /**
+     * Notifies the repository searcher for a change.
+     *
+     * @param notification the notification
+     */
+    private void notifySearcher(Consumer<RepositorySearcher> notification) {
+        RepositorySearcher searcher = repository.getRepositorySearcher();
+        if (searcher != null) {
+            notification.accept(searcher);
+        }
+    }
+
+    /**
+     * Converts a workspace path to a repository path.
+     *
+     * @param workspacePath the workspace path
+     * @return the repository path
+     */
+    private String toRepositoryPath(String workspacePath) {
+        String repositoryPath = new File(repository.getRepositoryPath()).getPath();
+        String relativePath = workspacePath.startsWith(repositoryPath) ? workspacePath.substring(repositoryPath.length()) : workspacePath;
+        return new RepositoryPath(relativePath).toString();
     }
 
     /**
@@ -127,6 +185,25 @@ public class LocalRepositoryDao {
             String workspacePath = storeFile(localFile.getPath(), content);
             cache.put(workspacePath, content);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.resourceChanged(toRepositoryPath(workspacePath)));
+        } catch (IOException e) {
+            throw new LocalRepositoryException(e);
+        }
+    }
+
+    /**
+     * Sets the file content from a stream. The content is not put in the cache, as it may be large.
+     *
+     * @param localFile the local file
+     * @param content the content stream
+     */
+    public void setFileContent(LocalFile localFile, InputStream content) {
+        try {
+            String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
+            cache.remove(workspacePath);
+            storeFile(localFile.getPath(), content);
+            ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.resourceChanged(toRepositoryPath(workspacePath)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -152,6 +229,26 @@ public class LocalRepositoryDao {
         }
     }
 
+    /**
+     * Gets the file content as stream. A cached content is reused, otherwise the file is streamed
+     * without being loaded in memory or in the cache.
+     *
+     * @param localFile the local file
+     * @return the file content stream
+     */
+    public InputStream getFileContentAsStream(LocalFile localFile) {
+        try {
+            String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), localFile.getPath());
+            byte[] content = cache.get(workspacePath);
+            if (content != null) {
+                return new ByteArrayInputStream(content);
+            }
+            return Files.newInputStream(Path.of(workspacePath));
+        } catch (IOException e) {
+            throw new LocalRepositoryException(e);
+        }
+    }
+
     /**
      * Rename file.
      *
@@ -165,6 +262,8 @@ public class LocalRepositoryDao {
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
             cache.remove(workspacePathOld);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.resourceDeleted(toRepositoryPath(workspacePathOld)));
+            notifySearcher(searcher -> searcher.resourceChanged(toRepositoryPath(workspacePathNew)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -183,6 +282,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
             cache.remove(workspacePathOld);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.resourceChanged(toRepositoryPath(workspacePathNew)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -199,6 +299,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.removeFile(workspacePath);
             cache.remove(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.resourceDeleted(toRepositoryPath(workspacePath)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -215,6 +316,7 @@ public class LocalRepositoryDao {
             FileSystemUtils.removeFile(workspacePath);
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.collectionDeleted(toRepositoryPath(workspacePath)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -248,6 +350,8 @@ public class LocalRepositoryDao {
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.collectionDeleted(toRepositoryPath(workspacePathOld)));
+            notifySearcher(searcher -> searcher.collectionChanged(toRepositoryPath(workspacePathNew)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -273,6 +377,7 @@ public class LocalRepositoryDao {
             });
             cache.clear();
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+            notifySearcher(searcher -> searcher.collectionChanged(toRepositoryPath(workspacePathNew)));
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
         }
@@ -11,6 +11,8 @@ package org.eclipse.dirigible.repository.local;
 
 import static java.text.MessageFormat.format;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryNotFoundException;
@@ -219,6 +221,22 @@ public class LocalResource extends LocalEntity implements IResource {
         }
     }
 
+    /**
+     * Gets the content as stream.
+     *
+     * @return the content stream
+     * @throws RepositoryReadException the repository read exception
+     */
+    @Override
+    public InputStream getContentAsStream() throws RepositoryReadException {
+        final LocalFile document = getDocumentSafe();
+        try {
+            return document.getDataAsStream();
+        } catch (LocalRepositoryException ex) {
+            throw new RepositoryReadException("Could not read resource content.", ex);
+        }
+    }
+
     /**
      * Sets the content.
      *
@@ -248,6 +266,29 @@ public class LocalResource extends LocalEntity implements IResource {
         }
     }
 
+    /**
+     * Sets the content from a stream, which is copied to the file without being loaded in memory.
+     *
+     * @param content the content stream
+     * @throws RepositoryWriteException the repository write exception
+     */
+    @Override
+    public void setContent(InputStream content) throws RepositoryWriteException {
+
+        this.contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(getName()));
+        this.binary = ContentTypeHelper.isBinary(contentType);
+
+        if (!exists()) {
+            getParent().createResource(getName(), new byte[0], this.binary, this.contentType);
+        }
+        final LocalFile document = getDocumentSafe();
+        try {
+            document.setData(content);
+        } catch (LocalRepositoryException ex) {
+            throw new RepositoryWriteException("Could not update document.", ex);
+        }
+    }
+
     /**
      * Equals.
      *
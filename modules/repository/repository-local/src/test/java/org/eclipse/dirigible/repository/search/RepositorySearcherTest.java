@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class RepositorySearcherTest.
+ */
+public class RepositorySearcherTest {
+
+    /** The Constant COLLECTION. */
+    private static final String COLLECTION = "/testIncrementalSearch";
+
+    /** The repository. */
+    private LocalRepository repository;
+
+    /** The searcher. */
+    private RepositorySearcher searcher;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        repository = new LocalRepository("target");
+        searcher = repository.getRepositorySearcher();
+        cleanUp();
+    }
+
+    /**
+     * Clean up.
+     */
+    @After
+    public void cleanUp() {
+        if (repository.hasCollection(COLLECTION)) {
+            repository.removeCollection(COLLECTION);
+        }
+        searcher.flush();
+    }
+
+    /**
+     * The created, updated and removed resources are indexed without a full reindex.
+     */
+    @Test
+    public void resourceChangesTest() {
+        repository.createResource(COLLECTION + "/file1.txt", "incrementalalpha one".getBytes(StandardCharsets.UTF_8));
+        repository.createResource(COLLECTION + "/file2.txt", "incrementalalpha two".getBytes(StandardCharsets.UTF_8));
+        searcher.flush();
+        assertEquals(2, searcher.search("incrementalalpha")
+                                .size());
+
+        repository.getResource(COLLECTION + "/file1.txt")
+                  .setContent("incrementalbeta one".getBytes(StandardCharsets.UTF_8));
+        searcher.flush();
+        assertEquals(List.of(COLLECTION + "/file2.txt"), searcher.search("incrementalalpha"));
+        assertEquals(List.of(COLLECTION + "/file1.txt"), searcher.search("incrementalbeta"));
+
+        repository.removeResource(COLLECTION + "/file2.txt");
+        searcher.flush();
+        assertTrue(searcher.search("incrementalalpha")
+                           .isEmpty());
+    }
+
+    /**
+     * The resources of a renamed collection are indexed under the new location.
+     */
+    @Test
+    public void collectionChangesTest() {
+        repository.createResource(COLLECTION + "/old/file1.txt", "incrementalgamma".getBytes(StandardCharsets.UTF_8));
+        searcher.flush();
+        assertEquals(List.of(COLLECTION + "/old/file1.txt"), searcher.search("incrementalgamma"));
+
+        repository.getCollection(COLLECTION + "/old")
+                  .renameTo("new");
+        searcher.flush();
+        assertEquals(List.of(COLLECTION + "/new/file1.txt"), searcher.search("incrementalgamma"));
+
+        repository.removeCollection(COLLECTION + "/new");
+        searcher.flush();
+        assertTrue(searcher.search("incrementalgamma")
+                           .isEmpty());
+    }
+
+    /**
+     * The files changed directly on the file system are indexed on reconciliation.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void reconcileTest() throws IOException {
+        repository.createResource(COLLECTION + "/file1.txt", "incrementaldelta".getBytes(StandardCharsets.UTF_8));
+        searcher.flush();
+
+        Path file = Path.of(repository.getRepositoryPath(), COLLECTION, "file2.txt");
+        Files.writeString(file, "incrementaldelta out of band");
+        searcher.flush();
+        assertEquals(1, searcher.search("incrementaldelta")
+                                .size());
+
+        searcher.reconcile();
+        searcher.flush();
+        assertEquals(2, searcher.search("incrementaldelta")
+                                .size());
+    }
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.search;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single writer of a repository search index. The repository changes are submitted to a bounded
+ * queue and applied asynchronously by a dedicated thread, which commits and refreshes the near real
+ * time searcher each time the queue is drained. If the queue overflows, the affected repositories
+ * are caught up by their modification time instead. The registered repositories are also caught up
+ * periodically, so that the files changed directly on the file system are indexed as well.
+ */
+class RepositoryIndexer {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryIndexer.class);
+
+    /** The prefix of the commit user data entries holding the last indexed time per repository. */
+    private static final String LAST_INDEXED_PREFIX = "lastIndexed:";
+
+    /** The tolerance for the file system modification time granularity. */
+    private static final long MODIFIED_TOLERANCE = 2000;
+
+    /** The scheduler of the periodic reconciliation, shared by all the indexers. */
+    private static final ScheduledExecutorService RECONCILE_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "repository-search-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The writer. */
+    private final IndexWriter writer;
+
+    /** The searcher manager. */
+    private final SearcherManager searcherManager;
+
+    /** The pending tasks. */
+    private final BlockingQueue<Task> queue;
+
+    /** The searchers which lost changes due to queue overflow. */
+    private final Set<RepositorySearcher> overflowed = ConcurrentHashMap.newKeySet();
+
+    /** The last indexed time per repository root, as stored with the last commit. */
+    private final Map<String, Long> lastIndexed = new ConcurrentHashMap<>();
+
+    /** The repository roots caught up since the index has been opened. */
+    private final Set<String> caughtUp = ConcurrentHashMap.newKeySet();
+
+    /** The registered searchers by repository root. */
+    private final Map<String, RepositorySearcher> searchers = new ConcurrentHashMap<>();
+
+    /** The enqueue time of the task in progress, zero if idle. */
+    private volatile long inProgressSince;
+
+    /**
+     * Instantiates a new repository indexer.
+     *
+     * @param indexPath the index path
+     * @param queueSize the queue size
+     * @param reconcileInterval the reconciliation interval in seconds, zero or less disables it
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    RepositoryIndexer(String indexPath, int queueSize, long reconcileInterval) throws IOException {
+        Directory dir = FSDirectory.open(Paths.get(indexPath));
+        IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+        iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(dir, iwc);
+        this.searcherManager = new SearcherManager(writer, null);
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (entry.getKey()
+                         .startsWith(LAST_INDEXED_PREFIX)) {
+                    lastIndexed.put(entry.getKey()
+                                         .substring(LAST_INDEXED_PREFIX.length()),
+                            Long.valueOf(entry.getValue()));
+                }
+            }
+        }
+        Thread thread = new Thread(this::run, "repository-search-indexer");
+        thread.setDaemon(true);
+        thread.start();
+        if (reconcileInterval > 0) {
+            RECONCILE_SCHEDULER.scheduleWithFixedDelay(this::reconcile, reconcileInterval, reconcileInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Registers the searcher for the periodic reconciliation. The first searcher of a repository
+     * schedules its catch up, so that the searches do not wait for it.
+     *
+     * @param searcher the searcher
+     */
+    void register(RepositorySearcher searcher) {
+        if (searchers.put(searcher.getRepositoryRoot(), searcher) == null) {
+            searcher.reconcile();
+        }
+    }
+
+    /**
+     * Catches up all the registered repositories.
+     */
+    private void reconcile() {
+        searchers.values()
+                 .forEach(RepositorySearcher::reconcile);
+    }
+
+    /**
+     * Submits an operation without waiting for it. If the queue is full, the searcher is marked for
+     * catch up.
+     *
+     * @param searcher the searcher
+     * @param operation the operation
+     */
+    void submit(RepositorySearcher searcher, Operation operation) {
+        if (!queue.offer(new Task(System.currentTimeMillis(), operation, null))) {
+            if (overflowed.add(searcher)) {
+                logger.warn("Repository search indexing queue is full, changes under [{}] will be caught up", searcher.getRepositoryRoot());
+            }
+        }
+    }
+
+    /**
+     * Submits an operation and waits until it is applied and visible to the searches.
+     *
+     * @param operation the operation
+     */
+    void submitAndWait(Operation operation) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        try {
+            queue.put(new Task(System.currentTimeMillis(), operation, completion));
+            completion.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } catch (Exception e) {
+            logger.error("Repository search indexing failed", e);
+        }
+    }
+
+    /**
+     * The indexer loop.
+     */
+    private void run() {
+        while (true) {
+            List<CompletableFuture<Void>> completions = new ArrayList<>();
+            try {
+                Task task = queue.take();
+                while (task != null) {
+                    apply(task);
+                    if (task.completion() != null) {
+                        completions.add(task.completion());
+                    }
+                    task = queue.poll();
+                }
+                long drainedAt = System.currentTimeMillis();
+                inProgressSince = drainedAt;
+                for (RepositorySearcher searcher : overflowed) {
+                    overflowed.remove(searcher);
+                    catchUp(searcher);
+                }
+                // all the changes submitted so far are applied
+                caughtUp.forEach(root -> lastIndexed.put(root, drainedAt));
+                commit();
+                searcherManager.maybeRefreshBlocking();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.error("Repository search indexing failed", e);
+            } finally {
+                inProgressSince = 0;
+                completions.forEach(c -> c.complete(null));
+            }
+        }
+    }
+
+    /**
+     * Apply a single task.
+     *
+     * @param task the task
+     */
+    private void apply(Task task) {
+        inProgressSince = task.enqueuedAt();
+        try {
+            task.operation()
+                .apply(this);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Repository search indexing task failed", e);
+        }
+    }
+
+    /**
+     * Commits the changes together with the last indexed time of the caught up repositories.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void commit() throws IOException {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        Map<String, String> commitData = new HashMap<>();
+        lastIndexed.forEach((root, time) -> commitData.put(LAST_INDEXED_PREFIX + root, String.valueOf(time)));
+        writer.setLiveCommitData(commitData.entrySet());
+        writer.commit();
+    }
+
+    /**
+     * Catch up the repository of the searcher with the changes since the last indexed time.
+     *
+     * @param searcher the searcher
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void catchUp(RepositorySearcher searcher) throws IOException {
+        long now = System.currentTimeMillis();
+        Long since = lastIndexed.get(searcher.getRepositoryRoot());
+        searcher.reindex(since != null ? since - MODIFIED_TOLERANCE : 0);
+        lastIndexed.put(searcher.getRepositoryRoot(), now);
+        caughtUp.add(searcher.getRepositoryRoot());
+    }
+
+    /**
+     * Update document.
+     *
+     * @param location the location
+     * @param document the document
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void updateDocument(String location, Document document) throws IOException {
+        writer.updateDocument(new Term(RepositorySearcher.FIELD_LOCATION, location), document);
+    }
+
+    /**
+     * Delete document.
+     *
+     * @param location the location
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void deleteDocument(String location) throws IOException {
+        writer.deleteDocuments(new Term(RepositorySearcher.FIELD_LOCATION, location));
+    }
+
+    /**
+     * Delete the documents under the location.
+     *
+     * @param location the location
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void deleteDocuments(String location) throws IOException {
+        String prefix = location.endsWith("/") ? location : location + "/";
+        writer.deleteDocuments(new Term(RepositorySearcher.FIELD_LOCATION, location));
+        writer.deleteDocuments(new PrefixQuery(new Term(RepositorySearcher.FIELD_LOCATION, prefix)));
+    }
+
+    /**
+     * Gets the searcher manager.
+     *
+     * @return the searcher manager
+     */
+    SearcherManager getSearcherManager() {
+        return searcherManager;
+    }
+
+    /**
+     * Gets the time in milliseconds since the oldest not yet indexed change has been submitted.
+     *
+     * @return the lag
+     */
+    long getLag() {
+        long oldest = inProgressSince;
+        Task head = queue.peek();
+        if (head != null && (oldest == 0 || head.enqueuedAt() < oldest)) {
+            oldest = head.enqueuedAt();
+        }
+        return oldest == 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest);
+    }
+
+    /**
+     * Gets the pending tasks count.
+     *
+     * @return the queue size
+     */
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * The indexing operation.
+     */
+    @FunctionalInterface
+    interface Operation {
+
+        /**
+         * Apply the operation.
+         *
+         * @param indexer the indexer
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        void apply(RepositoryIndexer indexer) throws IOException;
+    }
+
+    /**
+     * The queued task.
+     *
+     * @param enqueuedAt the enqueue time
+     * @param operation the operation
+     * @param completion the completion, if someone waits for the task
+     */
+    private record Task(long enqueuedAt, Operation operation, CompletableFuture<Void> completion) {
+    }
+
+}
@@ -15,13 +15,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -30,31 +28,29 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
-import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
-import org.eclipse.dirigible.repository.api.RepositoryWriteException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The Class RepositorySearcher.
+ * The Class RepositorySearcher. The index is maintained incrementally by the repository write
+ * events, which are applied asynchronously by a single {@link RepositoryIndexer} per index
+ * location. A repository is caught up in the background with the changes made while it was not
+ * observed when its searcher is created, and then periodically, which picks up the files changed
+ * directly on the file system. Until then, the searches do not wait and return the already indexed
+ * resources.
  */
 public class RepositorySearcher {
 
@@ -70,6 +66,12 @@ public class RepositorySearcher {
     /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION. */
     public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION"; //$NON-NLS-1$
 
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_QUEUE_SIZE. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_QUEUE_SIZE = "DIRIGIBLE_REPOSITORY_SEARCH_QUEUE_SIZE"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL = "DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL"; //$NON-NLS-1$
+
     /** The Constant CURRENT_DIR. */
     private static final String CURRENT_DIR = ".";
 
@@ -77,17 +79,20 @@ public class RepositorySearcher {
     private static final String CURRENT_INDEX = "dirigible" + IRepository.SEPARATOR + "repository" + IRepository.SEPARATOR + "index";
 
     /** The Constant FIELD_CONTENTS. */
-    private static final String FIELD_CONTENTS = "contents";
+    static final String FIELD_CONTENTS = "contents";
 
     /** The Constant FIELD_MODIFIED. */
-    private static final String FIELD_MODIFIED = "modified";
+    static final String FIELD_MODIFIED = "modified";
 
     /** The Constant FIELD_LOCATION. */
-    private static final String FIELD_LOCATION = "location";
+    static final String FIELD_LOCATION = "location";
 
     /** The Constant MAX_RESULTS. */
     private static final int MAX_RESULTS = 1000;
 
+    /** The indexers shared by the searchers of the same index location. */
+    private static final Map<String, RepositoryIndexer> INDEXERS = new ConcurrentHashMap<>();
+
     /** The repository. */
     private IRepository repository;
 
@@ -97,17 +102,8 @@ public class RepositorySearcher {
     /** The index. */
     private String index;
 
-    /** The timer. */
-    private Timer timer;
-
-    /** The seconds. */
-    private int seconds = 30;
-
-    /** The last updated. */
-    private Date lastUpdated = new Date(0);
-
-    /** The count updated. */
-    private volatile int countUpdated = 0;
+    /** The indexer, null if the index could not be opened. */
+    private RepositoryIndexer indexer;
 
     /**
      * Instantiates a new repository searcher.
@@ -121,6 +117,8 @@ public class RepositorySearcher {
         String rootFolder = Configuration.get(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER);
         boolean absolute = Boolean.parseBoolean(Configuration.get(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE));
         String indexLocation = Configuration.get(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION, CURRENT_INDEX);
+        int queueSize = Configuration.getAsInt(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_QUEUE_SIZE, 10000);
+        int reconcileInterval = Configuration.getAsInt(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_RECONCILE_INTERVAL, 600);
 
         if (absolute) {
             if (rootFolder != null) {
@@ -138,74 +136,147 @@ public class RepositorySearcher {
 
         this.index = indexLocation;
 
-        timer = new Timer();
-        timer.schedule(new ReindexTask(), 30000, seconds * 1000);
+        String indexPath = new File(root + File.separator + index).getAbsolutePath();
+        try {
+            this.indexer = INDEXERS.computeIfAbsent(indexPath, path -> {
+                try {
+                    return new RepositoryIndexer(path, queueSize, reconcileInterval);
+                } catch (IOException e) {
+                    throw new RepositoryReadException(e);
+                }
+            });
+        } catch (RepositoryReadException e) {
+            logger.error("Failed to open the repository search index at [{}], searching is disabled", indexPath, e);
+        }
+        if (indexer != null) {
+            indexer.register(this);
+        }
     }
 
     /**
-     * The Class ReindexTask.
+     * Schedules the catch up of the repository with the changes since it has been indexed last time.
      */
-    class ReindexTask extends TimerTask {
-
-        /**
-         * Run.
-         */
-        @Override
-        public void run() {
-            synchronized (RepositorySearcher.class) {
-                if (countUpdated > 30) {
-                    countUpdated = 0;
-                    lastUpdated = new Date(0);
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Full reindexing of the Repository Content...");
-                    }
-                }
-                reindex();
-                lastUpdated = new Date();
-                countUpdated++;
-            }
+    void reconcile() {
+        if (indexer != null) {
+            indexer.submit(this, i -> i.catchUp(this));
+        }
+    }
+
+    /**
+     * Waits until all the changes submitted so far are applied and visible to the searches.
+     */
+    void flush() {
+        if (indexer != null) {
+            indexer.submitAndWait(i -> {
+            });
+        }
+    }
+
+    /**
+     * Notifies the searcher that a resource has been created or updated. The content is read from the
+     * repository when the change is indexed, so that the queue does not hold the contents.
+     *
+     * @param path the repository path of the resource
+     */
+    public void resourceChanged(String path) {
+        if (indexer != null) {
+            indexer.submit(this, i -> indexResource(i, repository.getResource(path)));
+        }
+    }
+
+    /**
+     * Notifies the searcher that a resource has been deleted.
+     *
+     * @param path the repository path of the resource
+     */
+    public void resourceDeleted(String path) {
+        if (indexer != null) {
+            indexer.submit(this, i -> i.deleteDocument(path));
+        }
+    }
+
+    /**
+     * Notifies the searcher that a collection has been created by copy or rename, all the resources
+     * under it are indexed.
+     *
+     * @param path the repository path of the collection
+     */
+    public void collectionChanged(String path) {
+        if (indexer != null) {
+            indexer.submit(this, i -> indexCollection(i, repository.getCollection(path)));
+        }
+    }
+
+    /**
+     * Notifies the searcher that a collection has been deleted.
+     *
+     * @param path the repository path of the collection
+     */
+    public void collectionDeleted(String path) {
+        if (indexer != null) {
+            indexer.submit(this, i -> i.deleteDocuments(path));
         }
     }
 
     /**
-     * Adds the.
+     * Creates the document.
      *
      * @param location the location
      * @param contents the contents
      * @param lastModified the last modified
      * @param parameters the parameters
-     * @throws RepositoryWriteException the repository write exception
+     * @return the document
      */
-    private void add(String location, byte[] contents, long lastModified, Map<String, String> parameters) throws RepositoryWriteException {
-        String indexName = index;
-
-        try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            Analyzer analyzer = new StandardAnalyzer();
-            IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-            iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-            IndexWriter writer = null;
-            try {
-                writer = new IndexWriter(dir, iwc);
-                Document doc = new Document();
-                Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-                doc.add(pathField);
-                doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-                if (parameters != null) {
-                    for (String key : parameters.keySet()) {
-                        doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-                    }
-                }
-                doc.add(new TextField(FIELD_CONTENTS,
-                        new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-                writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-            } finally {
-                if (writer != null) {
-                    writer.close();
-                }
+    private Document createDocument(String location, byte[] contents, long lastModified, Map<String, String> parameters) {
+        Document doc = new Document();
+        Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+        doc.add(pathField);
+        doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+        if (parameters != null) {
+            for (String key : parameters.keySet()) {
+                doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
             }
-        } catch (IOException e) {
-            throw new RepositoryWriteException(e);
+        }
+        doc.add(new TextField(FIELD_CONTENTS,
+                new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
+        return doc;
+    }
+
+    /**
+     * Index resource.
+     *
+     * @param indexer the indexer
+     * @param resource the resource
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void indexResource(RepositoryIndexer indexer, IResource resource) throws IOException {
+        if ((resource == null) || !resource.exists()) {
+            return;
+        }
+        String path = resource.getPath();
+        Date modifiedAt = resource.getInformation() != null ? resource.getInformation()
+                                                                      .getModifiedAt()
+                : null;
+        indexer.updateDocument(path,
+                createDocument(path, resource.getContent(), modifiedAt != null ? modifiedAt.getTime() : System.currentTimeMillis(), null));
+    }
+
+    /**
+     * Index collection recursively.
+     *
+     * @param indexer the indexer
+     * @param collection the collection
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void indexCollection(RepositoryIndexer indexer, ICollection collection) throws IOException {
+        if ((collection == null) || !collection.exists()) {
+            return;
+        }
+        for (IResource resource : collection.getResources()) {
+            indexResource(indexer, resource);
+        }
+        for (ICollection child : collection.getCollections()) {
+            indexCollection(indexer, child);
         }
     }
 
@@ -218,35 +289,37 @@ public class RepositorySearcher {
      */
     public List<String> search(String term) throws RepositoryReadException {
         List<String> results = new ArrayList<String>();
-        String indexName = index;
+        if (indexer == null) {
+            return results;
+        }
 
         try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            IndexReader reader = null;
+            SearcherManager searcherManager = indexer.getSearcherManager();
+            IndexSearcher searcher = searcherManager.acquire();
             try {
-                reader = DirectoryReader.open(dir);
-                IndexSearcher searcher = new IndexSearcher(reader);
                 Analyzer analyzer = new StandardAnalyzer();
                 String field = FIELD_CONTENTS;
                 QueryParser parser = new QueryParser(field, analyzer);
                 Query query = parser.parse(term);
                 TopDocs topDocs = searcher.search(query, MAX_RESULTS);
                 for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document document = searcher.doc(scoreDoc.doc);
+                    Document document = searcher.storedFields()
+                                                .document(scoreDoc.doc);
                     for (IndexableField indexableField : document.getFields()) {
                         String name = indexableField.name();
                         if (FIELD_LOCATION.equals(name)) {
                             String value = indexableField.stringValue();
-                            results.add(value);
+                            // skip the resources deleted while the repository was not observed
+                            if (repository.hasResource(value)) {
+                                results.add(value);
+                            }
                             break;
                         }
                     }
 
                 }
             } finally {
-                if (reader != null) {
-                    reader.close();
-                }
+                searcherManager.release(searcher);
             }
             return results;
         } catch (IOException | ParseException e) {
@@ -255,40 +328,43 @@ public class RepositorySearcher {
     }
 
     /**
-     * Reindex.
+     * Reindex the resources modified after the given time. Called by the indexer thread.
+     *
+     * @param modifiedAfter the modified after time
      */
-    private void reindex() {
-        synchronized (RepositorySearcher.class) {
-            long start = System.currentTimeMillis();
-            List<String> paths = repository.getAllResourcePaths();
-            for (String path : paths) {
-                IResource resource = repository.getResource(path);
-                if ((resource != null) && (resource.getInformation() != null) && (resource.getInformation()
-                                                                                          .getModifiedAt() != null)) {
-                    if (lastUpdated.before(resource.getInformation()
-                                                   .getModifiedAt())) {
-                        add(path, resource.getContent(), resource.getInformation()
-                                                                 .getModifiedAt()
-                                                                 .getTime(),
-                                null);
+    void reindex(long modifiedAfter) {
+        long start = System.currentTimeMillis();
+        Date lastUpdated = new Date(modifiedAfter);
+        List<String> paths = repository.getAllResourcePaths();
+        for (String path : paths) {
+            IResource resource = repository.getResource(path);
+            if ((resource != null) && (resource.getInformation() != null) && (resource.getInformation()
+                                                                                      .getModifiedAt() != null)) {
+                if (lastUpdated.before(resource.getInformation()
+                                               .getModifiedAt())) {
+                    try {
+                        indexer.updateDocument(path, createDocument(path, resource.getContent(), resource.getInformation()
+                                                                                                         .getModifiedAt()
+                                                                                                         .getTime(),
+                                null));
+                    } catch (IOException e) {
+                        logger.error("Failed to index [{}]", path, e);
                     }
                 }
             }
-            long end = System.currentTimeMillis();
-            if (logger.isTraceEnabled()) {
-                logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");
-            }
+        }
+        long end = System.currentTimeMillis();
+        if (logger.isTraceEnabled()) {
+            logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");
         }
     }
 
     /**
-     * Force reindex.
+     * Force full reindex and wait until it is visible to the searches.
      */
     public void forceReindex() {
-        synchronized (RepositorySearcher.class) {
-            this.lastUpdated = new Date(0);
-            this.countUpdated = 0;
-            reindex();
+        if (indexer != null) {
+            indexer.submitAndWait(i -> reindex(0));
         }
     }
 
@@ -301,4 +377,39 @@ public class RepositorySearcher {
         return root;
     }
 
+    /**
+     * Gets the repository root used to track the indexing progress of the repository.
+     *
+     * @return the repository root
+     */
+    String getRepositoryRoot() {
+        return repository.getRepositoryPath();
+    }
+
+    /**
+     * Gets the time in milliseconds since the oldest not yet indexed change has been submitted, over
+     * all the indexes.
+     *
+     * @return the indexing lag
+     */
+    public static long getIndexingLag() {
+        return INDEXERS.values()
+                       .stream()
+                       .mapToLong(RepositoryIndexer::getLag)
+                       .max()
+                       .orElse(0);
+    }
+
+    /**
+     * Gets the count of the changes waiting to be indexed, over all the indexes.
+     *
+     * @return the indexing queue size
+     */
+    public static int getIndexingQueueSize() {
+        return INDEXERS.values()
+                       .stream()
+                       .mapToInt(RepositoryIndexer::getQueueSize)
+                       .sum();
+    }
+
 }